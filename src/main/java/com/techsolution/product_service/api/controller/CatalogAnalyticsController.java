@@ -0,0 +1,53 @@
+package com.techsolution.product_service.api.controller;
+
+import com.techsolution.product_service.api.dto.CatalogSummaryResponse;
+import com.techsolution.product_service.api.dto.HistogramResponse;
+import com.techsolution.product_service.application.analytics.HistogramField;
+import com.techsolution.product_service.application.usecase.GetCatalogAnalyticsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+
+@RestController
+@RequestMapping("/products/analytics")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class CatalogAnalyticsController {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogAnalyticsController.class);
+
+    private final GetCatalogAnalyticsUseCase getCatalogAnalyticsUseCase;
+
+    public CatalogAnalyticsController(GetCatalogAnalyticsUseCase getCatalogAnalyticsUseCase) {
+        this.getCatalogAnalyticsUseCase = getCatalogAnalyticsUseCase;
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<CatalogSummaryResponse> summary(
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer minStock,
+            @RequestParam(required = false) Integer maxStock
+    ) {
+        logger.info("Getting catalog analytics summary - price: [{}, {}], stock: [{}, {}]",
+                minPrice, maxPrice, minStock, maxStock);
+        return ResponseEntity.ok(getCatalogAnalyticsUseCase.summary(minPrice, maxPrice, minStock, maxStock));
+    }
+
+    @GetMapping("/histogram")
+    public ResponseEntity<HistogramResponse> histogram(
+            @RequestParam(defaultValue = "PRICE") HistogramField field,
+            @RequestParam(required = false) BigDecimal bucketWidth,
+            @RequestParam(required = false) Integer buckets,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer minStock,
+            @RequestParam(required = false) Integer maxStock
+    ) {
+        logger.info("Getting catalog analytics histogram - field: {}, bucketWidth: {}, buckets: {}",
+                field, bucketWidth, buckets);
+        return ResponseEntity.ok(getCatalogAnalyticsUseCase.histogram(
+                field, bucketWidth, buckets, minPrice, maxPrice, minStock, maxStock));
+    }
+}
@@ -0,0 +1,27 @@
+package com.techsolution.product_service.api.controller;
+
+import com.techsolution.product_service.api.dto.InventoryAggregatesResponse;
+import com.techsolution.product_service.application.usecase.GetInventoryAggregatesUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/products/aggregates")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class InventoryController {
+    private static final Logger logger = LoggerFactory.getLogger(InventoryController.class);
+
+    private final GetInventoryAggregatesUseCase getInventoryAggregatesUseCase;
+
+    public InventoryController(GetInventoryAggregatesUseCase getInventoryAggregatesUseCase) {
+        this.getInventoryAggregatesUseCase = getInventoryAggregatesUseCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<InventoryAggregatesResponse> get() {
+        logger.info("Getting inventory aggregates");
+        return ResponseEntity.ok(getInventoryAggregatesUseCase.execute());
+    }
+}
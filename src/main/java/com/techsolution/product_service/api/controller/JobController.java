@@ -0,0 +1,43 @@
+package com.techsolution.product_service.api.controller;
+
+import com.techsolution.product_service.api.dto.JobResponse;
+import com.techsolution.product_service.application.usecase.ControlJobUseCase;
+import com.techsolution.product_service.application.usecase.GetJobUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/jobs")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class JobController {
+    private static final Logger logger = LoggerFactory.getLogger(JobController.class);
+
+    private final GetJobUseCase getJobUseCase;
+    private final ControlJobUseCase controlJobUseCase;
+
+    public JobController(GetJobUseCase getJobUseCase, ControlJobUseCase controlJobUseCase) {
+        this.getJobUseCase = getJobUseCase;
+        this.controlJobUseCase = controlJobUseCase;
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<JobResponse> get(@PathVariable UUID id) {
+        return ResponseEntity.ok(getJobUseCase.execute(id));
+    }
+
+    @PostMapping("/{id}/pause")
+    public ResponseEntity<JobResponse> pause(@PathVariable UUID id) {
+        logger.info("Pausing job {}", id);
+        return ResponseEntity.ok(controlJobUseCase.pause(id));
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<JobResponse> resume(@PathVariable UUID id) {
+        logger.info("Resuming job {}", id);
+        return ResponseEntity.ok(controlJobUseCase.resume(id));
+    }
+}
@@ -0,0 +1,50 @@
+package com.techsolution.product_service.api.controller;
+
+import com.techsolution.product_service.api.dto.LowStockResponse;
+import com.techsolution.product_service.api.dto.ReorderStatusResponse;
+import com.techsolution.product_service.api.dto.ReorderThresholdRequest;
+import com.techsolution.product_service.application.usecase.ListLowStockProductsUseCase;
+import com.techsolution.product_service.application.usecase.SetReorderThresholdUseCase;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/products")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class LowStockController {
+    private static final Logger logger = LoggerFactory.getLogger(LowStockController.class);
+
+    private final ListLowStockProductsUseCase listLowStockProductsUseCase;
+    private final SetReorderThresholdUseCase setReorderThresholdUseCase;
+
+    public LowStockController(
+            ListLowStockProductsUseCase listLowStockProductsUseCase,
+            SetReorderThresholdUseCase setReorderThresholdUseCase
+    ) {
+        this.listLowStockProductsUseCase = listLowStockProductsUseCase;
+        this.setReorderThresholdUseCase = setReorderThresholdUseCase;
+    }
+
+    @GetMapping("/low-stock")
+    public ResponseEntity<LowStockResponse> list(
+            @RequestParam(required = false) UUID afterId,
+            @RequestParam(required = false) Integer limit
+    ) {
+        logger.info("Listing low stock products - afterId: {}, limit: {}", afterId, limit);
+        return ResponseEntity.ok(listLowStockProductsUseCase.execute(afterId, limit));
+    }
+
+    @PutMapping("/{id}/reorder-threshold")
+    public ResponseEntity<ReorderStatusResponse> setReorderThreshold(
+            @PathVariable UUID id,
+            @Valid @RequestBody ReorderThresholdRequest request
+    ) {
+        logger.info("Setting reorder threshold of product {} to {}", id, request.reorderThreshold());
+        return ResponseEntity.ok(setReorderThresholdUseCase.execute(id, request.reorderThreshold()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.techsolution.product_service.api.controller;
+
+import com.techsolution.product_service.api.dto.JobResponse;
+import com.techsolution.product_service.api.dto.PriceAdjustmentRequest;
+import com.techsolution.product_service.application.usecase.BulkPriceAdjustmentUseCase;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/products/price-adjustments")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class PriceAdjustmentController {
+    private static final Logger logger = LoggerFactory.getLogger(PriceAdjustmentController.class);
+
+    private final BulkPriceAdjustmentUseCase bulkPriceAdjustmentUseCase;
+
+    public PriceAdjustmentController(BulkPriceAdjustmentUseCase bulkPriceAdjustmentUseCase) {
+        this.bulkPriceAdjustmentUseCase = bulkPriceAdjustmentUseCase;
+    }
+
+    @PostMapping
+    public ResponseEntity<JobResponse> start(@Valid @RequestBody PriceAdjustmentRequest request) {
+        logger.info("Starting price adjustment: {} {}", request.mode(), request.value());
+        JobResponse response = bulkPriceAdjustmentUseCase.execute(request);
+        logger.info("Price adjustment accepted as job {}", response.id());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
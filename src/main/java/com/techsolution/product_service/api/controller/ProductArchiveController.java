@@ -0,0 +1,29 @@
+package com.techsolution.product_service.api.controller;
+
+import com.techsolution.product_service.api.dto.ArchivedProductResponse;
+import com.techsolution.product_service.application.usecase.GetArchivedProductUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/products/archive")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class ProductArchiveController {
+    private static final Logger logger = LoggerFactory.getLogger(ProductArchiveController.class);
+
+    private final GetArchivedProductUseCase getArchivedProductUseCase;
+
+    public ProductArchiveController(GetArchivedProductUseCase getArchivedProductUseCase) {
+        this.getArchivedProductUseCase = getArchivedProductUseCase;
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ArchivedProductResponse> get(@PathVariable UUID id) {
+        logger.info("Getting archived product by id: {}", id);
+        return ResponseEntity.ok(getArchivedProductUseCase.execute(id));
+    }
+}
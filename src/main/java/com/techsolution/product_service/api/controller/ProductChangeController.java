@@ -0,0 +1,39 @@
+package com.techsolution.product_service.api.controller;
+
+import com.techsolution.product_service.api.dto.ChangeFeedResponse;
+import com.techsolution.product_service.application.usecase.GetProductChangesUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/products/changes")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class ProductChangeController {
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangeController.class);
+
+    private final GetProductChangesUseCase getProductChangesUseCase;
+
+    public ProductChangeController(GetProductChangesUseCase getProductChangesUseCase) {
+        this.getProductChangesUseCase = getProductChangesUseCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponse> list(
+            @RequestParam(required = false, defaultValue = "0") long since,
+            @RequestParam(required = false) Integer limit
+    ) {
+        logger.info("Listing product changes - since: {}, limit: {}", since, limit);
+        ChangeFeedResponse response = getProductChangesUseCase.execute(since, limit);
+        logger.info("Found {} product changes, next token: {}", response.changes().size(), response.nextToken());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/head")
+    public ResponseEntity<Map<String, Long>> head() {
+        return ResponseEntity.ok(Map.of("token", getProductChangesUseCase.currentToken()));
+    }
+}
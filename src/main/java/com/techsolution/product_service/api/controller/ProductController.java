@@ -4,15 +4,18 @@ import com.techsolution.product_service.application.usecase.CreateProductUseCase
 import com.techsolution.product_service.application.usecase.DeleteProductUseCase;
 import com.techsolution.product_service.application.usecase.GetProductByIdUseCase;
 import com.techsolution.product_service.application.usecase.ListProductsUseCase;
+import com.techsolution.product_service.application.usecase.PatchProductUseCase;
 import com.techsolution.product_service.application.usecase.UpdateProductUseCase;
 import com.techsolution.product_service.api.dto.CreateProductRequest;
 import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.PatchProductRequest;
 import com.techsolution.product_service.api.dto.ProductResponse;
 import com.techsolution.product_service.api.dto.UpdateProductRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +29,7 @@ public class ProductController {
     
     private final CreateProductUseCase createProductUseCase;
     private final UpdateProductUseCase updateProductUseCase;
+    private final PatchProductUseCase patchProductUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
     private final ListProductsUseCase listProductsUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
@@ -34,6 +38,7 @@ public class ProductController {
     public ProductController(
             CreateProductUseCase createProductUseCase,
             UpdateProductUseCase updateProductUseCase,
+            PatchProductUseCase patchProductUseCase,
             GetProductByIdUseCase getProductByIdUseCase,
             ListProductsUseCase listProductsUseCase,
             DeleteProductUseCase deleteProductUseCase,
@@ -41,6 +46,7 @@ public class ProductController {
     ) {
         this.createProductUseCase = createProductUseCase;
         this.updateProductUseCase = updateProductUseCase;
+        this.patchProductUseCase = patchProductUseCase;
         this.getProductByIdUseCase = getProductByIdUseCase;
         this.listProductsUseCase = listProductsUseCase;
         this.deleteProductUseCase = deleteProductUseCase;
@@ -66,6 +72,14 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ProductResponse> patch(@PathVariable UUID id, @RequestBody byte[] patch) {
+        logger.info("Patching product with id: {}", id);
+        ProductResponse response = patchProductUseCase.execute(id, PatchProductRequest.fromMergePatch(patch));
+        logger.info("Product patched successfully with id: {}", id);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponse> getById(@PathVariable UUID id) {
         logger.info("Getting product by id: {}", id);
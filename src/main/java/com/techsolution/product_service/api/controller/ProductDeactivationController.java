@@ -0,0 +1,32 @@
+package com.techsolution.product_service.api.controller;
+
+import com.techsolution.product_service.api.dto.BulkDeactivationRequest;
+import com.techsolution.product_service.api.dto.JobResponse;
+import com.techsolution.product_service.application.usecase.BulkDeactivateProductsUseCase;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/products/deactivations")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class ProductDeactivationController {
+    private static final Logger logger = LoggerFactory.getLogger(ProductDeactivationController.class);
+
+    private final BulkDeactivateProductsUseCase bulkDeactivateProductsUseCase;
+
+    public ProductDeactivationController(BulkDeactivateProductsUseCase bulkDeactivateProductsUseCase) {
+        this.bulkDeactivateProductsUseCase = bulkDeactivateProductsUseCase;
+    }
+
+    @PostMapping
+    public ResponseEntity<JobResponse> start(@Valid @RequestBody BulkDeactivationRequest request) {
+        logger.info("Starting deactivation of {} products", request.productIds().size());
+        JobResponse response = bulkDeactivateProductsUseCase.execute(request);
+        logger.info("Deactivation accepted as job {}", response.id());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
@@ -0,0 +1,30 @@
+package com.techsolution.product_service.api.controller;
+
+import com.techsolution.product_service.application.usecase.SubscribeProductStreamUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/products/stream")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class ProductStreamController {
+    private static final Logger logger = LoggerFactory.getLogger(ProductStreamController.class);
+
+    private final SubscribeProductStreamUseCase subscribeProductStreamUseCase;
+
+    public ProductStreamController(SubscribeProductStreamUseCase subscribeProductStreamUseCase) {
+        this.subscribeProductStreamUseCase = subscribeProductStreamUseCase;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Set<UUID> ids) {
+        logger.debug("Opening product stream for {} product ids", ids != null ? ids.size() : 0);
+        return subscribeProductStreamUseCase.execute(ids);
+    }
+}
@@ -0,0 +1,16 @@
+package com.techsolution.product_service.api.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record ArchivedProductResponse(
+        UUID id,
+        String name,
+        String description,
+        BigDecimal price,
+        Integer stockQuantity,
+        Instant deactivatedAt,
+        Instant archivedAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.techsolution.product_service.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkDeactivationRequest(
+        @NotEmpty(message = "Product ids are required")
+        @Size(max = 100000, message = "At most 100000 products per request")
+        List<UUID> productIds
+) {
+}
@@ -0,0 +1,13 @@
+package com.techsolution.product_service.api.dto;
+
+import java.math.BigDecimal;
+
+public record CatalogSummaryResponse(
+        long products,
+        long stockUnits,
+        BigDecimal inventoryValue,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        BigDecimal averagePrice
+) {
+}
@@ -0,0 +1,10 @@
+package com.techsolution.product_service.api.dto;
+
+import java.util.List;
+
+public record ChangeFeedResponse(
+        List<ProductChangeResponse> changes,
+        long nextToken,
+        boolean hasMore
+) {
+}
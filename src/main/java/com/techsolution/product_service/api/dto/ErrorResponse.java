@@ -1,15 +0,0 @@
-package com.techsolution.product_service.api.dto;
-
-import java.time.LocalDateTime;
-
-public record ErrorResponse(
-        LocalDateTime timestamp,
-        int status,
-        String error,
-        String message,
-        String path
-) {
-}
-
-
-
@@ -0,0 +1,14 @@
+package com.techsolution.product_service.api.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Bucket do histograma: from inclusivo e to exclusivo. O último bucket não tem limite
+ * superior (to nulo).
+ */
+public record HistogramBucketResponse(
+        BigDecimal from,
+        BigDecimal to,
+        long count
+) {
+}
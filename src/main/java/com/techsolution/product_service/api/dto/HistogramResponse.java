@@ -0,0 +1,12 @@
+package com.techsolution.product_service.api.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record HistogramResponse(
+        String field,
+        BigDecimal bucketWidth,
+        long products,
+        List<HistogramBucketResponse> buckets
+) {
+}
@@ -0,0 +1,11 @@
+package com.techsolution.product_service.api.dto;
+
+import java.math.BigDecimal;
+
+public record InventoryAggregatesResponse(
+        long activeProducts,
+        long stockUnits,
+        BigDecimal inventoryValue,
+        long lowStockProducts
+) {
+}
@@ -0,0 +1,22 @@
+package com.techsolution.product_service.api.dto;
+
+import com.techsolution.product_service.domain.job.JobStatus;
+import com.techsolution.product_service.domain.job.JobType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record JobResponse(
+        UUID id,
+        JobType type,
+        JobStatus status,
+        long totalItems,
+        long processedItems,
+        long failedItems,
+        double itemsPerSecond,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+}
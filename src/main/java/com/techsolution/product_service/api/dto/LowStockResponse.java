@@ -0,0 +1,11 @@
+package com.techsolution.product_service.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record LowStockResponse(
+        List<ReorderStatusResponse> products,
+        UUID nextAfterId,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,88 @@
+package com.techsolution.product_service.api.dto;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Corpo de um PATCH no formato JSON Merge Patch (RFC 7396). Campos ausentes ficam null e
+ * não são alterados; como todos os campos do produto são obrigatórios, null explícito
+ * (remoção) é rejeitado.
+ *
+ * O corpo é lido por um leitor próprio que entrega números decimais como BigDecimal, sem
+ * passar por double; o JsonMapper da aplicação não é alterado para os demais endpoints.
+ */
+public record PatchProductRequest(
+        String name,
+        String description,
+        BigDecimal price,
+        Integer stockQuantity
+) {
+    private static final ObjectReader MERGE_PATCH_READER = JsonMapper.builder()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build()
+            .readerFor(JsonNode.class);
+
+    public static PatchProductRequest fromMergePatch(byte[] body) {
+        JsonNode patch;
+        try {
+            patch = MERGE_PATCH_READER.readTree(body);
+        } catch (JacksonException ex) {
+            throw new IllegalArgumentException("Malformed merge patch: " + ex.getOriginalMessage());
+        }
+        return fromMergePatch(patch);
+    }
+
+    public static PatchProductRequest fromMergePatch(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+
+        String name = null;
+        String description = null;
+        BigDecimal price = null;
+        Integer stockQuantity = null;
+
+        for (Map.Entry<String, JsonNode> field : patch.properties()) {
+            JsonNode value = field.getValue();
+            if (value.isNull()) {
+                throw new IllegalArgumentException(field.getKey() + " cannot be removed");
+            }
+            switch (field.getKey()) {
+                case "name" -> name = requireText(field.getKey(), value);
+                case "description" -> description = requireText(field.getKey(), value);
+                case "price" -> price = requirePrice(value);
+                case "stockQuantity" -> stockQuantity = requireStockQuantity(value);
+                default -> throw new IllegalArgumentException("Unknown field: " + field.getKey());
+            }
+        }
+
+        return new PatchProductRequest(name, description, price, stockQuantity);
+    }
+
+    private static String requireText(String fieldName, JsonNode value) {
+        if (!value.isString() || value.stringValue().isBlank()) {
+            throw new IllegalArgumentException(fieldName + " must be a non-blank string");
+        }
+        return value.stringValue();
+    }
+
+    private static BigDecimal requirePrice(JsonNode value) {
+        if (!value.isNumber() || value.decimalValue().signum() <= 0) {
+            throw new IllegalArgumentException("Price must be greater than zero");
+        }
+        return value.decimalValue();
+    }
+
+    private static Integer requireStockQuantity(JsonNode value) {
+        if (!value.isIntegralNumber() || !value.canConvertToInt() || value.intValue() < 0) {
+            throw new IllegalArgumentException("Stock quantity must be a non-negative integer");
+        }
+        return value.intValue();
+    }
+}
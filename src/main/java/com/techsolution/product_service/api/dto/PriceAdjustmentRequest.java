@@ -0,0 +1,22 @@
+package com.techsolution.product_service.api.dto;
+
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+public record PriceAdjustmentRequest(
+        @NotNull(message = "Mode is required")
+        PriceAdjustment.Mode mode,
+
+        @NotNull(message = "Value is required")
+        BigDecimal value,
+
+        @DecimalMin(value = "0.0", inclusive = false, message = "Minimum price must be greater than zero")
+        BigDecimal minPrice,
+
+        @DecimalMin(value = "0.0", inclusive = false, message = "Maximum price must be greater than zero")
+        BigDecimal maxPrice
+) {
+}
@@ -0,0 +1,15 @@
+package com.techsolution.product_service.api.dto;
+
+import com.techsolution.product_service.domain.event.ProductChangeType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProductChangeResponse(
+        long token,
+        UUID productId,
+        ProductChangeType type,
+        Instant changedAt,
+        ProductResponse product
+) {
+}
@@ -0,0 +1,15 @@
+package com.techsolution.product_service.api.dto;
+
+import com.techsolution.product_service.domain.event.ProductChangeType;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ProductStreamEvent(
+        UUID id,
+        ProductChangeType type,
+        BigDecimal price,
+        Integer stockQuantity,
+        boolean lowStock
+) {
+}
@@ -0,0 +1,12 @@
+package com.techsolution.product_service.api.dto;
+
+import java.util.UUID;
+
+public record ReorderStatusResponse(
+        UUID id,
+        String name,
+        Integer stockQuantity,
+        Integer reorderThreshold,
+        boolean lowStock
+) {
+}
@@ -0,0 +1,12 @@
+package com.techsolution.product_service.api.dto;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * reorderThreshold null remove o produto do acompanhamento de estoque baixo.
+ */
+public record ReorderThresholdRequest(
+        @Min(value = 0, message = "Reorder threshold must be greater than or equal to 0")
+        Integer reorderThreshold
+) {
+}
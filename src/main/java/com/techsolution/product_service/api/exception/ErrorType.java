@@ -9,6 +9,8 @@ public enum ErrorType {
     BUSINESS_ERROR("Business Error"),
     VALIDATION_ERROR("Validation Error"),
     INVALID_ARGUMENT("Invalid Argument"),
+    SERVICE_UNAVAILABLE("Service Unavailable"),
+    TOKEN_EXPIRED("Token Expired"),
     INTERNAL_SERVER_ERROR("Internal Server Error");
 
     private final String message;
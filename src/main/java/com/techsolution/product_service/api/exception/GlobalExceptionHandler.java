@@ -1,154 +1,175 @@
 package com.techsolution.product_service.api.exception;
 
 import com.techsolution.product_service.domain.exception.BusinessException;
+import com.techsolution.product_service.domain.exception.ChangeTokenExpiredException;
 import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
-import com.techsolution.product_service.api.dto.ErrorResponse;
+import com.techsolution.product_service.domain.exception.ServiceUnavailableException;
+import com.techsolution.product_service.infrastructure.logging.ErrorLogProperties;
+import com.techsolution.product_service.infrastructure.logging.RateLimitedLog;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * Converte as exceções em respostas RFC 7807 (application/problem+json), com o tipo de erro
+ * em title, a mensagem em detail e o caminho da requisição em instance.
+ *
+ * Erros 4xx e 503 são esperados em volume (ids inexistentes consultados por robôs, por
+ * exemplo), então os logs deles são limitados por tipo de erro (product-service.error-log)
+ * e informam quantas linhas foram suprimidas. Erros inesperados são sempre registrados.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final String VALIDATION_FAILED = "Validation failed";
+    private static final String UNEXPECTED_ERROR = "An unexpected error occurred";
+
+    private final Map<ErrorType, RateLimitedLog> errorLogs = new EnumMap<>(ErrorType.class);
+
+    public GlobalExceptionHandler(ErrorLogProperties properties) {
+        for (ErrorType errorType : ErrorType.values()) {
+            errorLogs.put(errorType, new RateLimitedLog(properties.maxPerInterval(), properties.interval()));
+        }
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+    public ResponseEntity<ProblemDetail> handleResourceNotFoundException(
             ResourceNotFoundException ex,
             HttpServletRequest request
     ) {
-        logger.warn("Resource not found: {} - Path: {}", ex.getMessage(), request.getRequestURI());
-        
-        ErrorResponse error = buildErrorResponse(
-                ErrorType.RESOURCE_NOT_FOUND,
-                ex.getMessage(),
-                HttpStatus.NOT_FOUND,
-                request.getRequestURI()
-        );
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        logRejected(ErrorType.RESOURCE_NOT_FOUND, "Resource not found", ex.getMessage(), request);
+        return problem(ErrorType.RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND, ex.getMessage(), request);
     }
 
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ErrorResponse> handleBusinessException(
+    public ResponseEntity<ProblemDetail> handleBusinessException(
             BusinessException ex,
             HttpServletRequest request
     ) {
-        logger.warn("Business exception: {} - Path: {}", ex.getMessage(), request.getRequestURI());
-        
-        ErrorResponse error = buildErrorResponse(
-                ErrorType.BUSINESS_ERROR,
-                ex.getMessage(),
-                HttpStatus.BAD_REQUEST,
-                request.getRequestURI()
-        );
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        logRejected(ErrorType.BUSINESS_ERROR, "Business exception", ex.getMessage(), request);
+        return problem(ErrorType.BUSINESS_ERROR, HttpStatus.BAD_REQUEST, ex.getMessage(), request);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationException(
+    public ResponseEntity<ProblemDetail> handleValidationException(
             MethodArgumentNotValidException ex,
             HttpServletRequest request
     ) {
         Map<String, String> errors = extractValidationErrors(ex);
-        String message = "Validation failed: " + errors.toString();
-        logger.warn("Validation error: {} - Path: {}", message, request.getRequestURI());
-
-        ErrorResponse error = buildErrorResponse(
-                ErrorType.VALIDATION_ERROR,
-                message,
-                HttpStatus.BAD_REQUEST,
-                request.getRequestURI()
-        );
+        logRejected(ErrorType.VALIDATION_ERROR, "Validation error", errors, request);
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        ResponseEntity<ProblemDetail> response =
+                problem(ErrorType.VALIDATION_ERROR, HttpStatus.BAD_REQUEST, VALIDATION_FAILED, request);
+        response.getBody().setProperty("errors", errors);
+        return response;
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
-    public ResponseEntity<ErrorResponse> handleConstraintViolationException(
+    public ResponseEntity<ProblemDetail> handleConstraintViolationException(
             ConstraintViolationException ex,
             HttpServletRequest request
     ) {
-        logger.warn("Constraint violation: {} - Path: {}", ex.getMessage(), request.getRequestURI());
-
-        ErrorResponse error = buildErrorResponse(
-                ErrorType.VALIDATION_ERROR,
-                ex.getMessage(),
-                HttpStatus.BAD_REQUEST,
-                request.getRequestURI()
-        );
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        logRejected(ErrorType.VALIDATION_ERROR, "Constraint violation", ex.getMessage(), request);
+        return problem(ErrorType.VALIDATION_ERROR, HttpStatus.BAD_REQUEST, ex.getMessage(), request);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+    public ResponseEntity<ProblemDetail> handleIllegalArgumentException(
             IllegalArgumentException ex,
             HttpServletRequest request
     ) {
-        logger.warn("Illegal argument: {} - Path: {}", ex.getMessage(), request.getRequestURI());
+        logRejected(ErrorType.INVALID_ARGUMENT, "Illegal argument", ex.getMessage(), request);
+        return problem(ErrorType.INVALID_ARGUMENT, HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
 
-        ErrorResponse error = buildErrorResponse(
-                ErrorType.INVALID_ARGUMENT,
-                ex.getMessage(),
-                HttpStatus.BAD_REQUEST,
-                request.getRequestURI()
-        );
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleServiceUnavailableException(
+            ServiceUnavailableException ex,
+            HttpServletRequest request
+    ) {
+        logRejected(ErrorType.SERVICE_UNAVAILABLE, "Service unavailable", ex.getMessage(), request);
+        return problem(ErrorType.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request);
+    }
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ProblemDetail> handleChangeTokenExpiredException(
+            ChangeTokenExpiredException ex,
+            HttpServletRequest request
+    ) {
+        logRejected(ErrorType.TOKEN_EXPIRED, "Change token expired", ex.getMessage(), request);
+        return problem(ErrorType.TOKEN_EXPIRED, HttpStatus.GONE, ex.getMessage(), request);
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGenericException(
+    public ResponseEntity<ProblemDetail> handleGenericException(
             Exception ex,
             HttpServletRequest request
     ) {
         logger.error("Unexpected error occurred - Path: {}", request.getRequestURI(), ex);
-
-        ErrorResponse error = buildErrorResponse(
-                ErrorType.INTERNAL_SERVER_ERROR,
-                "An unexpected error occurred",
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                request.getRequestURI()
-        );
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        return problem(ErrorType.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, UNEXPECTED_ERROR, request);
     }
 
-    private ErrorResponse buildErrorResponse(
+    private static ResponseEntity<ProblemDetail> problem(
             ErrorType errorType,
-            String message,
             HttpStatus status,
-            String path
+            String detail,
+            HttpServletRequest request
     ) {
-        return new ErrorResponse(
-                LocalDateTime.now(),
-                status.value(),
-                errorType.getMessage(),
-                message,
-                path
-        );
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, detail);
+        problem.setTitle(errorType.getMessage());
+        problem.setInstance(instance(request));
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problem);
     }
 
-    private Map<String, String> extractValidationErrors(MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
+    private static URI instance(HttpServletRequest request) {
+        try {
+            return URI.create(request.getRequestURI());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Registra o erro se o limite do tipo permitir. Os argumentos só são formatados quando a
+     * linha é de fato escrita.
+     */
+    private void logRejected(ErrorType errorType, String description, Object detail, HttpServletRequest request) {
+        long suppressed = errorLogs.get(errorType).tryAcquire();
+        if (suppressed < 0 || !logger.isWarnEnabled()) {
+            return;
+        }
+        if (suppressed == 0) {
+            logger.warn("{}: {} - Path: {}", description, detail, request.getRequestURI());
+        } else {
+            logger.warn("{}: {} - Path: {} ({} similar messages suppressed)",
+                    description, detail, request.getRequestURI(), suppressed);
+        }
+    }
+
+    private static Map<String, String> extractValidationErrors(MethodArgumentNotValidException ex) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ObjectError error : ex.getBindingResult().getAllErrors()) {
+            String name = error instanceof FieldError fieldError ? fieldError.getField() : error.getObjectName();
+            errors.put(name, error.getDefaultMessage());
+        }
         return errors;
     }
 }
-
@@ -0,0 +1,297 @@
+package com.techsolution.product_service.api.grpc;
+
+import com.google.protobuf.ByteString;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.api.proto.BatchGetProductsRequest;
+import com.techsolution.product_service.api.proto.BatchGetProductsResponse;
+import com.techsolution.product_service.api.proto.GetProductRequest;
+import com.techsolution.product_service.api.proto.Product;
+import com.techsolution.product_service.api.proto.ProductServiceGrpc;
+import com.techsolution.product_service.api.proto.ScanCatalogRequest;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.application.usecase.GetProductByIdUseCase;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.exception.BusinessException;
+import com.techsolution.product_service.domain.exception.ChangeTokenExpiredException;
+import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
+import com.techsolution.product_service.domain.exception.ServiceUnavailableException;
+import com.techsolution.product_service.infrastructure.codec.ProductProtoMapper;
+import com.techsolution.product_service.infrastructure.grpc.GrpcProperties;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * API gRPC interna de produtos, sobre os mesmos casos de uso e ProductRepository da API REST.
+ *
+ * Os dois streams usam controle de fluxo manual: BatchGetProducts só lê a próxima mensagem
+ * quando o cliente está pronto para receber a resposta, e ScanCatalog só busca o próximo lote
+ * no banco quando o anterior foi consumido. Chamadas canceladas pelo cliente ou com o prazo
+ * (deadline) vencido param de consultar o banco.
+ *
+ * Exceções de domínio viram o Status equivalente ao código HTTP da API REST; as inesperadas
+ * são registradas e respondidas como INTERNAL, sem detalhes.
+ */
+@Component
+public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBase {
+    private static final Logger logger = LoggerFactory.getLogger(ProductGrpcService.class);
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final GetProductByIdUseCase getProductByIdUseCase;
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final GrpcProperties properties;
+
+    public ProductGrpcService(
+            GetProductByIdUseCase getProductByIdUseCase,
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            GrpcProperties properties
+    ) {
+        this.getProductByIdUseCase = getProductByIdUseCase;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public void getProduct(GetProductRequest request, StreamObserver<Product> responseObserver) {
+        try {
+            UUID id = toUuid(request.getId());
+            responseObserver.onNext(ProductProtoMapper.toProto(getProductByIdUseCase.execute(id)));
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(toStatus(ex));
+        }
+    }
+
+    @Override
+    public StreamObserver<BatchGetProductsRequest> batchGetProducts(
+            StreamObserver<BatchGetProductsResponse> responseObserver
+    ) {
+        ServerCallStreamObserver<BatchGetProductsResponse> call =
+                (ServerCallStreamObserver<BatchGetProductsResponse>) responseObserver;
+        BatchGet batchGet = new BatchGet(call);
+        call.disableAutoRequest();
+        call.setOnReadyHandler(batchGet::onReady);
+        call.setOnCancelHandler(() -> logger.debug("BatchGetProducts cancelled"));
+        call.request(1);
+        return batchGet;
+    }
+
+    @Override
+    public void scanCatalog(ScanCatalogRequest request, StreamObserver<Product> responseObserver) {
+        UUID afterId;
+        try {
+            afterId = request.getAfterId().isEmpty() ? FIRST_ID : toUuid(request.getAfterId());
+        } catch (StatusRuntimeException ex) {
+            responseObserver.onError(ex);
+            return;
+        }
+
+        ServerCallStreamObserver<Product> call = (ServerCallStreamObserver<Product>) responseObserver;
+        CatalogScan scan = new CatalogScan(call, afterId);
+        call.setOnReadyHandler(scan::drain);
+        call.setOnCancelHandler(() -> logger.debug("ScanCatalog cancelled after {}", scan.afterId));
+        scan.drain();
+    }
+
+    private UUID toUuid(ByteString id) {
+        if (id.size() != 16) {
+            throw Status.INVALID_ARGUMENT.withDescription("Product id must have 16 bytes").asRuntimeException();
+        }
+        return ProductProtoMapper.fromProto(id);
+    }
+
+    private static StatusRuntimeException toStatus(RuntimeException ex) {
+        if (ex instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (ex instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof ServiceUnavailableException) {
+            return Status.UNAVAILABLE.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof TransientDataAccessException || ex instanceof DataAccessResourceFailureException) {
+            logger.warn("Database unavailable during gRPC call: {}", ex.getMessage());
+            return Status.UNAVAILABLE.withDescription("Database unavailable, retry later").asRuntimeException();
+        }
+        if (ex instanceof ChangeTokenExpiredException) {
+            return Status.OUT_OF_RANGE.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof BusinessException) {
+            return Status.FAILED_PRECONDITION.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        logger.error("Unexpected error in gRPC call", ex);
+        return Status.INTERNAL.withDescription("Unexpected error").asRuntimeException();
+    }
+
+    private static boolean isCancelled(ServerCallStreamObserver<?> call) {
+        return call.isCancelled() || Context.current().isCancelled();
+    }
+
+    /**
+     * Responde cada mensagem do stream com uma única consulta IN e só pede a próxima
+     * mensagem enquanto o stream de saída aceita escrita.
+     */
+    private final class BatchGet implements StreamObserver<BatchGetProductsRequest> {
+
+        private final ServerCallStreamObserver<BatchGetProductsResponse> call;
+        private boolean waitingForReady;
+        private boolean closed;
+
+        private BatchGet(ServerCallStreamObserver<BatchGetProductsResponse> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void onNext(BatchGetProductsRequest request) {
+            if (closed || isCancelled(call)) {
+                return;
+            }
+            if (request.getIdsCount() > properties.maxBatchIds()) {
+                fail(Status.INVALID_ARGUMENT
+                        .withDescription("At most " + properties.maxBatchIds() + " ids per message")
+                        .asRuntimeException());
+                return;
+            }
+
+            try {
+                Set<UUID> ids = new LinkedHashSet<>(request.getIdsCount());
+                for (ByteString id : request.getIdsList()) {
+                    ids.add(toUuid(id));
+                }
+                call.onNext(lookup(ids));
+            } catch (RuntimeException ex) {
+                fail(toStatus(ex));
+                return;
+            }
+
+            if (call.isReady()) {
+                call.request(1);
+            } else {
+                waitingForReady = true;
+            }
+        }
+
+        void onReady() {
+            if (waitingForReady && call.isReady()) {
+                waitingForReady = false;
+                call.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            logger.debug("BatchGetProducts stream closed by client: {}", error.getMessage());
+        }
+
+        @Override
+        public void onCompleted() {
+            if (!closed) {
+                closed = true;
+                call.onCompleted();
+            }
+        }
+
+        private void fail(StatusRuntimeException error) {
+            closed = true;
+            call.onError(error);
+        }
+
+        private BatchGetProductsResponse lookup(Set<UUID> ids) {
+            Map<UUID, ProductResponse> found = ids.isEmpty()
+                    ? Map.of()
+                    : productMapper.toResponseList(productRepository.findActiveByIds(ids)).stream()
+                            .collect(Collectors.toMap(ProductResponse::id, Function.identity()));
+
+            BatchGetProductsResponse.Builder response = BatchGetProductsResponse.newBuilder();
+            for (UUID id : ids) {
+                ProductResponse product = found.get(id);
+                if (product != null) {
+                    response.addProducts(ProductProtoMapper.toProto(product));
+                } else {
+                    response.addMissingIds(ProductProtoMapper.toProto(id));
+                }
+            }
+            return response.build();
+        }
+    }
+
+    /**
+     * Percorre o catálogo em lotes de scan-batch-size, enviando enquanto o cliente aceita e
+     * retomando no próximo onReady.
+     */
+    private final class CatalogScan {
+
+        private final ServerCallStreamObserver<Product> call;
+        private final Queue<Product> pending = new ArrayDeque<>();
+        private UUID afterId;
+        private boolean exhausted;
+        private boolean finished;
+
+        private CatalogScan(ServerCallStreamObserver<Product> call, UUID afterId) {
+            this.call = call;
+            this.afterId = afterId;
+        }
+
+        void drain() {
+            while (!finished && call.isReady()) {
+                if (isCancelled(call)) {
+                    finished = true;
+                    return;
+                }
+                if (pending.isEmpty()) {
+                    if (exhausted) {
+                        finished = true;
+                        call.onCompleted();
+                        return;
+                    }
+                    try {
+                        fetchNextBatch();
+                    } catch (RuntimeException ex) {
+                        finished = true;
+                        call.onError(toStatus(ex));
+                        return;
+                    }
+                    continue;
+                }
+                call.onNext(pending.poll());
+            }
+        }
+
+        private void fetchNextBatch() {
+            List<ProductResponse> batch = productMapper.toResponseList(
+                    productRepository.findActiveAfter(afterId, properties.scanBatchSize()));
+            for (ProductResponse product : batch) {
+                pending.add(ProductProtoMapper.toProto(product));
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).id();
+            }
+            exhausted = batch.size() < properties.scanBatchSize();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.techsolution.product_service.application.analytics;
+
+/**
+ * Filtro das varreduras, com limites inclusivos de preço (em centavos) e de estoque.
+ */
+public record AnalyticsFilter(long minPriceCents, long maxPriceCents, int minStock, int maxStock) {
+
+    public static final AnalyticsFilter ALL = new AnalyticsFilter(0L, Long.MAX_VALUE, 0, Integer.MAX_VALUE);
+
+    boolean matches(long priceCents, int stock) {
+        return priceCents >= minPriceCents && priceCents <= maxPriceCents
+                && stock >= minStock && stock <= maxStock;
+    }
+}
@@ -0,0 +1,25 @@
+package com.techsolution.product_service.application.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração das análises em memória do catálogo (product-service.analytics.*).
+ *
+ * parallelThreshold é o número de linhas a partir do qual uma varredura é dividida entre as
+ * threads do ForkJoinPool comum; abaixo disso, uma única thread percorre as colunas. A
+ * projeção lê o feed de alterações a cada pollInterval e deixa de responder quando a última
+ * leitura completa tem mais de maxLag.
+ */
+@ConfigurationProperties(prefix = "product-service.analytics")
+public record AnalyticsProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000") int loadBatchSize,
+        @DefaultValue("65536") int parallelThreshold,
+        @DefaultValue("1000") int maxBuckets,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("5s") Duration maxLag
+) {
+}
@@ -0,0 +1,80 @@
+package com.techsolution.product_service.application.analytics;
+
+import com.techsolution.product_service.application.changefeed.ChangeFeedProjection;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+/**
+ * Mantém a projeção colunar (ColumnarCatalog) dos produtos ativos usada pelas análises.
+ *
+ * Assim como o ActiveCatalogReadModel, é carregada do banco primário na inicialização e mantida
+ * em dia pelo feed de alterações (ChangeFeedProjection), que também repete no próximo poll uma
+ * carga que falhou.
+ *
+ * isReady devolve false antes da carga, quando a última leitura completa do feed tem mais de
+ * max-lag ou com product-service.analytics.enabled desligado.
+ */
+@Component
+public class CatalogAnalytics extends ChangeFeedProjection<ColumnarCatalog> {
+
+    private final AnalyticsProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    public CatalogAnalytics(
+            ProductRepository productRepository,
+            ProductChangeRepository productChangeRepository,
+            AnalyticsProperties properties,
+            TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager
+    ) {
+        super("catalog analytics", productRepository, productChangeRepository, properties.loadBatchSize(),
+                properties.maxLag(), ColumnarCatalog::new, transactionManager);
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.enabled()) {
+            taskScheduler.scheduleWithFixedDelay(this::poll, properties.pollInterval());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!properties.enabled()) {
+            return;
+        }
+        Thread.ofPlatform()
+                .name("catalog-analytics-loader")
+                .daemon()
+                .start(this::reload);
+    }
+
+    public CatalogSummary summarize(AnalyticsFilter filter) {
+        return catalog().summarize(filter, properties.parallelThreshold());
+    }
+
+    public long[] histogram(HistogramField field, AnalyticsFilter filter, long origin, long width, int buckets) {
+        return catalog().histogram(field, filter, origin, width, buckets, properties.parallelThreshold());
+    }
+
+    @Override
+    protected void upsert(ColumnarCatalog catalog, Product product, long version) {
+        catalog.upsert(product.getId(), ColumnarCatalog.toCents(product.getPrice()), product.getStockQuantity(), version);
+    }
+
+    @Override
+    protected void remove(ColumnarCatalog catalog, UUID id, long version) {
+        catalog.remove(id, version);
+    }
+}
@@ -0,0 +1,17 @@
+package com.techsolution.product_service.application.analytics;
+
+import java.math.BigDecimal;
+
+/**
+ * Agregados dos produtos ativos que passaram pelo filtro. Preço mínimo, máximo e médio são
+ * nulos quando nenhum produto foi encontrado.
+ */
+public record CatalogSummary(
+        long products,
+        long stockUnits,
+        BigDecimal inventoryValue,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        BigDecimal averagePrice
+) {
+}
@@ -0,0 +1,366 @@
+package com.techsolution.product_service.application.analytics;
+
+import com.techsolution.product_service.application.changefeed.VersionedCatalog;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Projeção colunar dos produtos ativos para as análises: preço em centavos e estoque ficam
+ * em arrays primitivos paralelos, com os ids em dois arrays de long e a versão de cada linha
+ * ao lado, sem um objeto por produto. A posição de cada id fica num UuidLongMap, também só
+ * com arrays primitivos.
+ *
+ * Cada linha guarda o token do feed que a produziu e as remoções deixam uma lápide com o
+ * token, como no SortedProductCatalog: uma alteração igual ou mais antiga que a conhecida é
+ * ignorada, então a ordem de chegada não importa.
+ *
+ * As varreduras percorrem os arrays em laços simples, que o JIT consegue desenrolar e
+ * vetorizar, e são divididas em intervalos processados em paralelo no ForkJoinPool comum
+ * quando passam de parallelThreshold linhas. Leituras seguram o lock de leitura durante a
+ * varredura; alterações pegam o lock de escrita, atualizam a linha no lugar e, na remoção,
+ * movem a última linha para a posição liberada.
+ *
+ * Somas de valor e de preço são acumuladas em 128 bits (dois longs), pois centavos vezes
+ * estoque podem passar do limite de um long.
+ */
+public final class ColumnarCatalog implements VersionedCatalog {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final BigInteger TWO_TO_64 = BigInteger.ONE.shiftLeft(64);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final UuidLongMap positions;
+    private final UuidLongMap tombstones = new UuidLongMap(0);
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private long[] versions;
+    private long[] priceCents;
+    private int[] stock;
+    private int size;
+
+    public ColumnarCatalog() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ColumnarCatalog(int capacity) {
+        int initial = Math.max(capacity, 16);
+        mostSignificantBits = new long[initial];
+        leastSignificantBits = new long[initial];
+        versions = new long[initial];
+        priceCents = new long[initial];
+        stock = new int[initial];
+        positions = new UuidLongMap(initial);
+    }
+
+    /**
+     * Converte o preço para centavos, arredondando meio centavo para cima como a coluna
+     * DECIMAL(19, 2).
+     */
+    public static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return false quando a projeção já tem uma versão igual ou mais nova do produto
+     */
+    public boolean upsert(UUID id, long priceCents, int stock, long version) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        lock.writeLock().lock();
+        try {
+            long removedAt = tombstones.get(msb, lsb);
+            if (removedAt != UuidLongMap.ABSENT) {
+                if (removedAt >= version) {
+                    return false;
+                }
+                tombstones.remove(msb, lsb);
+            }
+            long position = positions.get(msb, lsb);
+            int row;
+            if (position != UuidLongMap.ABSENT) {
+                row = (int) position;
+                if (versions[row] >= version) {
+                    return false;
+                }
+            } else {
+                ensureCapacity(size + 1);
+                row = size++;
+                mostSignificantBits[row] = msb;
+                leastSignificantBits[row] = lsb;
+                positions.put(msb, lsb, row);
+            }
+            this.versions[row] = version;
+            this.priceCents[row] = priceCents;
+            this.stock[row] = stock;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return false quando a projeção já tem uma versão igual ou mais nova do produto
+     */
+    public boolean remove(UUID id, long version) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        lock.writeLock().lock();
+        try {
+            long position = positions.get(msb, lsb);
+            long removedAt = tombstones.get(msb, lsb);
+            if ((position != UuidLongMap.ABSENT && versions[(int) position] >= version)
+                    || (removedAt != UuidLongMap.ABSENT && removedAt >= version)) {
+                return false;
+            }
+            tombstones.put(msb, lsb, version);
+            if (position == UuidLongMap.ABSENT) {
+                return true;
+            }
+            positions.remove(msb, lsb);
+            int last = --size;
+            int row = (int) position;
+            if (row != last) {
+                mostSignificantBits[row] = mostSignificantBits[last];
+                leastSignificantBits[row] = leastSignificantBits[last];
+                versions[row] = versions[last];
+                priceCents[row] = priceCents[last];
+                stock[row] = stock[last];
+                positions.put(mostSignificantBits[row], leastSignificantBits[row], row);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void forgetTombstonesThrough(long version) {
+        lock.writeLock().lock();
+        try {
+            tombstones.removeValuesAtMost(version);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public CatalogSummary summarize(AnalyticsFilter filter, int parallelThreshold) {
+        lock.readLock().lock();
+        try {
+            return new SummaryTask(filter, 0, size, parallelThreshold).invoke().toSummary();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Conta os produtos filtrados em buckets de largura width a partir de origin, na coluna
+     * escolhida. Valores abaixo de origin ficam de fora e valores além do último bucket são
+     * contados nele.
+     */
+    public long[] histogram(HistogramField field, AnalyticsFilter filter, long origin, long width, int buckets,
+                            int parallelThreshold) {
+        lock.readLock().lock();
+        try {
+            return new HistogramTask(field, filter, origin, width, buckets, 0, size, parallelThreshold).invoke();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= priceCents.length) {
+            return;
+        }
+        int capacity = Math.max(required, priceCents.length + (priceCents.length >> 1));
+        mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+        leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        priceCents = Arrays.copyOf(priceCents, capacity);
+        stock = Arrays.copyOf(stock, capacity);
+    }
+
+    private final class SummaryTask extends RecursiveTask<Totals> {
+
+        private final AnalyticsFilter filter;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private SummaryTask(AnalyticsFilter filter, int from, int to, int threshold) {
+            this.filter = filter;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                SummaryTask right = new SummaryTask(filter, middle, to, threshold);
+                right.fork();
+                Totals left = new SummaryTask(filter, from, middle, threshold).compute();
+                return left.merge(right.join());
+            }
+
+            long[] prices = priceCents;
+            int[] units = stock;
+            Totals totals = new Totals();
+            for (int i = from; i < to; i++) {
+                long price = prices[i];
+                int quantity = units[i];
+                if (filter.matches(price, quantity)) {
+                    totals.add(price, quantity);
+                }
+            }
+            return totals;
+        }
+    }
+
+    private final class HistogramTask extends RecursiveTask<long[]> {
+
+        private final HistogramField field;
+        private final AnalyticsFilter filter;
+        private final long origin;
+        private final long width;
+        private final int buckets;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private HistogramTask(HistogramField field, AnalyticsFilter filter, long origin, long width, int buckets,
+                              int from, int to, int threshold) {
+            this.field = field;
+            this.filter = filter;
+            this.origin = origin;
+            this.width = width;
+            this.buckets = buckets;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                HistogramTask right = new HistogramTask(field, filter, origin, width, buckets, middle, to, threshold);
+                right.fork();
+                long[] counts = new HistogramTask(field, filter, origin, width, buckets, from, middle, threshold)
+                        .compute();
+                long[] rightCounts = right.join();
+                for (int bucket = 0; bucket < buckets; bucket++) {
+                    counts[bucket] += rightCounts[bucket];
+                }
+                return counts;
+            }
+
+            long[] prices = priceCents;
+            int[] units = stock;
+            long[] counts = new long[buckets];
+            int lastBucket = buckets - 1;
+            boolean byPrice = field == HistogramField.PRICE;
+            for (int i = from; i < to; i++) {
+                long price = prices[i];
+                int quantity = units[i];
+                long value = byPrice ? price : quantity;
+                if (value >= origin && filter.matches(price, quantity)) {
+                    counts[(int) Math.min((value - origin) / width, lastBucket)]++;
+                }
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Acumulador de uma varredura. Os valores somados nunca são negativos, então o produto de
+     * 128 bits é a parte alta de Math.multiplyHigh com a parte baixa tratada sem sinal.
+     */
+    private static final class Totals {
+
+        private long count;
+        private long stockUnits;
+        private long valueHigh;
+        private long valueLow;
+        private long priceSumHigh;
+        private long priceSumLow;
+        private long minPrice = Long.MAX_VALUE;
+        private long maxPrice = Long.MIN_VALUE;
+
+        void add(long price, int quantity) {
+            count++;
+            stockUnits += quantity;
+            addValue(Math.multiplyHigh(price, quantity), price * quantity);
+            addPriceSum(0L, price);
+            minPrice = Math.min(minPrice, price);
+            maxPrice = Math.max(maxPrice, price);
+        }
+
+        Totals merge(Totals other) {
+            count += other.count;
+            stockUnits += other.stockUnits;
+            addValue(other.valueHigh, other.valueLow);
+            addPriceSum(other.priceSumHigh, other.priceSumLow);
+            minPrice = Math.min(minPrice, other.minPrice);
+            maxPrice = Math.max(maxPrice, other.maxPrice);
+            return this;
+        }
+
+        CatalogSummary toSummary() {
+            if (count == 0) {
+                return new CatalogSummary(0L, 0L, BigDecimal.ZERO.setScale(2), null, null, null);
+            }
+            BigDecimal priceSum = toDecimal(priceSumHigh, priceSumLow);
+            return new CatalogSummary(
+                    count,
+                    stockUnits,
+                    toDecimal(valueHigh, valueLow),
+                    fromCents(minPrice),
+                    fromCents(maxPrice),
+                    priceSum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+            );
+        }
+
+        private void addValue(long high, long low) {
+            long sum = valueLow + low;
+            valueHigh += high + (Long.compareUnsigned(sum, valueLow) < 0 ? 1 : 0);
+            valueLow = sum;
+        }
+
+        private void addPriceSum(long high, long low) {
+            long sum = priceSumLow + low;
+            priceSumHigh += high + (Long.compareUnsigned(sum, priceSumLow) < 0 ? 1 : 0);
+            priceSumLow = sum;
+        }
+
+        private static BigDecimal toDecimal(long high, long low) {
+            BigInteger unsignedLow = BigInteger.valueOf(low);
+            if (low < 0) {
+                unsignedLow = unsignedLow.add(TWO_TO_64);
+            }
+            return new BigDecimal(BigInteger.valueOf(high).shiftLeft(64).add(unsignedLow), 2);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.techsolution.product_service.application.analytics;
+
+/**
+ * Coluna agrupada por um histograma.
+ */
+public enum HistogramField {
+    PRICE,
+    STOCK
+}
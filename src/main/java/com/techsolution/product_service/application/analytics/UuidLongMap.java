@@ -0,0 +1,166 @@
+package com.techsolution.product_service.application.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de UUID para long sem objetos por entrada: endereçamento aberto com sondagem linear
+ * sobre três arrays paralelos (metade alta e baixa do id e valor). Só aceita valores não
+ * negativos; ABSENT marca as posições livres.
+ *
+ * A remoção desloca para trás as entradas seguintes da mesma sequência de sondagem, então não
+ * há marcas de posição apagada e as buscas nunca ficam mais lentas com o tempo. Não é
+ * thread-safe; o ColumnarCatalog o protege com o seu lock.
+ */
+final class UuidLongMap {
+
+    static final long ABSENT = -1L;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    UuidLongMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(long msb, long lsb) {
+        for (int slot = slot(msb, lsb); ; slot = (slot + 1) & mask) {
+            long value = values[slot];
+            if (value == ABSENT) {
+                return ABSENT;
+            }
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                return value;
+            }
+        }
+    }
+
+    void put(long msb, long lsb, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        int slot = slot(msb, lsb);
+        while (values[slot] != ABSENT) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        mostSignificantBits[slot] = msb;
+        leastSignificantBits[slot] = lsb;
+        values[slot] = value;
+        // Carga máxima de 1/2: sequências de sondagem curtas mesmo com ids agrupados
+        if (++size > (mask + 1) >> 1) {
+            rehash((mask + 1) << 1);
+        }
+    }
+
+    /**
+     * @return o valor removido, ou ABSENT se o id não estava no mapa
+     */
+    long remove(long msb, long lsb) {
+        int slot = slot(msb, lsb);
+        while (values[slot] != ABSENT) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                long removed = values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Remove as entradas com valor menor ou igual a limit.
+     */
+    void removeValuesAtMost(long limit) {
+        if (size == 0) {
+            return;
+        }
+        long[] oldMsb = mostSignificantBits;
+        long[] oldLsb = leastSignificantBits;
+        long[] oldValues = values;
+        allocate(capacityFor(size));
+        size = 0;
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] > limit) {
+                put(oldMsb[slot], oldLsb[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private void shiftBack(int free) {
+        int slot = free;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (values[slot] == ABSENT) {
+                break;
+            }
+            int home = slot(mostSignificantBits[slot], leastSignificantBits[slot]);
+            // A entrada só pode ocupar a posição livre se ela estiver entre a posição ideal e a atual
+            boolean movable = free <= slot
+                    ? home <= free || home > slot
+                    : home <= free && home > slot;
+            if (movable) {
+                mostSignificantBits[free] = mostSignificantBits[slot];
+                leastSignificantBits[free] = leastSignificantBits[slot];
+                values[free] = values[slot];
+                free = slot;
+            }
+        }
+        values[free] = ABSENT;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldMsb = mostSignificantBits;
+        long[] oldLsb = leastSignificantBits;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            long value = oldValues[slot];
+            if (value == ABSENT) {
+                continue;
+            }
+            int target = slot(oldMsb[slot], oldLsb[slot]);
+            while (values[target] != ABSENT) {
+                target = (target + 1) & mask;
+            }
+            mostSignificantBits[target] = oldMsb[slot];
+            leastSignificantBits[target] = oldLsb[slot];
+            values[target] = value;
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(values, ABSENT);
+        mask = capacity - 1;
+    }
+
+    private int slot(long msb, long lsb) {
+        // Finalizador do MurmurHash3: ids sequenciais não caem em posições vizinhas
+        long hash = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = Math.max(MIN_CAPACITY, (long) expectedSize * 2);
+        return (int) Math.min(1 << 30, Long.highestOneBit(required - 1) << 1);
+    }
+}
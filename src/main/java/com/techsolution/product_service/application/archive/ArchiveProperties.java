@@ -0,0 +1,23 @@
+package com.techsolution.product_service.application.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do arquivamento de produtos desativados (product-service.archive.*).
+ *
+ * Produtos inativos há mais de inactive-for saem da tabela de produtos em lotes de
+ * batch-size, com batch-delay entre lotes e no máximo max-batches-per-run por execução.
+ */
+@ConfigurationProperties(prefix = "product-service.archive")
+public record ArchiveProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30d") Duration inactiveFor,
+        @DefaultValue("1h") Duration interval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration batchDelay,
+        @DefaultValue("100") int maxBatchesPerRun
+) {
+}
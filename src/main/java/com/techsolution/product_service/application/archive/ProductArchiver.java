@@ -0,0 +1,64 @@
+package com.techsolution.product_service.application.archive;
+
+import com.techsolution.product_service.domain.archive.ProductArchive;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Move periodicamente os produtos desativados há muito tempo para o arquivo, em lotes
+ * pequenos e espaçados para não disputar o banco com as requisições.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product-service.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductArchiver {
+    private static final Logger logger = LoggerFactory.getLogger(ProductArchiver.class);
+
+    private final ProductArchive productArchive;
+    private final ArchiveProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    public ProductArchiver(ProductArchive productArchive, ArchiveProperties properties, TaskScheduler taskScheduler) {
+        this.productArchive = productArchive;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::archive,
+                Instant.now().plus(properties.interval()), properties.interval());
+    }
+
+    /**
+     * @return a quantidade de produtos arquivados nesta execução
+     */
+    public int archive() {
+        Instant cutoff = Instant.now().minus(properties.inactiveFor());
+        int archived = 0;
+        try {
+            for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+                int moved = productArchive.archiveDeactivatedBefore(cutoff, properties.batchSize());
+                archived += moved;
+                if (moved < properties.batchSize()) {
+                    break;
+                }
+                Thread.sleep(properties.batchDelay().toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            logger.error("Failed to archive products deactivated before {}", cutoff, ex);
+        }
+
+        if (archived > 0) {
+            logger.info("Archived {} products deactivated before {}", archived, cutoff);
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,53 @@
+package com.techsolution.product_service.application.changefeed;
+
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Posição de um consumidor interno no feed de alterações. catchUp entrega as alterações
+ * depois da posição em lotes, na ordem dos tokens, e avança a posição depois de cada lote.
+ * Não é thread-safe: cada consumidor chama catchUp de uma thread por vez.
+ */
+public final class ChangeFeedCursor {
+
+    private final ProductChangeRepository productChangeRepository;
+    private final int batchSize;
+    private volatile long position;
+
+    public ChangeFeedCursor(ProductChangeRepository productChangeRepository, int batchSize, long position) {
+        this.productChangeRepository = productChangeRepository;
+        this.batchSize = batchSize;
+        this.position = position;
+    }
+
+    /**
+     * @return o token da última alteração entregue
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Entrega todas as alterações disponíveis depois da posição.
+     *
+     * @return false quando a posição ficou atrás da retenção do feed: alterações foram perdidas
+     *         e o consumidor precisa recarregar tudo
+     */
+    public boolean catchUp(Consumer<List<ProductChange>> consumer) {
+        List<ProductChange> changes;
+        do {
+            changes = productChangeRepository.findAfter(position, batchSize);
+            if (productChangeRepository.prunedThrough() > position) {
+                return false;
+            }
+            if (!changes.isEmpty()) {
+                consumer.accept(changes);
+                position = changes.get(changes.size() - 1).sequence();
+            }
+        } while (changes.size() == batchSize);
+        return true;
+    }
+}
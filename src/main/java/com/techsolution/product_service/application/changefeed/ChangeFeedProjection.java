@@ -0,0 +1,203 @@
+package com.techsolution.product_service.application.changefeed;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRecordedEvent;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Base das projeções em memória do catálogo ativo mantidas pelo feed de alterações.
+ *
+ * reload carrega a projeção do banco primário em lotes por chave (keyset), a partir de um
+ * token do feed lido antes da carga, e lê o feed a partir dele. poll lê o feed a cada ciclo e
+ * recarrega a projeção quando a posição ficou atrás da retenção ou quando a última carga
+ * falhou, inclusive a primeira. As alterações deste nó chegam por onProductChangeRecorded logo
+ * após o commit. Cada linha guarda o token que a produziu, então a ordem de chegada não importa.
+ *
+ * isReady só é true depois de uma carga completa e enquanto a última leitura do feed tem no
+ * máximo maxLag.
+ */
+public abstract class ChangeFeedProjection<C extends VersionedCatalog> {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final String name;
+    private final ProductRepository productRepository;
+    private final ProductChangeRepository productChangeRepository;
+    private final int loadBatchSize;
+    private final Duration maxLag;
+    private final Supplier<C> catalogFactory;
+    private final TransactionTemplate primaryTransaction;
+
+    private final Object pollLock = new Object();
+    private final Object writeLock = new Object();
+    private volatile C catalog;
+    private volatile ChangeFeedCursor cursor;
+    private volatile long syncedAtNanos;
+    private volatile boolean loadAttempted;
+    private volatile boolean loaded;
+
+    protected ChangeFeedProjection(
+            String name,
+            ProductRepository productRepository,
+            ProductChangeRepository productChangeRepository,
+            int loadBatchSize,
+            Duration maxLag,
+            Supplier<C> catalogFactory,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.name = name;
+        this.productRepository = productRepository;
+        this.productChangeRepository = productChangeRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.maxLag = maxLag;
+        this.catalogFactory = catalogFactory;
+        this.catalog = catalogFactory.get();
+        // Transação de escrita: as consultas readOnly participam dela e vão para o primário,
+        // que já contém tudo até o token lido antes da carga.
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Inclui ou substitui o produto na projeção, a menos que ela já tenha uma versão igual ou
+     * mais nova dele.
+     */
+    protected abstract void upsert(C catalog, Product product, long version);
+
+    /**
+     * Remove o produto da projeção deixando uma lápide com a versão.
+     */
+    protected abstract void remove(C catalog, UUID id, long version);
+
+    protected C catalog() {
+        return catalog;
+    }
+
+    /**
+     * Recarrega a projeção inteira do banco primário e lê o feed a partir do token obtido antes
+     * da carga. Uma falha é registrada e a carga é repetida no próximo poll.
+     */
+    public void reload() {
+        long start = System.nanoTime();
+        try {
+            long token = productChangeRepository.lastSequence();
+            C reloaded = catalogFactory.get();
+            UUID afterId = FIRST_ID;
+            List<Product> batch;
+            do {
+                UUID from = afterId;
+                batch = primaryTransaction.execute(status -> productRepository.findActiveAfter(from, loadBatchSize));
+                for (Product product : batch) {
+                    upsert(reloaded, product, token);
+                }
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == loadBatchSize);
+
+            synchronized (pollLock) {
+                synchronized (writeLock) {
+                    catalog = reloaded;
+                    cursor = new ChangeFeedCursor(productChangeRepository, loadBatchSize, token);
+                }
+                loaded = catchUp();
+            }
+            logger.info("Loaded {} with {} active products in {} ms",
+                    name, reloaded.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            logger.error("Failed to load {}, retrying on the next poll", name, ex);
+        } finally {
+            loadAttempted = true;
+        }
+    }
+
+    /**
+     * Aplica as alterações do feed posteriores à posição da projeção, ou a recarrega quando a
+     * última carga falhou ou a posição ficou atrás da retenção. Nada faz enquanto a carga da
+     * inicialização ainda não terminou.
+     */
+    public void poll() {
+        if (!loadAttempted) {
+            return;
+        }
+        if (!loaded) {
+            reload();
+            return;
+        }
+        try {
+            synchronized (pollLock) {
+                loaded = catchUp();
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Failed to read change feed for {}: {}", name, ex.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChangeRecorded(ProductChangeRecordedEvent event) {
+        apply(event.change());
+    }
+
+    /**
+     * Aplica uma alteração à projeção, a menos que ela já tenha uma versão igual ou mais nova
+     * do produto. Antes da primeira carga não há o que atualizar: a carga lê o feed a partir
+     * do seu token.
+     */
+    public void apply(ProductChange change) {
+        synchronized (writeLock) {
+            ChangeFeedCursor current = cursor;
+            if (current == null || change.sequence() <= current.position()) {
+                return;
+            }
+            applyTo(catalog, change);
+        }
+    }
+
+    public boolean isReady() {
+        return loaded && System.nanoTime() - syncedAtNanos <= maxLag.toNanos();
+    }
+
+    /**
+     * @return false quando a posição ficou atrás da retenção do feed e é preciso recarregar
+     */
+    private boolean catchUp() {
+        long start = System.nanoTime();
+        ChangeFeedCursor current = cursor;
+        boolean retained = current.catchUp(changes -> {
+            synchronized (writeLock) {
+                for (ProductChange change : changes) {
+                    applyTo(catalog, change);
+                }
+            }
+        });
+        if (!retained) {
+            logger.warn("{} fell behind change feed retention at token {}, reloading", name, current.position());
+            return false;
+        }
+        catalog.forgetTombstonesThrough(current.position());
+        syncedAtNanos = start;
+        return true;
+    }
+
+    private void applyTo(C target, ProductChange change) {
+        Product product = change.product();
+        if (product != null && product.isActive()) {
+            upsert(target, product, change.sequence());
+        } else {
+            remove(target, change.productId(), change.sequence());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.techsolution.product_service.application.changefeed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do feed de alterações (product-service.change-feed.*).
+ *
+ * Alterações mais antigas que retention são removidas a cada prune-interval, em lotes de
+ * prune-batch-size com no máximo max-prune-batches-per-run por execução.
+ */
+@ConfigurationProperties(prefix = "product-service.change-feed")
+public record ChangeFeedProperties(
+        @DefaultValue("100") int defaultLimit,
+        @DefaultValue("1000") int maxLimit,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("1h") Duration pruneInterval,
+        @DefaultValue("1000") int pruneBatchSize,
+        @DefaultValue("100") int maxPruneBatchesPerRun
+) {
+}
@@ -0,0 +1,63 @@
+package com.techsolution.product_service.application.changefeed;
+
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Remove periodicamente as alterações mais antigas que a retenção do feed. Consumidores com
+ * token anterior ao que foi removido recebem 410 e refazem a carga completa.
+ */
+@Component
+public class ProductChangePruner {
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangePruner.class);
+
+    private final ProductChangeRepository productChangeRepository;
+    private final ChangeFeedProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    public ProductChangePruner(
+            ProductChangeRepository productChangeRepository,
+            ChangeFeedProperties properties,
+            TaskScheduler taskScheduler
+    ) {
+        this.productChangeRepository = productChangeRepository;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::prune,
+                Instant.now().plus(properties.pruneInterval()), properties.pruneInterval());
+    }
+
+    /**
+     * @return a quantidade de alterações removidas nesta execução
+     */
+    public int prune() {
+        Instant cutoff = Instant.now().minus(properties.retention());
+        int pruned = 0;
+        try {
+            for (int batch = 0; batch < properties.maxPruneBatchesPerRun(); batch++) {
+                int removed = productChangeRepository.pruneChangedBefore(cutoff, properties.pruneBatchSize());
+                pruned += removed;
+                if (removed < properties.pruneBatchSize()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Failed to prune product changes recorded before {}", cutoff, ex);
+        }
+
+        if (pruned > 0) {
+            logger.info("Pruned {} product changes recorded before {}", pruned, cutoff);
+        }
+        return pruned;
+    }
+}
@@ -0,0 +1,47 @@
+package com.techsolution.product_service.application.changefeed;
+
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRecordedEvent;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Grava cada alteração de produto no feed dentro da mesma transação da escrita,
+ * imediatamente antes do commit: se a escrita falhar, a entrada do feed também é descartada.
+ *
+ * Registrar a alteração trava o contador de tokens até o commit, e todas as escritas de produtos
+ * passam por ele. Por isso roda depois dos demais listeners BEFORE_COMMIT, de todos os eventos
+ * da transação: o contador é a última trava tomada e fica preso só durante o commit, não durante
+ * os incrementos de shards. Os shards seguem a ordem fixa ativos, estoque e contador, então duas
+ * transações nunca esperam uma pela outra em ordem invertida.
+ *
+ * A alteração gravada, já com o token, é republicada como ProductChangeRecordedEvent para os
+ * modelos em memória deste nó.
+ */
+@Component
+public class ProductChangeRecorder {
+
+    private final ProductChangeRepository productChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductChangeRecorder(
+            ProductChangeRepository productChangeRepository,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.productChangeRepository = productChangeRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        ProductChange change = productChangeRepository.append(event.type(), event.productId(), event.current());
+        eventPublisher.publishEvent(new ProductChangeRecordedEvent(change));
+    }
+}
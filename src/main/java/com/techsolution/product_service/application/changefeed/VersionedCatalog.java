@@ -0,0 +1,16 @@
+package com.techsolution.product_service.application.changefeed;
+
+/**
+ * Projeção em memória em que cada linha guarda a versão (token do feed de alterações) do
+ * estado que traz e as remoções deixam lápides com a versão.
+ */
+public interface VersionedCatalog {
+
+    int size();
+
+    /**
+     * Descarta as lápides até a versão informada, quando nenhuma alteração igual ou mais antiga
+     * pode mais chegar.
+     */
+    void forgetTombstonesThrough(long version);
+}
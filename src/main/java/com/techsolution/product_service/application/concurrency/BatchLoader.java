@@ -0,0 +1,151 @@
+package com.techsolution.product_service.application.concurrency;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Junta buscas individuais feitas por threads diferentes em chamadas em lote, no estilo DataLoader.
+ *
+ * No máximo maxConcurrentBatches lotes rodam ao mesmo tempo; as buscas que chegam enquanto
+ * eles estão em andamento se acumulam e saem juntas no próximo lote, até maxBatchSize chaves.
+ * Com pouca concorrência cada busca sai sozinha e imediatamente; sob carga os lotes crescem
+ * sozinhos. window adiciona uma espera opcional antes de cada lote para juntar mais chaves.
+ */
+public final class BatchLoader<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final int maxConcurrentBatches;
+    private final long windowNanos;
+
+    private final Queue<Pending<K, V>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicInteger activeBatches = new AtomicInteger();
+
+    public BatchLoader(
+            Function<Set<K>, Map<K, V>> batchFunction,
+            Executor executor,
+            int maxBatchSize,
+            int maxConcurrentBatches,
+            long windowNanos
+    ) {
+        this.batchFunction = batchFunction;
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * Agenda a busca da chave; o futuro completa com null quando o lote não a encontra.
+     */
+    public CompletableFuture<V> load(K key) {
+        CompletableFuture<V> result = new CompletableFuture<>();
+        pending.add(new Pending<>(key, result));
+        pendingCount.incrementAndGet();
+        startBatchIfIdle();
+        return result;
+    }
+
+    /**
+     * Busca a chave e espera o lote, repassando a exceção original em caso de falha.
+     */
+    public V loadAndWait(K key) {
+        try {
+            return load(key).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        }
+    }
+
+    private void startBatchIfIdle() {
+        int active;
+        do {
+            active = activeBatches.get();
+            if (active >= maxConcurrentBatches) {
+                return;
+            }
+        } while (!activeBatches.compareAndSet(active, active + 1));
+
+        try {
+            executor.execute(this::drain);
+        } catch (RuntimeException ex) {
+            activeBatches.decrementAndGet();
+            failAll(ex);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (pendingCount.get() > 0) {
+                if (windowNanos > 0 && pendingCount.get() < maxBatchSize) {
+                    LockSupport.parkNanos(windowNanos);
+                }
+                List<Pending<K, V>> batch = takeBatch();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                run(batch);
+            }
+        } finally {
+            activeBatches.decrementAndGet();
+        }
+        // Uma busca pode ter chegado entre a última verificação e a liberação da vaga
+        if (pendingCount.get() > 0) {
+            startBatchIfIdle();
+        }
+    }
+
+    private List<Pending<K, V>> takeBatch() {
+        List<Pending<K, V>> batch = new ArrayList<>(Math.min(maxBatchSize, Math.max(1, pendingCount.get())));
+        Pending<K, V> next;
+        while (batch.size() < maxBatchSize && (next = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void run(List<Pending<K, V>> batch) {
+        Map<K, List<CompletableFuture<V>>> waiting = new LinkedHashMap<>();
+        for (Pending<K, V> call : batch) {
+            waiting.computeIfAbsent(call.key(), key -> new ArrayList<>(1)).add(call.result());
+        }
+
+        try {
+            Map<K, V> loaded = batchFunction.apply(waiting.keySet());
+            waiting.forEach((key, results) -> {
+                V value = loaded.get(key);
+                results.forEach(result -> result.complete(value));
+            });
+        } catch (RuntimeException | Error ex) {
+            waiting.values().forEach(results -> results.forEach(result -> result.completeExceptionally(ex)));
+        }
+    }
+
+    private void failAll(RuntimeException ex) {
+        Pending<K, V> next;
+        while ((next = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            next.result().completeExceptionally(ex);
+        }
+    }
+
+    private record Pending<K, V>(K key, CompletableFuture<V> result) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.techsolution.product_service.application.counter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do contador de produtos ativos (product-service.active-count.*).
+ * shards é a quantidade de linhas entre as quais os incrementos são distribuídos.
+ */
+@ConfigurationProperties(prefix = "product-service.active-count")
+public record ActiveCountProperties(
+        @DefaultValue("8") int shards,
+        @DefaultValue("10m") Duration reconcileInterval
+) {
+}
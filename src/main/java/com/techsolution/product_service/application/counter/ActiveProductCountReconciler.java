@@ -0,0 +1,45 @@
+package com.techsolution.product_service.application.counter;
+
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recalcula periodicamente o contador de ativos a partir da tabela de produtos. A primeira
+ * execução, na subida, cria as linhas do contador que ainda não existirem.
+ */
+@Component
+public class ActiveProductCountReconciler {
+    private static final Logger logger = LoggerFactory.getLogger(ActiveProductCountReconciler.class);
+
+    private final ActiveProductCounter activeProductCounter;
+    private final ActiveCountProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    public ActiveProductCountReconciler(
+            ActiveProductCounter activeProductCounter,
+            ActiveCountProperties properties,
+            TaskScheduler taskScheduler
+    ) {
+        this.activeProductCounter = activeProductCounter;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::reconcile, properties.reconcileInterval());
+    }
+
+    public void reconcile() {
+        try {
+            long total = activeProductCounter.reconcile();
+            logger.debug("Active product count reconciled: {}", total);
+        } catch (RuntimeException ex) {
+            logger.error("Failed to reconcile active product count", ex);
+        }
+    }
+}
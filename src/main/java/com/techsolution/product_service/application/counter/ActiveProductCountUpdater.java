@@ -0,0 +1,37 @@
+package com.techsolution.product_service.application.counter;
+
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Atualiza o contador de ativos na mesma transação da criação ou desativação, imediatamente
+ * antes do commit: se a escrita falhar, o incremento também é descartado.
+ *
+ * Roda antes dos totais de estoque e do registro no feed, na ordem de travas descrita no
+ * ProductChangeRecorder.
+ */
+@Component
+public class ActiveProductCountUpdater {
+
+    private final ActiveProductCounter activeProductCounter;
+
+    public ActiveProductCountUpdater(ActiveProductCounter activeProductCounter) {
+        this.activeProductCounter = activeProductCounter;
+    }
+
+    @Order(1)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> activeProductCounter.add(1);
+            case DEACTIVATED -> activeProductCounter.add(-1);
+            default -> {
+                // Atualizações não mudam o total de ativos
+            }
+        }
+    }
+}
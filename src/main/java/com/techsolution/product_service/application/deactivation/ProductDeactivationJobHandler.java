@@ -0,0 +1,57 @@
+package com.techsolution.product_service.application.deactivation;
+
+import com.techsolution.product_service.application.job.JobChunkResult;
+import com.techsolution.product_service.application.job.JobHandler;
+import com.techsolution.product_service.application.usecase.DeleteProductUseCase;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.job.JobType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Desativação em massa reaproveitando o DeleteProductUseCase, um produto por vez dentro do
+ * lote. O checkpoint é a posição do próximo id na lista; ids inexistentes ou já inativos
+ * contam como falha.
+ */
+@Component
+public class ProductDeactivationJobHandler implements JobHandler<ProductDeactivationParameters> {
+
+    private final ProductRepository productRepository;
+    private final DeleteProductUseCase deleteProductUseCase;
+
+    public ProductDeactivationJobHandler(ProductRepository productRepository, DeleteProductUseCase deleteProductUseCase) {
+        this.productRepository = productRepository;
+        this.deleteProductUseCase = deleteProductUseCase;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.PRODUCT_DEACTIVATION;
+    }
+
+    @Override
+    public Class<ProductDeactivationParameters> parametersType() {
+        return ProductDeactivationParameters.class;
+    }
+
+    @Override
+    public JobChunkResult processChunk(ProductDeactivationParameters parameters, String checkpoint, int chunkSize) {
+        List<UUID> productIds = parameters.productIds();
+        int from = checkpoint == null ? 0 : Integer.parseInt(checkpoint);
+        int to = Math.min(from + chunkSize, productIds.size());
+
+        int failed = 0;
+        for (UUID id : productIds.subList(from, to)) {
+            // Verificado antes para não deixar a transação do lote marcada para rollback
+            if (productRepository.existsByIdAndActive(id)) {
+                deleteProductUseCase.execute(id);
+            } else {
+                failed++;
+            }
+        }
+
+        return new JobChunkResult(String.valueOf(to), to - from, failed, to == productIds.size());
+    }
+}
@@ -0,0 +1,7 @@
+package com.techsolution.product_service.application.deactivation;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProductDeactivationParameters(List<UUID> productIds) {
+}
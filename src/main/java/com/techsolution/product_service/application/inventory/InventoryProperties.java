@@ -0,0 +1,16 @@
+package com.techsolution.product_service.application.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração dos totais de estoque (product-service.inventory.*).
+ */
+@ConfigurationProperties(prefix = "product-service.inventory")
+public record InventoryProperties(
+        @DefaultValue("8") int shards,
+        @DefaultValue("10m") Duration reconcileInterval
+) {
+}
@@ -0,0 +1,46 @@
+package com.techsolution.product_service.application.inventory;
+
+import com.techsolution.product_service.domain.inventory.InventoryAggregates;
+import com.techsolution.product_service.domain.inventory.InventoryTotals;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recalcula periodicamente os totais de estoque a partir da tabela de produtos. A primeira
+ * execução, na subida, cria as linhas dos totais.
+ */
+@Component
+public class InventoryTotalsReconciler {
+    private static final Logger logger = LoggerFactory.getLogger(InventoryTotalsReconciler.class);
+
+    private final InventoryAggregates inventoryAggregates;
+    private final InventoryProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    public InventoryTotalsReconciler(
+            InventoryAggregates inventoryAggregates,
+            InventoryProperties properties,
+            TaskScheduler taskScheduler
+    ) {
+        this.inventoryAggregates = inventoryAggregates;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::reconcile, properties.reconcileInterval());
+    }
+
+    public void reconcile() {
+        try {
+            InventoryTotals totals = inventoryAggregates.reconcile();
+            logger.debug("Inventory totals reconciled: {}", totals);
+        } catch (RuntimeException ex) {
+            logger.error("Failed to reconcile inventory totals", ex);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.techsolution.product_service.application.inventory;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import com.techsolution.product_service.domain.inventory.InventoryAggregates;
+import com.techsolution.product_service.domain.inventory.InventoryTotals;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Aplica aos totais de estoque a diferença entre o estado anterior e o atual do produto, na
+ * mesma transação da escrita e imediatamente antes do commit, como o ActiveProductCountUpdater.
+ */
+@Component
+public class InventoryTotalsUpdater {
+
+    private final InventoryAggregates inventoryAggregates;
+
+    public InventoryTotalsUpdater(InventoryAggregates inventoryAggregates) {
+        this.inventoryAggregates = inventoryAggregates;
+    }
+
+    @Order(2)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        // Desativações sem o estado anterior ficam para a próxima reconciliação
+        InventoryTotals delta = contribution(event.current()).minus(contribution(event.previous()));
+        if (!delta.isZero()) {
+            inventoryAggregates.add(delta);
+        }
+    }
+
+    private static InventoryTotals contribution(Product product) {
+        return product != null ? InventoryTotals.of(product) : InventoryTotals.ZERO;
+    }
+}
@@ -0,0 +1,13 @@
+package com.techsolution.product_service.application.job;
+
+/**
+ * Resultado de um lote. checkpoint é o ponto de partida do próximo lote; processed inclui
+ * os itens que falharam.
+ */
+public record JobChunkResult(
+        String checkpoint,
+        int processed,
+        int failed,
+        boolean done
+) {
+}
@@ -0,0 +1,21 @@
+package com.techsolution.product_service.application.job;
+
+import com.techsolution.product_service.domain.job.JobType;
+
+/**
+ * Executa os lotes de um tipo de job.
+ *
+ * @param <P> tipo dos parâmetros, gravados como JSON na criação do job
+ */
+public interface JobHandler<P> {
+
+    JobType type();
+
+    Class<P> parametersType();
+
+    /**
+     * Processa o próximo lote a partir de checkpoint (null no primeiro lote). Roda na mesma
+     * transação que grava o novo checkpoint, então um lote nunca é aplicado duas vezes.
+     */
+    JobChunkResult processChunk(P parameters, String checkpoint, int chunkSize);
+}
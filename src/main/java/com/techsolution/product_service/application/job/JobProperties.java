@@ -0,0 +1,21 @@
+package com.techsolution.product_service.application.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração dos jobs em lotes (product-service.jobs.*).
+ * Um job RUNNING cujo heartbeat ficou mais velho que staleAfter é considerado órfão e
+ * retomado do último checkpoint; cada lote precisa terminar dentro desse prazo.
+ */
+@ConfigurationProperties(prefix = "product-service.jobs")
+public record JobProperties(
+        @DefaultValue("2") int workerThreads,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("0ms") Duration chunkDelay,
+        @DefaultValue("5s") Duration pollInterval,
+        @DefaultValue("2m") Duration staleAfter
+) {
+}
@@ -0,0 +1,228 @@
+package com.techsolution.product_service.application.job;
+
+import com.techsolution.product_service.domain.exception.BusinessException;
+import com.techsolution.product_service.domain.job.Job;
+import com.techsolution.product_service.domain.job.JobRepository;
+import com.techsolution.product_service.domain.job.JobStatus;
+import com.techsolution.product_service.domain.job.JobType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Executa jobs persistidos em um pool limitado de workers, fora das threads de requisição.
+ *
+ * Os jobs são reivindicados na tabela jobs por um UPDATE condicional, então várias instâncias
+ * podem dividir a fila. Cada lote roda em uma transação que também grava o checkpoint e renova
+ * o heartbeat; se a instância cair, outro worker reivindica o job quando o heartbeat vence e
+ * continua do último lote confirmado. O status é relido entre lotes, o que permite pausar.
+ */
+@Component
+public class JobRunner {
+    private static final Logger logger = LoggerFactory.getLogger(JobRunner.class);
+
+    private final JobRepository jobRepository;
+    private final Map<JobType, JobHandler<?>> handlers;
+    private final JobProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final ThreadPoolTaskExecutor workerExecutor = new ThreadPoolTaskExecutor();
+    private final Semaphore freeWorkers;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public JobRunner(
+            JobRepository jobRepository,
+            List<JobHandler<?>> handlers,
+            JobProperties properties,
+            TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager,
+            JsonMapper jsonMapper
+    ) {
+        this.jobRepository = jobRepository;
+        this.handlers = handlers.stream().collect(Collectors.toMap(JobHandler::type, Function.identity()));
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = jsonMapper;
+        this.freeWorkers = new Semaphore(properties.workerThreads());
+        workerExecutor.setCorePoolSize(properties.workerThreads());
+        workerExecutor.setMaxPoolSize(properties.workerThreads());
+        workerExecutor.setQueueCapacity(0);
+        workerExecutor.setThreadNamePrefix("job-worker-");
+        workerExecutor.initialize();
+    }
+
+    @PostConstruct
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::dispatch, properties.pollInterval());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerExecutor.shutdown();
+    }
+
+    /**
+     * Grava um novo job na fila e tenta iniciá-lo logo em seguida.
+     */
+    public Job submit(JobType type, Object parameters, long totalItems) {
+        if (!handlers.containsKey(type)) {
+            throw new IllegalArgumentException("No handler registered for job type " + type);
+        }
+        Job job = Job.queued(type, jsonMapper.writeValueAsString(parameters), totalItems);
+        jobRepository.create(job);
+        logger.info("{} job {} queued with {} items", type, job.id(), totalItems);
+        taskScheduler.schedule(this::dispatch, Instant.now());
+        return job;
+    }
+
+    public void pause(UUID id) {
+        if (!jobRepository.transition(id, EnumSet.of(JobStatus.QUEUED, JobStatus.RUNNING), JobStatus.PAUSED)) {
+            throw new BusinessException("Job " + id + " cannot be paused in its current status");
+        }
+        logger.info("Job {} paused", id);
+    }
+
+    public void resume(UUID id) {
+        if (!jobRepository.transition(id, EnumSet.of(JobStatus.PAUSED), JobStatus.QUEUED)) {
+            throw new BusinessException("Job " + id + " is not paused");
+        }
+        logger.info("Job {} resumed", id);
+        taskScheduler.schedule(this::dispatch, Instant.now());
+    }
+
+    /**
+     * Reivindica jobs disponíveis enquanto houver worker livre.
+     */
+    synchronized void dispatch() {
+        try {
+            while (freeWorkers.tryAcquire()) {
+                Claim claim = claimNext();
+                if (claim == null) {
+                    freeWorkers.release();
+                    return;
+                }
+                try {
+                    workerExecutor.execute(() -> {
+                        try {
+                            run(claim.jobId(), claim.owner());
+                        } finally {
+                            freeWorkers.release();
+                        }
+                    });
+                } catch (TaskRejectedException ex) {
+                    freeWorkers.release();
+                    jobRepository.transition(claim.jobId(), EnumSet.of(JobStatus.RUNNING), JobStatus.QUEUED);
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Failed to dispatch jobs", ex);
+        }
+    }
+
+    void run(UUID jobId, String owner) {
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        JobHandler<?> handler = handlers.get(job.type());
+        logger.info("{} job {} started by {} from checkpoint {}", job.type(), jobId, owner, job.checkpoint());
+
+        try {
+            runChunks(job, handler, owner);
+        } catch (JobOwnershipLostException ex) {
+            logger.warn("Job {} was claimed by another worker, stopping", jobId);
+        } catch (RuntimeException ex) {
+            if (Thread.currentThread().isInterrupted()) {
+                jobRepository.transition(jobId, EnumSet.of(JobStatus.RUNNING), JobStatus.QUEUED);
+                logger.info("Job {} returned to the queue on shutdown", jobId);
+                return;
+            }
+            if (!jobRepository.finish(jobId, owner, JobStatus.FAILED, ex.getMessage())) {
+                logger.warn("Job {} is no longer running for {}, failure not recorded", jobId, owner, ex);
+                return;
+            }
+            logger.error("{} job {} failed", job.type(), jobId, ex);
+        }
+    }
+
+    private <P> void runChunks(Job job, JobHandler<P> handler, String owner) {
+        P parameters = jsonMapper.readValue(job.parameters(), handler.parametersType());
+        String checkpoint = job.checkpoint();
+
+        while (true) {
+            if (Thread.currentThread().isInterrupted()) {
+                jobRepository.transition(job.id(), EnumSet.of(JobStatus.RUNNING), JobStatus.QUEUED);
+                logger.info("Job {} returned to the queue on shutdown", job.id());
+                return;
+            }
+            JobStatus status = jobRepository.findStatus(job.id()).orElseThrow();
+            if (status != JobStatus.RUNNING) {
+                logger.info("Job {} stopped with status {}", job.id(), status);
+                return;
+            }
+
+            String from = checkpoint;
+            long startedAt = System.nanoTime();
+            JobChunkResult result = transactionTemplate.execute(tx -> {
+                JobChunkResult chunk = handler.processChunk(parameters, from, properties.chunkSize());
+                long busyMillis = (System.nanoTime() - startedAt) / 1_000_000;
+                if (!jobRepository.recordProgress(
+                        job.id(), owner, chunk.checkpoint(), chunk.processed(), chunk.failed(), busyMillis)) {
+                    throw new JobOwnershipLostException();
+                }
+                return chunk;
+            });
+            checkpoint = result.checkpoint();
+
+            if (result.done()) {
+                if (!jobRepository.finish(job.id(), owner, JobStatus.COMPLETED, null)) {
+                    logger.warn("Job {} is no longer running for {}, completion not recorded", job.id(), owner);
+                    return;
+                }
+                logger.info("{} job {} completed", job.type(), job.id());
+                return;
+            }
+            if (!properties.chunkDelay().isZero()) {
+                try {
+                    Thread.sleep(properties.chunkDelay());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private Claim claimNext() {
+        Instant staleBefore = Instant.now().minus(properties.staleAfter());
+        for (UUID id : jobRepository.findRunnable(staleBefore, properties.workerThreads())) {
+            String owner = instanceId + ":" + UUID.randomUUID();
+            if (jobRepository.claim(id, owner, staleBefore)) {
+                return new Claim(id, owner);
+            }
+        }
+        return null;
+    }
+
+    private record Claim(UUID jobId, String owner) {
+    }
+
+    private static class JobOwnershipLostException extends RuntimeException {
+    }
+}
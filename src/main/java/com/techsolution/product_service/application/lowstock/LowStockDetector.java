@@ -0,0 +1,45 @@
+package com.techsolution.product_service.application.lowstock;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import com.techsolution.product_service.domain.event.ProductStockLowEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Detecta, a cada atualização, a passagem do estoque para baixo do limite de reposição
+ * comparando o estado anterior e o atual do produto, sem consultar o banco.
+ *
+ * Roda depois do commit: uma escrita revertida não é registrada no log nem notificada, e quem
+ * reage ao ProductStockLowEvent só recebe passagens já confirmadas.
+ */
+@Component
+public class LowStockDetector {
+    private static final Logger logger = LoggerFactory.getLogger(LowStockDetector.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LowStockDetector(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() != ProductChangeType.UPDATED || !crossedThreshold(event.previous(), event.current())) {
+            return;
+        }
+        Product product = event.current();
+        logger.info("Product {} stock fell below its reorder threshold: {} < {}",
+                product.getId(), product.getStockQuantity(), product.getReorderThreshold());
+        eventPublisher.publishEvent(new ProductStockLowEvent(
+                product.getId(), product.getStockQuantity(), product.getReorderThreshold()));
+    }
+
+    private static boolean crossedThreshold(Product previous, Product current) {
+        return previous != null && !previous.isBelowReorderThreshold() && current.isBelowReorderThreshold();
+    }
+}
@@ -0,0 +1,14 @@
+package com.techsolution.product_service.application.lowstock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração da lista de estoque baixo (product-service.low-stock.*).
+ */
+@ConfigurationProperties(prefix = "product-service.low-stock")
+public record LowStockProperties(
+        @DefaultValue("100") int defaultLimit,
+        @DefaultValue("1000") int maxLimit
+) {
+}
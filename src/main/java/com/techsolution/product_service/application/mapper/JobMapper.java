@@ -0,0 +1,28 @@
+package com.techsolution.product_service.application.mapper;
+
+import com.techsolution.product_service.api.dto.JobResponse;
+import com.techsolution.product_service.domain.job.Job;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converte o estado persistido de um Job no DTO de status exposto pela API.
+ */
+@Component
+public class JobMapper {
+
+    public JobResponse toResponse(Job job) {
+        return new JobResponse(
+                job.id(),
+                job.type(),
+                job.status(),
+                job.totalItems(),
+                job.processedItems(),
+                job.failedItems(),
+                job.itemsPerSecond(),
+                job.createdAt(),
+                job.startedAt(),
+                job.finishedAt(),
+                job.error()
+        );
+    }
+}
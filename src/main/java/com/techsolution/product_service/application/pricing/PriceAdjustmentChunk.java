@@ -0,0 +1,15 @@
+package com.techsolution.product_service.application.pricing;
+
+import java.util.UUID;
+
+/**
+ * Resultado de um lote do reajuste. lastId é o último id examinado e serve de ponto de
+ * partida para o lote seguinte.
+ */
+public record PriceAdjustmentChunk(
+        UUID lastId,
+        int scanned,
+        int updated,
+        int skipped
+) {
+}
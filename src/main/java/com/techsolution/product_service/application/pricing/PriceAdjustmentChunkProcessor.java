@@ -0,0 +1,70 @@
+package com.techsolution.product_service.application.pricing;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductPatch;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Aplica o reajuste a um lote de produtos em uma transação curta: trava as próximas
+ * chunkSize linhas ativas em ordem de id, reajusta o intervalo com um único UPDATE e publica
+ * um evento por produto alterado para manter modelos de leitura, feed e stream em dia.
+ */
+@Component
+public class PriceAdjustmentChunkProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(PriceAdjustmentChunkProcessor.class);
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PriceAdjustmentChunkProcessor(ProductRepository productRepository, ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public PriceAdjustmentChunk process(UUID afterId, PriceAdjustment adjustment, int chunkSize) {
+        List<Product> chunk = productRepository.lockActiveAfter(afterId, chunkSize);
+        if (chunk.isEmpty()) {
+            return new PriceAdjustmentChunk(afterId, 0, 0, 0);
+        }
+        UUID lastId = chunk.get(chunk.size() - 1).getId();
+
+        int updated = productRepository.adjustPrices(afterId, lastId, adjustment);
+
+        int matching = 0;
+        int skipped = 0;
+        for (Product product : chunk) {
+            if (!adjustment.appliesTo(product.getPrice())) {
+                continue;
+            }
+            matching++;
+            BigDecimal newPrice = adjustment.apply(product.getPrice());
+            if (newPrice.signum() <= 0) {
+                skipped++;
+                continue;
+            }
+            if (newPrice.compareTo(product.getPrice()) != 0) {
+                Product previous = product.copy();
+                product.apply(new ProductPatch(null, null, newPrice, null));
+                eventPublisher.publishEvent(ProductChangedEvent.updated(previous, product));
+            }
+        }
+
+        if (updated != matching - skipped) {
+            logger.warn("Price adjustment chunk ({}, {}] updated {} rows but {} were expected",
+                    afterId, lastId, updated, matching - skipped);
+        }
+        return new PriceAdjustmentChunk(lastId, chunk.size(), updated, skipped);
+    }
+}
@@ -0,0 +1,47 @@
+package com.techsolution.product_service.application.pricing;
+
+import com.techsolution.product_service.application.job.JobChunkResult;
+import com.techsolution.product_service.application.job.JobHandler;
+import com.techsolution.product_service.domain.job.JobType;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Reajuste de preços como job em lotes. O checkpoint é o último id examinado; produtos cujo
+ * novo preço não seria positivo contam como falha.
+ */
+@Component
+public class PriceAdjustmentJobHandler implements JobHandler<PriceAdjustment> {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final PriceAdjustmentChunkProcessor chunkProcessor;
+
+    public PriceAdjustmentJobHandler(PriceAdjustmentChunkProcessor chunkProcessor) {
+        this.chunkProcessor = chunkProcessor;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.PRICE_ADJUSTMENT;
+    }
+
+    @Override
+    public Class<PriceAdjustment> parametersType() {
+        return PriceAdjustment.class;
+    }
+
+    @Override
+    public JobChunkResult processChunk(PriceAdjustment adjustment, String checkpoint, int chunkSize) {
+        UUID afterId = checkpoint == null ? FIRST_ID : UUID.fromString(checkpoint);
+        PriceAdjustmentChunk chunk = chunkProcessor.process(afterId, adjustment, chunkSize);
+        return new JobChunkResult(
+                chunk.lastId().toString(),
+                chunk.scanned(),
+                chunk.skipped(),
+                chunk.scanned() < chunkSize
+        );
+    }
+}
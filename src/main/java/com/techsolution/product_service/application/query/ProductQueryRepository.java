@@ -0,0 +1,17 @@
+package com.techsolution.product_service.application.query;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+
+import java.util.List;
+
+/**
+ * Caminho de leitura das listagens: monta o DTO de resposta direto do resultado da consulta,
+ * sem passar por entidades gerenciadas nem pelo domínio.
+ */
+public interface ProductQueryRepository {
+
+    List<ProductResponse> findAllActive();
+
+    PageResponse<ProductResponse> findActivePage(int page, int size);
+}
@@ -0,0 +1,97 @@
+package com.techsolution.product_service.application.readmodel;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.changefeed.ChangeFeedProjection;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura (CQRS) com todo o catálogo ativo em memória.
+ *
+ * Carregado do banco primário na inicialização e mantido em dia pelo feed de alterações
+ * (ChangeFeedProjection): alterações feitas em qualquer nó chegam por ele, e as deste nó
+ * também são aplicadas logo após o commit.
+ *
+ * O modelo só responde enquanto a última leitura completa do feed tem no máximo max-lag;
+ * antes da carga, enquanto ela falha, se o feed não puder ser lido ou se a posição ficar atrás
+ * da retenção (o que força uma recarga), as consultas seguem para o banco de dados.
+ */
+@Component
+@Order(1)
+@ConditionalOnProperty(prefix = "product-service.read-model", name = "enabled", havingValue = "true")
+public class ActiveCatalogReadModel extends ChangeFeedProjection<SortedProductCatalog> implements ProductReadModel {
+
+    private final ProductMapper productMapper;
+    private final ReadModelProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    public ActiveCatalogReadModel(
+            ProductRepository productRepository,
+            ProductChangeRepository productChangeRepository,
+            ProductMapper productMapper,
+            ReadModelProperties properties,
+            TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager
+    ) {
+        super("catalog read model", productRepository, productChangeRepository, properties.loadBatchSize(),
+                properties.maxLag(), SortedProductCatalog::new, transactionManager);
+        this.productMapper = productMapper;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::poll, properties.pollInterval());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofPlatform()
+                .name("catalog-read-model-loader")
+                .daemon()
+                .start(this::reload);
+    }
+
+    @Override
+    public boolean isComplete() {
+        return true;
+    }
+
+    @Override
+    public Optional<ProductResponse> findById(UUID id) {
+        return catalog().find(id);
+    }
+
+    @Override
+    public Optional<PageResponse<ProductResponse>> findPage(int page, int size) {
+        SortedProductCatalog snapshot = catalog();
+        List<ProductResponse> content = snapshot.slice((long) page * size, size);
+        return Optional.of(PageResponse.of(content, page, size, snapshot.size()));
+    }
+
+    @Override
+    protected void upsert(SortedProductCatalog catalog, Product product, long version) {
+        catalog.upsert(productMapper.toResponse(product), version);
+    }
+
+    @Override
+    protected void remove(SortedProductCatalog catalog, UUID id, long version) {
+        catalog.remove(id, version);
+    }
+}
@@ -0,0 +1,33 @@
+package com.techsolution.product_service.application.readmodel;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura opcional consultado pelos casos de uso antes do banco de dados.
+ * O banco continua sendo a fonte da verdade; um modelo só responde quando está pronto.
+ */
+public interface ProductReadModel {
+
+    /**
+     * @return true quando o modelo já pode responder consultas
+     */
+    boolean isReady();
+
+    /**
+     * @return true quando o modelo contém todo o catálogo ativo, tornando uma ausência definitiva
+     */
+    boolean isComplete();
+
+    Optional<ProductResponse> findById(UUID id);
+
+    /**
+     * Só é chamado em modelos completos.
+     */
+    default Optional<PageResponse<ProductResponse>> findPage(int page, int size) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,21 @@
+package com.techsolution.product_service.application.readmodel;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do modelo de leitura em memória (product-service.read-model.*).
+ *
+ * O modelo lê o feed de alterações a cada poll-interval e só atende consultas enquanto a
+ * última leitura que chegou ao fim do feed tem no máximo max-lag.
+ */
+@ConfigurationProperties(prefix = "product-service.read-model")
+public record ReadModelProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000") int loadBatchSize,
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("2s") Duration maxLag
+) {
+}
@@ -0,0 +1,216 @@
+package com.techsolution.product_service.application.readmodel;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.changefeed.VersionedCatalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Catálogo ativo ordenado pela chave primária e atualizado no lugar.
+ *
+ * As linhas ficam num ConcurrentSkipListMap ordenado pelo UUID comparado sem sinal, a mesma
+ * ordem que o PostgreSQL usa, então busca por id, inclusão, alteração e remoção custam
+ * O(log n) sem copiar o catálogo e leitores nunca esperam por lock.
+ *
+ * Para a paginação por offset não percorrer o mapa desde o início, um índice de posições
+ * divide as chaves em blocos contíguos de até MAX_BLOCK ids e guarda quantas linhas cada um
+ * tem. slice soma as contagens até o bloco que contém o offset, começa pelo primeiro id dele
+ * (tailMap) e anda no máximo um bloco: uma página profunda custa O(n / MAX_BLOCK + MAX_BLOCK)
+ * em vez de O(offset). Blocos cheios são divididos ao meio e blocos vazios são absorvidos pelo
+ * vizinho.
+ *
+ * Cada linha guarda a versão (token do feed de alterações) do estado que ela traz, e remoções
+ * deixam uma lápide com a versão: uma alteração com versão menor ou igual à conhecida é
+ * ignorada, então estados antigos entregues fora de ordem não sobrescrevem os novos. As
+ * escritas são serializadas neste objeto.
+ */
+public final class SortedProductCatalog implements VersionedCatalog {
+
+    private static final int MAX_BLOCK = 1024;
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final ConcurrentSkipListMap<UUID, Row> rows = new ConcurrentSkipListMap<>(SortedProductCatalog::compare);
+    private final Map<UUID, Long> tombstones = new HashMap<>();
+    private volatile RankIndex index = new RankIndex(new UUID[]{MIN_ID}, new int[1]);
+    private volatile int size;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public Optional<ProductResponse> find(UUID id) {
+        Row row = rows.get(id);
+        return row != null ? Optional.of(row.product()) : Optional.empty();
+    }
+
+    public List<ProductResponse> slice(long offset, int limit) {
+        if (offset >= size) {
+            return List.of();
+        }
+        RankIndex current = index;
+        int block = 0;
+        long remaining = offset;
+        while (block < current.counts.length - 1 && remaining >= current.counts[block]) {
+            remaining -= current.counts[block];
+            block++;
+        }
+        List<ProductResponse> content = new ArrayList<>(limit);
+        Iterator<Row> iterator = rows.tailMap(current.starts[block], true).values().iterator();
+        for (long skipped = 0; skipped < remaining && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (content.size() < limit && iterator.hasNext()) {
+            content.add(iterator.next().product());
+        }
+        return List.copyOf(content);
+    }
+
+    /**
+     * @return false quando o catálogo já tem uma versão igual ou mais nova do produto
+     */
+    public synchronized boolean upsert(ProductResponse product, long version) {
+        UUID id = product.id();
+        Long removedAt = tombstones.get(id);
+        if (removedAt != null) {
+            if (removedAt >= version) {
+                return false;
+            }
+            tombstones.remove(id);
+        }
+        Row current = rows.get(id);
+        if (current != null && current.version() >= version) {
+            return false;
+        }
+        rows.put(id, new Row(product, version));
+        if (current == null) {
+            added(id);
+            size++;
+        }
+        return true;
+    }
+
+    /**
+     * @return false quando o catálogo já tem uma versão igual ou mais nova do produto
+     */
+    public synchronized boolean remove(UUID id, long version) {
+        Row current = rows.get(id);
+        Long removedAt = tombstones.get(id);
+        if ((current != null && current.version() >= version) || (removedAt != null && removedAt >= version)) {
+            return false;
+        }
+        tombstones.put(id, version);
+        if (current != null) {
+            rows.remove(id);
+            removed(id);
+            size--;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void forgetTombstonesThrough(long version) {
+        tombstones.values().removeIf(removedAt -> removedAt <= version);
+    }
+
+    private void added(UUID id) {
+        RankIndex current = index;
+        int block = current.blockOf(id);
+        if (++current.counts[block] > MAX_BLOCK) {
+            index = current.split(block, medianOf(current, block));
+        }
+    }
+
+    private void removed(UUID id) {
+        RankIndex current = index;
+        int block = current.blockOf(id);
+        if (--current.counts[block] == 0 && current.counts.length > 1) {
+            index = current.dropEmpty(block);
+        }
+    }
+
+    private UUID medianOf(RankIndex current, int block) {
+        Iterator<UUID> keys = rows.tailMap(current.starts[block], true).keySet().iterator();
+        for (int skipped = 0; skipped < current.counts[block] / 2; skipped++) {
+            keys.next();
+        }
+        return keys.next();
+    }
+
+    /**
+     * Compara dois UUIDs sem sinal, byte a byte, como o PostgreSQL.
+     */
+    public static int compare(UUID left, UUID right) {
+        int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    private record Row(ProductResponse product, long version) {
+    }
+
+    /**
+     * O bloco i contém os ids de starts[i] (inclusive) até starts[i + 1]. As contagens são
+     * alteradas no lugar pelas escritas; divisões e remoções de blocos publicam um índice novo.
+     */
+    private static final class RankIndex {
+        private final UUID[] starts;
+        private final int[] counts;
+
+        private RankIndex(UUID[] starts, int[] counts) {
+            this.starts = starts;
+            this.counts = counts;
+        }
+
+        private int blockOf(UUID id) {
+            int low = 0;
+            int high = starts.length - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (compare(starts[middle], id) <= 0) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return low;
+        }
+
+        private RankIndex split(int block, UUID median) {
+            UUID[] newStarts = new UUID[starts.length + 1];
+            int[] newCounts = new int[counts.length + 1];
+            System.arraycopy(starts, 0, newStarts, 0, block + 1);
+            System.arraycopy(counts, 0, newCounts, 0, block + 1);
+            System.arraycopy(starts, block + 1, newStarts, block + 2, starts.length - block - 1);
+            System.arraycopy(counts, block + 1, newCounts, block + 2, counts.length - block - 1);
+            newStarts[block + 1] = median;
+            newCounts[block] = counts[block] / 2;
+            newCounts[block + 1] = counts[block] - newCounts[block];
+            return new RankIndex(newStarts, newCounts);
+        }
+
+        /**
+         * Remove o bloco vazio; o primeiro bloco, que começa no menor id possível, absorve o
+         * seguinte.
+         */
+        private RankIndex dropEmpty(int block) {
+            int dropped = block == 0 ? 1 : block;
+            UUID[] newStarts = new UUID[starts.length - 1];
+            int[] newCounts = new int[counts.length - 1];
+            System.arraycopy(starts, 0, newStarts, 0, dropped);
+            System.arraycopy(counts, 0, newCounts, 0, dropped);
+            System.arraycopy(starts, dropped + 1, newStarts, dropped, starts.length - dropped - 1);
+            System.arraycopy(counts, dropped + 1, newCounts, dropped, counts.length - dropped - 1);
+            if (block == 0) {
+                newCounts[0] = counts[1];
+            }
+            return new RankIndex(newStarts, newCounts);
+        }
+    }
+}
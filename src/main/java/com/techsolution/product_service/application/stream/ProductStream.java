@@ -0,0 +1,17 @@
+package com.techsolution.product_service.application.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Canal de alterações de estoque e preço enviadas por SSE após o commit.
+ */
+public interface ProductStream {
+
+    /**
+     * Abre uma conexão SSE para os produtos informados; sem ids, recebe alterações de todos.
+     */
+    SseEmitter subscribe(Set<UUID> productIds);
+}
@@ -0,0 +1,43 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.BulkDeactivationRequest;
+import com.techsolution.product_service.api.dto.JobResponse;
+import com.techsolution.product_service.application.deactivation.ProductDeactivationParameters;
+import com.techsolution.product_service.application.job.JobRunner;
+import com.techsolution.product_service.application.mapper.JobMapper;
+import com.techsolution.product_service.domain.job.Job;
+import com.techsolution.product_service.domain.job.JobType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Enfileira a desativação de uma lista de produtos (ver ProductDeactivationJobHandler).
+ */
+@Service
+public class BulkDeactivateProductsUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(BulkDeactivateProductsUseCase.class);
+
+    private final JobRunner jobRunner;
+    private final JobMapper jobMapper;
+
+    public BulkDeactivateProductsUseCase(JobRunner jobRunner, JobMapper jobMapper) {
+        this.jobRunner = jobRunner;
+        this.jobMapper = jobMapper;
+    }
+
+    public JobResponse execute(BulkDeactivationRequest request) {
+        List<UUID> productIds = request.productIds().stream().distinct().toList();
+        logger.debug("Executing BulkDeactivateProductsUseCase for {} products", productIds.size());
+
+        Job job = jobRunner.submit(
+                JobType.PRODUCT_DEACTIVATION,
+                new ProductDeactivationParameters(productIds),
+                productIds.size()
+        );
+        return jobMapper.toResponse(job);
+    }
+}
@@ -0,0 +1,45 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.JobResponse;
+import com.techsolution.product_service.api.dto.PriceAdjustmentRequest;
+import com.techsolution.product_service.application.job.JobRunner;
+import com.techsolution.product_service.application.mapper.JobMapper;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.job.Job;
+import com.techsolution.product_service.domain.job.JobType;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Enfileira um reajuste de preços em massa. O trabalho roda em lotes no JobRunner
+ * (ver PriceAdjustmentJobHandler), fora da requisição.
+ */
+@Service
+public class BulkPriceAdjustmentUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(BulkPriceAdjustmentUseCase.class);
+
+    private final ProductRepository productRepository;
+    private final JobRunner jobRunner;
+    private final JobMapper jobMapper;
+
+    public BulkPriceAdjustmentUseCase(ProductRepository productRepository, JobRunner jobRunner, JobMapper jobMapper) {
+        this.productRepository = productRepository;
+        this.jobRunner = jobRunner;
+        this.jobMapper = jobMapper;
+    }
+
+    public JobResponse execute(PriceAdjustmentRequest request) {
+        PriceAdjustment adjustment = new PriceAdjustment(
+                request.mode(),
+                request.value(),
+                request.minPrice(),
+                request.maxPrice()
+        );
+        logger.debug("Executing BulkPriceAdjustmentUseCase: {} {}", adjustment.mode(), adjustment.value());
+
+        Job job = jobRunner.submit(JobType.PRICE_ADJUSTMENT, adjustment, productRepository.countActive());
+        return jobMapper.toResponse(job);
+    }
+}
@@ -0,0 +1,50 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.JobResponse;
+import com.techsolution.product_service.application.job.JobRunner;
+import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
+import com.techsolution.product_service.domain.job.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Pausa e retoma jobs. A pausa vale a partir do fim do lote em andamento; o job retomado
+ * volta para a fila e continua do último checkpoint.
+ */
+@Service
+public class ControlJobUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(ControlJobUseCase.class);
+
+    private final JobRepository jobRepository;
+    private final JobRunner jobRunner;
+    private final GetJobUseCase getJobUseCase;
+
+    public ControlJobUseCase(JobRepository jobRepository, JobRunner jobRunner, GetJobUseCase getJobUseCase) {
+        this.jobRepository = jobRepository;
+        this.jobRunner = jobRunner;
+        this.getJobUseCase = getJobUseCase;
+    }
+
+    public JobResponse pause(UUID id) {
+        logger.debug("Pausing job id: {}", id);
+        requireExists(id);
+        jobRunner.pause(id);
+        return getJobUseCase.execute(id);
+    }
+
+    public JobResponse resume(UUID id) {
+        logger.debug("Resuming job id: {}", id);
+        requireExists(id);
+        jobRunner.resume(id);
+        return getJobUseCase.execute(id);
+    }
+
+    private void requireExists(UUID id) {
+        if (jobRepository.findStatus(id).isEmpty()) {
+            throw new ResourceNotFoundException("Job", id);
+        }
+    }
+}
@@ -3,10 +3,12 @@ package com.techsolution.product_service.application.usecase;
 import com.techsolution.product_service.application.mapper.ProductMapper;
 import com.techsolution.product_service.domain.Product;
 import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
 import com.techsolution.product_service.api.dto.CreateProductRequest;
 import com.techsolution.product_service.api.dto.ProductResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +18,16 @@ public class CreateProductUseCase {
     
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CreateProductUseCase(ProductRepository productRepository, ProductMapper productMapper) {
+    public CreateProductUseCase(
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -35,6 +43,7 @@ public class CreateProductUseCase {
 
         Product savedProduct = productRepository.save(product);
         logger.debug("Product saved with id: {}", savedProduct.getId());
+        eventPublisher.publishEvent(ProductChangedEvent.created(savedProduct));
 
         return productMapper.toResponse(savedProduct);
     }
@@ -1,9 +1,12 @@
 package com.techsolution.product_service.application.usecase;
 
+import com.techsolution.product_service.domain.Product;
 import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
 import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,20 +17,28 @@ public class DeleteProductUseCase {
     private static final Logger logger = LoggerFactory.getLogger(DeleteProductUseCase.class);
     
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DeleteProductUseCase(ProductRepository productRepository) {
+    public DeleteProductUseCase(ProductRepository productRepository, ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void execute(UUID id) {
         logger.debug("Executing DeleteProductUseCase (deactivate) for product id: {}", id);
         
-        if (!productRepository.existsByIdAndActive(id)) {
+        // O estado anterior vai no evento para que os totais de estoque descontem o produto. A linha
+        // é lida travada: uma alteração concorrente não muda o estoque entre a leitura e a desativação
+        Product previous = productRepository.lockActiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", id));
+
+        // Só desativa se ainda estiver ativo: duas desativações concorrentes não publicam dois eventos
+        if (!productRepository.deactivateById(id)) {
             throw new ResourceNotFoundException("Product", id);
         }
 
-        productRepository.deactivateById(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deactivated(previous));
         logger.info("Product deactivated successfully with id: {}", id);
     }
 }
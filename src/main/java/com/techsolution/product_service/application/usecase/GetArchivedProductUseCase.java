@@ -0,0 +1,36 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.ArchivedProductResponse;
+import com.techsolution.product_service.domain.archive.ProductArchive;
+import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class GetArchivedProductUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(GetArchivedProductUseCase.class);
+
+    private final ProductArchive productArchive;
+
+    public GetArchivedProductUseCase(ProductArchive productArchive) {
+        this.productArchive = productArchive;
+    }
+
+    public ArchivedProductResponse execute(UUID id) {
+        logger.debug("Executing GetArchivedProductUseCase for product id: {}", id);
+        return productArchive.findById(id)
+                .map(product -> new ArchivedProductResponse(
+                        product.id(),
+                        product.name(),
+                        product.description(),
+                        product.price(),
+                        product.stockQuantity(),
+                        product.deactivatedAt(),
+                        product.archivedAt()
+                ))
+                .orElseThrow(() -> new ResourceNotFoundException("Archived product", id));
+    }
+}
@@ -0,0 +1,135 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.CatalogSummaryResponse;
+import com.techsolution.product_service.api.dto.HistogramBucketResponse;
+import com.techsolution.product_service.api.dto.HistogramResponse;
+import com.techsolution.product_service.application.analytics.AnalyticsFilter;
+import com.techsolution.product_service.application.analytics.AnalyticsProperties;
+import com.techsolution.product_service.application.analytics.CatalogAnalytics;
+import com.techsolution.product_service.application.analytics.CatalogSummary;
+import com.techsolution.product_service.application.analytics.ColumnarCatalog;
+import com.techsolution.product_service.application.analytics.HistogramField;
+import com.techsolution.product_service.domain.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resumos e histogramas de preço e estoque dos produtos ativos, calculados sobre a projeção
+ * colunar em memória (CatalogAnalytics) sem consultar o banco.
+ */
+@Service
+public class GetCatalogAnalyticsUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(GetCatalogAnalyticsUseCase.class);
+
+    private static final int DEFAULT_BUCKETS = 10;
+
+    private final CatalogAnalytics catalogAnalytics;
+    private final AnalyticsProperties properties;
+
+    public GetCatalogAnalyticsUseCase(CatalogAnalytics catalogAnalytics, AnalyticsProperties properties) {
+        this.catalogAnalytics = catalogAnalytics;
+        this.properties = properties;
+    }
+
+    public CatalogSummaryResponse summary(BigDecimal minPrice, BigDecimal maxPrice, Integer minStock, Integer maxStock) {
+        AnalyticsFilter filter = toFilter(minPrice, maxPrice, minStock, maxStock);
+        logger.debug("Executing GetCatalogAnalyticsUseCase summary - filter: {}", filter);
+        requireReady();
+
+        CatalogSummary summary = catalogAnalytics.summarize(filter);
+        return new CatalogSummaryResponse(
+                summary.products(),
+                summary.stockUnits(),
+                summary.inventoryValue(),
+                summary.minPrice(),
+                summary.maxPrice(),
+                summary.averagePrice()
+        );
+    }
+
+    public HistogramResponse histogram(
+            HistogramField field,
+            BigDecimal bucketWidth,
+            Integer buckets,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minStock,
+            Integer maxStock
+    ) {
+        AnalyticsFilter filter = toFilter(minPrice, maxPrice, minStock, maxStock);
+        int bucketCount = buckets != null ? buckets : DEFAULT_BUCKETS;
+        if (bucketCount < 1 || bucketCount > properties.maxBuckets()) {
+            throw new IllegalArgumentException(
+                    String.format("Buckets must be between %d and %d", 1, properties.maxBuckets()));
+        }
+        if (bucketWidth == null || bucketWidth.signum() <= 0) {
+            throw new IllegalArgumentException("Bucket width must be greater than zero");
+        }
+
+        long origin;
+        long width;
+        BigDecimal originValue;
+        if (field == HistogramField.PRICE) {
+            origin = filter.minPriceCents();
+            width = toCents("Bucket width", bucketWidth);
+            originValue = ColumnarCatalog.fromCents(origin);
+        } else {
+            if (bucketWidth.stripTrailingZeros().scale() > 0) {
+                throw new IllegalArgumentException("Bucket width for STOCK must be a whole number");
+            }
+            origin = filter.minStock();
+            width = bucketWidth.min(BigDecimal.valueOf(Integer.MAX_VALUE)).longValue();
+            originValue = BigDecimal.valueOf(origin);
+        }
+        logger.debug("Executing GetCatalogAnalyticsUseCase histogram - field: {}, width: {}, buckets: {}, filter: {}",
+                field, bucketWidth, bucketCount, filter);
+        requireReady();
+
+        long[] counts = catalogAnalytics.histogram(field, filter, origin, width, bucketCount);
+        List<HistogramBucketResponse> content = new ArrayList<>(bucketCount);
+        long products = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            BigDecimal from = originValue.add(bucketWidth.multiply(BigDecimal.valueOf(i)));
+            BigDecimal to = i < bucketCount - 1 ? from.add(bucketWidth) : null;
+            content.add(new HistogramBucketResponse(from, to, counts[i]));
+            products += counts[i];
+        }
+        return new HistogramResponse(field.name(), bucketWidth, products, content);
+    }
+
+    private void requireReady() {
+        if (!catalogAnalytics.isReady()) {
+            throw new ServiceUnavailableException("Catalog analytics are not available");
+        }
+    }
+
+    private static AnalyticsFilter toFilter(BigDecimal minPrice, BigDecimal maxPrice, Integer minStock, Integer maxStock) {
+        long minPriceCents = minPrice != null ? toCents("Minimum price", minPrice) : 0L;
+        long maxPriceCents = maxPrice != null ? toCents("Maximum price", maxPrice) : Long.MAX_VALUE;
+        int minStockValue = minStock != null ? minStock : 0;
+        int maxStockValue = maxStock != null ? maxStock : Integer.MAX_VALUE;
+        if (minStockValue < 0) {
+            throw new IllegalArgumentException("Minimum stock cannot be negative");
+        }
+        if (minPriceCents > maxPriceCents || minStockValue > maxStockValue) {
+            throw new IllegalArgumentException("Minimum filters cannot be greater than maximum filters");
+        }
+        return new AnalyticsFilter(minPriceCents, maxPriceCents, minStockValue, maxStockValue);
+    }
+
+    private static long toCents(String name, BigDecimal value) {
+        if (value.signum() < 0 || value.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException(name + " must be a non-negative amount with at most 2 decimal places");
+        }
+        try {
+            return ColumnarCatalog.toCents(value);
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException(name + " is too large");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.InventoryAggregatesResponse;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.domain.inventory.InventoryAggregates;
+import com.techsolution.product_service.domain.inventory.InventoryTotals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Totais de estoque para os painéis, lidos dos contadores mantidos a cada escrita: o custo
+ * não depende do tamanho do catálogo.
+ */
+@Service
+public class GetInventoryAggregatesUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(GetInventoryAggregatesUseCase.class);
+
+    private final InventoryAggregates inventoryAggregates;
+    private final ActiveProductCounter activeProductCounter;
+    private final ProductRepository productRepository;
+
+    public GetInventoryAggregatesUseCase(
+            InventoryAggregates inventoryAggregates,
+            ActiveProductCounter activeProductCounter,
+            ProductRepository productRepository
+    ) {
+        this.inventoryAggregates = inventoryAggregates;
+        this.activeProductCounter = activeProductCounter;
+        this.productRepository = productRepository;
+    }
+
+    public InventoryAggregatesResponse execute() {
+        logger.debug("Executing GetInventoryAggregatesUseCase");
+        InventoryTotals totals = inventoryAggregates.totals();
+        long activeProducts = activeProductCounter.total().orElseGet(productRepository::countActive);
+        return new InventoryAggregatesResponse(
+                activeProducts,
+                totals.stockUnits(),
+                totals.inventoryValue(),
+                totals.lowStockCount()
+        );
+    }
+}
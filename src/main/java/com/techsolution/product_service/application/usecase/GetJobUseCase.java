@@ -0,0 +1,31 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.JobResponse;
+import com.techsolution.product_service.application.mapper.JobMapper;
+import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
+import com.techsolution.product_service.domain.job.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class GetJobUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(GetJobUseCase.class);
+
+    private final JobRepository jobRepository;
+    private final JobMapper jobMapper;
+
+    public GetJobUseCase(JobRepository jobRepository, JobMapper jobMapper) {
+        this.jobRepository = jobRepository;
+        this.jobMapper = jobMapper;
+    }
+
+    public JobResponse execute(UUID id) {
+        logger.debug("Executing GetJobUseCase for job id: {}", id);
+        return jobRepository.findById(id)
+                .map(jobMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", id));
+    }
+}
@@ -1,6 +1,8 @@
 package com.techsolution.product_service.application.usecase;
 
+import com.techsolution.product_service.application.concurrency.SingleFlight;
 import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.application.readmodel.ProductReadModel;
 import com.techsolution.product_service.domain.Product;
 import com.techsolution.product_service.domain.ProductRepository;
 import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
@@ -9,6 +11,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -17,16 +21,38 @@ public class GetProductByIdUseCase {
     
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final List<ProductReadModel> readModels;
+    private final SingleFlight<UUID, Optional<Product>> productLoads = new SingleFlight<>();
 
-    public GetProductByIdUseCase(ProductRepository productRepository, ProductMapper productMapper) {
+    public GetProductByIdUseCase(
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            List<ProductReadModel> readModels
+    ) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.readModels = readModels;
     }
 
     public ProductResponse execute(UUID id) {
         logger.debug("Executing GetProductByIdUseCase for product id: {}", id);
+
+        for (ProductReadModel readModel : readModels) {
+            if (!readModel.isReady()) {
+                continue;
+            }
+            Optional<ProductResponse> cached = readModel.findById(id);
+            if (cached.isPresent()) {
+                logger.debug("Product {} served from read model", id);
+                return cached.get();
+            }
+            if (readModel.isComplete()) {
+                throw new ResourceNotFoundException("Product", id);
+            }
+        }
         
-        Product product = productRepository.findById(id)
+        // Buscas simultâneas pelo mesmo id compartilham uma única consulta ao banco
+        Product product = productLoads.execute(id, () -> productRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Product", id));
 
         logger.debug("Product found with id: {}", id);
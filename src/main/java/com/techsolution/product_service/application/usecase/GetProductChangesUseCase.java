@@ -0,0 +1,75 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.ChangeFeedResponse;
+import com.techsolution.product_service.api.dto.ProductChangeResponse;
+import com.techsolution.product_service.application.changefeed.ChangeFeedProperties;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.exception.ChangeTokenExpiredException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class GetProductChangesUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(GetProductChangesUseCase.class);
+
+    private final ProductChangeRepository productChangeRepository;
+    private final ProductMapper productMapper;
+    private final ChangeFeedProperties properties;
+
+    public GetProductChangesUseCase(
+            ProductChangeRepository productChangeRepository,
+            ProductMapper productMapper,
+            ChangeFeedProperties properties
+    ) {
+        this.productChangeRepository = productChangeRepository;
+        this.productMapper = productMapper;
+        this.properties = properties;
+    }
+
+    public ChangeFeedResponse execute(long since, Integer limit) {
+        int batchSize = limit != null ? limit : properties.defaultLimit();
+        if (since < 0) {
+            throw new IllegalArgumentException("Token must be greater than or equal to 0");
+        }
+        if (batchSize < 1 || batchSize > properties.maxLimit()) {
+            throw new IllegalArgumentException(
+                    String.format("Limit must be between %d and %d", 1, properties.maxLimit()));
+        }
+        logger.debug("Executing GetProductChangesUseCase - since: {}, limit: {}", since, batchSize);
+
+        // Tokens são atribuídos na ordem de commit, então não há alteração menor ainda por aparecer
+        List<ProductChange> changes = productChangeRepository.findAfter(since, batchSize);
+        // Conferido depois da leitura: se a retenção removeu algo depois de since, o lote está incompleto
+        long prunedThrough = productChangeRepository.prunedThrough();
+        if (since < prunedThrough) {
+            throw new ChangeTokenExpiredException(since, prunedThrough);
+        }
+
+        List<ProductChangeResponse> content = changes.stream()
+                .map(change -> new ProductChangeResponse(
+                        change.sequence(),
+                        change.productId(),
+                        change.type(),
+                        change.changedAt(),
+                        productMapper.toResponse(change.product())
+                ))
+                .toList();
+        long nextToken = changes.isEmpty() ? since : changes.get(changes.size() - 1).sequence();
+
+        logger.debug("Found {} product changes, next token: {}", content.size(), nextToken);
+        return new ChangeFeedResponse(content, nextToken, content.size() == batchSize);
+    }
+
+    /**
+     * Token da alteração mais recente. Consumidores novos leem este valor antes da carga
+     * completa via GET /products e depois seguem o feed a partir dele.
+     */
+    public long currentToken() {
+        return productChangeRepository.lastSequence();
+    }
+}
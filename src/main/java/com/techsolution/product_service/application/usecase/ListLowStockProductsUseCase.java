@@ -0,0 +1,51 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.LowStockResponse;
+import com.techsolution.product_service.api.dto.ReorderStatusResponse;
+import com.techsolution.product_service.application.lowstock.LowStockProperties;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lista paginada por id (afterId) dos produtos abaixo do limite de reposição, lida do índice
+ * parcial idx_products_low_stock.
+ */
+@Service
+public class ListLowStockProductsUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(ListLowStockProductsUseCase.class);
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final ProductRepository productRepository;
+    private final LowStockProperties properties;
+
+    public ListLowStockProductsUseCase(ProductRepository productRepository, LowStockProperties properties) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+    }
+
+    public LowStockResponse execute(UUID afterId, Integer limit) {
+        int batchSize = limit != null ? limit : properties.defaultLimit();
+        if (batchSize < 1 || batchSize > properties.maxLimit()) {
+            throw new IllegalArgumentException(
+                    String.format("Limit must be between %d and %d", 1, properties.maxLimit()));
+        }
+        UUID after = afterId != null ? afterId : FIRST_ID;
+        logger.debug("Executing ListLowStockProductsUseCase - afterId: {}, limit: {}", after, batchSize);
+
+        List<Product> products = productRepository.findLowStockAfter(after, batchSize);
+        List<ReorderStatusResponse> content = products.stream()
+                .map(SetReorderThresholdUseCase::toStatus)
+                .toList();
+        UUID nextAfterId = products.isEmpty() ? after : products.get(products.size() - 1).getId();
+
+        logger.debug("Found {} low stock products", content.size());
+        return new LowStockResponse(content, nextAfterId, content.size() == batchSize);
+    }
+}
@@ -1,8 +1,7 @@
 package com.techsolution.product_service.application.usecase;
 
-import com.techsolution.product_service.application.mapper.ProductMapper;
-import com.techsolution.product_service.domain.Product;
-import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.application.query.ProductQueryRepository;
+import com.techsolution.product_service.application.readmodel.ProductReadModel;
 import com.techsolution.product_service.api.dto.PageResponse;
 import com.techsolution.product_service.api.dto.ProductResponse;
 import org.slf4j.Logger;
@@ -10,38 +9,50 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class ListProductsUseCase {
     private static final Logger logger = LoggerFactory.getLogger(ListProductsUseCase.class);
     
-    private final ProductRepository productRepository;
-    private final ProductMapper productMapper;
-
-    public ListProductsUseCase(ProductRepository productRepository, ProductMapper productMapper) {
-        this.productRepository = productRepository;
-        this.productMapper = productMapper;
+    private final ProductQueryRepository productQueryRepository;
+    private final List<ProductReadModel> readModels;
+
+    public ListProductsUseCase(
+            ProductQueryRepository productQueryRepository,
+            List<ProductReadModel> readModels
+    ) {
+        this.productQueryRepository = productQueryRepository;
+        this.readModels = readModels;
     }
 
     public List<ProductResponse> execute() {
         logger.debug("Executing ListProductsUseCase");
         
-        List<Product> products = productRepository.findAll();
+        List<ProductResponse> products = productQueryRepository.findAllActive();
         logger.debug("Found {} products", products.size());
 
-        return productMapper.toResponseList(products);
+        return products;
     }
 
     public PageResponse<ProductResponse> execute(int page, int size) {
         logger.debug("Executing ListProductsUseCase with pagination - page: {}, size: {}", page, size);
+
+        for (ProductReadModel readModel : readModels) {
+            if (readModel.isReady() && readModel.isComplete()) {
+                Optional<PageResponse<ProductResponse>> cached = readModel.findPage(page, size);
+                if (cached.isPresent()) {
+                    logger.debug("Page {} served from read model", page);
+                    return cached.get();
+                }
+            }
+        }
         
-        ProductRepository.PageResult<Product> pageResult = productRepository.findAll(page, size);
-        
-        List<ProductResponse> content = productMapper.toResponseList(pageResult.content());
+        PageResponse<ProductResponse> response = productQueryRepository.findActivePage(page, size);
         
         logger.debug("Found {} products (page {} of {})", 
-                content.size(), page, pageResult.totalPages());
+                response.content().size(), page, response.totalPages());
 
-        return PageResponse.of(content, page, size, pageResult.totalElements());
+        return response;
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.PatchProductRequest;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductPatch;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+public class PatchProductUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(PatchProductUseCase.class);
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PatchProductUseCase(
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Aplica apenas os campos enviados. O UPDATE gerado toca só as colunas que de fato mudaram;
+     * se nenhuma mudou, nada é gravado.
+     */
+    @Transactional
+    public ProductResponse execute(UUID id, PatchProductRequest request) {
+        logger.debug("Executing PatchProductUseCase for product id: {}", id);
+
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", id));
+        Product previous = product.copy();
+
+        ProductPatch patch = new ProductPatch(
+                request.name(),
+                request.description(),
+                request.price(),
+                request.stockQuantity()
+        ).changesFrom(product);
+        product.apply(patch);
+
+        if (patch.isEmpty()) {
+            logger.debug("Patch for product id: {} changes nothing", id);
+            return productMapper.toResponse(product);
+        }
+
+        // O UPDATE só pega linhas ativas: uma desativação concorrente depois da leitura vira 404
+        if (!productRepository.applyPatch(id, patch)) {
+            throw new ResourceNotFoundException("Product", id);
+        }
+        logger.debug("Product patched successfully with id: {}", id);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(previous, product));
+
+        return productMapper.toResponse(product);
+    }
+}
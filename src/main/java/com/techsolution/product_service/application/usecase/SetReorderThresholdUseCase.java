@@ -0,0 +1,56 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.ReorderStatusResponse;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+public class SetReorderThresholdUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(SetReorderThresholdUseCase.class);
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SetReorderThresholdUseCase(ProductRepository productRepository, ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Define o limite de reposição. Se o estoque atual já estiver abaixo do novo limite, a
+     * passagem é notificada como em uma baixa de estoque.
+     */
+    @Transactional
+    public ReorderStatusResponse execute(UUID id, Integer reorderThreshold) {
+        logger.debug("Executing SetReorderThresholdUseCase for product id: {} - threshold: {}", id, reorderThreshold);
+
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", id));
+        Product previous = product.copy();
+        product.setReorderThreshold(reorderThreshold);
+
+        Product updatedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(previous, updatedProduct));
+
+        return toStatus(updatedProduct);
+    }
+
+    static ReorderStatusResponse toStatus(Product product) {
+        return new ReorderStatusResponse(
+                product.getId(),
+                product.getName(),
+                product.getStockQuantity(),
+                product.getReorderThreshold(),
+                product.isBelowReorderThreshold()
+        );
+    }
+}
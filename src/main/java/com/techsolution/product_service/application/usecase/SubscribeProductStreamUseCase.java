@@ -0,0 +1,30 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.application.stream.ProductStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class SubscribeProductStreamUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(SubscribeProductStreamUseCase.class);
+
+    private final ProductStream productStream;
+
+    public SubscribeProductStreamUseCase(ProductStream productStream) {
+        this.productStream = productStream;
+    }
+
+    /**
+     * Assina as alterações dos produtos informados; ids null ou vazio assinam todos.
+     */
+    public SseEmitter execute(Set<UUID> ids) {
+        Set<UUID> productIds = ids != null ? ids : Set.of();
+        logger.debug("Executing SubscribeProductStreamUseCase for {} product ids", productIds.size());
+        return productStream.subscribe(productIds);
+    }
+}
@@ -3,11 +3,13 @@ package com.techsolution.product_service.application.usecase;
 import com.techsolution.product_service.application.mapper.ProductMapper;
 import com.techsolution.product_service.domain.Product;
 import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
 import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
 import com.techsolution.product_service.api.dto.ProductResponse;
 import com.techsolution.product_service.api.dto.UpdateProductRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +21,16 @@ public class UpdateProductUseCase {
     
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdateProductUseCase(ProductRepository productRepository, ProductMapper productMapper) {
+    public UpdateProductUseCase(
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -31,6 +39,7 @@ public class UpdateProductUseCase {
         
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", id));
+        Product previous = product.copy();
 
         product.update(
                 request.name(),
@@ -41,6 +50,7 @@ public class UpdateProductUseCase {
 
         Product updatedProduct = productRepository.save(product);
         logger.debug("Product updated successfully with id: {}", id);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(previous, updatedProduct));
 
         return productMapper.toResponse(updatedProduct);
     }
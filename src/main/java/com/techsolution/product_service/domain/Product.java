@@ -10,6 +10,7 @@ public class Product {
     private BigDecimal price;
     private Integer stockQuantity;
     private Boolean active;
+    private Integer reorderThreshold;
 
     public Product() {
     }
@@ -67,6 +68,28 @@ public class Product {
         validate();
     }
 
+    public void apply(ProductPatch patch) {
+        if (patch.name() != null) {
+            this.name = patch.name();
+        }
+        if (patch.description() != null) {
+            this.description = patch.description();
+        }
+        if (patch.price() != null) {
+            this.price = patch.price();
+        }
+        if (patch.stockQuantity() != null) {
+            this.stockQuantity = patch.stockQuantity();
+        }
+        validate();
+    }
+
+    public Product copy() {
+        Product copy = new Product(id, name, description, price, stockQuantity, active);
+        copy.reorderThreshold = reorderThreshold;
+        return copy;
+    }
+
     public UUID getId() {
         return id;
     }
@@ -106,4 +129,23 @@ public class Product {
     public boolean isActive() {
         return active != null && active;
     }
+
+    /**
+     * Limite de reposição: com estoque abaixo dele o produto entra na lista de estoque baixo.
+     * null quando o produto não é acompanhado.
+     */
+    public Integer getReorderThreshold() {
+        return reorderThreshold;
+    }
+
+    public void setReorderThreshold(Integer reorderThreshold) {
+        if (reorderThreshold != null && reorderThreshold < 0) {
+            throw new IllegalArgumentException(ProductValidationMessages.REORDER_THRESHOLD_CANNOT_BE_NEGATIVE);
+        }
+        this.reorderThreshold = reorderThreshold;
+    }
+
+    public boolean isBelowReorderThreshold() {
+        return reorderThreshold != null && stockQuantity < reorderThreshold;
+    }
 }
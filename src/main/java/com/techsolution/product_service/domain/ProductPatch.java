@@ -0,0 +1,30 @@
+package com.techsolution.product_service.domain;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Alteração parcial de um produto. Campos null não são alterados.
+ */
+public record ProductPatch(
+        String name,
+        String description,
+        BigDecimal price,
+        Integer stockQuantity
+) {
+    public boolean isEmpty() {
+        return name == null && description == null && price == null && stockQuantity == null;
+    }
+
+    /**
+     * Mantém apenas os campos cujo valor difere do estado atual do produto.
+     */
+    public ProductPatch changesFrom(Product product) {
+        return new ProductPatch(
+                name != null && !name.equals(product.getName()) ? name : null,
+                description != null && !description.equals(product.getDescription()) ? description : null,
+                price != null && price.compareTo(product.getPrice()) != 0 ? price : null,
+                stockQuantity != null && !Objects.equals(stockQuantity, product.getStockQuantity()) ? stockQuantity : null
+        );
+    }
+}
@@ -1,5 +1,8 @@
 package com.techsolution.product_service.domain;
 
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,7 +12,15 @@ public interface ProductRepository {
     Optional<Product> findById(UUID id);
     List<Product> findAll();
     PageResult<Product> findAll(int page, int size);
-    void deactivateById(UUID id);
+    List<Product> findActiveAfter(UUID afterId, int limit);
+    List<Product> findActiveByIds(Collection<UUID> ids);
+    List<Product> lockActiveAfter(UUID afterId, int limit);
+    Optional<Product> lockActiveById(UUID id);
+    List<Product> findLowStockAfter(UUID afterId, int limit);
+    long countActive();
+    int adjustPrices(UUID afterId, UUID lastId, PriceAdjustment adjustment);
+    boolean applyPatch(UUID id, ProductPatch patch);
+    boolean deactivateById(UUID id);
     boolean existsById(UUID id);
     boolean existsByIdAndActive(UUID id);
     
@@ -10,6 +10,7 @@ public final class ProductValidationMessages {
     public static final String DESCRIPTION_CANNOT_BE_NULL_OR_EMPTY = "Product description cannot be null or empty";
     public static final String PRICE_CANNOT_BE_NULL_OR_NEGATIVE = "Product price cannot be null or negative";
     public static final String STOCK_QUANTITY_CANNOT_BE_NULL_OR_NEGATIVE = "Product stock quantity cannot be null or negative";
+    public static final String REORDER_THRESHOLD_CANNOT_BE_NEGATIVE = "Product reorder threshold cannot be negative";
     
     private ProductValidationMessages() {
         // Classe utilitária - não deve ser instanciada
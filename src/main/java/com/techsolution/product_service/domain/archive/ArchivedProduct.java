@@ -0,0 +1,19 @@
+package com.techsolution.product_service.domain.archive;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Produto desativado que já saiu da tabela de produtos para o arquivo.
+ */
+public record ArchivedProduct(
+        UUID id,
+        String name,
+        String description,
+        BigDecimal price,
+        Integer stockQuantity,
+        Instant deactivatedAt,
+        Instant archivedAt
+) {
+}
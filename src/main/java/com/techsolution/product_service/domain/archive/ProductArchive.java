@@ -0,0 +1,23 @@
+package com.techsolution.product_service.domain.archive;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Armazenamento frio dos produtos desativados há muito tempo, fora da tabela consultada
+ * pelas leituras de produtos ativos.
+ */
+public interface ProductArchive {
+
+    /**
+     * Move, em uma transação, até limit produtos desativados antes de cutoff para o arquivo.
+     *
+     * @return a quantidade de produtos movidos
+     */
+    int archiveDeactivatedBefore(Instant cutoff, int limit);
+
+    Optional<ArchivedProduct> findById(UUID id);
+
+    boolean existsById(UUID id);
+}
@@ -0,0 +1,20 @@
+package com.techsolution.product_service.domain.change;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Entrada do feed de alterações. sequence é crescente e serve de token para o consumidor;
+ * product traz o estado após a alteração e é null nas desativações.
+ */
+public record ProductChange(
+        long sequence,
+        UUID productId,
+        ProductChangeType type,
+        Instant changedAt,
+        Product product
+) {
+}
@@ -0,0 +1,9 @@
+package com.techsolution.product_service.domain.change;
+
+/**
+ * Publicado quando uma alteração é gravada no feed, ainda dentro da transação da escrita.
+ * Ouvintes AFTER_COMMIT recebem a alteração com o token atribuído, que serve de versão
+ * para descartar estados mais antigos entregues fora de ordem.
+ */
+public record ProductChangeRecordedEvent(ProductChange change) {
+}
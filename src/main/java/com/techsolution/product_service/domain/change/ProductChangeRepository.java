@@ -0,0 +1,31 @@
+package com.techsolution.product_service.domain.change;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Feed de alterações. Os tokens são atribuídos na ordem de commit: uma alteração visível
+ * garante que todas as de token menor também já estão visíveis.
+ */
+public interface ProductChangeRepository {
+    ProductChange append(ProductChangeType type, UUID productId, Product product);
+    List<ProductChange> findAfter(long sequence, int limit);
+    long lastSequence();
+
+    /**
+     * @return o último token removido pela retenção; consumidores atrás dele perderam alterações
+     */
+    long prunedThrough();
+
+    /**
+     * Remove, em ordem de token, até limit alterações gravadas antes de cutoff. Para na primeira
+     * alteração mais recente, então o que sobra é sempre um intervalo contínuo de tokens.
+     *
+     * @return a quantidade de alterações removidas
+     */
+    int pruneChangedBefore(Instant cutoff, int limit);
+}
@@ -0,0 +1,27 @@
+package com.techsolution.product_service.domain.counter;
+
+import java.util.OptionalLong;
+
+/**
+ * Total de produtos ativos mantido a cada criação e desativação, para que a paginação não
+ * precise contar a tabela de produtos a cada requisição.
+ */
+public interface ActiveProductCounter {
+
+    /**
+     * Soma delta ao total dentro da transação corrente.
+     */
+    void add(long delta);
+
+    /**
+     * @return o total mantido, ou vazio enquanto o contador ainda não foi inicializado
+     */
+    OptionalLong total();
+
+    /**
+     * Recalcula o total a partir da tabela de produtos, corrigindo qualquer desvio.
+     *
+     * @return o total de produtos ativos
+     */
+    long reconcile();
+}
@@ -0,0 +1,7 @@
+package com.techsolution.product_service.domain.event;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    DEACTIVATED
+}
@@ -0,0 +1,34 @@
+package com.techsolution.product_service.domain.event;
+
+import com.techsolution.product_service.domain.Product;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado pelos casos de uso de escrita sempre que um produto muda.
+ * previous é o estado antes da alteração (null na criação) e current o estado
+ * depois dela (null na desativação). Desativações publicadas só com o id também não
+ * têm previous.
+ */
+public record ProductChangedEvent(
+        ProductChangeType type,
+        UUID productId,
+        Product previous,
+        Product current
+) {
+    public static ProductChangedEvent created(Product product) {
+        return new ProductChangedEvent(ProductChangeType.CREATED, product.getId(), null, product);
+    }
+
+    public static ProductChangedEvent updated(Product previous, Product current) {
+        return new ProductChangedEvent(ProductChangeType.UPDATED, current.getId(), previous, current);
+    }
+
+    public static ProductChangedEvent deactivated(Product previous) {
+        return new ProductChangedEvent(ProductChangeType.DEACTIVATED, previous.getId(), previous, null);
+    }
+
+    public static ProductChangedEvent deactivated(UUID productId) {
+        return new ProductChangedEvent(ProductChangeType.DEACTIVATED, productId, null, null);
+    }
+}
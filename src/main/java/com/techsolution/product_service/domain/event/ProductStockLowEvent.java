@@ -0,0 +1,15 @@
+package com.techsolution.product_service.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Publicado quando uma escrita faz o estoque de um produto cair abaixo do seu limite de
+ * reposição. Só a passagem gera o evento: escritas seguintes com o produto ainda abaixo
+ * do limite não o repetem.
+ */
+public record ProductStockLowEvent(
+        UUID productId,
+        int stockQuantity,
+        int reorderThreshold
+) {
+}
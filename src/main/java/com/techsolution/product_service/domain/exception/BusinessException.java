@@ -1,14 +1,15 @@
 package com.techsolution.product_service.domain.exception;
 
+/**
+ * Violação de regra de negócio. Assim como as demais exceções de domínio, não captura stack
+ * trace: ela descreve um resultado esperado, não um defeito, e vira uma resposta 4xx.
+ */
 public class BusinessException extends RuntimeException {
     public BusinessException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public BusinessException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
-
-
-
@@ -0,0 +1,12 @@
+package com.techsolution.product_service.domain.exception;
+
+/**
+ * O token do feed de alterações é anterior à retenção: alterações depois dele já foram
+ * removidas e o consumidor precisa refazer a carga completa.
+ */
+public class ChangeTokenExpiredException extends RuntimeException {
+    public ChangeTokenExpiredException(long token, long prunedThrough) {
+        super("Token " + token + " is older than the retained changes (pruned through " + prunedThrough
+                + "), reload the catalog and restart from /products/changes/head", null, false, false);
+    }
+}
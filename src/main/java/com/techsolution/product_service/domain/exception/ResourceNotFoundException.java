@@ -2,15 +2,16 @@ package com.techsolution.product_service.domain.exception;
 
 import java.util.UUID;
 
+/**
+ * Recurso inexistente. Lançada a cada busca por id desconhecido, então não captura stack
+ * trace (o custo dominante de criar uma exceção).
+ */
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public ResourceNotFoundException(String resourceName, UUID id) {
-        super(String.format("%s with id %s not found", resourceName, id));
+        this(resourceName + " with id " + id + " not found");
     }
 }
-
-
-
@@ -0,0 +1,7 @@
+package com.techsolution.product_service.domain.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,26 @@
+package com.techsolution.product_service.domain.inventory;
+
+/**
+ * Totais de estoque mantidos a cada escrita de produto, para que os painéis não precisem
+ * percorrer o catálogo.
+ */
+public interface InventoryAggregates {
+
+    /**
+     * Soma delta aos totais dentro da transação corrente.
+     */
+    void add(InventoryTotals delta);
+
+    /**
+     * @return os totais mantidos; enquanto ainda não foram inicializados, calculados da tabela
+     * de produtos
+     */
+    InventoryTotals totals();
+
+    /**
+     * Recalcula os totais a partir da tabela de produtos, corrigindo qualquer desvio.
+     *
+     * @return os totais dos produtos ativos
+     */
+    InventoryTotals reconcile();
+}
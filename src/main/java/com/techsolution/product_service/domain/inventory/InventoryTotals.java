@@ -0,0 +1,51 @@
+package com.techsolution.product_service.domain.inventory;
+
+import com.techsolution.product_service.domain.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * Totais de estoque dos produtos ativos: unidades em estoque, valor do estoque (soma de
+ * price * stockQuantity) e quantidade de produtos abaixo do próprio limite de reposição, o
+ * mesmo critério da lista de estoque baixo.
+ * Também representa a variação desses totais causada por uma escrita.
+ */
+public record InventoryTotals(
+        long stockUnits,
+        BigDecimal inventoryValue,
+        long lowStockCount
+) {
+    public static final InventoryTotals ZERO = new InventoryTotals(0, BigDecimal.ZERO, 0);
+
+    /**
+     * Contribuição de um único produto ativo para os totais.
+     */
+    public static InventoryTotals of(Product product) {
+        int stock = product.getStockQuantity();
+        return new InventoryTotals(
+                stock,
+                product.getPrice().multiply(BigDecimal.valueOf(stock)),
+                product.isBelowReorderThreshold() ? 1 : 0
+        );
+    }
+
+    public InventoryTotals plus(InventoryTotals other) {
+        return new InventoryTotals(
+                stockUnits + other.stockUnits,
+                inventoryValue.add(other.inventoryValue),
+                lowStockCount + other.lowStockCount
+        );
+    }
+
+    public InventoryTotals minus(InventoryTotals other) {
+        return new InventoryTotals(
+                stockUnits - other.stockUnits,
+                inventoryValue.subtract(other.inventoryValue),
+                lowStockCount - other.lowStockCount
+        );
+    }
+
+    public boolean isZero() {
+        return stockUnits == 0 && inventoryValue.signum() == 0 && lowStockCount == 0;
+    }
+}
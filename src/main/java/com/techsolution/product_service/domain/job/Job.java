@@ -0,0 +1,33 @@
+package com.techsolution.product_service.domain.job;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Estado persistido de um job em lotes. parameters é o JSON de entrada do handler e
+ * checkpoint marca até onde o job já foi aplicado; busyMillis soma só o tempo gasto em lotes.
+ */
+public record Job(
+        UUID id,
+        JobType type,
+        JobStatus status,
+        String parameters,
+        String checkpoint,
+        long totalItems,
+        long processedItems,
+        long failedItems,
+        long busyMillis,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+    public static Job queued(JobType type, String parameters, long totalItems) {
+        return new Job(UUID.randomUUID(), type, JobStatus.QUEUED, parameters, null,
+                totalItems, 0, 0, 0, Instant.now(), null, null, null);
+    }
+
+    public double itemsPerSecond() {
+        return busyMillis == 0 ? 0.0 : processedItems * 1000.0 / busyMillis;
+    }
+}
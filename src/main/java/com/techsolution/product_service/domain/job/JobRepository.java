@@ -0,0 +1,38 @@
+package com.techsolution.product_service.domain.job;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface JobRepository {
+    void create(Job job);
+    Optional<Job> findById(UUID id);
+    Optional<JobStatus> findStatus(UUID id);
+
+    /**
+     * Jobs na fila ou em execução com heartbeat anterior a staleBefore (worker que morreu).
+     */
+    List<UUID> findRunnable(Instant staleBefore, int limit);
+
+    /**
+     * Marca o job como RUNNING para owner se ele ainda estiver disponível. Retorna false se
+     * outro worker chegou antes.
+     */
+    boolean claim(UUID id, String owner, Instant staleBefore);
+
+    /**
+     * Grava o checkpoint e soma os contadores do lote, renovando o heartbeat. Retorna false se
+     * o job não pertence mais a owner.
+     */
+    boolean recordProgress(UUID id, String owner, String checkpoint, int processed, int failed, long busyMillis);
+
+    boolean transition(UUID id, Set<JobStatus> from, JobStatus to);
+
+    /**
+     * Encerra o job com status se ele ainda estiver RUNNING e pertencer a owner. Retorna false
+     * se outro worker assumiu o job ou se ele foi pausado ou cancelado nesse meio tempo.
+     */
+    boolean finish(UUID id, String owner, JobStatus status, String error);
+}
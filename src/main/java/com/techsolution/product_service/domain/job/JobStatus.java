@@ -0,0 +1,17 @@
+package com.techsolution.product_service.domain.job;
+
+/**
+ * Ciclo de vida de um job: QUEUED → RUNNING → COMPLETED/FAILED. PAUSED volta para QUEUED
+ * ao ser retomado.
+ */
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    PAUSED,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
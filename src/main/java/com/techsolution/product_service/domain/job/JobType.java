@@ -0,0 +1,6 @@
+package com.techsolution.product_service.domain.job;
+
+public enum JobType {
+    PRICE_ADJUSTMENT,
+    PRODUCT_DEACTIVATION
+}
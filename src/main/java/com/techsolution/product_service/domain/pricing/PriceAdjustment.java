@@ -0,0 +1,60 @@
+package com.techsolution.product_service.domain.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Reajuste de preço aplicado em massa. PERCENTAGE soma value% ao preço e ABSOLUTE soma value;
+ * o resultado é arredondado para 2 casas (HALF_UP), como a coluna price.
+ * minPrice e maxPrice (inclusivos, opcionais) limitam os produtos afetados pelo preço atual.
+ */
+public record PriceAdjustment(
+        Mode mode,
+        BigDecimal value,
+        BigDecimal minPrice,
+        BigDecimal maxPrice
+) {
+    public static final int PRICE_SCALE = 2;
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    public enum Mode {
+        PERCENTAGE,
+        ABSOLUTE
+    }
+
+    public PriceAdjustment {
+        if (mode == null) {
+            throw new IllegalArgumentException("Adjustment mode is required");
+        }
+        if (value == null || value.signum() == 0) {
+            throw new IllegalArgumentException("Adjustment value must be different from zero");
+        }
+        if (mode == Mode.PERCENTAGE && value.compareTo(ONE_HUNDRED.negate()) <= 0) {
+            throw new IllegalArgumentException("Percentage adjustment must be greater than -100");
+        }
+        if (mode == Mode.ABSOLUTE && value.stripTrailingZeros().scale() > PRICE_SCALE) {
+            throw new IllegalArgumentException("Absolute adjustment cannot have more than 2 decimal places");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("Minimum price cannot be greater than maximum price");
+        }
+    }
+
+    /**
+     * Fator multiplicativo de um reajuste percentual (1 + value/100).
+     */
+    public BigDecimal factor() {
+        return BigDecimal.ONE.add(value.divide(ONE_HUNDRED));
+    }
+
+    public boolean appliesTo(BigDecimal price) {
+        return (minPrice == null || price.compareTo(minPrice) >= 0)
+                && (maxPrice == null || price.compareTo(maxPrice) <= 0);
+    }
+
+    public BigDecimal apply(BigDecimal price) {
+        BigDecimal adjusted = mode == Mode.PERCENTAGE ? price.multiply(factor()) : price.add(value);
+        return adjusted.setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,27 @@
+package com.techsolution.product_service.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache de produtos em dois níveis (product-service.cache.*).
+ *
+ * O L1 fica na memória de cada instância e não é invalidado pelas outras, então localTtl
+ * limita por quanto tempo uma instância pode servir um produto alterado em outra. O L2 é
+ * compartilhado (Redis); entradas lidas depois de refreshAfter são recarregadas em segundo
+ * plano antes de expirarem em remoteTtl.
+ */
+@ConfigurationProperties(prefix = "product-service.cache")
+public record TwoTierCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000") int localMaxSize,
+        @DefaultValue("5s") Duration localTtl,
+        @DefaultValue("10m") Duration remoteTtl,
+        @DefaultValue("8m") Duration refreshAfter,
+        @DefaultValue("product:v1:") String keyPrefix,
+        @DefaultValue("5s") Duration remoteRetryInterval,
+        @DefaultValue("2") int refreshThreads
+) {
+}
@@ -0,0 +1,436 @@
+package com.techsolution.product_service.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductPatch;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChangeRecordedEvent;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import com.techsolution.product_service.infrastructure.codec.ProductBinaryCodec;
+import com.techsolution.product_service.infrastructure.persistence.routing.ReadYourWritesContext;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * ProductRepository com cache de produtos ativos em dois níveis: um L1 pequeno na memória
+ * da instância (Caffeine) e um L2 compartilhado no Redis, com valores no formato binário do
+ * ProductBinaryCodec precedidos do instante de gravação.
+ *
+ * Buscas em lote consultam o L2 com um único MGET e gravam as faltas em pipeline.
+ * Entradas do L2 lidas depois de refreshAfter são recarregadas do banco em segundo plano,
+ * para que produtos quentes não expirem. Se o Redis falhar, o L2 é ignorado por
+ * remoteRetryInterval e as leituras seguem para o banco.
+ *
+ * Uma alteração não apaga a chave: grava no lugar uma marca com o token do feed da alteração.
+ * Toda gravação no L2 é um compare-and-set (script Lua) contra o valor lido antes de ir ao
+ * banco, então um leitor ou um refresh que carregou o produto antes da alteração não
+ * sobrescreve a marca com o valor antigo. As recargas sempre leem do primário: uma réplica
+ * atrasada devolveria justamente o estado anterior à alteração.
+ *
+ * Assim como no BatchingProductRepository, buscas dentro de uma transação ou fixadas no
+ * primário não passam pelo cache.
+ *
+ * O cache guarda o ProductResponse, então os Products devolvidos por ele servem só para montar
+ * respostas: campos fora da resposta, como reorderThreshold, vêm null. Escritas sempre leem o
+ * produto dentro da sua transação, direto do banco, e nunca recebem uma cópia incompleta.
+ */
+public class TwoTierCachingProductRepository implements ProductRepository {
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCachingProductRepository.class);
+
+    private static final byte[] ABSENT = new byte[0];
+
+    // Grava ARGV[2] (ou apaga a chave, se vazio) apenas se o valor atual ainda for ARGV[1]
+    private static final byte[] COMPARE_AND_SET_SCRIPT = """
+            local current = redis.call('GET', KEYS[1]) or ''
+            if current ~= ARGV[1] then
+                return 0
+            end
+            if ARGV[2] == '' then
+                redis.call('DEL', KEYS[1])
+            else
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final ProductRepository delegate;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final ProductMapper productMapper;
+    private final TwoTierCacheProperties properties;
+    private final Cache<UUID, ProductResponse> localCache;
+    private final ThreadPoolTaskExecutor refreshExecutor = new ThreadPoolTaskExecutor();
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+
+    private volatile long remoteRetryAt;
+
+    public TwoTierCachingProductRepository(
+            ProductRepository delegate,
+            RedisTemplate<String, byte[]> redisTemplate,
+            ProductMapper productMapper,
+            TwoTierCacheProperties properties
+    ) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.productMapper = productMapper;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.localMaxSize())
+                .expireAfterWrite(properties.localTtl())
+                .build();
+        refreshExecutor.setCorePoolSize(properties.refreshThreads());
+        refreshExecutor.setMaxPoolSize(properties.refreshThreads());
+        refreshExecutor.setQueueCapacity(properties.localMaxSize());
+        refreshExecutor.setThreadNamePrefix("product-cache-refresh-");
+        refreshExecutor.setDaemon(true);
+        refreshExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    @Override
+    public Optional<Product> findById(UUID id) {
+        if (bypassCache()) {
+            return delegate.findById(id);
+        }
+
+        ProductResponse local = localCache.getIfPresent(id);
+        if (local != null) {
+            return Optional.of(toDomain(local));
+        }
+
+        byte[] observed = readRemote(id);
+        if (observed != null && !isTombstone(observed)) {
+            ProductResponse remote = decode(id, observed);
+            localCache.put(id, remote);
+            return Optional.of(toDomain(remote));
+        }
+
+        Optional<Product> loaded = loadFromPrimary(() -> delegate.findById(id));
+        loaded.ifPresent(product -> store(List.of(product), observed != null ? Map.of(id, observed) : Map.of()));
+        return loaded;
+    }
+
+    @Override
+    public List<Product> findActiveByIds(Collection<UUID> ids) {
+        if (bypassCache()) {
+            return delegate.findActiveByIds(ids);
+        }
+
+        List<Product> found = new ArrayList<>(ids.size());
+        Set<UUID> missing = new LinkedHashSet<>();
+        for (UUID id : ids) {
+            ProductResponse local = localCache.getIfPresent(id);
+            if (local != null) {
+                found.add(toDomain(local));
+            } else {
+                missing.add(id);
+            }
+        }
+
+        Map<UUID, byte[]> tombstones = new LinkedHashMap<>();
+        if (!missing.isEmpty()) {
+            for (Map.Entry<UUID, byte[]> entry : readRemote(missing).entrySet()) {
+                if (isTombstone(entry.getValue())) {
+                    tombstones.put(entry.getKey(), entry.getValue());
+                    continue;
+                }
+                ProductResponse remote = decode(entry.getKey(), entry.getValue());
+                localCache.put(remote.id(), remote);
+                missing.remove(remote.id());
+                found.add(toDomain(remote));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<Product> loaded = loadFromPrimary(() -> delegate.findActiveByIds(missing));
+            store(loaded, tombstones);
+            found.addAll(loaded);
+        }
+        return found;
+    }
+
+    /**
+     * Remove o produto do L1 e troca a entrada do L2 pela marca com o token da alteração,
+     * depois do commit. As demais instâncias só deixam de servir o valor antigo quando o L1
+     * delas expira (localTtl).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChangeRecorded(ProductChangeRecordedEvent event) {
+        UUID id = event.change().productId();
+        localCache.invalidate(id);
+        if (!isRemoteAvailable()) {
+            return;
+        }
+        byte[] tombstone = ByteBuffer.allocate(Long.BYTES).putLong(event.change().sequence()).array();
+        try {
+            redisTemplate.opsForValue().set(key(id), tombstone, properties.remoteTtl());
+        } catch (RuntimeException ex) {
+            markRemoteUnavailable(ex);
+        }
+    }
+
+    @Override
+    public Product save(Product product) {
+        return delegate.save(product);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public PageResult<Product> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public List<Product> findActiveAfter(UUID afterId, int limit) {
+        return delegate.findActiveAfter(afterId, limit);
+    }
+
+    @Override
+    public List<Product> findLowStockAfter(UUID afterId, int limit) {
+        return delegate.findLowStockAfter(afterId, limit);
+    }
+
+    @Override
+    public List<Product> lockActiveAfter(UUID afterId, int limit) {
+        return delegate.lockActiveAfter(afterId, limit);
+    }
+
+    @Override
+    public Optional<Product> lockActiveById(UUID id) {
+        return delegate.lockActiveById(id);
+    }
+
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+
+    @Override
+    public int adjustPrices(UUID afterId, UUID lastId, PriceAdjustment adjustment) {
+        return delegate.adjustPrices(afterId, lastId, adjustment);
+    }
+
+    @Override
+    public boolean applyPatch(UUID id, ProductPatch patch) {
+        return delegate.applyPatch(id, patch);
+    }
+
+    @Override
+    public boolean deactivateById(UUID id) {
+        return delegate.deactivateById(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByIdAndActive(UUID id) {
+        return delegate.existsByIdAndActive(id);
+    }
+
+    private boolean bypassCache() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                || ReadYourWritesContext.isPinnedToPrimary();
+    }
+
+    private <T> T loadFromPrimary(Supplier<T> loader) {
+        ReadYourWritesContext.pinToPrimary();
+        try {
+            return loader.get();
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private byte[] readRemote(UUID id) {
+        if (!isRemoteAvailable()) {
+            return null;
+        }
+        try {
+            return redisTemplate.opsForValue().get(key(id));
+        } catch (RuntimeException ex) {
+            markRemoteUnavailable(ex);
+            return null;
+        }
+    }
+
+    private Map<UUID, byte[]> readRemote(Collection<UUID> ids) {
+        if (!isRemoteAvailable()) {
+            return Map.of();
+        }
+        List<UUID> orderedIds = List.copyOf(ids);
+        try {
+            List<byte[]> values = redisTemplate.opsForValue().multiGet(orderedIds.stream().map(this::key).toList());
+            if (values == null) {
+                return Map.of();
+            }
+            Map<UUID, byte[]> found = new LinkedHashMap<>();
+            for (int i = 0; i < orderedIds.size(); i++) {
+                byte[] value = values.get(i);
+                if (value != null) {
+                    found.put(orderedIds.get(i), value);
+                }
+            }
+            return found;
+        } catch (RuntimeException ex) {
+            markRemoteUnavailable(ex);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Grava os produtos carregados do banco. observed traz o que o L2 tinha para cada id antes
+     * da leitura (ausente quando não havia nada); só os produtos aceitos pelo compare-and-set
+     * entram no L1, para que uma alteração concorrente também não seja desfeita nele.
+     */
+    private void store(Collection<Product> products, Map<UUID, byte[]> observed) {
+        if (products.isEmpty()) {
+            return;
+        }
+        List<ProductResponse> responses = products.stream().map(productMapper::toResponse).toList();
+        long writtenAt = System.currentTimeMillis();
+        List<byte[]> values = responses.stream().map(response -> encode(response, writtenAt)).toList();
+        List<byte[]> expected = responses.stream().map(response -> observed.getOrDefault(response.id(), ABSENT)).toList();
+        List<Boolean> written = compareAndSet(responses.stream().map(ProductResponse::id).toList(), expected, values);
+        for (int i = 0; i < responses.size(); i++) {
+            if (written.get(i)) {
+                localCache.put(responses.get(i).id(), responses.get(i));
+            }
+        }
+    }
+
+    /**
+     * Troca o valor de cada chave apenas se ela ainda guardar o valor esperado. Um valor novo
+     * vazio apaga a chave. Com o Redis indisponível, todos contam como gravados.
+     */
+    private List<Boolean> compareAndSet(List<UUID> ids, List<byte[]> expected, List<byte[]> values) {
+        List<Boolean> written = new ArrayList<>(ids.size());
+        if (!isRemoteAvailable()) {
+            ids.forEach(id -> written.add(Boolean.TRUE));
+            return written;
+        }
+        byte[] ttl = Long.toString(properties.remoteTtl().toMillis()).getBytes(StandardCharsets.UTF_8);
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < ids.size(); i++) {
+                    connection.scriptingCommands().eval(COMPARE_AND_SET_SCRIPT, ReturnType.INTEGER, 1,
+                            key(ids.get(i)).getBytes(StandardCharsets.UTF_8), expected.get(i), values.get(i), ttl);
+                }
+                return null;
+            });
+            results.forEach(result -> written.add(Long.valueOf(1).equals(result)));
+        } catch (RuntimeException ex) {
+            markRemoteUnavailable(ex);
+            ids.forEach(id -> written.add(Boolean.TRUE));
+        }
+        return written;
+    }
+
+    private void scheduleRefresh(UUID id, byte[] observed) {
+        if (!refreshing.add(id)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Optional<Product> current = loadFromPrimary(() -> delegate.findById(id));
+                    if (current.isPresent()) {
+                        store(List.of(current.get()), Map.of(id, observed));
+                    } else {
+                        localCache.invalidate(id);
+                        compareAndSet(List.of(id), List.of(observed), List.of(ABSENT));
+                    }
+                } catch (RuntimeException ex) {
+                    logger.debug("Failed to refresh cached product {}: {}", id, ex.getMessage());
+                } finally {
+                    refreshing.remove(id);
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            refreshing.remove(id);
+        }
+    }
+
+    private ProductResponse decode(UUID id, byte[] value) {
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        long writtenAt = buffer.getLong(0);
+        if (System.currentTimeMillis() - writtenAt >= properties.refreshAfter().toMillis()) {
+            scheduleRefresh(id, value);
+        }
+        return ProductBinaryCodec.read(id, buffer, Long.BYTES);
+    }
+
+    /**
+     * A marca de alteração tem só o token (um long); os valores trazem o instante de gravação
+     * seguido do produto codificado.
+     */
+    private static boolean isTombstone(byte[] value) {
+        return value.length == Long.BYTES;
+    }
+
+    private static byte[] encode(ProductResponse response, long writtenAt) {
+        byte[] body = ProductBinaryCodec.encode(response);
+        return ByteBuffer.allocate(Long.BYTES + body.length)
+                .putLong(writtenAt)
+                .put(body)
+                .array();
+    }
+
+    private boolean isRemoteAvailable() {
+        return System.currentTimeMillis() >= remoteRetryAt;
+    }
+
+    private void markRemoteUnavailable(RuntimeException ex) {
+        if (isRemoteAvailable()) {
+            logger.warn("Redis cache unavailable, reading products from the database for the next {}: {}",
+                    properties.remoteRetryInterval(), ex.getMessage());
+        }
+        remoteRetryAt = System.currentTimeMillis() + properties.remoteRetryInterval().toMillis();
+    }
+
+    private String key(UUID id) {
+        return properties.keyPrefix() + id;
+    }
+
+    /**
+     * Produto só para resposta: sem reorderThreshold, que não faz parte do ProductResponse.
+     */
+    private static Product toDomain(ProductResponse response) {
+        return new Product(response.id(), response.name(), response.description(), response.price(),
+                response.stockQuantity());
+    }
+}
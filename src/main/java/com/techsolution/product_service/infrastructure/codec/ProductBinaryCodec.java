@@ -0,0 +1,103 @@
+package com.techsolution.product_service.infrastructure.codec;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Formato binário compacto de um produto, sem o id (que fica na chave ou no índice de quem usa).
+ *
+ * Layout (big-endian):
+ * <pre>
+ * stockQuantity    int
+ * price.scale      byte
+ * price.length     byte   tamanho do valor não escalado
+ * price.unscaled   bytes  complemento de dois (BigInteger.toByteArray)
+ * name.length      int
+ * name             bytes  UTF-8
+ * description.len  int
+ * description      bytes  UTF-8
+ * </pre>
+ */
+public final class ProductBinaryCodec {
+
+    private ProductBinaryCodec() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    public static void write(DataOutput output, ProductResponse product) throws IOException {
+        output.writeInt(product.stockQuantity());
+
+        byte[] unscaled = product.price().unscaledValue().toByteArray();
+        output.writeByte(product.price().scale());
+        output.writeByte(unscaled.length);
+        output.write(unscaled);
+
+        writeString(output, product.name());
+        writeString(output, product.description());
+    }
+
+    public static byte[] encode(ProductResponse product) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + product.description().length());
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            write(output, product);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ProductResponse decode(UUID id, byte[] bytes) {
+        return read(id, ByteBuffer.wrap(bytes), 0);
+    }
+
+    /**
+     * Lê um produto a partir de uma posição absoluta, sem alterar a posição do buffer.
+     * Seguro para leituras concorrentes sobre o mesmo buffer.
+     */
+    public static ProductResponse read(UUID id, ByteBuffer buffer, int offset) {
+        int position = offset;
+
+        int stockQuantity = buffer.getInt(position);
+        position += Integer.BYTES;
+
+        int scale = buffer.get(position++);
+        int unscaledLength = buffer.get(position++) & 0xFF;
+        byte[] unscaled = new byte[unscaledLength];
+        buffer.get(position, unscaled);
+        position += unscaledLength;
+        BigDecimal price = new BigDecimal(new BigInteger(unscaled), scale);
+
+        int nameLength = buffer.getInt(position);
+        position += Integer.BYTES;
+        String name = readString(buffer, position, nameLength);
+        position += nameLength;
+
+        int descriptionLength = buffer.getInt(position);
+        position += Integer.BYTES;
+        String description = readString(buffer, position, descriptionLength);
+
+        return new ProductResponse(id, name, description, price, stockQuantity);
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
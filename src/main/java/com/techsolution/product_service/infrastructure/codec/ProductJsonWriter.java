@@ -0,0 +1,299 @@
+package com.techsolution.product_service.infrastructure.codec;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Escreve ProductResponse e páginas de ProductResponse em JSON direto num buffer de bytes
+ * reaproveitado por thread, sem reflexão e sem strings intermediárias para ids e números.
+ *
+ * A saída é byte a byte a mesma do Jackson para esses records: mesma ordem de campos, null
+ * explícito, texto em UTF-8 com os mesmos escapes (escape unicode em hexadecimal maiúsculo
+ * para caracteres de controle sem forma curta e para surrogates sem par) e preços no formato
+ * de BigDecimal.toString. O BigDecimal não expõe o valor não escalado sem alocar um
+ * BigInteger, então o preço é copiado da string que ele mesmo guarda depois da primeira
+ * chamada, a mesma que o Jackson usa. Para cada instância nova, como as lidas do banco, essa
+ * string é alocada uma vez.
+ *
+ * Uso: acquire, write, writeTo e release, sempre na mesma thread.
+ */
+public final class ProductJsonWriter {
+
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    private static final int MAX_POOLED_CAPACITY = 256 * 1024;
+    private static final ThreadLocal<ProductJsonWriter> POOL = ThreadLocal.withInitial(ProductJsonWriter::new);
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_UPPER = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] NAME = ascii(",\"name\":");
+    private static final byte[] DESCRIPTION = ascii(",\"description\":");
+    private static final byte[] PRICE = ascii(",\"price\":");
+    private static final byte[] STOCK_QUANTITY = ascii(",\"stockQuantity\":");
+
+    private static final byte[] CONTENT = ascii("{\"content\":[");
+    private static final byte[] PAGE = ascii("],\"page\":");
+    private static final byte[] SIZE = ascii(",\"size\":");
+    private static final byte[] TOTAL_ELEMENTS = ascii(",\"totalElements\":");
+    private static final byte[] TOTAL_PAGES = ascii(",\"totalPages\":");
+    private static final byte[] FIRST = ascii(",\"first\":");
+    private static final byte[] LAST = ascii(",\"last\":");
+
+    /**
+     * Escape de cada caractere ASCII: 0 para escrever como está, -1 para escape unicode ou o
+     * caractere usado depois da barra.
+     */
+    private static final int[] ESCAPES = new int[128];
+
+    static {
+        Arrays.fill(ESCAPES, 0, 32, -1);
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+    }
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    private ProductJsonWriter() {
+    }
+
+    public static ProductJsonWriter acquire() {
+        ProductJsonWriter writer = POOL.get();
+        writer.length = 0;
+        return writer;
+    }
+
+    /**
+     * Devolve o buffer ao pool da thread. Buffers que cresceram além de MAX_POOLED_CAPACITY
+     * são descartados para não prender memória depois de uma página grande.
+     */
+    public void release() {
+        if (buffer.length > MAX_POOLED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+        length = 0;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(buffer, 0, length);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    public ProductJsonWriter write(ProductResponse product) {
+        if (product == null) {
+            writeRaw(NULL);
+            return this;
+        }
+        writeRaw(ID);
+        writeUuid(product.id());
+        writeRaw(NAME);
+        writeString(product.name());
+        writeRaw(DESCRIPTION);
+        writeString(product.description());
+        writeRaw(PRICE);
+        writeDecimal(product.price());
+        writeRaw(STOCK_QUANTITY);
+        writeInteger(product.stockQuantity());
+        writeByte('}');
+        return this;
+    }
+
+    public ProductJsonWriter write(PageResponse<ProductResponse> page) {
+        writeRaw(CONTENT);
+        List<ProductResponse> content = page.content();
+        for (int i = 0, size = content.size(); i < size; i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            write(content.get(i));
+        }
+        writeRaw(PAGE);
+        writeLong(page.page());
+        writeRaw(SIZE);
+        writeLong(page.size());
+        writeRaw(TOTAL_ELEMENTS);
+        writeLong(page.totalElements());
+        writeRaw(TOTAL_PAGES);
+        writeLong(page.totalPages());
+        writeRaw(FIRST);
+        writeRaw(page.first() ? TRUE : FALSE);
+        writeRaw(LAST);
+        writeRaw(page.last() ? TRUE : FALSE);
+        writeByte('}');
+        return this;
+    }
+
+    private void writeUuid(UUID id) {
+        if (id == null) {
+            writeRaw(NULL);
+            return;
+        }
+        ensureCapacity(38);
+        byte[] bytes = buffer;
+        int position = length;
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        bytes[position++] = '"';
+        position = writeHex(bytes, position, msb >>> 32, 8);
+        bytes[position++] = '-';
+        position = writeHex(bytes, position, msb >>> 16, 4);
+        bytes[position++] = '-';
+        position = writeHex(bytes, position, msb, 4);
+        bytes[position++] = '-';
+        position = writeHex(bytes, position, lsb >>> 48, 4);
+        bytes[position++] = '-';
+        position = writeHex(bytes, position, lsb, 12);
+        bytes[position++] = '"';
+        length = position;
+    }
+
+    private static int writeHex(byte[] bytes, int position, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            bytes[position + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return position + digits;
+    }
+
+    private void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeRaw(NULL);
+            return;
+        }
+        String text = value.toString();
+        int size = text.length();
+        ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            buffer[length++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void writeInteger(Integer value) {
+        if (value == null) {
+            writeRaw(NULL);
+        } else {
+            writeLong(value);
+        }
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeRaw(ascii(Long.toString(value)));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int position = length + digits;
+        do {
+            buffer[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        length += digits;
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeRaw(NULL);
+            return;
+        }
+        int size = value.length();
+        ensureCapacity(size * 6 + 2);
+        byte[] bytes = buffer;
+        int position = length;
+        bytes[position++] = '"';
+        for (int i = 0; i < size; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                int escape = ESCAPES[c];
+                if (escape == 0) {
+                    bytes[position++] = (byte) c;
+                } else if (escape > 0) {
+                    bytes[position++] = '\\';
+                    bytes[position++] = (byte) escape;
+                } else {
+                    position = writeUnicodeEscape(bytes, position, c);
+                }
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                position = writeUnicodeEscape(bytes, position, c);
+            } else {
+                bytes[position++] = (byte) (0xE0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        bytes[position++] = '"';
+        length = position;
+    }
+
+    private static int writeUnicodeEscape(byte[] bytes, int position, char c) {
+        bytes[position++] = '\\';
+        bytes[position++] = 'u';
+        bytes[position++] = HEX_UPPER[(c >> 12) & 0xF];
+        bytes[position++] = HEX_UPPER[(c >> 8) & 0xF];
+        bytes[position++] = HEX_UPPER[(c >> 4) & 0xF];
+        bytes[position++] = HEX_UPPER[c & 0xF];
+        return position;
+    }
+
+    private void writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) c;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,91 @@
+package com.techsolution.product_service.infrastructure.codec;
+
+import com.google.protobuf.ByteString;
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.api.proto.Decimal;
+import com.techsolution.product_service.api.proto.Product;
+import com.techsolution.product_service.api.proto.ProductPage;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Converte os DTOs de produto para as mensagens de src/main/proto/product.proto e de volta.
+ */
+public final class ProductProtoMapper {
+
+    private ProductProtoMapper() {
+    }
+
+    public static Product toProto(ProductResponse product) {
+        return Product.newBuilder()
+                .setId(toProto(product.id()))
+                .setName(product.name())
+                .setDescription(product.description())
+                .setPrice(toProto(product.price()))
+                .setStockQuantity(product.stockQuantity())
+                .build();
+    }
+
+    public static ProductPage toProto(PageResponse<ProductResponse> page) {
+        ProductPage.Builder builder = ProductPage.newBuilder()
+                .setPage(page.page())
+                .setSize(page.size())
+                .setTotalElements(page.totalElements())
+                .setTotalPages(page.totalPages())
+                .setFirst(page.first())
+                .setLast(page.last());
+        for (ProductResponse product : page.content()) {
+            builder.addContent(toProto(product));
+        }
+        return builder.build();
+    }
+
+    public static ProductResponse fromProto(Product product) {
+        return new ProductResponse(
+                fromProto(product.getId()),
+                product.getName(),
+                product.getDescription(),
+                fromProto(product.getPrice()),
+                product.getStockQuantity()
+        );
+    }
+
+    public static PageResponse<ProductResponse> fromProto(ProductPage page) {
+        return new PageResponse<>(
+                page.getContentList().stream().map(ProductProtoMapper::fromProto).toList(),
+                page.getPage(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.getFirst(),
+                page.getLast()
+        );
+    }
+
+    public static ByteString toProto(UUID id) {
+        return ByteString.copyFrom(ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+    }
+
+    public static UUID fromProto(ByteString id) {
+        ByteBuffer buffer = id.asReadOnlyByteBuffer();
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static Decimal toProto(BigDecimal value) {
+        return Decimal.newBuilder()
+                .setUnscaledValue(ByteString.copyFrom(value.unscaledValue().toByteArray()))
+                .setScale(value.scale())
+                .build();
+    }
+
+    private static BigDecimal fromProto(Decimal value) {
+        return new BigDecimal(new BigInteger(value.getUnscaledValue().toByteArray()), value.getScale());
+    }
+}
@@ -0,0 +1,43 @@
+package com.techsolution.product_service.infrastructure.config;
+
+import com.techsolution.product_service.infrastructure.grpc.LoadSheddingServerInterceptor;
+import com.techsolution.product_service.infrastructure.web.AdaptiveConcurrencyLimiter;
+import com.techsolution.product_service.infrastructure.web.LoadSheddingFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Coloca o limitador adaptativo de concorrência na frente dos endpoints de produto, REST e gRPC.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product-service.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(
+            AdaptiveConcurrencyLimiter limiter,
+            ConcurrencyLimitProperties properties,
+            JsonMapper jsonMapper
+    ) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(
+                new LoadSheddingFilter(limiter, properties.retryAfter(), jsonMapper)
+        );
+        registration.addUrlPatterns("/products/*", "/products");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    public LoadSheddingServerInterceptor loadSheddingServerInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        return new LoadSheddingServerInterceptor(limiter);
+    }
+}
@@ -0,0 +1,30 @@
+package com.techsolution.product_service.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do limitador adaptativo de concorrência (product-service.concurrency-limit.*).
+ *
+ * tolerance é quanto a latência pode subir em relação à linha de base antes de o limite
+ * começar a cair. As frações (*-share) definem quanto do limite cada classe de endpoint
+ * pode ocupar: listagens são as primeiras a serem rejeitadas sob sobrecarga. window-size é
+ * quantas requisições formam cada janela de amostras.
+ */
+@ConfigurationProperties(prefix = "product-service.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("50") int initialLimit,
+        @DefaultValue("10") int minLimit,
+        @DefaultValue("500") int maxLimit,
+        @DefaultValue("2.0") double tolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("20") int windowSize,
+        @DefaultValue("1.0") double readShare,
+        @DefaultValue("0.8") double writeShare,
+        @DefaultValue("0.5") double listShare,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
@@ -37,13 +37,16 @@ public class CorsConfig {
                 "Content-Type",
                 "Accept",
                 "Authorization",
-                "X-Requested-With"
+                "X-Requested-With",
+                "X-Consistency-Token"
         ));
         
         // Headers expostos na resposta
         config.setExposedHeaders(Arrays.asList(
                 "Access-Control-Allow-Origin",
-                "Access-Control-Allow-Credentials"
+                "Access-Control-Allow-Credentials",
+                "X-Consistency-Token",
+                "Retry-After"
         ));
         
         // Tempo de cache para preflight requests (1 hora)
@@ -0,0 +1,97 @@
+package com.techsolution.product_service.infrastructure.config;
+
+import com.techsolution.product_service.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.techsolution.product_service.infrastructure.web.ConsistencyTokenFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Roteamento de leituras para réplicas, ativado quando ao menos uma réplica é configurada
+ * em product-service.datasource.replicas.
+ *
+ * O DataSource principal passa a ser um LazyConnectionDataSourceProxy: transações read-only
+ * (GetProductByIdUseCase, ListProductsUseCase) obtêm conexão do ReplicaRoutingDataSource e
+ * todas as demais continuam no primário.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product-service.datasource.replicas[0]", name = "url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReadReplicaProperties properties,
+            TaskScheduler taskScheduler
+    ) {
+        List<ReadReplicaProperties.Replica> replicas = properties.replicas();
+        List<DataSource> pools = IntStream.range(0, replicas.size())
+                .mapToObj(index -> (DataSource) createReplicaPool(index, replicas.get(index)))
+                .toList();
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, pools);
+        taskScheduler.scheduleWithFixedDelay(routingDataSource::checkHealth, properties.healthCheckInterval());
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConsistencyTokenFilter> consistencyTokenFilter(ReadReplicaProperties properties) {
+        FilterRegistrationBean<ConsistencyTokenFilter> registration = new FilterRegistrationBean<>(
+                new ConsistencyTokenFilter(properties.readYourWritesWindow(), Clock.systemUTC())
+        );
+        registration.addUrlPatterns("/products/*", "/products");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private HikariDataSource createReplicaPool(int index, ReadReplicaProperties.Replica replica) {
+        HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.url())
+                .username(replica.username())
+                .password(replica.password())
+                .build();
+        pool.setPoolName("replica-" + index);
+        pool.setMaximumPoolSize(replica.maximumPoolSize());
+        pool.setReadOnly(true);
+        // Réplica fora do ar: falha rápido para o roteador marcá-la e usar o primário
+        pool.setConnectionTimeout(replica.connectionTimeout().toMillis());
+        pool.setValidationTimeout(replica.connectionTimeout().toMillis());
+        // Sem isso o primeiro getConnection de uma réplica fora do ar lança
+        // PoolInitializationException em vez de SQLException
+        pool.setInitializationFailTimeout(-1);
+        return pool;
+    }
+}
@@ -0,0 +1,31 @@
+package com.techsolution.product_service.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuração das réplicas de leitura (product-service.datasource.*).
+ * Sem réplicas configuradas o serviço continua usando apenas o DataSource padrão.
+ *
+ * connectionTimeout limita quanto uma leitura espera por uma conexão da réplica antes de
+ * marcá-la como indisponível e seguir para o primário.
+ */
+@ConfigurationProperties(prefix = "product-service.datasource")
+public record ReadReplicaProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("10s") Duration healthCheckInterval
+) {
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize,
+            @DefaultValue("250ms") Duration connectionTimeout
+    ) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.techsolution.product_service.infrastructure.config;
+
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.infrastructure.cache.TwoTierCacheProperties;
+import com.techsolution.product_service.infrastructure.cache.TwoTierCachingProductRepository;
+import com.techsolution.product_service.infrastructure.persistence.ProductRepositoryImpl;
+import com.techsolution.product_service.infrastructure.persistence.batch.BatchingProductRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Cache de produtos em dois níveis, ativado por product-service.cache.enabled.
+ *
+ * O TwoTierCachingProductRepository passa a ser o ProductRepository principal e delega ao
+ * BatchingProductRepository quando ele estiver ativo, ou direto ao ProductRepositoryImpl.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product-service.cache", name = "enabled", havingValue = "true")
+public class TwoTierCacheConfig {
+
+    @Bean
+    public RedisTemplate<String, byte[]> productCacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    @Bean
+    @Primary
+    public TwoTierCachingProductRepository twoTierCachingProductRepository(
+            ObjectProvider<BatchingProductRepository> batchingProductRepository,
+            ProductRepositoryImpl productRepositoryImpl,
+            RedisTemplate<String, byte[]> productCacheRedisTemplate,
+            ProductMapper productMapper,
+            TwoTierCacheProperties properties
+    ) {
+        ProductRepository batching = batchingProductRepository.getIfAvailable();
+        ProductRepository delegate = batching != null ? batching : productRepositoryImpl;
+        return new TwoTierCachingProductRepository(delegate, productCacheRedisTemplate, productMapper, properties);
+    }
+}
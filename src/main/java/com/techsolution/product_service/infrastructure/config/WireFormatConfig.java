@@ -0,0 +1,33 @@
+package com.techsolution.product_service.infrastructure.config;
+
+import com.techsolution.product_service.infrastructure.web.ProductJsonHttpMessageConverter;
+import com.techsolution.product_service.infrastructure.web.ProductProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * Formatos de resposta além do JSON. O Protobuf entra no fim da lista de conversores para
+ * que navegadores, que mandam um Accept genérico, continuem recebendo JSON.
+ *
+ * O JSON de produtos e páginas de produtos é escrito pelo ProductJsonHttpMessageConverter,
+ * no início da lista para ter precedência sobre o conversor do Jackson.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    private final JsonMapper jsonMapper;
+
+    public WireFormatConfig(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ProductJsonHttpMessageConverter(jsonMapper));
+        converters.add(new ProductProtobufHttpMessageConverter());
+    }
+}
@@ -0,0 +1,28 @@
+package com.techsolution.product_service.infrastructure.grpc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuração da API gRPC interna (product-service.grpc.*).
+ *
+ * Com in-process-name preenchido o servidor sobe apenas no transporte em memória, sem abrir
+ * porta; é o modo usado nos testes.
+ */
+@ConfigurationProperties(prefix = "product-service.grpc")
+public record GrpcProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("9090") int port,
+        String inProcessName,
+        @DefaultValue("1MB") DataSize flowControlWindow,
+        @DefaultValue("4MB") DataSize maxInboundMessageSize,
+        @DefaultValue("100") int maxConcurrentCallsPerConnection,
+        @DefaultValue("5m") Duration maxConnectionIdle,
+        @DefaultValue("10s") Duration shutdownGracePeriod,
+        @DefaultValue("1000") int maxBatchIds,
+        @DefaultValue("500") int scanBatchSize
+) {
+}
@@ -0,0 +1,103 @@
+package com.techsolution.product_service.infrastructure.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptor;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sobe o servidor gRPC com todos os BindableService e ServerInterceptor da aplicação e o
+ * encerra junto com o contexto, esperando as chamadas em andamento por até shutdown-grace-period.
+ *
+ * O transporte é Netty sobre HTTP/2, com janela de controle de fluxo e limite de chamadas
+ * simultâneas por conexão configuráveis; com in-process-name o servidor fica só em memória.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product-service.grpc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServerLifecycle implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final List<BindableService> services;
+    private final ObjectProvider<ServerInterceptor> interceptors;
+    private final GrpcProperties properties;
+    private volatile Server server;
+
+    public GrpcServerLifecycle(
+            List<BindableService> services,
+            ObjectProvider<ServerInterceptor> interceptors,
+            GrpcProperties properties
+    ) {
+        this.services = services;
+        this.interceptors = interceptors;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        ServerBuilder<?> builder = StringUtils.hasText(properties.inProcessName())
+                ? InProcessServerBuilder.forName(properties.inProcessName())
+                : NettyServerBuilder.forPort(properties.port())
+                        .flowControlWindow((int) properties.flowControlWindow().toBytes())
+                        .maxConcurrentCallsPerConnection(properties.maxConcurrentCallsPerConnection())
+                        .maxConnectionIdle(properties.maxConnectionIdle().toMillis(), TimeUnit.MILLISECONDS);
+        builder.maxInboundMessageSize((int) properties.maxInboundMessageSize().toBytes());
+        services.forEach(builder::addService);
+        interceptors.orderedStream().forEach(builder::intercept);
+
+        try {
+            server = builder.build().start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to start gRPC server", ex);
+        }
+        logger.info("gRPC server started {} with {} services",
+                StringUtils.hasText(properties.inProcessName())
+                        ? "in-process as " + properties.inProcessName()
+                        : "on port " + server.getPort(),
+                services.size());
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(properties.shutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("gRPC calls still running after {}, cancelling them", properties.shutdownGracePeriod());
+                current.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            current.shutdownNow();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Porta efetiva do servidor Netty; útil com port=0.
+     */
+    public int getPort() {
+        return server != null ? server.getPort() : -1;
+    }
+}
@@ -0,0 +1,121 @@
+package com.techsolution.product_service.infrastructure.grpc;
+
+import com.techsolution.product_service.infrastructure.web.AdaptiveConcurrencyLimiter;
+import com.techsolution.product_service.infrastructure.web.EndpointClass;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Aplica às chamadas gRPC o mesmo limitador adaptativo do LoadSheddingFilter: o banco é um
+ * só, então chamadas REST e gRPC disputam as mesmas vagas. Acima do limite a chamada é
+ * encerrada com UNAVAILABLE antes de chegar ao serviço.
+ *
+ * Chamadas unárias contam como READ e têm a latência amostrada. Streams contam como LIST,
+ * mas duram o quanto o cliente quiser: seguram a vaga até o fim sem virar amostra.
+ */
+public class LoadSheddingServerInterceptor implements ServerInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(LoadSheddingServerInterceptor.class);
+
+    private static final Set<Status.Code> SERVER_ERRORS = Set.of(
+            Status.Code.UNKNOWN, Status.Code.INTERNAL, Status.Code.UNAVAILABLE,
+            Status.Code.DATA_LOSS, Status.Code.DEADLINE_EXCEEDED);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public LoadSheddingServerInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(
+            ServerCall<Q, R> call,
+            Metadata headers,
+            ServerCallHandler<Q, R> next
+    ) {
+        boolean unary = call.getMethodDescriptor().getType() == MethodDescriptor.MethodType.UNARY;
+        EndpointClass endpointClass = unary ? EndpointClass.READ : EndpointClass.LIST;
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(endpointClass);
+        if (permit == null) {
+            logger.debug("Rejecting {} call {} - concurrency limit {} reached",
+                    endpointClass, call.getMethodDescriptor().getFullMethodName(), limiter.getLimit());
+            call.close(Status.UNAVAILABLE.withDescription("Server is overloaded, retry later"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        Release release = new Release(permit, unary);
+        ServerCall<Q, R> limitedCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                release.onClose(status);
+                super.close(status, trailers);
+            }
+        };
+
+        ServerCall.Listener<Q> listener;
+        try {
+            listener = next.startCall(limitedCall, headers);
+        } catch (RuntimeException ex) {
+            release.onClose(Status.INTERNAL);
+            throw ex;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onCancel() {
+                // Cancelada pelo cliente ou por deadline: close pode nem ser chamado
+                release.withoutSample();
+                super.onCancel();
+            }
+
+            @Override
+            public void onComplete() {
+                release.withoutSample();
+                super.onComplete();
+            }
+        };
+    }
+
+    /**
+     * Garante que a vaga seja liberada uma única vez, qualquer que seja o fim da chamada.
+     */
+    private static final class Release {
+        private final AdaptiveConcurrencyLimiter.Permit permit;
+        private final boolean sampled;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Release(AdaptiveConcurrencyLimiter.Permit permit, boolean sampled) {
+            this.permit = permit;
+            this.sampled = sampled;
+        }
+
+        void onClose(Status status) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            if (SERVER_ERRORS.contains(status.getCode())) {
+                permit.releaseAfterError();
+            } else if (sampled) {
+                permit.release();
+            } else {
+                permit.releaseWithoutSample();
+            }
+        }
+
+        void withoutSample() {
+            if (released.compareAndSet(false, true)) {
+                permit.releaseWithoutSample();
+            }
+        }
+    }
+}
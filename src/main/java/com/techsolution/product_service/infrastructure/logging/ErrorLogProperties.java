@@ -0,0 +1,17 @@
+package com.techsolution.product_service.infrastructure.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Limite de logs das respostas de erro 4xx e 503 (product-service.error-log.*): no máximo
+ * maxPerInterval linhas por tipo de erro a cada interval.
+ */
+@ConfigurationProperties(prefix = "product-service.error-log")
+public record ErrorLogProperties(
+        @DefaultValue("10") int maxPerInterval,
+        @DefaultValue("10s") Duration interval
+) {
+}
@@ -0,0 +1,44 @@
+package com.techsolution.product_service.infrastructure.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Janela fixa que libera até maxPerInterval linhas de log por intervalo e conta as
+ * descartadas, para que a próxima linha liberada informe quantas foram suprimidas.
+ *
+ * Sem locks: na virada da janela, algumas threads concorrentes podem ver a contagem antiga,
+ * o que só muda em uma ou duas linhas quantas são registradas.
+ */
+public final class RateLimitedLog {
+
+    private final int maxPerInterval;
+    private final long intervalNanos;
+    private final AtomicLong windowStart;
+    private final AtomicInteger logged = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateLimitedLog(int maxPerInterval, Duration interval) {
+        this.maxPerInterval = maxPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * @return -1 se a linha deve ser descartada; caso contrário, quantas linhas foram
+     *         descartadas desde a última liberada
+     */
+    public long tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            logged.set(0);
+        }
+        if (logged.get() < maxPerInterval && logged.incrementAndGet() <= maxPerInterval) {
+            return suppressed.getAndSet(0);
+        }
+        suppressed.incrementAndGet();
+        return -1;
+    }
+}
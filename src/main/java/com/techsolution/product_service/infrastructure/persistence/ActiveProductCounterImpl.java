@@ -0,0 +1,80 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.application.counter.ActiveCountProperties;
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.infrastructure.persistence.entity.ActiveProductCountShardEntity;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaActiveProductCountShardRepository;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+@Component
+public class ActiveProductCounterImpl implements ActiveProductCounter {
+    private static final Logger logger = LoggerFactory.getLogger(ActiveProductCounterImpl.class);
+
+    private final JpaActiveProductCountShardRepository shardRepository;
+    private final JpaProductRepository jpaProductRepository;
+    private final ActiveCountProperties properties;
+
+    public ActiveProductCounterImpl(
+            JpaActiveProductCountShardRepository shardRepository,
+            JpaProductRepository jpaProductRepository,
+            ActiveCountProperties properties
+    ) {
+        this.shardRepository = shardRepository;
+        this.jpaProductRepository = jpaProductRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional
+    public void add(long delta) {
+        // Shard fixo por thread: os eventos de uma mesma transação travam uma única linha
+        int shard = Math.floorMod(Thread.currentThread().threadId(), properties.shards());
+        if (shardRepository.increment(shard, delta) == 0) {
+            // Linha ainda não criada: a próxima reconciliação corrige o total
+            logger.debug("Active count shard {} not initialized, skipping delta {}", shard, delta);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OptionalLong total() {
+        Long total = shardRepository.sumActiveCount();
+        return total != null ? OptionalLong.of(total) : OptionalLong.empty();
+    }
+
+    @Override
+    @Transactional
+    public long reconcile() {
+        // Com todas as linhas travadas, criações e desativações em andamento terminam antes da
+        // contagem ou esperam por ela, então nenhuma fica fora do total recalculado
+        List<ActiveProductCountShardEntity> shards = shardRepository.lockAll();
+        long counted = shards.stream().mapToLong(ActiveProductCountShardEntity::getActiveCount).sum();
+        long actual = jpaProductRepository.countActiveRows();
+
+        for (ActiveProductCountShardEntity shard : shards) {
+            if (shard.getShard() >= properties.shards()) {
+                shardRepository.delete(shard);
+            } else {
+                shard.setActiveCount(shard.getShard() == 0 ? actual : 0L);
+            }
+        }
+        for (int shard = 0; shard < properties.shards(); shard++) {
+            int index = shard;
+            if (shards.stream().noneMatch(existing -> existing.getShard() == index)) {
+                shardRepository.save(new ActiveProductCountShardEntity(shard, shard == 0 ? actual : 0L));
+            }
+        }
+
+        if (!shards.isEmpty() && counted != actual) {
+            logger.warn("Active product count drifted: counter had {}, table has {}", counted, actual);
+        }
+        return actual;
+    }
+}
@@ -0,0 +1,101 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.application.inventory.InventoryProperties;
+import com.techsolution.product_service.domain.inventory.InventoryAggregates;
+import com.techsolution.product_service.domain.inventory.InventoryTotals;
+import com.techsolution.product_service.infrastructure.persistence.entity.InventoryTotalsShardEntity;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaInventoryTotalsShardRepository;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.RoundingMode;
+import java.util.List;
+
+@Component
+public class InventoryAggregatesImpl implements InventoryAggregates {
+    private static final Logger logger = LoggerFactory.getLogger(InventoryAggregatesImpl.class);
+
+    private final JpaInventoryTotalsShardRepository shardRepository;
+    private final JpaProductRepository jpaProductRepository;
+    private final InventoryProperties properties;
+
+    public InventoryAggregatesImpl(
+            JpaInventoryTotalsShardRepository shardRepository,
+            JpaProductRepository jpaProductRepository,
+            InventoryProperties properties
+    ) {
+        this.shardRepository = shardRepository;
+        this.jpaProductRepository = jpaProductRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional
+    public void add(InventoryTotals delta) {
+        // Shard fixo por thread: os eventos de uma mesma transação travam uma única linha
+        int shard = Math.floorMod(Thread.currentThread().threadId(), properties.shards());
+        if (shardRepository.increment(shard, delta.stockUnits(), delta.inventoryValue(), delta.lowStockCount()) == 0) {
+            // Linha ainda não criada: a próxima reconciliação corrige os totais
+            logger.debug("Inventory totals shard {} not initialized, skipping delta {}", shard, delta);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InventoryTotals totals() {
+        List<InventoryTotalsShardEntity> shards = shardRepository.findAll();
+        if (shards.isEmpty()) {
+            return jpaProductRepository.sumActiveInventory();
+        }
+        return shards.stream()
+                .map(InventoryAggregatesImpl::toTotals)
+                .reduce(InventoryTotals.ZERO, InventoryTotals::plus);
+    }
+
+    @Override
+    @Transactional
+    public InventoryTotals reconcile() {
+        // Com todas as linhas travadas, escritas em andamento terminam antes da soma ou esperam
+        // por ela, então nenhuma fica fora dos totais recalculados
+        List<InventoryTotalsShardEntity> shards = shardRepository.lockAll();
+        InventoryTotals counted = shards.stream()
+                .map(InventoryAggregatesImpl::toTotals)
+                .reduce(InventoryTotals.ZERO, InventoryTotals::plus);
+        InventoryTotals actual = jpaProductRepository.sumActiveInventory();
+
+        for (InventoryTotalsShardEntity shard : shards) {
+            if (shard.getShard() >= properties.shards()) {
+                shardRepository.delete(shard);
+            } else {
+                copy(shard.getShard() == 0 ? actual : InventoryTotals.ZERO, shard);
+            }
+        }
+        for (int shard = 0; shard < properties.shards(); shard++) {
+            int index = shard;
+            if (shards.stream().noneMatch(existing -> existing.getShard() == index)) {
+                InventoryTotalsShardEntity entity = new InventoryTotalsShardEntity();
+                entity.setShard(shard);
+                copy(shard == 0 ? actual : InventoryTotals.ZERO, entity);
+                shardRepository.save(entity);
+            }
+        }
+
+        if (!shards.isEmpty() && !counted.minus(actual).isZero()) {
+            logger.warn("Inventory totals drifted: counter had {}, table has {}", counted, actual);
+        }
+        return actual;
+    }
+
+    private static InventoryTotals toTotals(InventoryTotalsShardEntity shard) {
+        return new InventoryTotals(shard.getStockUnits(), shard.getInventoryValue(), shard.getLowStockCount());
+    }
+
+    private static void copy(InventoryTotals totals, InventoryTotalsShardEntity shard) {
+        shard.setStockUnits(totals.stockUnits());
+        shard.setInventoryValue(totals.inventoryValue().setScale(2, RoundingMode.HALF_UP));
+        shard.setLowStockCount(totals.lowStockCount());
+    }
+}
@@ -0,0 +1,120 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.domain.job.Job;
+import com.techsolution.product_service.domain.job.JobRepository;
+import com.techsolution.product_service.domain.job.JobStatus;
+import com.techsolution.product_service.infrastructure.persistence.entity.JobEntity;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Repositório de jobs. As leituras não são read-only de propósito: o status de um job
+ * precisa vir do primário, não de uma réplica atrasada.
+ */
+@Component
+public class JobRepositoryImpl implements JobRepository {
+    private static final Logger logger = LoggerFactory.getLogger(JobRepositoryImpl.class);
+
+    private final JpaJobRepository jpaJobRepository;
+
+    public JobRepositoryImpl(JpaJobRepository jpaJobRepository) {
+        this.jpaJobRepository = jpaJobRepository;
+    }
+
+    @Override
+    public void create(Job job) {
+        logger.debug("Creating {} job with id: {}", job.type(), job.id());
+        jpaJobRepository.save(toEntity(job));
+    }
+
+    @Override
+    public Optional<Job> findById(UUID id) {
+        return jpaJobRepository.findById(id).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<JobStatus> findStatus(UUID id) {
+        return jpaJobRepository.findStatus(id);
+    }
+
+    @Override
+    public List<UUID> findRunnable(Instant staleBefore, int limit) {
+        return jpaJobRepository.findRunnable(staleBefore, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional
+    public boolean claim(UUID id, String owner, Instant staleBefore) {
+        boolean claimed = jpaJobRepository.claim(id, owner, staleBefore, Instant.now()) == 1;
+        logger.debug("Job {} claimed by {}: {}", id, owner, claimed);
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public boolean recordProgress(UUID id, String owner, String checkpoint, int processed, int failed, long busyMillis) {
+        return jpaJobRepository.recordProgress(id, owner, checkpoint, processed, failed, busyMillis, Instant.now()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean transition(UUID id, Set<JobStatus> from, JobStatus to) {
+        boolean changed = jpaJobRepository.transition(id, from, to) == 1;
+        logger.debug("Job {} moved to {}: {}", id, to, changed);
+        return changed;
+    }
+
+    @Override
+    @Transactional
+    public boolean finish(UUID id, String owner, JobStatus status, String error) {
+        boolean finished = jpaJobRepository.finish(id, owner, status, error, Instant.now()) == 1;
+        logger.debug("Job {} finished by {} with status {}: {}", id, owner, status, finished);
+        return finished;
+    }
+
+    private JobEntity toEntity(Job job) {
+        JobEntity entity = new JobEntity();
+        entity.setId(job.id());
+        entity.setType(job.type());
+        entity.setStatus(job.status());
+        entity.setParameters(job.parameters());
+        entity.setCheckpoint(job.checkpoint());
+        entity.setTotalItems(job.totalItems());
+        entity.setProcessedItems(job.processedItems());
+        entity.setFailedItems(job.failedItems());
+        entity.setBusyMillis(job.busyMillis());
+        entity.setCreatedAt(job.createdAt());
+        entity.setStartedAt(job.startedAt());
+        entity.setFinishedAt(job.finishedAt());
+        entity.setError(job.error());
+        return entity;
+    }
+
+    private Job toDomain(JobEntity entity) {
+        return new Job(
+                entity.getId(),
+                entity.getType(),
+                entity.getStatus(),
+                entity.getParameters(),
+                entity.getCheckpoint(),
+                entity.getTotalItems(),
+                entity.getProcessedItems(),
+                entity.getFailedItems(),
+                entity.getBusyMillis(),
+                entity.getCreatedAt(),
+                entity.getStartedAt(),
+                entity.getFinishedAt(),
+                entity.getError()
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.domain.archive.ArchivedProduct;
+import com.techsolution.product_service.domain.archive.ProductArchive;
+import com.techsolution.product_service.infrastructure.persistence.entity.ArchivedProductEntity;
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductEntity;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaArchivedProductRepository;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class ProductArchiveImpl implements ProductArchive {
+    private static final Logger logger = LoggerFactory.getLogger(ProductArchiveImpl.class);
+
+    private final JpaProductRepository jpaProductRepository;
+    private final JpaArchivedProductRepository jpaArchivedProductRepository;
+    private final EntityManager entityManager;
+
+    public ProductArchiveImpl(
+            JpaProductRepository jpaProductRepository,
+            JpaArchivedProductRepository jpaArchivedProductRepository,
+            EntityManager entityManager
+    ) {
+        this.jpaProductRepository = jpaProductRepository;
+        this.jpaArchivedProductRepository = jpaArchivedProductRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public int archiveDeactivatedBefore(Instant cutoff, int limit) {
+        List<ProductEntity> products = jpaProductRepository.lockDeactivatedBefore(cutoff, Limit.of(limit));
+        if (products.isEmpty()) {
+            return 0;
+        }
+
+        Instant archivedAt = Instant.now();
+        for (ProductEntity product : products) {
+            // persist direto: com id atribuído, save() faria um SELECT por linha antes do INSERT
+            entityManager.persist(new ArchivedProductEntity(product, archivedAt));
+        }
+        // Remoção pela entidade, e não por DELETE em massa, para que o Hibernate descarte só
+        // essas entradas do cache de segundo nível e não a região inteira
+        jpaProductRepository.deleteAll(products);
+
+        logger.debug("Archived {} products deactivated before {}", products.size(), cutoff);
+        return products.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ArchivedProduct> findById(UUID id) {
+        return jpaArchivedProductRepository.findById(id).map(this::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(UUID id) {
+        return jpaArchivedProductRepository.existsById(id);
+    }
+
+    private ArchivedProduct toDomain(ArchivedProductEntity entity) {
+        return new ArchivedProduct(
+                entity.getId(),
+                entity.getName(),
+                entity.getDescription(),
+                entity.getPrice(),
+                entity.getStockQuantity(),
+                entity.getDeactivatedAt(),
+                entity.getArchivedAt()
+        );
+    }
+}
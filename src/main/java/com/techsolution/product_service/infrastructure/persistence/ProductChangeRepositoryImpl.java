@@ -0,0 +1,152 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductChangeEntity;
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductChangeSequenceEntity;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductChangeRepository;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductChangeSequenceRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class ProductChangeRepositoryImpl implements ProductChangeRepository {
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangeRepositoryImpl.class);
+
+    private final JpaProductChangeRepository jpaProductChangeRepository;
+    private final JpaProductChangeSequenceRepository sequenceRepository;
+    private final EntityManager entityManager;
+
+    public ProductChangeRepositoryImpl(
+            JpaProductChangeRepository jpaProductChangeRepository,
+            JpaProductChangeSequenceRepository sequenceRepository,
+            EntityManager entityManager
+    ) {
+        this.jpaProductChangeRepository = jpaProductChangeRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Trava a linha do contador até o commit da transação da escrita, então um token só é
+     * entregue depois que todos os menores foram gravados (ou descartados junto com o rollback
+     * que também desfaz o incremento). As alterações pendentes da escrita são enviadas antes da
+     * trava, para que o contador fique preso só durante o INSERT da alteração e o commit.
+     */
+    @Override
+    @Transactional
+    public ProductChange append(ProductChangeType type, UUID productId, Product product) {
+        entityManager.flush();
+        long sequence = lockSequence().next();
+        Instant changedAt = Instant.now();
+        logger.debug("Recording {} change {} for product id: {}", type, sequence, productId);
+        ProductChangeEntity entity = product == null
+                ? new ProductChangeEntity(sequence, productId, type, null, null, null, null, changedAt)
+                : new ProductChangeEntity(
+                        sequence,
+                        productId,
+                        type,
+                        product.getName(),
+                        product.getDescription(),
+                        product.getPrice(),
+                        product.getStockQuantity(),
+                        changedAt
+                );
+        // persist direto: com id atribuído, save() faria um SELECT antes do INSERT
+        entityManager.persist(entity);
+        return new ProductChange(sequence, productId, type, changedAt, product);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductChange> findAfter(long sequence, int limit) {
+        logger.debug("Finding product changes after sequence: {} - limit: {}", sequence, limit);
+        List<ProductChange> changes = jpaProductChangeRepository.findAfter(sequence, Limit.of(limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+        logger.debug("Found {} product changes after sequence: {}", changes.size(), sequence);
+        return changes;
+    }
+
+    /**
+     * Lê o contador e não o maior token gravado: depois que a retenção apaga todas as alterações,
+     * o token continua maior ou igual a prunedThrough.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long lastSequence() {
+        return sequenceRepository.findLastSequence(ProductChangeSequenceEntity.SINGLETON_ID)
+                .orElseGet(jpaProductChangeRepository::findLastSequence);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long prunedThrough() {
+        return sequenceRepository.findPrunedThrough(ProductChangeSequenceEntity.SINGLETON_ID).orElse(0L);
+    }
+
+    @Override
+    @Transactional
+    public int pruneChangedBefore(Instant cutoff, int limit) {
+        long through = 0;
+        int pruned = 0;
+        for (ProductChangeEntity change : jpaProductChangeRepository.findOldest(Limit.of(limit))) {
+            if (!change.getChangedAt().isBefore(cutoff)) {
+                break;
+            }
+            through = change.getSequenceNumber();
+            pruned++;
+        }
+        if (pruned == 0) {
+            return 0;
+        }
+
+        jpaProductChangeRepository.deleteThrough(through);
+        // O contador é travado só no fim, para não segurar as escritas durante o DELETE
+        ProductChangeSequenceEntity sequence = lockSequence();
+        sequence.setPrunedThrough(Math.max(sequence.getPrunedThrough(), through));
+        logger.debug("Pruned {} product changes through sequence: {}", pruned, through);
+        return pruned;
+    }
+
+    private ProductChangeSequenceEntity lockSequence() {
+        return sequenceRepository.lockById(ProductChangeSequenceEntity.SINGLETON_ID)
+                .orElseGet(() -> {
+                    // Bancos criados sem a migração V11 (testes com ddl-auto) começam do último token gravado
+                    ProductChangeSequenceEntity created = new ProductChangeSequenceEntity(
+                            ProductChangeSequenceEntity.SINGLETON_ID, jpaProductChangeRepository.findLastSequence(), 0L);
+                    entityManager.persist(created);
+                    return created;
+                });
+    }
+
+    private ProductChange toDomain(ProductChangeEntity entity) {
+        Product product = entity.getChangeType() == ProductChangeType.DEACTIVATED
+                ? null
+                : new Product(
+                        entity.getProductId(),
+                        entity.getName(),
+                        entity.getDescription(),
+                        entity.getPrice(),
+                        entity.getStockQuantity()
+                );
+        return new ProductChange(
+                entity.getSequenceNumber(),
+                entity.getProductId(),
+                entity.getChangeType(),
+                entity.getChangedAt(),
+                product
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.query.ProductQueryRepository;
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+public class ProductQueryRepositoryImpl implements ProductQueryRepository {
+    private static final Logger logger = LoggerFactory.getLogger(ProductQueryRepositoryImpl.class);
+
+    private final JpaProductRepository jpaProductRepository;
+    private final ActiveProductCounter activeProductCounter;
+
+    public ProductQueryRepositoryImpl(JpaProductRepository jpaProductRepository, ActiveProductCounter activeProductCounter) {
+        this.jpaProductRepository = jpaProductRepository;
+        this.activeProductCounter = activeProductCounter;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductResponse> findAllActive() {
+        logger.debug("Querying all active products");
+        List<ProductResponse> products = jpaProductRepository.findActiveResponses(Pageable.unpaged());
+        logger.debug("Found {} active products", products.size());
+        return products;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<ProductResponse> findActivePage(int page, int size) {
+        logger.debug("Querying active products with pagination - page: {}, size: {}", page, size);
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ProductResponse> pageResult = PageableExecutionUtils.getPage(
+                jpaProductRepository.findActiveResponses(pageable),
+                pageable,
+                this::countActive
+        );
+        logger.debug("Found {} active products (page {} of {})",
+                pageResult.getNumberOfElements(), page, pageResult.getTotalPages());
+        return PageResponse.of(pageResult.getContent(), page, size, pageResult.getTotalElements());
+    }
+
+    private long countActive() {
+        return activeProductCounter.total().orElseGet(jpaProductRepository::countByActiveTrue);
+    }
+}
@@ -1,28 +1,47 @@
 package com.techsolution.product_service.infrastructure.persistence;
 
 import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductPatch;
 import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.archive.ProductArchive;
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
 import com.techsolution.product_service.infrastructure.persistence.entity.ProductEntity;
 import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Fallback;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Component
+@Fallback
 public class ProductRepositoryImpl implements ProductRepository {
     private static final Logger logger = LoggerFactory.getLogger(ProductRepositoryImpl.class);
     
     private final JpaProductRepository jpaProductRepository;
+    private final ActiveProductCounter activeProductCounter;
+    private final ProductArchive productArchive;
 
-    public ProductRepositoryImpl(JpaProductRepository jpaProductRepository) {
+    public ProductRepositoryImpl(
+            JpaProductRepository jpaProductRepository,
+            ActiveProductCounter activeProductCounter,
+            ProductArchive productArchive
+    ) {
         this.jpaProductRepository = jpaProductRepository;
+        this.activeProductCounter = activeProductCounter;
+        this.productArchive = productArchive;
     }
 
     @Override
@@ -35,15 +54,19 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findById(UUID id) {
         logger.debug("Finding active product by id: {}", id);
-        Optional<Product> result = jpaProductRepository.findByIdAndActive(id)
+        // findById passa pelo cache de segundo nível; a consulta com filtro de active não passaria
+        Optional<Product> result = jpaProductRepository.findById(id)
+                .filter(ProductEntity::getActive)
                 .map(this::toDomain);
         logger.debug("Active product {} found: {}", id, result.isPresent());
         return result;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findAll() {
         logger.debug("Finding all active products");
         List<Product> products = jpaProductRepository.findAllActive().stream()
@@ -54,10 +77,15 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProductRepository.PageResult<Product> findAll(int page, int size) {
         logger.debug("Finding active products with pagination - page: {}, size: {}", page, size);
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProductEntity> pageResult = jpaProductRepository.findAllActive(pageable);
+        Page<ProductEntity> pageResult = PageableExecutionUtils.getPage(
+                jpaProductRepository.findActivePage(pageable),
+                pageable,
+                this::countActive
+        );
         
         List<Product> products = pageResult.getContent().stream()
                 .map(this::toDomain)
@@ -74,21 +102,106 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public void deactivateById(UUID id) {
+    @Transactional(readOnly = true)
+    public List<Product> findActiveAfter(UUID afterId, int limit) {
+        logger.debug("Finding active products after id: {} - limit: {}", afterId, limit);
+        List<Product> products = jpaProductRepository.findActiveAfter(afterId, Limit.of(limit)).stream()
+                .map(this::toDomain)
+                .toList();
+        logger.debug("Found {} active products after id: {}", products.size(), afterId);
+        return products;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findActiveByIds(Collection<UUID> ids) {
+        logger.debug("Finding {} active products by id", ids.size());
+        List<Product> products = jpaProductRepository.findAllByIdCached(ids).stream()
+                .filter(ProductEntity::getActive)
+                .map(this::toDomain)
+                .toList();
+        logger.debug("Found {} of {} active products", products.size(), ids.size());
+        return products;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findLowStockAfter(UUID afterId, int limit) {
+        logger.debug("Finding low stock products after id: {} - limit: {}", afterId, limit);
+        List<Product> products = jpaProductRepository.findLowStockAfter(afterId, Limit.of(limit)).stream()
+                .map(this::toDomain)
+                .toList();
+        logger.debug("Found {} low stock products after id: {}", products.size(), afterId);
+        return products;
+    }
+
+    @Override
+    public List<Product> lockActiveAfter(UUID afterId, int limit) {
+        logger.debug("Locking active products after id: {} - limit: {}", afterId, limit);
+        List<Product> products = jpaProductRepository.lockActiveAfter(afterId, Limit.of(limit)).stream()
+                .map(this::toDomain)
+                .toList();
+        logger.debug("Locked {} active products after id: {}", products.size(), afterId);
+        return products;
+    }
+
+    @Override
+    public Optional<Product> lockActiveById(UUID id) {
+        logger.debug("Locking active product by id: {}", id);
+        Optional<Product> result = jpaProductRepository.lockActiveById(id).map(this::toDomain);
+        logger.debug("Active product {} locked: {}", id, result.isPresent());
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countActive() {
+        // Lê o contador mantido; até a primeira reconciliação conta a tabela
+        return activeProductCounter.total().orElseGet(jpaProductRepository::countByActiveTrue);
+    }
+
+    @Override
+    public int adjustPrices(UUID afterId, UUID lastId, PriceAdjustment adjustment) {
+        logger.debug("Adjusting prices of active products in ({}, {}]", afterId, lastId);
+        int updated = jpaProductRepository.adjustActivePrices(afterId, lastId, adjustment);
+        logger.debug("Adjusted prices of {} products in ({}, {}]", updated, afterId, lastId);
+        return updated;
+    }
+
+    @Override
+    public boolean applyPatch(UUID id, ProductPatch patch) {
+        logger.debug("Applying partial update to product id: {}", id);
+        boolean applied = jpaProductRepository.updateActiveColumns(
+                id,
+                patch.name(),
+                patch.description(),
+                patch.price(),
+                patch.stockQuantity()
+        ) > 0;
+        logger.debug("Partial update applied to product {}: {}", id, applied);
+        return applied;
+    }
+
+    @Override
+    public boolean deactivateById(UUID id) {
         logger.debug("Deactivating product by id: {}", id);
-        jpaProductRepository.deactivateById(id);
-        logger.debug("Product deactivated successfully with id: {}", id);
+        boolean deactivated = jpaProductRepository.deactivateById(id, Instant.now()) > 0;
+        logger.debug("Product {} deactivated: {}", id, deactivated);
+        return deactivated;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
         logger.debug("Checking if product exists with id: {}", id);
-        boolean exists = jpaProductRepository.existsById(id);
+        // Produtos arquivados continuam existindo, só fora da tabela de produtos
+        boolean exists = jpaProductRepository.existsById(id) || productArchive.existsById(id);
         logger.debug("Product {} exists: {}", id, exists);
         return exists;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByIdAndActive(UUID id) {
         logger.debug("Checking if active product exists with id: {}", id);
         boolean exists = jpaProductRepository.existsByIdAndActive(id);
@@ -97,7 +210,7 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     private ProductEntity toEntity(Product product) {
-        return new ProductEntity(
+        ProductEntity entity = new ProductEntity(
                 product.getId(),
                 product.getName(),
                 product.getDescription(),
@@ -105,10 +218,12 @@ public class ProductRepositoryImpl implements ProductRepository {
                 product.getStockQuantity(),
                 product.getActive()
         );
+        entity.setReorderThreshold(product.getReorderThreshold());
+        return entity;
     }
 
     private Product toDomain(ProductEntity entity) {
-        return new Product(
+        Product product = new Product(
                 entity.getId(),
                 entity.getName(),
                 entity.getDescription(),
@@ -116,5 +231,7 @@ public class ProductRepositoryImpl implements ProductRepository {
                 entity.getStockQuantity(),
                 entity.getActive()
         );
+        product.setReorderThreshold(entity.getReorderThreshold());
+        return product;
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.techsolution.product_service.infrastructure.persistence.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do agrupamento de buscas por id (product-service.batch-loader.*).
+ */
+@ConfigurationProperties(prefix = "product-service.batch-loader")
+public record BatchLoaderProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int maxBatchSize,
+        @DefaultValue("4") int maxConcurrentBatches,
+        @DefaultValue("0ms") Duration window
+) {
+}
@@ -0,0 +1,151 @@
+package com.techsolution.product_service.infrastructure.persistence.batch;
+
+import com.techsolution.product_service.application.concurrency.BatchLoader;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductPatch;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import com.techsolution.product_service.infrastructure.persistence.ProductRepositoryImpl;
+import com.techsolution.product_service.infrastructure.persistence.routing.ReadYourWritesContext;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ProductRepository que junta buscas por id simultâneas de requisições diferentes em uma
+ * única consulta IN, reduzindo idas ao banco e a disputa pelo pool de conexões.
+ *
+ * Buscas feitas dentro de uma transação ou fixadas no primário (read-your-writes) não são
+ * agrupadas, porque precisam enxergar a mesma conexão da requisição. As demais operações
+ * vão direto para o repositório JPA.
+ *
+ * Tem precedência sobre o ProductRepositoryImpl, marcado como @Fallback.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product-service.batch-loader", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BatchingProductRepository implements ProductRepository {
+
+    private final ProductRepositoryImpl delegate;
+    private final ThreadPoolTaskExecutor batchExecutor = new ThreadPoolTaskExecutor();
+    private final BatchLoader<UUID, Product> loader;
+
+    public BatchingProductRepository(ProductRepositoryImpl delegate, BatchLoaderProperties properties) {
+        this.delegate = delegate;
+        batchExecutor.setCorePoolSize(properties.maxConcurrentBatches());
+        batchExecutor.setMaxPoolSize(properties.maxConcurrentBatches());
+        batchExecutor.setThreadNamePrefix("product-batch-");
+        batchExecutor.setDaemon(true);
+        batchExecutor.initialize();
+        this.loader = new BatchLoader<>(
+                this::loadBatch,
+                batchExecutor,
+                properties.maxBatchSize(),
+                properties.maxConcurrentBatches(),
+                properties.window().toNanos()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdown();
+    }
+
+    @Override
+    public Optional<Product> findById(UUID id) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || ReadYourWritesContext.isPinnedToPrimary()) {
+            return delegate.findById(id);
+        }
+        return Optional.ofNullable(loader.loadAndWait(id));
+    }
+
+    @Override
+    public Product save(Product product) {
+        return delegate.save(product);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public PageResult<Product> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public List<Product> findActiveAfter(UUID afterId, int limit) {
+        return delegate.findActiveAfter(afterId, limit);
+    }
+
+    @Override
+    public List<Product> findActiveByIds(Collection<UUID> ids) {
+        return delegate.findActiveByIds(ids);
+    }
+
+    @Override
+    public List<Product> findLowStockAfter(UUID afterId, int limit) {
+        return delegate.findLowStockAfter(afterId, limit);
+    }
+
+    @Override
+    public List<Product> lockActiveAfter(UUID afterId, int limit) {
+        return delegate.lockActiveAfter(afterId, limit);
+    }
+
+    @Override
+    public Optional<Product> lockActiveById(UUID id) {
+        return delegate.lockActiveById(id);
+    }
+
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+
+    @Override
+    public int adjustPrices(UUID afterId, UUID lastId, PriceAdjustment adjustment) {
+        return delegate.adjustPrices(afterId, lastId, adjustment);
+    }
+
+    @Override
+    public boolean applyPatch(UUID id, ProductPatch patch) {
+        return delegate.applyPatch(id, patch);
+    }
+
+    @Override
+    public boolean deactivateById(UUID id) {
+        return delegate.deactivateById(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByIdAndActive(UUID id) {
+        return delegate.existsByIdAndActive(id);
+    }
+
+    private Map<UUID, Product> loadBatch(Set<UUID> ids) {
+        if (ids.size() == 1) {
+            UUID id = ids.iterator().next();
+            return delegate.findById(id).map(product -> Map.of(id, product)).orElse(Map.of());
+        }
+        return delegate.findActiveByIds(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.techsolution.product_service.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "active_product_count_shards")
+public class ActiveProductCountShardEntity {
+    @Id
+    private Integer shard;
+
+    @Column(nullable = false, name = "active_count")
+    private Long activeCount;
+
+    public ActiveProductCountShardEntity() {
+    }
+
+    public ActiveProductCountShardEntity(Integer shard, Long activeCount) {
+        this.shard = shard;
+        this.activeCount = activeCount;
+    }
+}
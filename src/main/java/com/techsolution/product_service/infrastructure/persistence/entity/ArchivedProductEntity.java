@@ -0,0 +1,50 @@
+package com.techsolution.product_service.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "archived_products")
+public class ArchivedProductEntity {
+    @Id
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal price;
+
+    @Column(nullable = false, name = "stock_quantity")
+    private Integer stockQuantity;
+
+    @Column(nullable = false, name = "deactivated_at")
+    private Instant deactivatedAt;
+
+    @Column(nullable = false, name = "archived_at")
+    private Instant archivedAt;
+
+    public ArchivedProductEntity() {
+    }
+
+    public ArchivedProductEntity(ProductEntity product, Instant archivedAt) {
+        this.id = product.getId();
+        this.name = product.getName();
+        this.description = product.getDescription();
+        this.price = product.getPrice();
+        this.stockQuantity = product.getStockQuantity();
+        this.deactivatedAt = product.getDeactivatedAt();
+        this.archivedAt = archivedAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.techsolution.product_service.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "inventory_totals_shards")
+public class InventoryTotalsShardEntity {
+    @Id
+    private Integer shard;
+
+    @Column(nullable = false, name = "stock_units")
+    private Long stockUnits;
+
+    @Column(nullable = false, name = "inventory_value", precision = 38, scale = 2)
+    private BigDecimal inventoryValue;
+
+    @Column(nullable = false, name = "low_stock_count")
+    private Long lowStockCount;
+
+    public InventoryTotalsShardEntity() {
+    }
+
+    public InventoryTotalsShardEntity(Integer shard, Long stockUnits, BigDecimal inventoryValue, Long lowStockCount) {
+        this.shard = shard;
+        this.stockUnits = stockUnits;
+        this.inventoryValue = inventoryValue;
+        this.lowStockCount = lowStockCount;
+    }
+}
@@ -0,0 +1,64 @@
+package com.techsolution.product_service.infrastructure.persistence.entity;
+
+import com.techsolution.product_service.domain.job.JobStatus;
+import com.techsolution.product_service.domain.job.JobType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "jobs")
+public class JobEntity {
+    @Id
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "job_type", length = 50)
+    private JobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String parameters;
+
+    @Column(columnDefinition = "TEXT")
+    private String checkpoint;
+
+    @Column(nullable = false, name = "total_items")
+    private long totalItems;
+
+    @Column(nullable = false, name = "processed_items")
+    private long processedItems;
+
+    @Column(nullable = false, name = "failed_items")
+    private long failedItems;
+
+    @Column(nullable = false, name = "busy_millis")
+    private long busyMillis;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(nullable = false, name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+}
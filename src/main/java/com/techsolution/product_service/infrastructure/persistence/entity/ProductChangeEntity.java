@@ -0,0 +1,64 @@
+package com.techsolution.product_service.infrastructure.persistence.entity;
+
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "product_changes")
+public class ProductChangeEntity {
+    @Id
+    @Column(name = "sequence_number")
+    private Long sequenceNumber;
+
+    @Column(nullable = false, name = "product_id", columnDefinition = "UUID")
+    private UUID productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "change_type", length = 20)
+    private ProductChangeType changeType;
+
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "stock_quantity")
+    private Integer stockQuantity;
+
+    @Column(nullable = false, name = "changed_at")
+    private Instant changedAt;
+
+    public ProductChangeEntity() {
+    }
+
+    public ProductChangeEntity(
+            Long sequenceNumber,
+            UUID productId,
+            ProductChangeType changeType,
+            String name,
+            String description,
+            BigDecimal price,
+            Integer stockQuantity,
+            Instant changedAt
+    ) {
+        this.sequenceNumber = sequenceNumber;
+        this.productId = productId;
+        this.changeType = changeType;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.techsolution.product_service.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "product_change_sequence")
+public class ProductChangeSequenceEntity {
+    public static final short SINGLETON_ID = 1;
+
+    @Id
+    private Short id;
+
+    @Column(nullable = false, name = "last_sequence")
+    private Long lastSequence;
+
+    @Column(nullable = false, name = "pruned_through")
+    private Long prunedThrough;
+
+    public ProductChangeSequenceEntity() {
+    }
+
+    public ProductChangeSequenceEntity(Short id, Long lastSequence, Long prunedThrough) {
+        this.id = id;
+        this.lastSequence = lastSequence;
+        this.prunedThrough = prunedThrough;
+    }
+
+    public long next() {
+        lastSequence = lastSequence + 1;
+        return lastSequence;
+    }
+}
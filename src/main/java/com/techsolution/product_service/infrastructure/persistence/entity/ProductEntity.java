@@ -3,8 +3,12 @@ package com.techsolution.product_service.infrastructure.persistence.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 
@@ -12,7 +16,12 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ProductEntity.CACHE_REGION)
+@DynamicUpdate
 public class ProductEntity {
+    public static final String CACHE_REGION = "products";
+
     @Id
     @Column(columnDefinition = "UUID")
     private UUID id;
@@ -32,6 +41,12 @@ public class ProductEntity {
     @Column(nullable = false)
     private Boolean active;
 
+    @Column(name = "deactivated_at")
+    private Instant deactivatedAt;
+
+    @Column(name = "reorder_threshold")
+    private Integer reorderThreshold;
+
     public ProductEntity() {
     }
 
@@ -42,6 +57,7 @@ public class ProductEntity {
         this.price = price;
         this.stockQuantity = stockQuantity;
         this.active = active != null ? active : true;
+        this.deactivatedAt = this.active ? null : Instant.now();
     }
 
     public UUID getId() {
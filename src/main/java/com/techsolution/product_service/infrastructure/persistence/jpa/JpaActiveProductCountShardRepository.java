@@ -0,0 +1,30 @@
+package com.techsolution.product_service.infrastructure.persistence.jpa;
+
+import com.techsolution.product_service.infrastructure.persistence.entity.ActiveProductCountShardEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JpaActiveProductCountShardRepository extends JpaRepository<ActiveProductCountShardEntity, Integer> {
+
+    @Modifying
+    @Query("UPDATE ActiveProductCountShardEntity s SET s.activeCount = s.activeCount + :delta WHERE s.shard = :shard")
+    int increment(@Param("shard") int shard, @Param("delta") long delta);
+
+    /**
+     * null enquanto a tabela não tem nenhuma linha.
+     */
+    @Query("SELECT SUM(s.activeCount) FROM ActiveProductCountShardEntity s")
+    Long sumActiveCount();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ActiveProductCountShardEntity s ORDER BY s.shard")
+    List<ActiveProductCountShardEntity> lockAll();
+}
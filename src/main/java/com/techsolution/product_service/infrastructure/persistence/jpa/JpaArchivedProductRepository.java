@@ -0,0 +1,11 @@
+package com.techsolution.product_service.infrastructure.persistence.jpa;
+
+import com.techsolution.product_service.infrastructure.persistence.entity.ArchivedProductEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface JpaArchivedProductRepository extends JpaRepository<ArchivedProductEntity, UUID> {
+}
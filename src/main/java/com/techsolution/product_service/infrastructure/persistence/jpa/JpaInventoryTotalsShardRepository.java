@@ -0,0 +1,35 @@
+package com.techsolution.product_service.infrastructure.persistence.jpa;
+
+import com.techsolution.product_service.infrastructure.persistence.entity.InventoryTotalsShardEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface JpaInventoryTotalsShardRepository extends JpaRepository<InventoryTotalsShardEntity, Integer> {
+
+    @Modifying
+    @Query("""
+            UPDATE InventoryTotalsShardEntity s
+            SET s.stockUnits = s.stockUnits + :stockUnits,
+                s.inventoryValue = s.inventoryValue + :inventoryValue,
+                s.lowStockCount = s.lowStockCount + :lowStockCount
+            WHERE s.shard = :shard""")
+    int increment(
+            @Param("shard") int shard,
+            @Param("stockUnits") long stockUnits,
+            @Param("inventoryValue") BigDecimal inventoryValue,
+            @Param("lowStockCount") long lowStockCount
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InventoryTotalsShardEntity s ORDER BY s.shard")
+    List<InventoryTotalsShardEntity> lockAll();
+}
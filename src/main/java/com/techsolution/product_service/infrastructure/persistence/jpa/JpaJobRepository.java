@@ -0,0 +1,67 @@
+package com.techsolution.product_service.infrastructure.persistence.jpa;
+
+import com.techsolution.product_service.domain.job.JobStatus;
+import com.techsolution.product_service.infrastructure.persistence.entity.JobEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface JpaJobRepository extends JpaRepository<JobEntity, UUID> {
+
+    @Query("SELECT j.status FROM JobEntity j WHERE j.id = :id")
+    Optional<JobStatus> findStatus(@Param("id") UUID id);
+
+    @Query("SELECT j.id FROM JobEntity j WHERE j.status = 'QUEUED' "
+            + "OR (j.status = 'RUNNING' AND j.heartbeatAt < :staleBefore) ORDER BY j.createdAt")
+    List<UUID> findRunnable(@Param("staleBefore") Instant staleBefore, Limit limit);
+
+    @Modifying
+    @Query("UPDATE JobEntity j SET j.status = 'RUNNING', j.owner = :owner, j.heartbeatAt = :now, "
+            + "j.startedAt = COALESCE(j.startedAt, :now) "
+            + "WHERE j.id = :id AND (j.status = 'QUEUED' OR (j.status = 'RUNNING' AND j.heartbeatAt < :staleBefore))")
+    int claim(
+            @Param("id") UUID id,
+            @Param("owner") String owner,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("UPDATE JobEntity j SET j.checkpoint = :checkpoint, j.processedItems = j.processedItems + :processed, "
+            + "j.failedItems = j.failedItems + :failed, j.busyMillis = j.busyMillis + :busyMillis, j.heartbeatAt = :now "
+            + "WHERE j.id = :id AND j.owner = :owner")
+    int recordProgress(
+            @Param("id") UUID id,
+            @Param("owner") String owner,
+            @Param("checkpoint") String checkpoint,
+            @Param("processed") long processed,
+            @Param("failed") long failed,
+            @Param("busyMillis") long busyMillis,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("UPDATE JobEntity j SET j.status = :to WHERE j.id = :id AND j.status IN :from")
+    int transition(@Param("id") UUID id, @Param("from") Collection<JobStatus> from, @Param("to") JobStatus to);
+
+    @Modifying
+    @Query("UPDATE JobEntity j SET j.status = :status, j.error = :error, j.finishedAt = :now "
+            + "WHERE j.id = :id AND j.owner = :owner AND j.status = 'RUNNING'")
+    int finish(
+            @Param("id") UUID id,
+            @Param("owner") String owner,
+            @Param("status") JobStatus status,
+            @Param("error") String error,
+            @Param("now") Instant now
+    );
+}
@@ -0,0 +1,28 @@
+package com.techsolution.product_service.infrastructure.persistence.jpa;
+
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductChangeEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JpaProductChangeRepository extends JpaRepository<ProductChangeEntity, Long> {
+
+    @Query("SELECT c FROM ProductChangeEntity c WHERE c.sequenceNumber > :sequence ORDER BY c.sequenceNumber")
+    List<ProductChangeEntity> findAfter(@Param("sequence") long sequence, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(c.sequenceNumber), 0) FROM ProductChangeEntity c")
+    long findLastSequence();
+
+    @Query("SELECT c FROM ProductChangeEntity c ORDER BY c.sequenceNumber")
+    List<ProductChangeEntity> findOldest(Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM ProductChangeEntity c WHERE c.sequenceNumber <= :sequence")
+    int deleteThrough(@Param("sequence") long sequence);
+}
@@ -0,0 +1,25 @@
+package com.techsolution.product_service.infrastructure.persistence.jpa;
+
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductChangeSequenceEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JpaProductChangeSequenceRepository extends JpaRepository<ProductChangeSequenceEntity, Short> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductChangeSequenceEntity s WHERE s.id = :id")
+    Optional<ProductChangeSequenceEntity> lockById(@Param("id") short id);
+
+    @Query("SELECT s.lastSequence FROM ProductChangeSequenceEntity s WHERE s.id = :id")
+    Optional<Long> findLastSequence(@Param("id") short id);
+
+    @Query("SELECT s.prunedThrough FROM ProductChangeSequenceEntity s WHERE s.id = :id")
+    Optional<Long> findPrunedThrough(@Param("id") short id);
+}
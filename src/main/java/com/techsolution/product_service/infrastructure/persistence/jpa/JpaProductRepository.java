@@ -1,36 +1,105 @@
 package com.techsolution.product_service.infrastructure.persistence.jpa;
 
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.domain.inventory.InventoryTotals;
 import com.techsolution.product_service.infrastructure.persistence.entity.ProductEntity;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID> {
+public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID>, ProductPartialUpdateRepository,
+        ProductCachedLookupRepository {
     
     @Query("SELECT p FROM ProductEntity p WHERE p.active = true")
     List<ProductEntity> findAllActive();
     
-    @Query("SELECT p FROM ProductEntity p WHERE p.active = true")
-    Page<ProductEntity> findAllActive(Pageable pageable);
+    @Query("SELECT p FROM ProductEntity p WHERE p.active = true ORDER BY p.id")
+    List<ProductEntity> findActivePage(Pageable pageable);
+    
+    /**
+     * Projeção direto no DTO de resposta: o Hibernate não cria entidades, snapshots nem
+     * entradas no contexto de persistência.
+     */
+    @Query("""
+            SELECT new com.techsolution.product_service.api.dto.ProductResponse(
+                p.id, p.name, p.description, p.price, p.stockQuantity)
+            FROM ProductEntity p WHERE p.active = true ORDER BY p.id""")
+    List<ProductResponse> findActiveResponses(Pageable pageable);
+    
+    @Query("SELECT p FROM ProductEntity p WHERE p.active = true AND p.id > :afterId ORDER BY p.id")
+    List<ProductEntity> findActiveAfter(@Param("afterId") UUID afterId, Limit limit);
+    
+    /**
+     * Produtos ativos abaixo do limite de reposição. O filtro repete o predicado do índice
+     * parcial idx_products_low_stock para que o PostgreSQL o use.
+     */
+    @Query("""
+            SELECT p FROM ProductEntity p
+            WHERE p.active = true AND p.stockQuantity < p.reorderThreshold AND p.id > :afterId
+            ORDER BY p.id""")
+    List<ProductEntity> findLowStockAfter(@Param("afterId") UUID afterId, Limit limit);
     
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProductEntity p WHERE p.active = true AND p.id > :afterId ORDER BY p.id")
+    List<ProductEntity> lockActiveAfter(@Param("afterId") UUID afterId, Limit limit);
+
+    /**
+     * Lê e trava o produto ativo no banco, sem passar pelo cache de segundo nível.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM ProductEntity p WHERE p.id = :id AND p.active = true")
-    Optional<ProductEntity> findByIdAndActive(@Param("id") UUID id);
+    Optional<ProductEntity> lockActiveById(@Param("id") UUID id);
+    
+    /**
+     * Contagem usada pela paginação, guardada no query cache. O Hibernate invalida o resultado
+     * a cada escrita na tabela products, inclusive pelos UPDATEs em massa.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    long countByActiveTrue();
+    
+    /**
+     * Mesma contagem, sempre no banco: usada para reconciliar o contador de ativos.
+     */
+    @Query("SELECT COUNT(p) FROM ProductEntity p WHERE p.active = true")
+    long countActiveRows();
+    
+    /**
+     * Totais de estoque dos produtos ativos, sempre no banco: usados para reconciliar os totais
+     * mantidos pelo InventoryAggregates.
+     */
+    @Query("""
+            SELECT new com.techsolution.product_service.domain.inventory.InventoryTotals(
+                COALESCE(SUM(p.stockQuantity), 0L),
+                COALESCE(SUM(p.price * p.stockQuantity), 0),
+                COALESCE(SUM(CASE WHEN p.stockQuantity < p.reorderThreshold THEN 1L ELSE 0L END), 0L))
+            FROM ProductEntity p WHERE p.active = true""")
+    InventoryTotals sumActiveInventory();
     
     @Query("SELECT COUNT(p) > 0 FROM ProductEntity p WHERE p.id = :id AND p.active = true")
     boolean existsByIdAndActive(@Param("id") UUID id);
     
-    @Modifying
-    @Query("UPDATE ProductEntity p SET p.active = false WHERE p.id = :id")
-    void deactivateById(@Param("id") UUID id);
+    /**
+     * Produtos desativados antes de cutoff, bloqueados para o arquivamento. Linhas já
+     * bloqueadas por outra instância são puladas (SKIP LOCKED, timeout -2).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM ProductEntity p WHERE p.active = false AND p.deactivatedAt < :cutoff ORDER BY p.deactivatedAt")
+    List<ProductEntity> lockDeactivatedBefore(@Param("cutoff") Instant cutoff, Limit limit);
 }
 
 
@@ -0,0 +1,19 @@
+package com.techsolution.product_service.infrastructure.persistence.jpa;
+
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fragmento do JpaProductRepository para buscas em lote que passam pelo cache de segundo nível.
+ */
+public interface ProductCachedLookupRepository {
+
+    /**
+     * Carrega os produtos pelos ids, ativos ou não. Os que estão no cache de segundo nível não vão
+     * ao banco; os demais saem juntos em consultas por id. Ids inexistentes ficam de fora.
+     */
+    List<ProductEntity> findAllByIdCached(Collection<UUID> ids);
+}
@@ -0,0 +1,35 @@
+package com.techsolution.product_service.infrastructure.persistence.jpa;
+
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Fragmento do JpaProductRepository para alterações parciais de produtos ativos.
+ *
+ * PATCH e desativação leem a linha com PESSIMISTIC_WRITE e alteram a entidade: o ProductEntity
+ * usa @DynamicUpdate, então o UPDATE gerado no flush toca só as colunas alteradas, e o cache de
+ * segundo nível (READ_WRITE) atualiza apenas a entrada desse produto no commit. O reajuste de
+ * preços usa um UPDATE em massa por lote e remove do cache só os ids do lote. Um UPDATE em massa
+ * via JPQL descartaria a região products inteira.
+ */
+public interface ProductPartialUpdateRepository {
+
+    /**
+     * Atualiza só as colunas cujo valor não é null. Retorna a quantidade de linhas alteradas.
+     */
+    int updateActiveColumns(UUID id, String name, String description, BigDecimal price, Integer stockQuantity);
+
+    /**
+     * Desativa o produto se ele ainda estiver ativo. Retorna a quantidade de linhas alteradas.
+     */
+    int deactivateById(UUID id, Instant now);
+
+    /**
+     * Reajusta o preço dos produtos ativos com id no intervalo (afterId, lastId]. Linhas cujo
+     * novo preço não seria positivo ficam de fora. Retorna a quantidade de linhas alteradas.
+     */
+    int adjustActivePrices(UUID afterId, UUID lastId, PriceAdjustment adjustment);
+}
@@ -0,0 +1,133 @@
+package com.techsolution.product_service.infrastructure.persistence.jpa;
+
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class ProductPartialUpdateRepositoryImpl implements ProductPartialUpdateRepository {
+    private static final String PRICE_ADJUSTMENT_QUERY_SPACE = "product_price_adjustments";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateActiveColumns(UUID id, String name, String description, BigDecimal price, Integer stockQuantity) {
+        ProductEntity product = lockActive(id);
+        if (product == null) {
+            return 0;
+        }
+        if (name != null) {
+            product.setName(name);
+        }
+        if (description != null) {
+            product.setDescription(description);
+        }
+        if (price != null) {
+            product.setPrice(price);
+        }
+        if (stockQuantity != null) {
+            product.setStockQuantity(stockQuantity);
+        }
+        return 1;
+    }
+
+    @Override
+    public int deactivateById(UUID id, Instant now) {
+        ProductEntity product = lockActive(id);
+        if (product == null) {
+            return 0;
+        }
+        product.setActive(false);
+        product.setDeactivatedAt(now);
+        return 1;
+    }
+
+    /**
+     * Um único UPDATE nativo por lote. Um UPDATE JPQL faria o Hibernate descartar a região
+     * products inteira; o nativo declara um espaço de consulta próprio, que não é a tabela de
+     * nenhuma entidade, e só as entradas do lote saem do cache, depois do commit.
+     */
+    @Override
+    public int adjustActivePrices(UUID afterId, UUID lastId, PriceAdjustment adjustment) {
+        // O lote já foi travado por lockActiveAfter na mesma transação; a consulta devolve as mesmas entidades
+        List<ProductEntity> chunk = entityManager.createQuery(
+                        "SELECT p FROM ProductEntity p WHERE p.active = true AND p.id > :afterId AND p.id <= :lastId",
+                        ProductEntity.class)
+                .setParameter("afterId", afterId)
+                .setParameter("lastId", lastId)
+                .getResultList();
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        String adjusted = adjustment.mode() == PriceAdjustment.Mode.PERCENTAGE
+                ? "ROUND(price * :value, " + PriceAdjustment.PRICE_SCALE + ")"
+                : "ROUND(price + :value, " + PriceAdjustment.PRICE_SCALE + ")";
+        StringBuilder sql = new StringBuilder("UPDATE products SET price = ").append(adjusted)
+                .append(" WHERE id > :afterId AND id <= :lastId AND active = true");
+        if (adjustment.minPrice() != null) {
+            sql.append(" AND price >= :minPrice");
+        }
+        if (adjustment.maxPrice() != null) {
+            sql.append(" AND price <= :maxPrice");
+        }
+        // Respeita a constraint price_positive sem abortar o lote inteiro
+        sql.append(" AND ").append(adjusted).append(" > 0");
+
+        NativeQuery<?> update = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(PRICE_ADJUSTMENT_QUERY_SPACE)
+                .setParameter("value", adjustment.mode() == PriceAdjustment.Mode.PERCENTAGE
+                        ? adjustment.factor()
+                        : adjustment.value())
+                .setParameter("afterId", afterId)
+                .setParameter("lastId", lastId);
+        if (adjustment.minPrice() != null) {
+            update.setParameter("minPrice", adjustment.minPrice());
+        }
+        if (adjustment.maxPrice() != null) {
+            update.setParameter("maxPrice", adjustment.maxPrice());
+        }
+        int updated = update.executeUpdate();
+
+        // As entidades gerenciadas ficaram com o preço antigo
+        List<UUID> ids = new ArrayList<>(chunk.size());
+        for (ProductEntity product : chunk) {
+            ids.add(product.getId());
+            entityManager.detach(product);
+        }
+        evictAfterCompletion(ids);
+        return updated;
+    }
+
+    /**
+     * Remove as entradas do cache ao fim da transação: antes disso uma leitura concorrente ainda
+     * veria e guardaria o preço antigo, já commitado.
+     */
+    private void evictAfterCompletion(List<UUID> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ids.forEach(id -> cache.evict(ProductEntity.class, id));
+            }
+        });
+    }
+
+    private ProductEntity lockActive(UUID id) {
+        ProductEntity product = entityManager.find(ProductEntity.class, id, LockModeType.PESSIMISTIC_WRITE);
+        return product != null && Boolean.TRUE.equals(product.getActive()) ? product : null;
+    }
+}
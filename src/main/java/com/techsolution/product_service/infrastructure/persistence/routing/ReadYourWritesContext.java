@@ -0,0 +1,26 @@
+package com.techsolution.product_service.infrastructure.persistence.routing;
+
+/**
+ * Contexto por thread que força leituras no primário logo após uma escrita do mesmo cliente.
+ * Preenchido pelo ConsistencyTokenFilter e consultado pelo ReplicaRoutingDataSource.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+        // Classe utilitária - não deve ser instanciada
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,119 @@
+package com.techsolution.product_service.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * DataSource usado apenas para transações read-only.
+ * Distribui as conexões entre as réplicas saudáveis em round robin e recorre ao primário
+ * quando não há réplica disponível ou quando a thread está fixada pelo read-your-writes.
+ *
+ * Uma réplica cuja conexão falha fica fora do rodízio (circuito aberto) e as leituras seguintes
+ * vão direto para as demais ou para o primário, sem esperar por ela; só o checkHealth periódico
+ * tenta a réplica de novo e a devolve ao rodízio.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(index -> new Replica(index, replicas.get(index)))
+                .toList();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            logger.debug("Read pinned to primary by read-your-writes window");
+            return primary.getConnection();
+        }
+
+        int size = replicas.size();
+        if (size == 0) {
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int attempt = 0; attempt < size; attempt++) {
+            Replica replica = replicas.get((start + attempt) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException ex) {
+                replica.healthy = false;
+                logger.warn("Replica {} marked as unhealthy: {}", replica.index, ex.getMessage());
+            }
+        }
+
+        logger.debug("No healthy replica available, routing read to primary");
+        return primary.getConnection();
+    }
+
+    /**
+     * As credenciais informadas valem para o primário; os pools das réplicas usam as suas
+     * próprias, então a conexão é aberta no primário.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Revalida todas as réplicas, inclusive as marcadas como indisponíveis,
+     * para que voltem ao rodízio assim que se recuperarem.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException ex) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                logger.info("Replica {} health changed to {}", replica.index, healthy ? "UP" : "DOWN");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    public int healthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final int index;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.techsolution.product_service.infrastructure.snapshot;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.readmodel.SortedProductCatalog;
+import com.techsolution.product_service.infrastructure.codec.ProductBinaryCodec;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Grava um snapshot do catálogo ativo no formato lido por MappedCatalogSnapshot.
+ *
+ * Layout do arquivo:
+ * <pre>
+ * header   magic(int) version(int) count(int) reserved(int) createdAt(long) indexOffset(long) token(long)
+ * data     registros no formato do ProductBinaryCodec
+ * index    count entradas de msb(long) lsb(long) dataOffset(int), ordenadas pelo id sem sinal
+ * </pre>
+ * createdAt é o início da leitura do catálogo e token é o token do feed de alterações lido
+ * antes dela: o snapshot contém todas as alterações até o token. O arquivo é escrito ao lado
+ * do destino e movido atomicamente no final, então leitores nunca enxergam um snapshot parcial.
+ */
+public class CatalogSnapshotWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x50534E50;
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 40;
+    static final int INDEX_ENTRY_SIZE = 20;
+
+    private final Path target;
+    private final Instant createdAt;
+    private final long token;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final DataOutputStream data;
+
+    private long[] mostSignificantBits = new long[1024];
+    private long[] leastSignificantBits = new long[1024];
+    private int[] offsets = new int[1024];
+    private int count;
+
+    public CatalogSnapshotWriter(Path target, Instant createdAt, long token) throws IOException {
+        this.target = target;
+        this.createdAt = createdAt;
+        this.token = token;
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        this.temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        this.channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel.position(HEADER_SIZE);
+        this.data = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+    }
+
+    public void append(ProductResponse product) throws IOException {
+        if (count == offsets.length) {
+            int capacity = count * 2;
+            mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+            leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+        }
+        long offset = HEADER_SIZE + (long) data.size();
+        if (offset > Integer.MAX_VALUE) {
+            throw new IOException("Catalog snapshot exceeds the 2 GB limit of a single mapped buffer");
+        }
+        mostSignificantBits[count] = product.id().getMostSignificantBits();
+        leastSignificantBits[count] = product.id().getLeastSignificantBits();
+        offsets[count] = (int) offset;
+        count++;
+
+        ProductBinaryCodec.write(data, product);
+    }
+
+    /**
+     * Escreve índice e cabeçalho e publica o arquivo no destino.
+     *
+     * @return quantidade de produtos gravados
+     */
+    public int commit() throws IOException {
+        data.flush();
+        long indexOffset = HEADER_SIZE + (long) data.size();
+
+        for (int i : indexOrder()) {
+            data.writeLong(mostSignificantBits[i]);
+            data.writeLong(leastSignificantBits[i]);
+            data.writeInt(offsets[i]);
+        }
+        data.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(count)
+                .putInt(0)
+                .putLong(createdAt.toEpochMilli())
+                .putLong(indexOffset)
+                .putLong(token)
+                .flip();
+        channel.write(header, 0);
+        channel.force(true);
+        channel.close();
+
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.close();
+        }
+        Files.deleteIfExists(temporary);
+    }
+
+    /**
+     * O PostgreSQL já devolve os ids na ordem sem sinal usada pela busca binária;
+     * só reordena quando a fonte não garantiu essa ordem.
+     */
+    private int[] indexOrder() {
+        boolean sorted = true;
+        for (int i = 1; i < count && sorted; i++) {
+            sorted = compare(i - 1, i) < 0;
+        }
+        if (sorted) {
+            int[] order = new int[count];
+            Arrays.setAll(order, i -> i);
+            return order;
+        }
+
+        List<Integer> order = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(i -> new UUID(mostSignificantBits[i], leastSignificantBits[i]),
+                SortedProductCatalog::compare));
+        return order.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int compare(int left, int right) {
+        int result = Long.compareUnsigned(mostSignificantBits[left], mostSignificantBits[right]);
+        return result != 0 ? result : Long.compareUnsigned(leastSignificantBits[left], leastSignificantBits[right]);
+    }
+}
@@ -0,0 +1,104 @@
+package com.techsolution.product_service.infrastructure.snapshot;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.infrastructure.codec.ProductBinaryCodec;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Snapshot do catálogo mapeado em memória (fora do heap).
+ *
+ * Nada é decodificado ao abrir o arquivo: a busca por id é binária sobre o índice mapeado e
+ * somente o registro encontrado vira um ProductResponse. Apenas leituras absolutas são usadas
+ * no buffer, então uma instância pode ser compartilhada entre threads.
+ */
+public final class MappedCatalogSnapshot {
+
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final int indexOffset;
+    private final Instant createdAt;
+    private final long token;
+
+    private MappedCatalogSnapshot(MappedByteBuffer buffer, int count, int indexOffset, Instant createdAt, long token) {
+        this.buffer = buffer;
+        this.count = count;
+        this.indexOffset = indexOffset;
+        this.createdAt = createdAt;
+        this.token = token;
+    }
+
+    public static MappedCatalogSnapshot open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Catalog snapshot exceeds the 2 GB limit of a single mapped buffer");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < CatalogSnapshotWriter.HEADER_SIZE
+                || buffer.getInt(0) != CatalogSnapshotWriter.MAGIC) {
+            throw new IOException("Not a catalog snapshot: " + path);
+        }
+        if (buffer.getInt(4) != CatalogSnapshotWriter.VERSION) {
+            throw new IOException("Unsupported catalog snapshot version " + buffer.getInt(4) + ": " + path);
+        }
+
+        int count = buffer.getInt(8);
+        Instant createdAt = Instant.ofEpochMilli(buffer.getLong(16));
+        long indexOffset = buffer.getLong(24);
+        long token = buffer.getLong(32);
+        if (indexOffset + (long) count * CatalogSnapshotWriter.INDEX_ENTRY_SIZE != buffer.capacity()) {
+            throw new IOException("Truncated catalog snapshot: " + path);
+        }
+        return new MappedCatalogSnapshot(buffer, count, (int) indexOffset, createdAt, token);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return token do feed de alterações até o qual o snapshot está completo
+     */
+    public long token() {
+        return token;
+    }
+
+    public Optional<ProductResponse> find(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = indexOffset + mid * CatalogSnapshotWriter.INDEX_ENTRY_SIZE;
+            int result = Long.compareUnsigned(buffer.getLong(entry), msb);
+            if (result == 0) {
+                result = Long.compareUnsigned(buffer.getLong(entry + Long.BYTES), lsb);
+            }
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                int dataOffset = buffer.getInt(entry + 2 * Long.BYTES);
+                return Optional.of(ProductBinaryCodec.read(id, buffer, dataOffset));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.techsolution.product_service.infrastructure.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração do snapshot binário do catálogo (product-service.snapshot.*).
+ * Um snapshot criado há mais de max-age não é usado. Os produtos alterados depois do snapshot
+ * são lidos do feed de alterações a cada poll-interval; se a última leitura completa do feed
+ * tiver mais de max-lag, o snapshot deixa de responder.
+ */
+@ConfigurationProperties(prefix = "product-service.snapshot")
+public record SnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/catalog.snapshot") Path path,
+        @DefaultValue("5m") Duration refreshInterval,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("15m") Duration maxAge,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("5s") Duration maxLag
+) {
+}
@@ -0,0 +1,234 @@
+package com.techsolution.product_service.infrastructure.snapshot;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.changefeed.ChangeFeedCursor;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.application.readmodel.ProductReadModel;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRecordedEvent;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Atende buscas por id a partir do snapshot mapeado em memória, permitindo que um nó
+ * reiniciado sirva leituras quentes assim que abre o arquivo, sem crescer o heap.
+ *
+ * O snapshot é regravado a partir do banco primário logo na inicialização, em segundo plano,
+ * e depois a cada refresh-interval, e guarda o token do feed de alterações lido antes da
+ * carga. Os produtos alterados depois desse token, em qualquer nó, são lidos do feed a cada
+ * poll-interval (os deste nó também logo após o commit) e seguem para o banco até o próximo
+ * snapshot. O snapshot não é usado quando a última leitura completa do feed tem mais de
+ * max-lag, nem quando foi criado há mais de max-age, seja o arquivo encontrado na
+ * inicialização ou um que deixou de ser regravado.
+ */
+@Component
+@Order(2)
+@ConditionalOnProperty(prefix = "product-service.snapshot", name = "enabled", havingValue = "true")
+public class SnapshotReadModel implements ProductReadModel {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotReadModel.class);
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final ProductRepository productRepository;
+    private final ProductChangeRepository productChangeRepository;
+    private final ProductMapper productMapper;
+    private final SnapshotProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate primaryTransaction;
+
+    private final Object feedLock = new Object();
+    // Produto alterado depois do snapshot -> token da alteração mais recente
+    private final Map<UUID, Long> changedSince = new ConcurrentHashMap<>();
+    private volatile MappedCatalogSnapshot snapshot;
+    private volatile ChangeFeedCursor cursor;
+    private volatile long syncedAtNanos;
+    private volatile boolean synced;
+
+    public SnapshotReadModel(
+            ProductRepository productRepository,
+            ProductChangeRepository productChangeRepository,
+            ProductMapper productMapper,
+            SnapshotProperties properties,
+            TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.productRepository = productRepository;
+        this.productChangeRepository = productChangeRepository;
+        this.productMapper = productMapper;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+        // Transação de escrita: as consultas readOnly participam dela e vão para o primário,
+        // que já contém tudo até o token lido antes da carga.
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void openExistingSnapshot() {
+        if (Files.exists(properties.path())) {
+            try {
+                MappedCatalogSnapshot existing = MappedCatalogSnapshot.open(properties.path());
+                if (isExpired(existing)) {
+                    logger.warn("Ignoring catalog snapshot {} created at {}, older than max age {}",
+                            properties.path(), existing.createdAt(), properties.maxAge());
+                } else {
+                    publish(existing);
+                    logger.info("Catalog snapshot mapped with {} products, created at {} with token {}",
+                            existing.size(), existing.createdAt(), existing.token());
+                }
+            } catch (IOException | RuntimeException ex) {
+                logger.warn("Ignoring unusable catalog snapshot {}: {}", properties.path(), ex.getMessage());
+            }
+        }
+
+        // O arquivo existente atende enquanto o primeiro refresh roda em segundo plano
+        taskScheduler.scheduleWithFixedDelay(this::refresh, Instant.now(), properties.refreshInterval());
+        taskScheduler.scheduleWithFixedDelay(this::poll, properties.pollInterval());
+    }
+
+    /**
+     * Regrava o snapshot com o catálogo ativo atual e passa a usá-lo.
+     */
+    public void refresh() {
+        Instant startedAt = Instant.now();
+        try {
+            long token = productChangeRepository.lastSequence();
+            int count;
+            try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(properties.path(), startedAt, token)) {
+                UUID afterId = FIRST_ID;
+                List<Product> batch;
+                do {
+                    UUID from = afterId;
+                    batch = primaryTransaction.execute(status -> productRepository.findActiveAfter(from, properties.batchSize()));
+                    for (Product product : batch) {
+                        writer.append(productMapper.toResponse(product));
+                    }
+                    if (!batch.isEmpty()) {
+                        afterId = batch.get(batch.size() - 1).getId();
+                    }
+                } while (batch.size() == properties.batchSize());
+                count = writer.commit();
+            }
+            publish(MappedCatalogSnapshot.open(properties.path()));
+            logger.info("Catalog snapshot refreshed with {} products at token {} in {} ms",
+                    count, token, System.currentTimeMillis() - startedAt.toEpochMilli());
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Failed to refresh catalog snapshot {}", properties.path(), ex);
+        }
+    }
+
+    /**
+     * Lê do feed os produtos alterados depois do snapshot. Se o feed já não tiver as alterações
+     * posteriores ao snapshot, não há como saber quais produtos mudaram e o snapshot é regravado.
+     */
+    public void poll() {
+        if (cursor == null) {
+            return;
+        }
+        boolean retained;
+        try {
+            synchronized (feedLock) {
+                retained = catchUp();
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Failed to read change feed for catalog snapshot: {}", ex.getMessage());
+            return;
+        }
+        if (!retained) {
+            refresh();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChangeRecorded(ProductChangeRecordedEvent event) {
+        markChanged(event.change());
+    }
+
+    @Override
+    public boolean isReady() {
+        MappedCatalogSnapshot current = snapshot;
+        return current != null
+                && !isExpired(current)
+                && synced
+                && System.nanoTime() - syncedAtNanos <= properties.maxLag().toNanos();
+    }
+
+    @Override
+    public boolean isComplete() {
+        return false;
+    }
+
+    @Override
+    public Optional<ProductResponse> findById(UUID id) {
+        MappedCatalogSnapshot current = snapshot;
+        if (current == null || changedSince.containsKey(id)) {
+            return Optional.empty();
+        }
+        return current.find(id);
+    }
+
+    /**
+     * Passa a usar o snapshot e descarta as alterações que ele já contém. O feed continua da
+     * posição atual, ou do token do snapshot se ele for mais novo, e é lido logo em seguida.
+     */
+    private void publish(MappedCatalogSnapshot published) {
+        synchronized (feedLock) {
+            ChangeFeedCursor current = cursor;
+            if (current == null || current.position() < published.token()) {
+                cursor = new ChangeFeedCursor(productChangeRepository, properties.batchSize(), published.token());
+                synced = false;
+            }
+            snapshot = published;
+            changedSince.values().removeIf(sequence -> sequence <= published.token());
+            try {
+                catchUp();
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to read change feed for catalog snapshot: {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return false quando a posição ficou atrás da retenção do feed
+     */
+    private boolean catchUp() {
+        long start = System.nanoTime();
+        ChangeFeedCursor current = cursor;
+        boolean retained = current.catchUp(changes -> changes.forEach(this::markChanged));
+        if (!retained) {
+            synced = false;
+            logger.warn("Catalog snapshot fell behind change feed retention at token {}, refreshing", current.position());
+            return false;
+        }
+        syncedAtNanos = start;
+        synced = true;
+        return true;
+    }
+
+    private void markChanged(ProductChange change) {
+        changedSince.merge(change.productId(), change.sequence(), Math::max);
+    }
+
+    private boolean isExpired(MappedCatalogSnapshot candidate) {
+        return candidate.createdAt().isBefore(Instant.now().minus(properties.maxAge()));
+    }
+}
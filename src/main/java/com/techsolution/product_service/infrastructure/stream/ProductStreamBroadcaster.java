@@ -0,0 +1,213 @@
+package com.techsolution.product_service.infrastructure.stream;
+
+import com.techsolution.product_service.api.dto.ProductStreamEvent;
+import com.techsolution.product_service.application.stream.ProductStream;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Distribui alterações de estoque e preço para as conexões SSE abertas. lowStock indica se o
+ * produto está abaixo do limite de reposição.
+ *
+ * As conexões usam o modo assíncrono do servlet, então nenhuma thread fica presa a um
+ * cliente ocioso: as atualizações e os heartbeats são acumulados por assinante e enviados a
+ * cada flush-interval. Cada envio roda numa virtual thread própria, pois a escrita do
+ * SseEmitter bloqueia: um cliente que não lê prende só a sua thread. O assinante cuja
+ * escrita passa de send-timeout deixa de receber eventos e tem a conexão encerrada.
+ */
+@Component
+public class ProductStreamBroadcaster implements ProductStream {
+    private static final Logger logger = LoggerFactory.getLogger(ProductStreamBroadcaster.class);
+
+    private final ProductStreamProperties properties;
+    private final ThreadPoolTaskScheduler timer = new ThreadPoolTaskScheduler();
+    private final ExecutorService senders =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-stream-", 0).factory());
+
+    private final Set<ProductStreamSubscriber> allProductsSubscribers = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Set<ProductStreamSubscriber>> subscribersByProduct = new ConcurrentHashMap<>();
+    private final Queue<ProductStreamSubscriber> scheduled = new ConcurrentLinkedQueue<>();
+
+    public ProductStreamBroadcaster(ProductStreamProperties properties) {
+        this.properties = properties;
+        timer.setThreadNamePrefix("product-stream-timer-");
+        timer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        timer.initialize();
+        timer.scheduleWithFixedDelay(this::flushScheduled, properties.flushInterval());
+        timer.scheduleWithFixedDelay(this::dropStalled, properties.flushInterval());
+        timer.scheduleWithFixedDelay(this::sendHeartbeats, properties.heartbeatInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.shutdown();
+        // Encerrar espera por uma escrita em andamento, então também roda fora desta thread
+        allSubscribers().forEach(subscriber -> senders.execute(subscriber::close));
+        senders.shutdown();
+    }
+
+    @Override
+    public SseEmitter subscribe(Set<UUID> productIds) {
+        if (productIds.size() > properties.maxProductIds()) {
+            throw new IllegalArgumentException(
+                    String.format("At most %d product ids can be subscribed", properties.maxProductIds()));
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        ProductStreamSubscriber subscriber =
+                new ProductStreamSubscriber(emitter, productIds, properties.bufferSize());
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(ex -> unregister(subscriber));
+        register(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        ProductStreamEvent update = toStreamEvent(event);
+        if (update != null) {
+            publish(update);
+        }
+    }
+
+    void publish(ProductStreamEvent update) {
+        offer(allProductsSubscribers, update);
+        Set<ProductStreamSubscriber> interested = subscribersByProduct.get(update.id());
+        if (interested != null) {
+            offer(interested, update);
+        }
+    }
+
+    void register(ProductStreamSubscriber subscriber) {
+        if (subscriber.productIds().isEmpty()) {
+            allProductsSubscribers.add(subscriber);
+        } else {
+            for (UUID productId : subscriber.productIds()) {
+                subscribersByProduct.computeIfAbsent(productId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            }
+        }
+        logger.debug("Stream subscriber registered for {} product ids", subscriber.productIds().size());
+    }
+
+    void unregister(ProductStreamSubscriber subscriber) {
+        if (subscriber.productIds().isEmpty()) {
+            allProductsSubscribers.remove(subscriber);
+            return;
+        }
+        for (UUID productId : subscriber.productIds()) {
+            subscribersByProduct.computeIfPresent(productId, (id, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
+    void flushScheduled() {
+        ProductStreamSubscriber subscriber;
+        while ((subscriber = scheduled.poll()) != null) {
+            ProductStreamSubscriber target = subscriber;
+            senders.execute(() -> flush(target));
+        }
+    }
+
+    void flush(ProductStreamSubscriber subscriber) {
+        if (!subscriber.flush()) {
+            unregister(subscriber);
+            return;
+        }
+        if (subscriber.finishFlush()) {
+            scheduled.add(subscriber);
+        }
+    }
+
+    int subscriberCount() {
+        return (int) allSubscribers().count();
+    }
+
+    private void offer(Set<ProductStreamSubscriber> subscribers, ProductStreamEvent update) {
+        for (ProductStreamSubscriber subscriber : subscribers) {
+            if (subscriber.offer(update)) {
+                scheduled.add(subscriber);
+            }
+        }
+    }
+
+    void sendHeartbeats() {
+        allSubscribers().forEach(subscriber -> {
+            if (subscriber.requestHeartbeat()) {
+                scheduled.add(subscriber);
+            }
+        });
+    }
+
+    /**
+     * Descarta os assinantes com uma escrita parada há mais de send-timeout. A escrita presa
+     * termina com erro quando a conexão é encerrada ou pelo timeout de escrita do servidor.
+     */
+    void dropStalled() {
+        long now = System.nanoTime();
+        long timeoutNanos = properties.sendTimeout().toNanos();
+        allSubscribers()
+                .filter(subscriber -> subscriber.isStalled(now, timeoutNanos))
+                .toList()
+                .forEach(subscriber -> {
+                    logger.debug("Dropping stream subscriber whose write did not complete in {}", properties.sendTimeout());
+                    unregister(subscriber);
+                    senders.execute(subscriber::close);
+                });
+    }
+
+    private Stream<ProductStreamSubscriber> allSubscribers() {
+        return Stream.concat(
+                allProductsSubscribers.stream(),
+                subscribersByProduct.values().stream().flatMap(Set::stream)
+        ).distinct();
+    }
+
+    private static ProductStreamEvent toStreamEvent(ProductChangedEvent event) {
+        if (event.type() == ProductChangeType.DEACTIVATED) {
+            return new ProductStreamEvent(event.productId(), event.type(), null, null, false);
+        }
+        if (event.type() != ProductChangeType.UPDATED || !stockOrPriceChanged(event.previous(), event.current())) {
+            return null;
+        }
+        Product current = event.current();
+        return new ProductStreamEvent(current.getId(), event.type(), current.getPrice(), current.getStockQuantity(),
+                current.isBelowReorderThreshold());
+    }
+
+    /**
+     * Também considera mudança a entrada ou saída da lista de estoque baixo, inclusive quando
+     * só o limite de reposição mudou.
+     */
+    private static boolean stockOrPriceChanged(Product previous, Product current) {
+        return previous == null
+                || previous.getPrice().compareTo(current.getPrice()) != 0
+                || !previous.getStockQuantity().equals(current.getStockQuantity())
+                || previous.isBelowReorderThreshold() != current.isBelowReorderThreshold();
+    }
+}
@@ -0,0 +1,20 @@
+package com.techsolution.product_service.infrastructure.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do stream SSE de estoque e preço (product-service.stream.*).
+ */
+@ConfigurationProperties(prefix = "product-service.stream")
+public record ProductStreamProperties(
+        @DefaultValue("256") int bufferSize,
+        @DefaultValue("250ms") Duration flushInterval,
+        @DefaultValue("30s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("10s") Duration sendTimeout,
+        @DefaultValue("1000") int maxProductIds
+) {
+}
@@ -0,0 +1,160 @@
+package com.techsolution.product_service.infrastructure.stream;
+
+import com.techsolution.product_service.api.dto.ProductStreamEvent;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Conexão SSE de um cliente. Guarda as atualizações pendentes por produto, de modo que
+ * várias alterações do mesmo produto entre dois envios viram um único evento. Quando o
+ * cliente não acompanha e o buffer enche, a conexão é encerrada com um evento overflow
+ * para que o cliente reconecte e recarregue o estado.
+ *
+ * Heartbeats passam pelo mesmo envio, então há no máximo uma escrita em andamento por
+ * assinante, e sendingSince permite detectar uma escrita que não termina.
+ */
+final class ProductStreamSubscriber {
+    static final String UPDATE_EVENT = "product-update";
+    static final String OVERFLOW_EVENT = "overflow";
+
+    private final SseEmitter emitter;
+    private final Set<UUID> productIds;
+    private final int bufferSize;
+
+    private final Map<UUID, ProductStreamEvent> pending = new LinkedHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private boolean overflowed;
+    private boolean heartbeatDue;
+    private volatile long sendingSince;
+    private volatile boolean closed;
+
+    ProductStreamSubscriber(SseEmitter emitter, Set<UUID> productIds, int bufferSize) {
+        this.emitter = emitter;
+        this.productIds = Set.copyOf(productIds);
+        this.bufferSize = bufferSize;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * Produtos assinados; vazio significa todos.
+     */
+    Set<UUID> productIds() {
+        return productIds;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Enfileira a atualização e retorna true quando o assinante precisa ser agendado para envio.
+     */
+    boolean offer(ProductStreamEvent event) {
+        if (closed) {
+            return false;
+        }
+        synchronized (pending) {
+            if (overflowed) {
+                return false;
+            }
+            if (!pending.containsKey(event.id()) && pending.size() >= bufferSize) {
+                overflowed = true;
+                pending.clear();
+            } else {
+                pending.put(event.id(), event);
+            }
+        }
+        return scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * Pede um heartbeat no próximo envio e retorna true quando o assinante precisa ser agendado.
+     */
+    boolean requestHeartbeat() {
+        if (closed) {
+            return false;
+        }
+        synchronized (pending) {
+            heartbeatDue = true;
+        }
+        return scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * Envia o que estiver pendente. Retorna false quando a conexão foi encerrada.
+     */
+    boolean flush() {
+        List<ProductStreamEvent> batch;
+        boolean overflow;
+        boolean heartbeat;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+            overflow = overflowed;
+            heartbeat = heartbeatDue;
+            heartbeatDue = false;
+        }
+
+        sendingSince = System.nanoTime();
+        try {
+            if (overflow) {
+                emitter.send(SseEmitter.event().name(OVERFLOW_EVENT).data("resync"));
+                close();
+                return false;
+            }
+            for (ProductStreamEvent event : batch) {
+                emitter.send(SseEmitter.event()
+                        .name(UPDATE_EVENT)
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+            if (heartbeat && batch.isEmpty()) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            close();
+            return false;
+        } finally {
+            sendingSince = 0;
+        }
+    }
+
+    /**
+     * @return true quando há uma escrita em andamento há mais de timeoutNanos
+     */
+    boolean isStalled(long now, long timeoutNanos) {
+        long since = sendingSince;
+        return since != 0 && now - since > timeoutNanos;
+    }
+
+    /**
+     * Libera o agendamento após um envio e retorna true se chegaram novas atualizações nesse meio tempo.
+     */
+    boolean finishFlush() {
+        scheduled.set(false);
+        boolean hasPending;
+        synchronized (pending) {
+            hasPending = !pending.isEmpty() || overflowed || heartbeatDue;
+        }
+        return hasPending && scheduled.compareAndSet(false, true);
+    }
+
+    void close() {
+        if (!closed) {
+            closed = true;
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.techsolution.product_service.infrastructure.warmup;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aquece a instância antes de ela receber tráfego: enche os pools de conexão, carrega os
+ * produtos no cache de segundo nível e envia requisições sintéticas de leitura pela pilha HTTP
+ * real (filtros, ProductController, serialização JSON) para que o JIT compile esses caminhos.
+ *
+ * Roda como ApplicationRunner, ou seja, antes de o Spring Boot marcar a aplicação como
+ * ACCEPTING_TRAFFIC; até lá /actuator/health/readiness responde 503.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product-service.warmup", name = "enabled", havingValue = "true")
+public class StartupWarmup implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final int SAMPLED_IDS = 1000;
+    private static final double PAGE_REQUEST_RATIO = 0.2;
+
+    private final WarmupProperties properties;
+    private final ProductRepository productRepository;
+    private final ObjectProvider<HikariDataSource> pools;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ApplicationContext applicationContext;
+
+    private volatile WarmupReport report;
+
+    public StartupWarmup(
+            WarmupProperties properties,
+            ProductRepository productRepository,
+            ObjectProvider<HikariDataSource> pools,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ApplicationContext applicationContext
+    ) {
+        this.properties = properties;
+        this.productRepository = productRepository;
+        this.pools = pools;
+        this.meterRegistry = meterRegistry;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.nanoTime();
+        logger.info("Warm-up started, instance is not ready for traffic yet");
+
+        int connections = fillConnectionPools();
+        List<UUID> sampledIds = new ArrayList<>();
+        int preloaded = preloadProducts(sampledIds);
+        AtomicLong requests = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        sendSyntheticRequests(sampledIds, preloaded, requests, failures);
+
+        report = new WarmupReport(
+                Duration.ofNanos(System.nanoTime() - startedAt),
+                connections,
+                preloaded,
+                requests.get(),
+                failures.get()
+        );
+        meterRegistry.ifAvailable(registry ->
+                TimeGauge.builder("warmup.duration", this, TimeUnit.MILLISECONDS,
+                                warmup -> warmup.report.duration().toMillis())
+                        .description("Time spent warming up before accepting traffic")
+                        .register(registry));
+        logger.info("Warm-up finished in {} ms: {} connections opened, {} products preloaded, "
+                        + "{} synthetic requests ({} failed)",
+                report.duration().toMillis(), connections, preloaded, report.requests(), report.failedRequests());
+    }
+
+    /**
+     * @return o resultado do último aquecimento, ou null se ele ainda não rodou
+     */
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    private int fillConnectionPools() {
+        int opened = 0;
+        for (HikariDataSource pool : pools) {
+            List<Connection> connections = new ArrayList<>();
+            try {
+                for (int i = 0; i < pool.getMaximumPoolSize(); i++) {
+                    connections.add(pool.getConnection());
+                }
+            } catch (SQLException ex) {
+                logger.warn("Could not fill connection pool {}: {}", pool.getPoolName(), ex.getMessage());
+            } finally {
+                opened += connections.size();
+                connections.forEach(StartupWarmup::closeQuietly);
+            }
+        }
+        return opened;
+    }
+
+    /**
+     * Carrega produtos em ordem de id até preloadLimit. Entidades lidas por consulta entram no
+     * cache de segundo nível, então as buscas por id seguintes não vão ao banco.
+     */
+    private int preloadProducts(List<UUID> sampledIds) {
+        int preloaded = 0;
+        UUID afterId = FIRST_ID;
+        try {
+            while (preloaded < properties.preloadLimit()) {
+                int limit = Math.min(properties.preloadBatchSize(), properties.preloadLimit() - preloaded);
+                List<Product> batch = productRepository.findActiveAfter(afterId, limit);
+                for (Product product : batch) {
+                    if (sampledIds.size() < SAMPLED_IDS) {
+                        sampledIds.add(product.getId());
+                    }
+                }
+                preloaded += batch.size();
+                if (batch.size() < limit) {
+                    break;
+                }
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Product preload stopped after {} products: {}", preloaded, ex.getMessage());
+        }
+        return preloaded;
+    }
+
+    private void sendSyntheticRequests(List<UUID> ids, int products, AtomicLong requests, AtomicLong failures) {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)
+                || webContext.getWebServer() == null
+                || webContext.getWebServer().getPort() <= 0) {
+            logger.info("No web server running, skipping synthetic requests");
+            return;
+        }
+
+        RestClient client = RestClient.create("http://localhost:" + webContext.getWebServer().getPort());
+        int pages = Math.max(1, Math.min(products, SAMPLED_IDS) / properties.pageSize());
+        long deadline = System.nanoTime() + properties.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.concurrency());
+        for (int worker = 0; worker < properties.concurrency(); worker++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    try {
+                        if (ids.isEmpty() || random.nextDouble() < PAGE_REQUEST_RATIO) {
+                            client.get()
+                                    .uri("/products?page={page}&size={size}", random.nextInt(pages), properties.pageSize())
+                                    .retrieve()
+                                    .toBodilessEntity();
+                        } else {
+                            client.get()
+                                    .uri("/products/{id}", ids.get(random.nextInt(ids.size())))
+                                    .retrieve()
+                                    .toBodilessEntity();
+                        }
+                    } catch (RestClientException ex) {
+                        failures.incrementAndGet();
+                    }
+                    requests.incrementAndGet();
+                }
+            });
+        }
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(properties.duration().toMillis() + 30_000, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            logger.debug("Failed to close warm-up connection", ex);
+        }
+    }
+}
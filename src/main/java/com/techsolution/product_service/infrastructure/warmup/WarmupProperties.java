@@ -0,0 +1,22 @@
+package com.techsolution.product_service.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do aquecimento na subida (product-service.warmup.*).
+ * duration é o tempo gasto com requisições sintéticas; preloadLimit é quantos produtos são
+ * carregados no cache de segundo nível antes delas.
+ */
+@ConfigurationProperties(prefix = "product-service.warmup")
+public record WarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20s") Duration duration,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("10000") int preloadLimit,
+        @DefaultValue("500") int preloadBatchSize,
+        @DefaultValue("20") int pageSize
+) {
+}
@@ -0,0 +1,16 @@
+package com.techsolution.product_service.infrastructure.warmup;
+
+import java.time.Duration;
+
+/**
+ * Resultado do aquecimento: tempo total, conexões abertas, produtos pré-carregados e
+ * requisições sintéticas enviadas (e quantas falharam).
+ */
+public record WarmupReport(
+        Duration duration,
+        int connections,
+        int preloadedProducts,
+        long requests,
+        long failedRequests
+) {
+}
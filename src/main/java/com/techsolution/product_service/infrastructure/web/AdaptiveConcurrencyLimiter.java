@@ -0,0 +1,239 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.infrastructure.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limite de requisições simultâneas que se ajusta pela latência observada (gradiente).
+ *
+ * Cada classe de endpoint mantém uma latência de referência e uma de curto prazo. Enquanto
+ * a de curto prazo fica dentro de tolerance vezes a de referência, o limite cresce devagar;
+ * quando o banco fica lento e a latência sobe, o limite cai proporcionalmente e o excesso é
+ * rejeitado na entrada em vez de acumular threads esperando conexão.
+ *
+ * A referência só aprende com amostras saudáveis ou colhidas com baixa concorrência; assim
+ * o tempo de fila de uma sobrecarga prolongada não vira a nova normalidade.
+ *
+ * As amostras são acumuladas sem lock numa janela por classe de endpoint. A requisição que
+ * completa a janela (window-size amostras) calcula a média, ajusta o limite e instala uma
+ * janela nova. Requisições que falharam não entram na latência, que ficaria artificialmente
+ * baixa com erros rápidos; uma janela com maioria de falhas reduz o limite ao máximo.
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<EndpointClass, Partition> partitions = new EnumMap<>(EndpointClass.class);
+
+    private final AtomicLong estimatedLimitBits;
+    private volatile int limit;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.estimatedLimitBits = new AtomicLong(Double.doubleToLongBits(properties.initialLimit()));
+        this.limit = properties.initialLimit();
+        partitions.put(EndpointClass.READ, new Partition(properties.readShare()));
+        partitions.put(EndpointClass.WRITE, new Partition(properties.writeShare()));
+        partitions.put(EndpointClass.LIST, new Partition(properties.listShare()));
+    }
+
+    /**
+     * Tenta reservar uma vaga para a classe informada. Retorna null quando a requisição
+     * deve ser rejeitada; caso contrário, o chamador precisa chamar release() ao terminar.
+     */
+    public Permit tryAcquire(EndpointClass endpointClass) {
+        Partition partition = partitions.get(endpointClass);
+        int allowed = Math.max(1, (int) (limit * partition.share));
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= allowed) {
+                partition.rejected.increment();
+                return null;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        partition.inFlight.incrementAndGet();
+        return new Permit(partition, current + 1, System.nanoTime());
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        partitions.forEach((endpointClass, partition) -> {
+            String tag = endpointClass.name().toLowerCase();
+            Gauge.builder("concurrency.in.flight", partition.inFlight, AtomicInteger::get)
+                    .description("Requests currently admitted by the concurrency limiter")
+                    .tag("endpoint.class", tag)
+                    .register(registry);
+            FunctionCounter.builder("concurrency.rejected", partition.rejected, LongAdder::sum)
+                    .description("Requests rejected by the concurrency limiter")
+                    .tag("endpoint.class", tag)
+                    .register(registry);
+        });
+    }
+
+    void onSample(EndpointClass endpointClass, long rttNanos, int inFlightAtStart) {
+        onSample(partitions.get(endpointClass), rttNanos, inFlightAtStart, false);
+    }
+
+    void onError(EndpointClass endpointClass, int inFlightAtStart) {
+        onSample(partitions.get(endpointClass), 0, inFlightAtStart, true);
+    }
+
+    private void onSample(Partition partition, long rttNanos, int inFlightAtStart, boolean failed) {
+        Window window = partition.window;
+        window.add(rttNanos, inFlightAtStart, failed);
+        // Só a requisição que completa a janela a processa; as que chegam até a troca são descartadas
+        if (window.count.incrementAndGet() != properties.windowSize()) {
+            return;
+        }
+        close(partition, window);
+        partition.window = new Window();
+    }
+
+    private void close(Partition partition, Window window) {
+        long samples = window.samples.sum();
+        long errors = window.errors.sum();
+        long maxInFlight = window.maxInFlight.get();
+
+        double gradient;
+        if (errors * 2 > samples + errors) {
+            gradient = MIN_GRADIENT;
+        } else {
+            double averageRtt = (double) window.rttSum.sum() / samples;
+            partition.record(averageRtt, samples, maxInFlight <= properties.minLimit(), properties.tolerance());
+            gradient = Math.max(MIN_GRADIENT, Math.min(1.0,
+                    properties.tolerance() * partition.longRtt / partition.shortRtt));
+        }
+
+        long currentBits;
+        double updated;
+        do {
+            currentBits = estimatedLimitBits.get();
+            double estimatedLimit = Double.longBitsToDouble(currentBits);
+            // Com menos da metade do limite em uso a latência não diz nada sobre a capacidade
+            if (maxInFlight * 2 < estimatedLimit) {
+                return;
+            }
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * (1 - properties.smoothing()) + newLimit * properties.smoothing();
+            updated = Math.max(properties.minLimit(), Math.min(properties.maxLimit(), newLimit));
+        } while (!estimatedLimitBits.compareAndSet(currentBits, Double.doubleToLongBits(updated)));
+        limit = (int) updated;
+    }
+
+    public final class Permit {
+        private final Partition partition;
+        private final int inFlightAtStart;
+        private final long startedAt;
+
+        private Permit(Partition partition, int inFlightAtStart, long startedAt) {
+            this.partition = partition;
+            this.inFlightAtStart = inFlightAtStart;
+            this.startedAt = startedAt;
+        }
+
+        public void release() {
+            release(false);
+        }
+
+        /**
+         * Libera a vaga de uma requisição que falhou por erro do servidor; a latência dela não
+         * é usada como amostra.
+         */
+        public void releaseAfterError() {
+            release(true);
+        }
+
+        /**
+         * Libera a vaga sem gerar amostra, para chamadas cuja duração não mede o servidor
+         * (streams longos, chamadas canceladas pelo cliente).
+         */
+        public void releaseWithoutSample() {
+            inFlight.decrementAndGet();
+            partition.inFlight.decrementAndGet();
+        }
+
+        private void release(boolean failed) {
+            releaseWithoutSample();
+            onSample(partition, System.nanoTime() - startedAt, inFlightAtStart, failed);
+        }
+    }
+
+    private static final class Window {
+        private final LongAdder rttSum = new LongAdder();
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+        private final AtomicInteger count = new AtomicInteger();
+
+        private void add(long rttNanos, int inFlightAtStart, boolean failed) {
+            if (failed) {
+                errors.increment();
+            } else {
+                rttSum.add(rttNanos);
+                samples.increment();
+            }
+            maxInFlight.accumulate(inFlightAtStart);
+        }
+    }
+
+    private static final class Partition {
+        private final double share;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder rejected = new LongAdder();
+        private volatile Window window = new Window();
+        // Alterados apenas por quem fecha a janela da partição, uma de cada vez
+        private double shortRtt;
+        private double longRtt;
+
+        private Partition(double share) {
+            this.share = share;
+        }
+
+        /**
+         * A média da janela entra com o peso das amostras que a compõem, mantendo as
+         * constantes SHORT_WINDOW e LONG_WINDOW em número de requisições.
+         */
+        private void record(double rttNanos, long samples, boolean lowConcurrency, double tolerance) {
+            if (longRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+                return;
+            }
+            shortRtt += (rttNanos - shortRtt) * Math.min(1.0, (double) samples / SHORT_WINDOW);
+            if (lowConcurrency || rttNanos <= longRtt * tolerance) {
+                longRtt += (rttNanos - longRtt) * Math.min(1.0, (double) samples / LONG_WINDOW);
+            }
+
+            // Quando a latência cai bem abaixo da referência, converge mais rápido
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.infrastructure.persistence.routing.ReadYourWritesContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Garante read-your-writes quando há réplicas de leitura.
+ * Respostas de escrita devolvem um token com o instante até o qual o cliente deve ler do primário;
+ * requisições que reenviam um token ainda válido têm suas leituras fixadas no primário.
+ * Tokens que vencem depois de agora + a janela não foram emitidos por este serviço e são
+ * ignorados, para que um cliente não fixe suas leituras no primário indefinidamente.
+ */
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    public static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration readYourWritesWindow;
+    private final Clock clock;
+
+    public ConsistencyTokenFilter(Duration readYourWritesWindow, Clock clock) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long now = clock.millis();
+
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            response.setHeader(CONSISTENCY_TOKEN_HEADER, String.valueOf(now + readYourWritesWindow.toMillis()));
+        } else if (isTokenValid(request.getHeader(CONSISTENCY_TOKEN_HEADER), now)) {
+            ReadYourWritesContext.pinToPrimary();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private boolean isTokenValid(String token, long now) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        try {
+            long expiresAt = Long.parseLong(token.trim());
+            return expiresAt > now && expiresAt <= now + readYourWritesWindow.toMillis();
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Set;
+
+/**
+ * Classes de endpoint usadas pelo limitador de concorrência, da mais barata para a mais cara.
+ */
+public enum EndpointClass {
+    READ,
+    WRITE,
+    LIST;
+
+    private static final Set<String> COLLECTION_SEGMENTS = Set.of("changes");
+
+    public static EndpointClass of(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return WRITE;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String[] segments = path.replaceAll("^/+|/+$", "").split("/");
+        if (segments.length == 2 && !COLLECTION_SEGMENTS.contains(segments[1])) {
+            return READ;
+        }
+        return LIST;
+    }
+}
@@ -0,0 +1,89 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.api.exception.ErrorType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Rejeita com 503 e Retry-After as requisições que excedem o limite adaptativo de
+ * concorrência, antes que ocupem uma thread esperando conexão com o banco.
+ *
+ * O corpo da rejeição (RFC 7807) é serializado uma única vez na construção: sob sobrecarga,
+ * rejeitar precisa custar bem menos do que atender.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(LoadSheddingFilter.class);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+    private final byte[] rejectionBody;
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter limiter, Duration retryAfter, JsonMapper jsonMapper) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE, "Server is overloaded, retry later");
+        problem.setTitle(ErrorType.SERVICE_UNAVAILABLE.getMessage());
+        this.rejectionBody = jsonMapper.rebuild()
+                .addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class)
+                .build()
+                .writeValueAsBytes(problem);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Conexões SSE são longas e não consomem o banco
+        return request.getRequestURI().endsWith("/products/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(endpointClass);
+        if (permit == null) {
+            logger.debug("Rejecting {} request {} - concurrency limit {} reached",
+                    endpointClass, request.getRequestURI(), limiter.getLimit());
+            reject(response);
+            return;
+        }
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (failed) {
+                permit.releaseAfterError();
+            } else {
+                permit.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(rejectionBody.length);
+        response.getOutputStream().write(rejectionBody);
+    }
+}
@@ -0,0 +1,118 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.infrastructure.codec.ProductJsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Escreve ProductResponse e páginas de ProductResponse em JSON com o ProductJsonWriter, sem
+ * passar pela serialização reflexiva do Jackson. O corpo é montado no buffer da thread e
+ * enviado de uma vez, com Content-Length.
+ *
+ * Registrado antes do conversor do Jackson, só para escrita. Páginas com outro conteúdo
+ * seguem para o JsonMapper da aplicação.
+ *
+ * Na criação, o JsonMapper da aplicação escreve alguns produtos de referência (nulos, escapes,
+ * texto fora do BMP, preço em notação científica) e uma página. Se algum byte diferir do
+ * ProductJsonWriter, por exemplo com spring.jackson.* alterando inclusão de nulos, indentação
+ * ou formato de números, todas as respostas seguem para o JsonMapper.
+ */
+public class ProductJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+    private static final Logger logger = LoggerFactory.getLogger(ProductJsonHttpMessageConverter.class);
+
+    private static final List<ProductResponse> PROBES = List.of(
+            new ProductResponse(new UUID(0L, 0L), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10),
+            new ProductResponse(null, null, null, null, null),
+            new ProductResponse(new UUID(-1L, -1L), "Aspas \" barra \\ e / <>&'", "Controle \u0000\u001f\u007f\n ç € 😀",
+                    new BigDecimal("1E+3"), Integer.MIN_VALUE)
+    );
+
+    private final JsonMapper jsonMapper;
+    private final boolean writerMatchesMapper;
+
+    public ProductJsonHttpMessageConverter(JsonMapper jsonMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.jsonMapper = jsonMapper;
+        this.writerMatchesMapper = writerMatchesMapper(jsonMapper);
+        if (!writerMatchesMapper) {
+            logger.warn("Application JsonMapper writes products differently from ProductJsonWriter, "
+                    + "using Jackson for product responses");
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProductResponse.class == clazz || PageResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Request bodies are read by the Jackson converter", inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        if (!writerMatchesMapper
+                || body instanceof PageResponse<?> page && !containsOnlyProducts(page.content())) {
+            jsonMapper.writeValue(outputMessage.getBody(), body);
+            return;
+        }
+
+        ProductJsonWriter writer = ProductJsonWriter.acquire();
+        try {
+            if (body instanceof ProductResponse product) {
+                writer.write(product);
+            } else {
+                writer.write((PageResponse<ProductResponse>) body);
+            }
+            outputMessage.getHeaders().setContentLength(writer.length());
+            writer.writeTo(outputMessage.getBody());
+        } finally {
+            writer.release();
+        }
+    }
+
+    @Override
+    protected Long getContentLength(Object body, MediaType contentType) {
+        return null;
+    }
+
+    private static boolean writerMatchesMapper(JsonMapper jsonMapper) {
+        for (ProductResponse probe : PROBES) {
+            if (!Arrays.equals(ProductJsonWriter.acquire().write(probe).toByteArray(), jsonMapper.writeValueAsBytes(probe))) {
+                return false;
+            }
+        }
+        PageResponse<ProductResponse> page = PageResponse.of(PROBES, 1, 2, 5);
+        return Arrays.equals(ProductJsonWriter.acquire().write(page).toByteArray(), jsonMapper.writeValueAsBytes(page));
+    }
+
+    private static boolean containsOnlyProducts(List<?> content) {
+        for (Object item : content) {
+            if (!(item instanceof ProductResponse)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
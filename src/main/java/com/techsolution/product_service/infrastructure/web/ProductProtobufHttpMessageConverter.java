@@ -0,0 +1,75 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.google.protobuf.Message;
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.infrastructure.codec.ProductProtoMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Escreve ProductResponse e páginas de ProductResponse em Protobuf (application/x-protobuf),
+ * seguindo o schema publicado em /proto/product.proto.
+ *
+ * Só responde quando o cliente pede o formato no Accept: o conversor é registrado depois do
+ * JSON, que continua sendo o padrão para Accept ausente ou genérico.
+ */
+public class ProductProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+    public static final String SCHEMA_HEADER = "X-Protobuf-Schema";
+    public static final String MESSAGE_HEADER = "X-Protobuf-Message";
+    public static final String SCHEMA_LOCATION = "/proto/product.proto";
+
+    public ProductProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProductResponse.class == clazz || PageResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        Message message;
+        if (body instanceof ProductResponse product) {
+            message = ProductProtoMapper.toProto(product);
+        } else if (body instanceof PageResponse<?> page && containsOnlyProducts(page.content())) {
+            message = ProductProtoMapper.toProto((PageResponse<ProductResponse>) page);
+        } else {
+            throw new HttpMessageNotWritableException("Cannot write " + body.getClass().getName() + " as Protobuf");
+        }
+
+        outputMessage.getHeaders().set(SCHEMA_HEADER, SCHEMA_LOCATION);
+        outputMessage.getHeaders().set(MESSAGE_HEADER, message.getDescriptorForType().getFullName());
+        message.writeTo(outputMessage.getBody());
+    }
+
+    @Override
+    protected Long getContentLength(Object body, MediaType contentType) {
+        return null;
+    }
+
+    private static boolean containsOnlyProducts(List<?> content) {
+        return content.stream().allMatch(ProductResponse.class::isInstance);
+    }
+}
@@ -0,0 +1,6 @@
+-- Só os produtos ativos abaixo do limite de reposição entram no índice, então a lista de
+-- estoque baixo não depende do tamanho do catálogo. Produtos sem limite (null) ficam de fora.
+-- Como na V7, o índice é criado com CONCURRENTLY, fora de transação; se a criação falhar, o
+-- índice INVALID deve ser removido antes de repetir a migração.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_low_stock ON products (id)
+WHERE active = true AND stock_quantity < reorder_threshold;
@@ -0,0 +1,12 @@
+-- Contador dos tokens do feed de alterações. A linha única fica travada do registro da
+-- alteração até o commit, então os tokens são entregues na ordem de commit: quando um token
+-- fica visível, todos os menores já estão gravados.
+-- pruned_through é o último token removido pela retenção do feed.
+CREATE TABLE product_change_sequence (
+    id SMALLINT PRIMARY KEY,
+    last_sequence BIGINT NOT NULL,
+    pruned_through BIGINT NOT NULL
+);
+
+INSERT INTO product_change_sequence (id, last_sequence, pruned_through)
+SELECT 1, COALESCE(MAX(sequence_number), 0), 0 FROM product_changes;
@@ -0,0 +1,12 @@
+-- Feed de alterações de produtos, gravado na mesma transação das escritas.
+-- sequence_number é o token monotônico usado pelos consumidores para sincronizar incrementalmente.
+CREATE TABLE product_changes (
+    sequence_number BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id UUID NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    name VARCHAR(255),
+    description TEXT,
+    price DECIMAL(19, 2),
+    stock_quantity INTEGER,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
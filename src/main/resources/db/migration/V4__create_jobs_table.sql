@@ -0,0 +1,21 @@
+-- Jobs assíncronos executados em lotes. checkpoint é gravado na mesma transação de cada lote,
+-- então um job retomado após uma queda continua exatamente do último lote confirmado.
+CREATE TABLE jobs (
+    id UUID PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    parameters TEXT NOT NULL,
+    checkpoint TEXT,
+    total_items BIGINT NOT NULL,
+    processed_items BIGINT NOT NULL DEFAULT 0,
+    failed_items BIGINT NOT NULL DEFAULT 0,
+    busy_millis BIGINT NOT NULL DEFAULT 0,
+    owner VARCHAR(100),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE,
+    heartbeat_at TIMESTAMP WITH TIME ZONE,
+    finished_at TIMESTAMP WITH TIME ZONE,
+    error TEXT
+);
+
+CREATE INDEX idx_jobs_runnable ON jobs(created_at) WHERE status IN ('QUEUED', 'RUNNING');
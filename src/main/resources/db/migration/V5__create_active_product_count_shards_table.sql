@@ -0,0 +1,10 @@
+-- Total de produtos ativos mantido pela aplicação, dividido em linhas para que criações e
+-- desativações concorrentes não disputem a mesma linha. O total é a soma das linhas.
+-- A reconciliação periódica cria as linhas que faltarem e corrige desvios.
+CREATE TABLE active_product_count_shards (
+    shard INTEGER PRIMARY KEY,
+    active_count BIGINT NOT NULL
+);
+
+INSERT INTO active_product_count_shards (shard, active_count)
+SELECT 0, COUNT(*) FROM products WHERE active = true;
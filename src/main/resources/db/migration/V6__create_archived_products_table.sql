@@ -0,0 +1,21 @@
+-- Momento da desativação, usado para decidir quando o produto sai da tabela quente.
+-- Produtos já inativos contam a partir desta migração.
+ALTER TABLE products ADD COLUMN deactivated_at TIMESTAMP WITH TIME ZONE;
+
+UPDATE products SET deactivated_at = now() WHERE active = false;
+
+-- Só as linhas inativas entram no índice: a busca do arquivamento não pesa nas escritas
+-- dos produtos ativos.
+CREATE INDEX idx_products_deactivated_at ON products(deactivated_at) WHERE active = false;
+
+-- Produtos inativos há mais tempo que product-service.archive.inactive-for, movidos em lotes
+-- pela aplicação. Mesmas colunas de products, sem índices secundários.
+CREATE TABLE archived_products (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description TEXT NOT NULL,
+    price DECIMAL(19, 2) NOT NULL,
+    stock_quantity INTEGER NOT NULL,
+    deactivated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,11 @@
+-- Índices parciais com apenas as linhas ativas, que são as que as leituras consultam.
+-- CONCURRENTLY evita bloquear escritas em tabelas grandes; por isso o Flyway roda esta
+-- migração fora de transação. Se a criação falhar, o índice fica INVALID e deve ser removido
+-- (DROP INDEX CONCURRENTLY) antes de repetir a migração.
+
+-- Páginas por OFFSET e por id > :afterId (ORDER BY id), reajuste de preços por faixa de ids,
+-- travas em lote e checagem de existência. A contagem de ativos vira index-only scan.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_id ON products (id) WHERE active = true;
+
+-- O índice no boolean active tem seletividade baixa e fica coberto pelo parcial acima.
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_active;
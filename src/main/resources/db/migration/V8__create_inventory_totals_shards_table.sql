@@ -0,0 +1,6 @@
+CREATE TABLE inventory_totals_shards (
+    shard INTEGER PRIMARY KEY,
+    stock_units BIGINT NOT NULL,
+    inventory_value DECIMAL(38, 2) NOT NULL,
+    low_stock_count BIGINT NOT NULL
+);
@@ -0,0 +1,5 @@
+-- Limite de reposição por produto; null quando o produto não é acompanhado.
+ALTER TABLE products ADD COLUMN reorder_threshold INTEGER;
+
+ALTER TABLE products
+ADD CONSTRAINT reorder_threshold_non_negative CHECK (reorder_threshold >= 0);
@@ -4,9 +4,11 @@ import com.techsolution.product_service.application.usecase.CreateProductUseCase
 import com.techsolution.product_service.application.usecase.DeleteProductUseCase;
 import com.techsolution.product_service.application.usecase.GetProductByIdUseCase;
 import com.techsolution.product_service.application.usecase.ListProductsUseCase;
+import com.techsolution.product_service.application.usecase.PatchProductUseCase;
 import com.techsolution.product_service.application.usecase.UpdateProductUseCase;
 import com.techsolution.product_service.api.dto.CreateProductRequest;
 import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.PatchProductRequest;
 import com.techsolution.product_service.api.dto.ProductResponse;
 import com.techsolution.product_service.api.dto.UpdateProductRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,11 +21,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
@@ -36,6 +40,9 @@ class ProductControllerTest {
     @Mock
     private UpdateProductUseCase updateProductUseCase;
 
+    @Mock
+    private PatchProductUseCase patchProductUseCase;
+
     @Mock
     private GetProductByIdUseCase getProductByIdUseCase;
 
@@ -102,6 +109,52 @@ class ProductControllerTest {
         verify(updateProductUseCase).execute(productId, updateRequest);
     }
 
+    @Test
+    void shouldPatchProductWithFieldsPresentInMergePatch() {
+        PatchProductRequest patchRequest = new PatchProductRequest(null, null, new BigDecimal("3600.00"), null);
+        when(patchProductUseCase.execute(productId, patchRequest)).thenReturn(productResponse);
+
+        ResponseEntity<ProductResponse> response = productController.patch(
+                productId, "{\"price\": 3600.00}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(patchProductUseCase).execute(productId, patchRequest);
+    }
+
+    @Test
+    void shouldRejectMergePatchRemovingField() {
+        assertThatThrownBy(() -> productController.patch(
+                productId, "{\"description\": null}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("description");
+        verifyNoInteractions(patchProductUseCase);
+    }
+
+    @Test
+    void shouldRejectMergePatchWithUnknownField() {
+        assertThatThrownBy(() -> productController.patch(
+                productId, "{\"active\": false}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("active");
+    }
+
+    @Test
+    void shouldReadMergePatchPriceWithoutLosingPrecision() {
+        PatchProductRequest patchRequest = new PatchProductRequest(null, null, new BigDecimal("12345678901234567.89"), null);
+        when(patchProductUseCase.execute(productId, patchRequest)).thenReturn(productResponse);
+
+        productController.patch(productId, "{\"price\": 12345678901234567.89}".getBytes(StandardCharsets.UTF_8));
+
+        verify(patchProductUseCase).execute(productId, patchRequest);
+    }
+
+    @Test
+    void shouldRejectMalformedMergePatch() {
+        assertThatThrownBy(() -> productController.patch(productId, "{\"price\":".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed merge patch");
+    }
+
     @Test
     void shouldGetProductById() {
         when(getProductByIdUseCase.execute(productId)).thenReturn(productResponse);
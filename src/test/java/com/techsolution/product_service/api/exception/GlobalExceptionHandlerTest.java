@@ -2,22 +2,25 @@ package com.techsolution.product_service.api.exception;
 
 import com.techsolution.product_service.domain.exception.BusinessException;
 import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
-import com.techsolution.product_service.api.dto.ErrorResponse;
+import com.techsolution.product_service.infrastructure.logging.ErrorLogProperties;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,11 +32,11 @@ class GlobalExceptionHandlerTest {
     @Mock
     private HttpServletRequest request;
 
-    @InjectMocks
     private GlobalExceptionHandler globalExceptionHandler;
 
     @BeforeEach
     void setUp() {
+        globalExceptionHandler = new GlobalExceptionHandler(new ErrorLogProperties(10, Duration.ofSeconds(10)));
         when(request.getRequestURI()).thenReturn("/products");
     }
 
@@ -42,28 +45,29 @@ class GlobalExceptionHandlerTest {
         UUID productId = UUID.randomUUID();
         ResourceNotFoundException ex = new ResourceNotFoundException("Product", productId);
 
-        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleResourceNotFoundException(ex, request);
+        ResponseEntity<ProblemDetail> response = globalExceptionHandler.handleResourceNotFoundException(ex, request);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().status()).isEqualTo(404);
-        assertThat(response.getBody().error()).isEqualTo("Resource Not Found");
-        assertThat(response.getBody().message()).contains("Product");
-        assertThat(response.getBody().message()).contains(productId.toString());
-        assertThat(response.getBody().path()).isEqualTo("/products");
+        assertThat(response.getBody().getStatus()).isEqualTo(404);
+        assertThat(response.getBody().getTitle()).isEqualTo("Resource Not Found");
+        assertThat(response.getBody().getDetail()).contains("Product");
+        assertThat(response.getBody().getDetail()).contains(productId.toString());
+        assertThat(response.getBody().getInstance()).isEqualTo(URI.create("/products"));
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
     }
 
     @Test
     void shouldHandleBusinessException() {
         BusinessException ex = new BusinessException("Business rule violation");
 
-        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleBusinessException(ex, request);
+        ResponseEntity<ProblemDetail> response = globalExceptionHandler.handleBusinessException(ex, request);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().status()).isEqualTo(400);
-        assertThat(response.getBody().error()).isEqualTo("Business Error");
-        assertThat(response.getBody().message()).isEqualTo("Business rule violation");
+        assertThat(response.getBody().getStatus()).isEqualTo(400);
+        assertThat(response.getBody().getTitle()).isEqualTo("Business Error");
+        assertThat(response.getBody().getDetail()).isEqualTo("Business rule violation");
     }
 
     @Test
@@ -75,14 +79,15 @@ class GlobalExceptionHandlerTest {
         when(ex.getBindingResult()).thenReturn(bindingResult);
         when(bindingResult.getAllErrors()).thenReturn(List.of(fieldError));
 
-        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleValidationException(ex, request);
+        ResponseEntity<ProblemDetail> response = globalExceptionHandler.handleValidationException(ex, request);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().status()).isEqualTo(400);
-        assertThat(response.getBody().error()).isEqualTo("Validation Error");
-        assertThat(response.getBody().message()).contains("name");
-        assertThat(response.getBody().message()).contains("Name is required");
+        assertThat(response.getBody().getStatus()).isEqualTo(400);
+        assertThat(response.getBody().getTitle()).isEqualTo("Validation Error");
+        assertThat(response.getBody().getDetail()).isEqualTo("Validation failed");
+        assertThat(response.getBody().getProperties())
+                .containsEntry("errors", Map.of("name", "Name is required"));
     }
 
     @Test
@@ -91,38 +96,37 @@ class GlobalExceptionHandlerTest {
         Set<ConstraintViolation<?>> violations = Set.of(violation);
         ConstraintViolationException ex = new ConstraintViolationException("Validation failed", violations);
 
-        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleConstraintViolationException(ex, request);
+        ResponseEntity<ProblemDetail> response = globalExceptionHandler.handleConstraintViolationException(ex, request);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().status()).isEqualTo(400);
-        assertThat(response.getBody().error()).isEqualTo("Validation Error");
+        assertThat(response.getBody().getStatus()).isEqualTo(400);
+        assertThat(response.getBody().getTitle()).isEqualTo("Validation Error");
     }
 
     @Test
     void shouldHandleIllegalArgumentException() {
         IllegalArgumentException ex = new IllegalArgumentException("Invalid argument");
 
-        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleIllegalArgumentException(ex, request);
+        ResponseEntity<ProblemDetail> response = globalExceptionHandler.handleIllegalArgumentException(ex, request);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().status()).isEqualTo(400);
-        assertThat(response.getBody().error()).isEqualTo("Invalid Argument");
-        assertThat(response.getBody().message()).isEqualTo("Invalid argument");
+        assertThat(response.getBody().getStatus()).isEqualTo(400);
+        assertThat(response.getBody().getTitle()).isEqualTo("Invalid Argument");
+        assertThat(response.getBody().getDetail()).isEqualTo("Invalid argument");
     }
 
     @Test
     void shouldHandleGenericException() {
         Exception ex = new RuntimeException("Unexpected error");
 
-        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleGenericException(ex, request);
+        ResponseEntity<ProblemDetail> response = globalExceptionHandler.handleGenericException(ex, request);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().status()).isEqualTo(500);
-        assertThat(response.getBody().error()).isEqualTo("Internal Server Error");
-        assertThat(response.getBody().message()).isEqualTo("An unexpected error occurred");
+        assertThat(response.getBody().getStatus()).isEqualTo(500);
+        assertThat(response.getBody().getTitle()).isEqualTo("Internal Server Error");
+        assertThat(response.getBody().getDetail()).isEqualTo("An unexpected error occurred");
     }
 }
-
@@ -0,0 +1,312 @@
+package com.techsolution.product_service.api.grpc;
+
+import com.google.protobuf.ByteString;
+import com.techsolution.product_service.api.proto.BatchGetProductsRequest;
+import com.techsolution.product_service.api.proto.BatchGetProductsResponse;
+import com.techsolution.product_service.api.proto.GetProductRequest;
+import com.techsolution.product_service.api.proto.ProductServiceGrpc;
+import com.techsolution.product_service.api.proto.ScanCatalogRequest;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.application.usecase.GetProductByIdUseCase;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
+import com.techsolution.product_service.domain.exception.ServiceUnavailableException;
+import com.techsolution.product_service.infrastructure.codec.ProductProtoMapper;
+import com.techsolution.product_service.infrastructure.grpc.GrpcProperties;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductGrpcServiceTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Mock
+    private GetProductByIdUseCase getProductByIdUseCase;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private Server server;
+    private ManagedChannel channel;
+    private ProductServiceGrpc.ProductServiceBlockingStub blockingStub;
+    private ProductServiceGrpc.ProductServiceStub asyncStub;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        GrpcProperties properties = new GrpcProperties(true, 0, null, DataSize.ofMegabytes(1), DataSize.ofMegabytes(4),
+                100, Duration.ofMinutes(5), Duration.ofSeconds(1), 3, 2);
+        ProductGrpcService service = new ProductGrpcService(
+                getProductByIdUseCase, productRepository, new ProductMapper(), properties);
+
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        blockingStub = ProductServiceGrpc.newBlockingStub(channel);
+        asyncStub = ProductServiceGrpc.newStub(channel);
+
+        products = List.of(
+                product("00000000-0000-0000-0000-000000000001", "Mouse"),
+                product("00000000-0000-0000-0000-000000000002", "Keyboard"),
+                product("00000000-0000-0000-0000-000000000003", "Monitor"),
+                product("00000000-0000-0000-0000-000000000004", "Notebook")
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldGetProductThroughUseCase() {
+        Product mouse = products.get(0);
+        when(getProductByIdUseCase.execute(mouse.getId())).thenReturn(new ProductMapper().toResponse(mouse));
+
+        var response = blockingStub.getProduct(request(mouse.getId()));
+
+        assertThat(ProductProtoMapper.fromProto(response).name()).isEqualTo("Mouse");
+    }
+
+    @Test
+    void shouldReturnNotFoundForMissingProduct() {
+        UUID id = UUID.randomUUID();
+        when(getProductByIdUseCase.execute(id)).thenThrow(new ResourceNotFoundException("Product", id));
+
+        assertThatThrownBy(() -> blockingStub.getProduct(request(id)))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(ex -> ((StatusRuntimeException) ex).getStatus().getCode())
+                .isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    @Test
+    void shouldReturnUnavailableWhenServiceIsUnavailable() {
+        UUID id = UUID.randomUUID();
+        when(getProductByIdUseCase.execute(id)).thenThrow(new ServiceUnavailableException("Database is down"));
+
+        assertThatThrownBy(() -> blockingStub.getProduct(request(id)))
+                .extracting(ex -> ((StatusRuntimeException) ex).getStatus().getCode())
+                .isEqualTo(Status.Code.UNAVAILABLE);
+    }
+
+    @Test
+    void shouldReturnInternalWithoutDetailsForUnexpectedError() {
+        UUID id = UUID.randomUUID();
+        when(getProductByIdUseCase.execute(id)).thenThrow(new IllegalStateException("connection pool corrupted"));
+
+        assertThatThrownBy(() -> blockingStub.getProduct(request(id)))
+                .extracting(ex -> ((StatusRuntimeException) ex).getStatus())
+                .satisfies(status -> {
+                    assertThat(status.getCode()).isEqualTo(Status.Code.INTERNAL);
+                    assertThat(status.getDescription()).isEqualTo("Unexpected error");
+                });
+    }
+
+    @Test
+    void shouldFailScanWithUnavailableWhenDatabaseTimesOut() {
+        when(productRepository.findActiveAfter(FIRST_ID, 2)).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> streamNames(blockingStub.scanCatalog(ScanCatalogRequest.getDefaultInstance())))
+                .extracting(error -> Status.fromThrowable(error).getCode())
+                .isEqualTo(Status.Code.UNAVAILABLE);
+    }
+
+    @Test
+    void shouldRejectMalformedId() {
+        GetProductRequest request = GetProductRequest.newBuilder()
+                .setId(ByteString.copyFromUtf8("not-a-uuid"))
+                .build();
+
+        assertThatThrownBy(() -> blockingStub.getProduct(request))
+                .extracting(ex -> ((StatusRuntimeException) ex).getStatus().getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    void shouldAnswerEachBatchMessageInOrder() throws InterruptedException {
+        Product mouse = products.get(0);
+        Product keyboard = products.get(1);
+        UUID missing = UUID.randomUUID();
+        when(productRepository.findActiveByIds(Set.of(mouse.getId(), missing))).thenReturn(List.of(mouse));
+        when(productRepository.findActiveByIds(Set.of(keyboard.getId()))).thenReturn(List.of(keyboard));
+        BlockingQueue<BatchGetProductsResponse> responses = new LinkedBlockingQueue<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        StreamObserver<BatchGetProductsRequest> requests = asyncStub.batchGetProducts(new StreamObserver<>() {
+            @Override
+            public void onNext(BatchGetProductsResponse response) {
+                responses.add(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+            }
+
+            @Override
+            public void onCompleted() {
+                completed.countDown();
+            }
+        });
+        requests.onNext(batch(mouse.getId(), missing));
+        requests.onNext(batch(keyboard.getId()));
+        requests.onCompleted();
+
+        assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+        BatchGetProductsResponse first = responses.poll();
+        assertThat(first.getProductsList()).extracting(p -> p.getName()).containsExactly("Mouse");
+        assertThat(first.getMissingIdsList()).containsExactly(ProductProtoMapper.toProto(missing));
+        assertThat(responses.poll().getProductsList()).extracting(p -> p.getName()).containsExactly("Keyboard");
+    }
+
+    @Test
+    void shouldRejectBatchMessagesAboveLimit() {
+        BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+
+        StreamObserver<BatchGetProductsRequest> requests = asyncStub.batchGetProducts(new StreamObserver<>() {
+            @Override
+            public void onNext(BatchGetProductsResponse response) {
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                errors.add(error);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        requests.onNext(batch(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+        verify(productRepository, after(200).never()).findActiveByIds(any());
+        assertThat(errors).singleElement()
+                .extracting(error -> Status.fromThrowable(error).getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    void shouldScanWholeCatalogInBatches() {
+        when(productRepository.findActiveAfter(FIRST_ID, 2)).thenReturn(products.subList(0, 2));
+        when(productRepository.findActiveAfter(products.get(1).getId(), 2)).thenReturn(products.subList(2, 4));
+        when(productRepository.findActiveAfter(products.get(3).getId(), 2)).thenReturn(List.of());
+
+        List<String> names = streamNames(blockingStub.scanCatalog(ScanCatalogRequest.getDefaultInstance()));
+
+        assertThat(names).containsExactly("Mouse", "Keyboard", "Monitor", "Notebook");
+    }
+
+    @Test
+    void shouldFetchNextBatchOnlyWhenClientRequestsMore() {
+        when(productRepository.findActiveAfter(eq(FIRST_ID), anyInt())).thenReturn(products.subList(0, 2));
+        when(productRepository.findActiveAfter(eq(products.get(1).getId()), anyInt())).thenReturn(products.subList(2, 4));
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        ClientCallStreamObserver<?>[] call = new ClientCallStreamObserver<?>[1];
+
+        asyncStub.scanCatalog(ScanCatalogRequest.getDefaultInstance(),
+                new ClientResponseObserver<ScanCatalogRequest, com.techsolution.product_service.api.proto.Product>() {
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<ScanCatalogRequest> requestStream) {
+                        call[0] = requestStream;
+                        requestStream.disableAutoRequestWithInitial(1);
+                    }
+
+                    @Override
+                    public void onNext(com.techsolution.product_service.api.proto.Product product) {
+                        received.add(product.getName());
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+
+        verify(productRepository, after(200).times(1)).findActiveAfter(any(UUID.class), anyInt());
+        assertThat(received).containsExactly("Mouse");
+
+        call[0].request(3);
+
+        verify(productRepository, timeout(1000).times(2)).findActiveAfter(any(UUID.class), anyInt());
+        call[0].cancel("done", null);
+    }
+
+    @Test
+    void shouldStopScanningWhenDeadlineExpires() {
+        when(productRepository.findActiveAfter(any(UUID.class), anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return products.subList(0, 2);
+        });
+
+        assertThatThrownBy(() -> streamNames(blockingStub.withDeadlineAfter(50, TimeUnit.MILLISECONDS)
+                .scanCatalog(ScanCatalogRequest.getDefaultInstance())))
+                .extracting(ex -> Status.fromThrowable(ex).getCode())
+                .isEqualTo(Status.Code.DEADLINE_EXCEEDED);
+        verify(productRepository, after(500).times(1)).findActiveAfter(any(UUID.class), anyInt());
+    }
+
+    private static List<String> streamNames(Iterator<com.techsolution.product_service.api.proto.Product> stream) {
+        List<String> names = new ArrayList<>();
+        stream.forEachRemaining(product -> names.add(product.getName()));
+        return names;
+    }
+
+    private static GetProductRequest request(UUID id) {
+        return GetProductRequest.newBuilder().setId(ProductProtoMapper.toProto(id)).build();
+    }
+
+    private static BatchGetProductsRequest batch(UUID... ids) {
+        BatchGetProductsRequest.Builder builder = BatchGetProductsRequest.newBuilder();
+        for (UUID id : ids) {
+            builder.addIds(ProductProtoMapper.toProto(id));
+        }
+        return builder.build();
+    }
+
+    private static Product product(String id, String name) {
+        return new Product(UUID.fromString(id), name, name + " description", new BigDecimal("10.00"), 5);
+    }
+}
@@ -0,0 +1,209 @@
+package com.techsolution.product_service.application.analytics;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRecordedEvent;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CatalogAnalyticsTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductChangeRepository productChangeRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogAnalytics catalogAnalytics;
+
+    private Product notebook;
+    private Product mouse;
+
+    @BeforeEach
+    void setUp() {
+        catalogAnalytics = analytics(Duration.ofMinutes(1));
+        notebook = new Product(UUID.fromString("00000000-0000-0000-0000-000000000001"),
+                "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10);
+        mouse = new Product(UUID.fromString("00000000-0000-0000-0000-000000000002"),
+                "Mouse", "Mouse Logitech", new BigDecimal("50.00"), 20);
+        when(productChangeRepository.findAfter(anyLong(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void shouldNotBeReadyBeforeLoading() {
+        assertThat(catalogAnalytics.isReady()).isFalse();
+    }
+
+    @Test
+    void shouldLoadActiveProductsInKeysetBatches() {
+        when(productRepository.findActiveAfter(FIRST_ID, 1)).thenReturn(List.of(notebook));
+        when(productRepository.findActiveAfter(notebook.getId(), 1)).thenReturn(List.of(mouse));
+        when(productRepository.findActiveAfter(mouse.getId(), 1)).thenReturn(List.of());
+
+        catalogAnalytics.reload();
+
+        assertThat(catalogAnalytics.isReady()).isTrue();
+        CatalogSummary summary = catalogAnalytics.summarize(AnalyticsFilter.ALL);
+        assertThat(summary.products()).isEqualTo(2);
+        assertThat(summary.inventoryValue()).isEqualByComparingTo("36000.00");
+    }
+
+    @Test
+    void shouldApplyChangesRecordedOnThisNode() {
+        loadEmptyCatalogAt(0);
+
+        catalogAnalytics.onProductChangeRecorded(new ProductChangeRecordedEvent(change(1, ProductChangeType.CREATED, notebook)));
+        Product restocked = notebook.copy();
+        restocked.update(notebook.getName(), notebook.getDescription(), new BigDecimal("3000.00"), 2);
+        catalogAnalytics.onProductChangeRecorded(new ProductChangeRecordedEvent(change(2, ProductChangeType.UPDATED, restocked)));
+        catalogAnalytics.onProductChangeRecorded(new ProductChangeRecordedEvent(change(3, ProductChangeType.CREATED, mouse)));
+        catalogAnalytics.onProductChangeRecorded(new ProductChangeRecordedEvent(deactivation(4, mouse)));
+
+        CatalogSummary summary = catalogAnalytics.summarize(AnalyticsFilter.ALL);
+        assertThat(summary.products()).isEqualTo(1);
+        assertThat(summary.stockUnits()).isEqualTo(2);
+        assertThat(summary.maxPrice()).isEqualByComparingTo("3000.00");
+    }
+
+    @Test
+    void shouldIgnoreOlderChangeDeliveredAfterNewerOne() {
+        loadEmptyCatalogAt(0);
+
+        catalogAnalytics.apply(deactivation(2, notebook));
+        catalogAnalytics.apply(change(1, ProductChangeType.CREATED, notebook));
+
+        assertThat(catalogAnalytics.summarize(AnalyticsFilter.ALL).products()).isZero();
+    }
+
+    @Test
+    void shouldApplyChangesMadeOnOtherNodesFromFeed() {
+        loadEmptyCatalogAt(10);
+        when(productChangeRepository.findAfter(10L, 1)).thenReturn(List.of(change(11, ProductChangeType.CREATED, mouse)));
+
+        catalogAnalytics.poll();
+
+        CatalogSummary summary = catalogAnalytics.summarize(AnalyticsFilter.ALL);
+        assertThat(summary.products()).isEqualTo(1);
+        assertThat(summary.maxPrice()).isEqualByComparingTo("50.00");
+    }
+
+    @Test
+    void shouldReplayChangesCommittedWhileLoading() {
+        when(productChangeRepository.lastSequence()).thenReturn(5L);
+        when(productRepository.findActiveAfter(FIRST_ID, 1)).thenReturn(List.of(notebook));
+        when(productRepository.findActiveAfter(notebook.getId(), 1)).thenReturn(List.of());
+        when(productChangeRepository.findAfter(5L, 1)).thenReturn(List.of(deactivation(6, notebook)));
+
+        catalogAnalytics.reload();
+
+        assertThat(catalogAnalytics.summarize(AnalyticsFilter.ALL).products()).isZero();
+    }
+
+    @Test
+    void shouldStopAnsweringWhenNotCaughtUpWithinMaxLag() {
+        catalogAnalytics = analytics(Duration.ZERO);
+        loadEmptyCatalogAt(0);
+        doThrow(new IllegalStateException("database unavailable")).when(productChangeRepository).findAfter(anyLong(), anyInt());
+
+        catalogAnalytics.poll();
+
+        assertThat(catalogAnalytics.isReady()).isFalse();
+    }
+
+    @Test
+    void shouldReloadWhenFeedPositionWasPruned() {
+        loadEmptyCatalogAt(3);
+        when(productChangeRepository.prunedThrough()).thenReturn(8L);
+
+        catalogAnalytics.poll();
+        assertThat(catalogAnalytics.isReady()).isFalse();
+
+        when(productChangeRepository.lastSequence()).thenReturn(9L);
+        when(productRepository.findActiveAfter(FIRST_ID, 1)).thenReturn(List.of(mouse));
+        when(productRepository.findActiveAfter(mouse.getId(), 1)).thenReturn(List.of());
+        catalogAnalytics.poll();
+
+        assertThat(catalogAnalytics.isReady()).isTrue();
+        assertThat(catalogAnalytics.summarize(AnalyticsFilter.ALL).products()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryLoadOnNextPollWhenFirstLoadFails() {
+        when(productChangeRepository.lastSequence()).thenThrow(new IllegalStateException("database unavailable"));
+        catalogAnalytics.reload();
+        assertThat(catalogAnalytics.isReady()).isFalse();
+
+        doReturn(0L).when(productChangeRepository).lastSequence();
+        when(productRepository.findActiveAfter(FIRST_ID, 1)).thenReturn(List.of(mouse));
+        when(productRepository.findActiveAfter(mouse.getId(), 1)).thenReturn(List.of());
+        catalogAnalytics.poll();
+
+        assertThat(catalogAnalytics.isReady()).isTrue();
+        assertThat(catalogAnalytics.summarize(AnalyticsFilter.ALL).products()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotPollBeforeStartupLoadRuns() {
+        catalogAnalytics.poll();
+
+        verify(productChangeRepository, never()).lastSequence();
+        assertThat(catalogAnalytics.isReady()).isFalse();
+    }
+
+    private CatalogAnalytics analytics(Duration maxLag) {
+        return new CatalogAnalytics(productRepository, productChangeRepository,
+                new AnalyticsProperties(true, 1, 65536, 1000, Duration.ofMillis(500), maxLag),
+                taskScheduler, transactionManager);
+    }
+
+    private void loadEmptyCatalogAt(long token) {
+        when(productChangeRepository.lastSequence()).thenReturn(token);
+        when(productRepository.findActiveAfter(any(UUID.class), eq(1))).thenReturn(List.of());
+        catalogAnalytics.reload();
+    }
+
+    private static ProductChange change(long sequence, ProductChangeType type, Product product) {
+        return new ProductChange(sequence, product.getId(), type, Instant.now(), product);
+    }
+
+    private static ProductChange deactivation(long sequence, Product product) {
+        return new ProductChange(sequence, product.getId(), ProductChangeType.DEACTIVATED, Instant.now(), null);
+    }
+}
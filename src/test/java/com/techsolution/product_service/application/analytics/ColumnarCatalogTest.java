@@ -0,0 +1,140 @@
+package com.techsolution.product_service.application.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarCatalogTest {
+
+    private static final int SEQUENTIAL = Integer.MAX_VALUE;
+    private static final int PARALLEL = 4;
+
+    @Test
+    void shouldSummarizeFilteredProducts() {
+        ColumnarCatalog catalog = new ColumnarCatalog();
+        catalog.upsert(UUID.randomUUID(), 5_000L, 10, 1L);
+        catalog.upsert(UUID.randomUUID(), 12_550L, 2, 1L);
+        catalog.upsert(UUID.randomUUID(), 99_900L, 0, 1L);
+
+        CatalogSummary summary = catalog.summarize(new AnalyticsFilter(0L, 20_000L, 1, Integer.MAX_VALUE), SEQUENTIAL);
+
+        assertThat(summary.products()).isEqualTo(2);
+        assertThat(summary.stockUnits()).isEqualTo(12);
+        assertThat(summary.inventoryValue()).isEqualByComparingTo("751.00");
+        assertThat(summary.minPrice()).isEqualByComparingTo("50.00");
+        assertThat(summary.maxPrice()).isEqualByComparingTo("125.50");
+        assertThat(summary.averagePrice()).isEqualByComparingTo("87.75");
+    }
+
+    @Test
+    void shouldReturnEmptySummaryWhenNothingMatches() {
+        ColumnarCatalog catalog = new ColumnarCatalog();
+        catalog.upsert(UUID.randomUUID(), 5_000L, 10, 1L);
+
+        CatalogSummary summary = catalog.summarize(new AnalyticsFilter(0L, 100L, 0, Integer.MAX_VALUE), SEQUENTIAL);
+
+        assertThat(summary.products()).isZero();
+        assertThat(summary.inventoryValue()).isEqualByComparingTo("0");
+        assertThat(summary.averagePrice()).isNull();
+    }
+
+    @Test
+    void shouldGiveSameResultsWhenScanIsSplitAcrossThreads() {
+        ColumnarCatalog catalog = new ColumnarCatalog(16);
+        for (int i = 0; i < 1_000; i++) {
+            catalog.upsert(UUID.randomUUID(), 100L + i * 37L, i % 50, 1L);
+        }
+        AnalyticsFilter filter = new AnalyticsFilter(1_000L, 30_000L, 5, 40);
+
+        assertThat(catalog.summarize(filter, PARALLEL)).isEqualTo(catalog.summarize(filter, SEQUENTIAL));
+        assertThat(catalog.histogram(HistogramField.PRICE, filter, 1_000L, 2_500L, 12, PARALLEL))
+                .containsExactly(catalog.histogram(HistogramField.PRICE, filter, 1_000L, 2_500L, 12, SEQUENTIAL));
+    }
+
+    @Test
+    void shouldSumInventoryValueBeyondLongRange() {
+        ColumnarCatalog catalog = new ColumnarCatalog();
+        long price = Long.MAX_VALUE / 2;
+        catalog.upsert(UUID.randomUUID(), price, Integer.MAX_VALUE, 1L);
+        catalog.upsert(UUID.randomUUID(), price, Integer.MAX_VALUE, 1L);
+
+        CatalogSummary summary = catalog.summarize(AnalyticsFilter.ALL, SEQUENTIAL);
+
+        BigDecimal expected = BigDecimal.valueOf(price).multiply(BigDecimal.valueOf(Integer.MAX_VALUE))
+                .multiply(BigDecimal.TWO).movePointLeft(2);
+        assertThat(summary.inventoryValue()).isEqualByComparingTo(expected);
+        assertThat(summary.averagePrice()).isEqualByComparingTo(ColumnarCatalog.fromCents(price));
+    }
+
+    @Test
+    void shouldCountValuesPastLastBucketInIt() {
+        ColumnarCatalog catalog = new ColumnarCatalog();
+        catalog.upsert(UUID.randomUUID(), 100L, 0, 1L);
+        catalog.upsert(UUID.randomUUID(), 100L, 9, 1L);
+        catalog.upsert(UUID.randomUUID(), 100L, 10, 1L);
+        catalog.upsert(UUID.randomUUID(), 100L, 500, 1L);
+
+        long[] counts = catalog.histogram(HistogramField.STOCK, AnalyticsFilter.ALL, 0L, 10L, 3, SEQUENTIAL);
+
+        assertThat(counts).containsExactly(2L, 1L, 1L);
+    }
+
+    @Test
+    void shouldUpdateInPlaceAndMoveLastRowOnRemove() {
+        ColumnarCatalog catalog = new ColumnarCatalog();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        catalog.upsert(first, 1_000L, 1, 1L);
+        catalog.upsert(second, 2_000L, 2, 1L);
+        catalog.upsert(third, 3_000L, 3, 1L);
+
+        catalog.remove(first, 2L);
+        catalog.upsert(third, 4_000L, 4, 2L);
+        catalog.remove(UUID.randomUUID(), 2L);
+
+        CatalogSummary summary = catalog.summarize(AnalyticsFilter.ALL, SEQUENTIAL);
+        assertThat(catalog.size()).isEqualTo(2);
+        assertThat(summary.stockUnits()).isEqualTo(6);
+        assertThat(summary.inventoryValue()).isEqualByComparingTo("200.00");
+    }
+
+    @Test
+    void shouldIgnoreChangesOlderThanKnownVersion() {
+        ColumnarCatalog catalog = new ColumnarCatalog();
+        UUID id = UUID.randomUUID();
+
+        assertThat(catalog.upsert(id, 2_000L, 2, 5L)).isTrue();
+        assertThat(catalog.upsert(id, 1_000L, 1, 4L)).isFalse();
+        assertThat(catalog.remove(id, 5L)).isFalse();
+
+        CatalogSummary summary = catalog.summarize(AnalyticsFilter.ALL, SEQUENTIAL);
+        assertThat(summary.stockUnits()).isEqualTo(2);
+        assertThat(summary.maxPrice()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    void shouldNotRecreateRemovedRowFromOlderChangeUntilTombstoneIsForgotten() {
+        ColumnarCatalog catalog = new ColumnarCatalog();
+        UUID id = UUID.randomUUID();
+        catalog.upsert(id, 1_000L, 1, 1L);
+
+        assertThat(catalog.remove(id, 3L)).isTrue();
+        assertThat(catalog.upsert(id, 1_000L, 1, 2L)).isFalse();
+        assertThat(catalog.size()).isZero();
+
+        catalog.forgetTombstonesThrough(3L);
+        assertThat(catalog.upsert(id, 1_000L, 1, 4L)).isTrue();
+        assertThat(catalog.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldConvertPricesToCents() {
+        assertThat(ColumnarCatalog.toCents(new BigDecimal("19.9"))).isEqualTo(1_990L);
+        assertThat(ColumnarCatalog.toCents(new BigDecimal("0.005"))).isEqualTo(1L);
+        assertThat(ColumnarCatalog.fromCents(1_990L)).isEqualByComparingTo("19.90");
+    }
+}
@@ -0,0 +1,84 @@
+package com.techsolution.product_service.application.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidLongMapTest {
+
+    @Test
+    void shouldPutReplaceAndRemoveEntries() {
+        UuidLongMap map = new UuidLongMap(0);
+
+        map.put(1L, 2L, 10L);
+        map.put(1L, 2L, 20L);
+        map.put(2L, 1L, 30L);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1L, 2L)).isEqualTo(20L);
+        assertThat(map.get(2L, 1L)).isEqualTo(30L);
+        assertThat(map.get(3L, 3L)).isEqualTo(UuidLongMap.ABSENT);
+
+        assertThat(map.remove(1L, 2L)).isEqualTo(20L);
+        assertThat(map.remove(1L, 2L)).isEqualTo(UuidLongMap.ABSENT);
+        assertThat(map.get(1L, 2L)).isEqualTo(UuidLongMap.ABSENT);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectNegativeValues() {
+        UuidLongMap map = new UuidLongMap(0);
+
+        assertThatThrownBy(() -> map.put(1L, 1L, -1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMatchHashMapAcrossGrowthAndRemovals() {
+        UuidLongMap map = new UuidLongMap(0);
+        Map<UUID, Long> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+        // Poucos ids distintos: muitas colisões e remoções no meio das sequências de sondagem
+        for (int i = 0; i < 200_000; i++) {
+            UUID id = new UUID(random.nextInt(64), random.nextInt(64));
+            if (random.nextInt(3) == 0) {
+                Long removed = expected.remove(id);
+                assertThat(map.remove(id.getMostSignificantBits(), id.getLeastSignificantBits()))
+                        .isEqualTo(removed == null ? UuidLongMap.ABSENT : removed);
+            } else {
+                long value = random.nextLong(0, Long.MAX_VALUE);
+                expected.put(id, value);
+                map.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), value);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (int msb = 0; msb < 64; msb++) {
+            for (int lsb = 0; lsb < 64; lsb++) {
+                Long value = expected.get(new UUID(msb, lsb));
+                assertThat(map.get(msb, lsb)).isEqualTo(value == null ? UuidLongMap.ABSENT : value);
+            }
+        }
+    }
+
+    @Test
+    void shouldRemoveValuesAtMostLimit() {
+        UuidLongMap map = new UuidLongMap(0);
+        for (long i = 0; i < 100; i++) {
+            map.put(i, i, i);
+        }
+
+        map.removeValuesAtMost(49L);
+
+        assertThat(map.size()).isEqualTo(50);
+        assertThat(map.get(49L, 49L)).isEqualTo(UuidLongMap.ABSENT);
+        assertThat(map.get(50L, 50L)).isEqualTo(50L);
+        map.put(0L, 0L, 1L);
+        assertThat(map.get(0L, 0L)).isEqualTo(1L);
+    }
+}
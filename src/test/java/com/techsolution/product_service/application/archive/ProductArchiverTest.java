@@ -0,0 +1,67 @@
+package com.techsolution.product_service.application.archive;
+
+import com.techsolution.product_service.domain.archive.ProductArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductArchiverTest {
+
+    @Mock
+    private ProductArchive productArchive;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private ProductArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        ArchiveProperties properties = new ArchiveProperties(
+                true, Duration.ofDays(30), Duration.ofHours(1), 100, Duration.ZERO, 3);
+        archiver = new ProductArchiver(productArchive, properties, taskScheduler);
+    }
+
+    @Test
+    void shouldArchiveBatchesUntilOneComesBackShort() {
+        when(productArchive.archiveDeactivatedBefore(any(Instant.class), eq(100))).thenReturn(100, 40);
+
+        assertThat(archiver.archive()).isEqualTo(140);
+        verify(productArchive, times(2)).archiveDeactivatedBefore(any(Instant.class), eq(100));
+    }
+
+    @Test
+    void shouldStopAfterMaxBatchesPerRun() {
+        when(productArchive.archiveDeactivatedBefore(any(Instant.class), eq(100))).thenReturn(100);
+
+        assertThat(archiver.archive()).isEqualTo(300);
+        verify(productArchive, times(3)).archiveDeactivatedBefore(any(Instant.class), eq(100));
+    }
+
+    @Test
+    void shouldOnlyArchiveProductsInactiveLongEnough() {
+        Instant before = Instant.now().minus(Duration.ofDays(30));
+
+        archiver.archive();
+
+        verify(productArchive).archiveDeactivatedBefore(
+                argThat(cutoff -> !cutoff.isBefore(before)
+                        && cutoff.isBefore(Instant.now().minus(Duration.ofDays(29)))),
+                eq(100));
+    }
+}
@@ -0,0 +1,66 @@
+package com.techsolution.product_service.application.changefeed;
+
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangePrunerTest {
+
+    @Mock
+    private ProductChangeRepository productChangeRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private ProductChangePruner pruner;
+
+    @BeforeEach
+    void setUp() {
+        ChangeFeedProperties properties = new ChangeFeedProperties(
+                100, 1000, Duration.ofDays(7), Duration.ofHours(1), 100, 3);
+        pruner = new ProductChangePruner(productChangeRepository, properties, taskScheduler);
+    }
+
+    @Test
+    void shouldPruneBatchesUntilOneComesBackShort() {
+        when(productChangeRepository.pruneChangedBefore(any(Instant.class), eq(100))).thenReturn(100, 40);
+
+        assertThat(pruner.prune()).isEqualTo(140);
+        verify(productChangeRepository, times(2)).pruneChangedBefore(any(Instant.class), eq(100));
+    }
+
+    @Test
+    void shouldStopAfterMaxBatchesPerRun() {
+        when(productChangeRepository.pruneChangedBefore(any(Instant.class), eq(100))).thenReturn(100);
+
+        assertThat(pruner.prune()).isEqualTo(300);
+        verify(productChangeRepository, times(3)).pruneChangedBefore(any(Instant.class), eq(100));
+    }
+
+    @Test
+    void shouldOnlyPruneChangesOlderThanRetention() {
+        Instant before = Instant.now().minus(Duration.ofDays(7));
+
+        pruner.prune();
+
+        verify(productChangeRepository).pruneChangedBefore(
+                argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(Instant.now().minus(Duration.ofDays(6)))),
+                eq(100));
+    }
+}
@@ -0,0 +1,63 @@
+package com.techsolution.product_service.application.changefeed;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRecordedEvent;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangeRecorderTest {
+
+    @Mock
+    private ProductChangeRepository productChangeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ProductChangeRecorder productChangeRecorder;
+
+    @Test
+    void shouldRecordCurrentStateOfChangedProduct() {
+        Product product = new Product(UUID.randomUUID(), "Notebook", "Notebook Dell", new BigDecimal("3500.00"), 10);
+
+        productChangeRecorder.onProductChanged(ProductChangedEvent.created(product));
+
+        verify(productChangeRepository).append(ProductChangeType.CREATED, product.getId(), product);
+    }
+
+    @Test
+    void shouldRecordDeactivationWithoutState() {
+        UUID productId = UUID.randomUUID();
+
+        productChangeRecorder.onProductChanged(ProductChangedEvent.deactivated(productId));
+
+        verify(productChangeRepository).append(ProductChangeType.DEACTIVATED, productId, null);
+    }
+
+    @Test
+    void shouldPublishRecordedChangeWithItsToken() {
+        Product product = new Product(UUID.randomUUID(), "Notebook", "Notebook Dell", new BigDecimal("3500.00"), 10);
+        ProductChange change = new ProductChange(42L, product.getId(), ProductChangeType.UPDATED, Instant.now(), product);
+        when(productChangeRepository.append(ProductChangeType.UPDATED, product.getId(), product)).thenReturn(change);
+
+        productChangeRecorder.onProductChanged(ProductChangedEvent.updated(product, product));
+
+        verify(eventPublisher).publishEvent(new ProductChangeRecordedEvent(change));
+    }
+}
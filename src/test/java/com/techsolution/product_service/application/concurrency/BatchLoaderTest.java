@@ -0,0 +1,122 @@
+package com.techsolution.product_service.application.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchLoaderTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final List<Set<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldLoadSingleKeyImmediatelyWhenIdle() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(this::lookup, executor, 10, 1, 0);
+
+        assertThat(loader.loadAndWait(7)).isEqualTo("value-7");
+        assertThat(batches).containsExactly(Set.of(7));
+    }
+
+    @Test
+    void shouldMergeKeysRequestedWhileBatchIsRunning() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            if (batches.isEmpty()) {
+                firstBatchStarted.countDown();
+                await(releaseFirstBatch);
+            }
+            return lookup(keys);
+        }, executor, 10, 1, 0);
+
+        CompletableFuture<String> first = loader.load(1);
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<String>> queued = new ArrayList<>();
+        for (int key = 2; key <= 5; key++) {
+            queued.add(loader.load(key));
+        }
+        queued.add(loader.load(3));
+        releaseFirstBatch.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        for (CompletableFuture<String> result : queued) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("value-");
+        }
+        assertThat(batches).containsExactly(Set.of(1), Set.of(2, 3, 4, 5));
+    }
+
+    @Test
+    void shouldSplitBatchesAtMaxSize() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            if (batches.isEmpty()) {
+                await(release);
+            }
+            return lookup(keys);
+        }, executor, 2, 1, 0);
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int key = 0; key < 5; key++) {
+            results.add(loader.load(key));
+        }
+        release.countDown();
+
+        for (CompletableFuture<String> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(2));
+        assertThat(batches.stream().mapToInt(Set::size).sum()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldCompleteWithNullForMissingKeys() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> Map.of(), executor, 10, 1, 0);
+
+        assertThat(loader.loadAndWait(1)).isNull();
+    }
+
+    @Test
+    void shouldPropagateBatchFailureToEveryCaller() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            throw new IllegalStateException("database down");
+        }, executor, 10, 1, 0);
+
+        assertThatThrownBy(() -> loader.loadAndWait(1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database down");
+    }
+
+    private Map<Integer, String> lookup(Set<Integer> keys) {
+        batches.add(Set.copyOf(keys));
+        Map<Integer, String> values = new HashMap<>();
+        keys.forEach(key -> values.put(key, "value-" + key));
+        return values;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
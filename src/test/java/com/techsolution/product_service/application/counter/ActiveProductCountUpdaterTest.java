@@ -0,0 +1,50 @@
+package com.techsolution.product_service.application.counter;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveProductCountUpdaterTest {
+
+    @Mock
+    private ActiveProductCounter activeProductCounter;
+
+    @InjectMocks
+    private ActiveProductCountUpdater updater;
+
+    private final Product product = new Product(
+            UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10);
+
+    @Test
+    void shouldIncrementOnCreation() {
+        updater.onProductChanged(ProductChangedEvent.created(product));
+
+        verify(activeProductCounter).add(1);
+    }
+
+    @Test
+    void shouldDecrementOnDeactivation() {
+        updater.onProductChanged(ProductChangedEvent.deactivated(product.getId()));
+
+        verify(activeProductCounter).add(-1);
+    }
+
+    @Test
+    void shouldIgnoreUpdates() {
+        updater.onProductChanged(ProductChangedEvent.updated(product, product.copy()));
+
+        verifyNoInteractions(activeProductCounter);
+    }
+}
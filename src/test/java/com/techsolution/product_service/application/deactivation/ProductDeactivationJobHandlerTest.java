@@ -0,0 +1,60 @@
+package com.techsolution.product_service.application.deactivation;
+
+import com.techsolution.product_service.application.job.JobChunkResult;
+import com.techsolution.product_service.application.usecase.DeleteProductUseCase;
+import com.techsolution.product_service.domain.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductDeactivationJobHandlerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private DeleteProductUseCase deleteProductUseCase;
+
+    @InjectMocks
+    private ProductDeactivationJobHandler handler;
+
+    @Test
+    void shouldDeactivateChunkStartingAtCheckpoint() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(productRepository.existsByIdAndActive(second)).thenReturn(true);
+        when(productRepository.existsByIdAndActive(missing)).thenReturn(false);
+
+        JobChunkResult result = handler.processChunk(
+                new ProductDeactivationParameters(List.of(first, second, missing)), "1", 10);
+
+        assertThat(result).isEqualTo(new JobChunkResult("3", 2, 1, true));
+        verify(deleteProductUseCase).execute(second);
+        verify(deleteProductUseCase, never()).execute(first);
+        verify(deleteProductUseCase, never()).execute(missing);
+    }
+
+    @Test
+    void shouldStopAtChunkSize() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(productRepository.existsByIdAndActive(ids.get(0))).thenReturn(true);
+        when(productRepository.existsByIdAndActive(ids.get(1))).thenReturn(true);
+
+        JobChunkResult first = handler.processChunk(new ProductDeactivationParameters(ids), null, 2);
+
+        assertThat(first).isEqualTo(new JobChunkResult("2", 2, 0, false));
+        verify(deleteProductUseCase, never()).execute(ids.get(2));
+    }
+}
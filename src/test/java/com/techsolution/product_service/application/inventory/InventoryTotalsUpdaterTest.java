@@ -0,0 +1,79 @@
+package com.techsolution.product_service.application.inventory;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import com.techsolution.product_service.domain.inventory.InventoryAggregates;
+import com.techsolution.product_service.domain.inventory.InventoryTotals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class InventoryTotalsUpdaterTest {
+
+    private final InventoryAggregates inventoryAggregates = mock(InventoryAggregates.class);
+
+    private final InventoryTotalsUpdater updater = new InventoryTotalsUpdater(inventoryAggregates);
+
+    private final Product product = new Product(
+            UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 12);
+
+    @BeforeEach
+    void setUp() {
+        product.setReorderThreshold(10);
+    }
+
+    @Test
+    void shouldAddProductOnCreation() {
+        updater.onProductChanged(ProductChangedEvent.created(product));
+
+        verify(inventoryAggregates).add(new InventoryTotals(12, new BigDecimal("42000.00"), 0));
+    }
+
+    @Test
+    void shouldAddDifferenceOnUpdate() {
+        Product updated = product.copy();
+        updated.update("Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3000.00"), 4);
+
+        updater.onProductChanged(ProductChangedEvent.updated(product, updated));
+
+        verify(inventoryAggregates).add(new InventoryTotals(-8, new BigDecimal("-30000.00"), 1));
+    }
+
+    @Test
+    void shouldSubtractProductOnDeactivation() {
+        updater.onProductChanged(ProductChangedEvent.deactivated(product));
+
+        verify(inventoryAggregates).add(new InventoryTotals(-12, new BigDecimal("-42000.00"), 0));
+    }
+
+    @Test
+    void shouldCountLowStockByEachProductReorderThreshold() {
+        Product raised = product.copy();
+        raised.setReorderThreshold(20);
+        Product unwatched = product.copy();
+        unwatched.setReorderThreshold(null);
+        unwatched.update("Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 5);
+
+        updater.onProductChanged(ProductChangedEvent.updated(product, raised));
+        updater.onProductChanged(ProductChangedEvent.created(unwatched));
+
+        verify(inventoryAggregates).add(new InventoryTotals(0, new BigDecimal("0.00"), 1));
+        verify(inventoryAggregates).add(new InventoryTotals(5, new BigDecimal("17500.00"), 0));
+    }
+
+    @Test
+    void shouldIgnoreUpdatesThatKeepStockAndPrice() {
+        Product renamed = product.copy();
+        renamed.update("Notebook Pro", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 12);
+
+        updater.onProductChanged(ProductChangedEvent.updated(product, renamed));
+
+        verifyNoInteractions(inventoryAggregates);
+    }
+}
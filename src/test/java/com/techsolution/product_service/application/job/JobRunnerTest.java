@@ -0,0 +1,220 @@
+package com.techsolution.product_service.application.job;
+
+import com.techsolution.product_service.domain.exception.BusinessException;
+import com.techsolution.product_service.domain.job.Job;
+import com.techsolution.product_service.domain.job.JobRepository;
+import com.techsolution.product_service.domain.job.JobStatus;
+import com.techsolution.product_service.domain.job.JobType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JobRunnerTest {
+
+    private static final String OWNER = "instance:claim";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final CountingHandler handler = new CountingHandler();
+    private JobRunner jobRunner;
+
+    @BeforeEach
+    void setUp() {
+        jobRunner = new JobRunner(
+                jobRepository,
+                List.of(handler),
+                new JobProperties(1, 2, Duration.ZERO, Duration.ofSeconds(5), Duration.ofMinutes(2)),
+                taskScheduler,
+                transactionManager,
+                JsonMapper.builder().build()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRunner.shutdown();
+    }
+
+    @Test
+    void shouldPersistQueuedJobWithSerializedParameters() {
+        Job job = jobRunner.submit(JobType.PRODUCT_DEACTIVATION, new CountingParameters(5), 5);
+
+        assertThat(job.status()).isEqualTo(JobStatus.QUEUED);
+        verify(jobRepository).create(argThat(created ->
+                created.parameters().equals("{\"items\":5}") && created.totalItems() == 5));
+    }
+
+    @Test
+    void shouldRunChunksFromCheckpointUntilDone() {
+        Job job = job("2");
+        when(jobRepository.findById(job.id())).thenReturn(Optional.of(job));
+        when(jobRepository.findStatus(job.id())).thenReturn(Optional.of(JobStatus.RUNNING));
+        when(jobRepository.recordProgress(eq(job.id()), eq(OWNER), anyString(), anyInt(), anyInt(), anyLong()))
+                .thenReturn(true);
+        when(jobRepository.finish(job.id(), OWNER, JobStatus.COMPLETED, null)).thenReturn(true);
+
+        jobRunner.run(job.id(), OWNER);
+
+        verify(jobRepository).recordProgress(eq(job.id()), eq(OWNER), eq("4"), eq(2), eq(0), anyLong());
+        verify(jobRepository).recordProgress(eq(job.id()), eq(OWNER), eq("5"), eq(1), eq(0), anyLong());
+        verify(jobRepository).finish(job.id(), OWNER, JobStatus.COMPLETED, null);
+    }
+
+    @Test
+    void shouldStopWhenJobIsPaused() {
+        Job job = job(null);
+        when(jobRepository.findById(job.id())).thenReturn(Optional.of(job));
+        when(jobRepository.findStatus(job.id())).thenReturn(Optional.of(JobStatus.PAUSED));
+
+        jobRunner.run(job.id(), OWNER);
+
+        assertThat(handler.chunks).isZero();
+        verify(jobRepository, never()).finish(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldStopWithoutFailingWhenOwnershipIsLost() {
+        Job job = job(null);
+        when(jobRepository.findById(job.id())).thenReturn(Optional.of(job));
+        when(jobRepository.findStatus(job.id())).thenReturn(Optional.of(JobStatus.RUNNING));
+        when(jobRepository.recordProgress(any(), any(), any(), anyInt(), anyInt(), anyLong())).thenReturn(false);
+
+        jobRunner.run(job.id(), OWNER);
+
+        assertThat(handler.chunks).isEqualTo(1);
+        verify(jobRepository, never()).finish(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldMarkJobAsFailedWhenChunkThrows() {
+        Job job = job("boom");
+        when(jobRepository.findById(job.id())).thenReturn(Optional.of(job));
+        when(jobRepository.findStatus(job.id())).thenReturn(Optional.of(JobStatus.RUNNING));
+
+        jobRunner.run(job.id(), OWNER);
+
+        verify(jobRepository).finish(eq(job.id()), eq(OWNER), eq(JobStatus.FAILED), anyString());
+    }
+
+    @Test
+    void shouldNotRecordFailureOfJobOwnedByAnotherWorker() {
+        Job job = job("boom");
+        when(jobRepository.findById(job.id())).thenReturn(Optional.of(job));
+        when(jobRepository.findStatus(job.id())).thenReturn(Optional.of(JobStatus.RUNNING));
+        when(jobRepository.finish(eq(job.id()), eq(OWNER), eq(JobStatus.FAILED), anyString())).thenReturn(false);
+
+        jobRunner.run(job.id(), OWNER);
+
+        verify(jobRepository).finish(eq(job.id()), eq(OWNER), eq(JobStatus.FAILED), anyString());
+    }
+
+    @Test
+    void shouldClaimRunnableJobsOnlyUpToFreeWorkers() {
+        UUID first = UUID.randomUUID();
+        CountDownLatch running = new CountDownLatch(1);
+        when(jobRepository.findRunnable(any(), eq(1))).thenReturn(List.of(first));
+        when(jobRepository.claim(eq(first), anyString(), any())).thenReturn(true);
+        when(jobRepository.findById(first)).thenAnswer(invocation -> {
+            running.await();
+            return Optional.empty();
+        });
+
+        jobRunner.dispatch();
+        jobRunner.dispatch();
+        running.countDown();
+
+        verify(jobRepository).claim(eq(first), anyString(), any());
+    }
+
+    @Test
+    void shouldRejectPauseOfFinishedJob() {
+        UUID id = UUID.randomUUID();
+        when(jobRepository.transition(id, EnumSet.of(JobStatus.QUEUED, JobStatus.RUNNING), JobStatus.PAUSED))
+                .thenReturn(false);
+
+        assertThatThrownBy(() -> jobRunner.pause(id)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void shouldRequeueResumedJob() {
+        UUID id = UUID.randomUUID();
+        when(jobRepository.transition(id, EnumSet.of(JobStatus.PAUSED), JobStatus.QUEUED)).thenReturn(true);
+
+        jobRunner.resume(id);
+
+        verify(taskScheduler).schedule(any(Runnable.class), any(java.time.Instant.class));
+    }
+
+    private static Job job(String checkpoint) {
+        return new Job(UUID.randomUUID(), JobType.PRODUCT_DEACTIVATION, JobStatus.RUNNING,
+                "{\"items\":5}", checkpoint, 5, 0, 0, 0, null, null, null, null);
+    }
+
+    record CountingParameters(int items) {
+    }
+
+    /**
+     * Handler de teste: o checkpoint é a posição do próximo item; "boom" falha.
+     */
+    static class CountingHandler implements JobHandler<CountingParameters> {
+        int chunks;
+
+        @Override
+        public JobType type() {
+            return JobType.PRODUCT_DEACTIVATION;
+        }
+
+        @Override
+        public Class<CountingParameters> parametersType() {
+            return CountingParameters.class;
+        }
+
+        @Override
+        public JobChunkResult processChunk(CountingParameters parameters, String checkpoint, int chunkSize) {
+            chunks++;
+            if ("boom".equals(checkpoint)) {
+                throw new IllegalStateException("boom");
+            }
+            int from = checkpoint == null ? 0 : Integer.parseInt(checkpoint);
+            int to = Math.min(from + chunkSize, parameters.items());
+            return new JobChunkResult(String.valueOf(to), to - from, 0, to == parameters.items());
+        }
+    }
+}
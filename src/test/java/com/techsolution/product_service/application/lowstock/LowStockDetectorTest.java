@@ -0,0 +1,79 @@
+package com.techsolution.product_service.application.lowstock;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import com.techsolution.product_service.domain.event.ProductStockLowEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class LowStockDetectorTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LowStockDetector detector;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = new Product(UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 12);
+        product.setReorderThreshold(10);
+    }
+
+    @Test
+    void shouldPublishWhenStockCrossesThreshold() {
+        detector.onProductChanged(ProductChangedEvent.updated(product, withStock(product, 9)));
+
+        verify(eventPublisher).publishEvent(new ProductStockLowEvent(product.getId(), 9, 10));
+    }
+
+    @Test
+    void shouldPublishWhenNewThresholdIsAboveStock() {
+        Product raised = product.copy();
+        raised.setReorderThreshold(20);
+
+        detector.onProductChanged(ProductChangedEvent.updated(product, raised));
+
+        verify(eventPublisher).publishEvent(new ProductStockLowEvent(product.getId(), 12, 20));
+    }
+
+    @Test
+    void shouldNotRepeatWhileStockStaysBelowThreshold() {
+        Product low = withStock(product, 9);
+
+        detector.onProductChanged(ProductChangedEvent.updated(low, withStock(low, 5)));
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldIgnoreProductsWithoutThreshold() {
+        Product unwatched = product.copy();
+        unwatched.setReorderThreshold(null);
+
+        detector.onProductChanged(ProductChangedEvent.updated(unwatched, withStock(unwatched, 0)));
+        detector.onProductChanged(ProductChangedEvent.created(withStock(product, 1)));
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static Product withStock(Product product, int stock) {
+        Product copy = product.copy();
+        copy.update(copy.getName(), copy.getDescription(), copy.getPrice(), stock);
+        return copy;
+    }
+}
@@ -0,0 +1,86 @@
+package com.techsolution.product_service.application.pricing;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAdjustmentChunkProcessorTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PriceAdjustmentChunkProcessor chunkProcessor;
+
+    @Test
+    void shouldAdjustKeyRangeAndPublishChangedProducts() {
+        Product cheap = product("00000000-0000-0000-0000-000000000001", "3.00");
+        Product expensive = product("00000000-0000-0000-0000-000000000002", "10.00");
+        PriceAdjustment adjustment = new PriceAdjustment(
+                PriceAdjustment.Mode.ABSOLUTE, new BigDecimal("-5.00"), null, null);
+        when(productRepository.lockActiveAfter(FIRST_ID, 2)).thenReturn(List.of(cheap, expensive));
+        when(productRepository.adjustPrices(FIRST_ID, expensive.getId(), adjustment)).thenReturn(1);
+
+        PriceAdjustmentChunk chunk = chunkProcessor.process(FIRST_ID, adjustment, 2);
+
+        assertThat(chunk).isEqualTo(new PriceAdjustmentChunk(expensive.getId(), 2, 1, 1));
+        verify(eventPublisher, times(1)).publishEvent(argThat((ProductChangedEvent event) ->
+                event.productId().equals(expensive.getId())
+                        && event.previous().getPrice().compareTo(new BigDecimal("10.00")) == 0
+                        && event.current().getPrice().compareTo(new BigDecimal("5.00")) == 0));
+    }
+
+    @Test
+    void shouldNotPublishProductsOutsideFilter() {
+        Product product = product("00000000-0000-0000-0000-000000000001", "3.00");
+        PriceAdjustment adjustment = new PriceAdjustment(
+                PriceAdjustment.Mode.PERCENTAGE, BigDecimal.TEN, new BigDecimal("5.00"), null);
+        when(productRepository.lockActiveAfter(FIRST_ID, 10)).thenReturn(List.of(product));
+
+        PriceAdjustmentChunk chunk = chunkProcessor.process(FIRST_ID, adjustment, 10);
+
+        assertThat(chunk.scanned()).isEqualTo(1);
+        assertThat(chunk.updated()).isZero();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldReturnEmptyChunkAtEndOfCatalog() {
+        PriceAdjustment adjustment = new PriceAdjustment(PriceAdjustment.Mode.PERCENTAGE, BigDecimal.TEN, null, null);
+        when(productRepository.lockActiveAfter(FIRST_ID, 10)).thenReturn(List.of());
+
+        PriceAdjustmentChunk chunk = chunkProcessor.process(FIRST_ID, adjustment, 10);
+
+        assertThat(chunk).isEqualTo(new PriceAdjustmentChunk(FIRST_ID, 0, 0, 0));
+        verify(productRepository, never()).adjustPrices(any(), any(), any());
+    }
+
+    private static Product product(String id, String price) {
+        return new Product(UUID.fromString(id), "Product", "Description", new BigDecimal(price), 1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.techsolution.product_service.application.pricing;
+
+import com.techsolution.product_service.application.job.JobChunkResult;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAdjustmentJobHandlerTest {
+
+    @Mock
+    private PriceAdjustmentChunkProcessor chunkProcessor;
+
+    @InjectMocks
+    private PriceAdjustmentJobHandler handler;
+
+    private final PriceAdjustment adjustment =
+            new PriceAdjustment(PriceAdjustment.Mode.PERCENTAGE, BigDecimal.TEN, null, null);
+
+    @Test
+    void shouldStartFromFirstIdAndContinueFromLastId() {
+        UUID lastId = UUID.randomUUID();
+        when(chunkProcessor.process(new UUID(0L, 0L), adjustment, 2))
+                .thenReturn(new PriceAdjustmentChunk(lastId, 2, 1, 1));
+
+        JobChunkResult result = handler.processChunk(adjustment, null, 2);
+
+        assertThat(result).isEqualTo(new JobChunkResult(lastId.toString(), 2, 1, false));
+    }
+
+    @Test
+    void shouldFinishWhenChunkIsNotFull() {
+        UUID afterId = UUID.randomUUID();
+        when(chunkProcessor.process(afterId, adjustment, 2)).thenReturn(new PriceAdjustmentChunk(afterId, 0, 0, 0));
+
+        JobChunkResult result = handler.processChunk(adjustment, afterId.toString(), 2);
+
+        assertThat(result.done()).isTrue();
+    }
+}
@@ -0,0 +1,64 @@
+package com.techsolution.product_service.application.readmodel;
+
+import com.techsolution.product_service.api.dto.CreateProductRequest;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.usecase.CreateProductUseCase;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "product-service.read-model.enabled=true",
+        "product-service.read-model.poll-interval=1h"
+})
+@ActiveProfiles("test")
+class ActiveCatalogReadModelIntegrationTest {
+
+    @Autowired
+    private ActiveCatalogReadModel readModel;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private ProductChangeRepository productChangeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        readModel.reload();
+    }
+
+    @Test
+    void shouldApplyLocalWriteRightAfterCommit() {
+        ProductResponse created = createProductUseCase.execute(
+                new CreateProductRequest("Notebook", "Notebook Dell", new BigDecimal("3500.00"), 10));
+
+        assertThat(readModel.findById(created.id())).contains(created);
+    }
+
+    @Test
+    void shouldApplyWriteFromAnotherNodeOnNextPoll() {
+        Product product = new Product(UUID.randomUUID(), "Mouse", "Mouse Logitech", new BigDecimal("50.00"), 20);
+        transactionTemplate.executeWithoutResult(status ->
+                productChangeRepository.append(ProductChangeType.CREATED, product.getId(), product));
+        assertThat(readModel.findById(product.getId())).isEmpty();
+
+        readModel.poll();
+
+        assertThat(readModel.findById(product.getId())).map(ProductResponse::name).contains("Mouse");
+    }
+}
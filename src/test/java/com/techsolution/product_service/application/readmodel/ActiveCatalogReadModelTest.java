@@ -0,0 +1,209 @@
+package com.techsolution.product_service.application.readmodel;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRecordedEvent;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ActiveCatalogReadModelTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductChangeRepository productChangeRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ActiveCatalogReadModel readModel;
+
+    private Product notebook;
+    private Product mouse;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new ActiveCatalogReadModel(productRepository, productChangeRepository, new ProductMapper(),
+                new ReadModelProperties(true, 1, Duration.ofMillis(500), Duration.ofMinutes(1)),
+                taskScheduler, transactionManager);
+        notebook = new Product(UUID.fromString("00000000-0000-0000-0000-000000000001"),
+                "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10);
+        mouse = new Product(UUID.fromString("00000000-0000-0000-0000-000000000002"),
+                "Mouse", "Mouse Logitech", new BigDecimal("50.00"), 20);
+        when(productChangeRepository.findAfter(anyLong(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void shouldNotBeReadyBeforeLoading() {
+        assertThat(readModel.isReady()).isFalse();
+    }
+
+    @Test
+    void shouldLoadCatalogInKeysetBatches() {
+        when(productRepository.findActiveAfter(FIRST_ID, 1)).thenReturn(List.of(notebook));
+        when(productRepository.findActiveAfter(notebook.getId(), 1)).thenReturn(List.of(mouse));
+        when(productRepository.findActiveAfter(mouse.getId(), 1)).thenReturn(List.of());
+
+        readModel.reload();
+
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.findById(mouse.getId())).map(ProductResponse::name).contains("Mouse");
+        PageResponse<ProductResponse> page = readModel.findPage(0, 1).orElseThrow();
+        assertThat(page.content()).extracting(ProductResponse::id).containsExactly(notebook.getId());
+        assertThat(page.totalElements()).isEqualTo(2);
+        assertThat(page.totalPages()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldApplyChangesRecordedOnThisNode() {
+        loadEmptyCatalogAt(0);
+
+        readModel.onProductChangeRecorded(new ProductChangeRecordedEvent(change(1, ProductChangeType.CREATED, notebook)));
+        assertThat(readModel.findById(notebook.getId())).isPresent();
+
+        Product renamed = notebook.copy();
+        renamed.update("Notebook Pro", notebook.getDescription(), notebook.getPrice(), 5);
+        readModel.onProductChangeRecorded(new ProductChangeRecordedEvent(change(2, ProductChangeType.UPDATED, renamed)));
+        assertThat(readModel.findById(notebook.getId())).map(ProductResponse::name).contains("Notebook Pro");
+
+        readModel.onProductChangeRecorded(new ProductChangeRecordedEvent(
+                new ProductChange(3, notebook.getId(), ProductChangeType.DEACTIVATED, Instant.now(), null)));
+        assertThat(readModel.findById(notebook.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreOlderChangeDeliveredAfterNewerOne() {
+        loadEmptyCatalogAt(0);
+        Product renamed = notebook.copy();
+        renamed.update("Notebook Pro", notebook.getDescription(), notebook.getPrice(), 5);
+
+        readModel.apply(change(2, ProductChangeType.UPDATED, renamed));
+        readModel.apply(change(1, ProductChangeType.CREATED, notebook));
+
+        assertThat(readModel.findById(notebook.getId())).map(ProductResponse::name).contains("Notebook Pro");
+    }
+
+    @Test
+    void shouldApplyChangesMadeOnOtherNodesFromFeed() {
+        loadEmptyCatalogAt(10);
+        when(productChangeRepository.findAfter(10L, 1)).thenReturn(List.of(change(11, ProductChangeType.CREATED, mouse)));
+
+        readModel.poll();
+
+        assertThat(readModel.findById(mouse.getId())).isPresent();
+    }
+
+    @Test
+    void shouldReplayChangesCommittedWhileLoading() {
+        when(productChangeRepository.lastSequence()).thenReturn(5L);
+        when(productRepository.findActiveAfter(FIRST_ID, 1)).thenReturn(List.of(notebook));
+        when(productRepository.findActiveAfter(notebook.getId(), 1)).thenReturn(List.of());
+        when(productChangeRepository.findAfter(5L, 1)).thenReturn(List.of(
+                new ProductChange(6, notebook.getId(), ProductChangeType.DEACTIVATED, Instant.now(), null)));
+
+        readModel.reload();
+
+        assertThat(readModel.findById(notebook.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldStopAnsweringWhenNotCaughtUpWithinMaxLag() {
+        readModel = new ActiveCatalogReadModel(productRepository, productChangeRepository, new ProductMapper(),
+                new ReadModelProperties(true, 1, Duration.ofMillis(500), Duration.ZERO),
+                taskScheduler, transactionManager);
+        loadEmptyCatalogAt(0);
+        doThrow(new IllegalStateException("database unavailable")).when(productChangeRepository).findAfter(anyLong(), anyInt());
+
+        readModel.poll();
+
+        assertThat(readModel.isReady()).isFalse();
+    }
+
+    @Test
+    void shouldReloadWhenFeedPositionWasPruned() {
+        loadEmptyCatalogAt(3);
+        when(productChangeRepository.prunedThrough()).thenReturn(8L);
+
+        readModel.poll();
+        assertThat(readModel.isReady()).isFalse();
+
+        when(productChangeRepository.lastSequence()).thenReturn(9L);
+        when(productRepository.findActiveAfter(FIRST_ID, 1)).thenReturn(List.of(mouse));
+        when(productRepository.findActiveAfter(mouse.getId(), 1)).thenReturn(List.of());
+        readModel.poll();
+
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.findById(mouse.getId())).isPresent();
+    }
+
+    @Test
+    void shouldRetryLoadOnNextPollWhenFirstLoadFails() {
+        when(productChangeRepository.lastSequence()).thenThrow(new IllegalStateException("database unavailable"));
+
+        readModel.reload();
+        assertThat(readModel.isReady()).isFalse();
+
+        doReturn(0L).when(productChangeRepository).lastSequence();
+        when(productRepository.findActiveAfter(FIRST_ID, 1)).thenReturn(List.of(notebook));
+        when(productRepository.findActiveAfter(notebook.getId(), 1)).thenReturn(List.of());
+        readModel.poll();
+
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.findById(notebook.getId())).isPresent();
+    }
+
+    @Test
+    void shouldNotPollBeforeStartupLoadRuns() {
+        readModel.poll();
+
+        assertThat(readModel.isReady()).isFalse();
+        verifyNoInteractions(productRepository);
+    }
+
+    private void loadEmptyCatalogAt(long token) {
+        when(productChangeRepository.lastSequence()).thenReturn(token);
+        when(productRepository.findActiveAfter(any(UUID.class), eq(1))).thenReturn(List.of());
+        readModel.reload();
+    }
+
+    private static ProductChange change(long sequence, ProductChangeType type, Product product) {
+        return new ProductChange(sequence, product.getId(), type, Instant.now(), product);
+    }
+}
@@ -0,0 +1,140 @@
+package com.techsolution.product_service.application.readmodel;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedProductCatalogTest {
+
+    private static final UUID LOW_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID MIDDLE_ID = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+    private static final UUID HIGH_ID = UUID.fromString("ffffffff-0000-0000-0000-000000000000");
+
+    @Test
+    void shouldOrderIdsUnsignedLikePostgres() {
+        SortedProductCatalog catalog = catalogOf(product(HIGH_ID, "High"), product(LOW_ID, "Low"), product(MIDDLE_ID, "Middle"));
+
+        assertThat(catalog.slice(0, 10))
+                .extracting(ProductResponse::id)
+                .containsExactly(LOW_ID, MIDDLE_ID, HIGH_ID);
+    }
+
+    @Test
+    void shouldFindProductById() {
+        SortedProductCatalog catalog = catalogOf(product(LOW_ID, "Low"), product(HIGH_ID, "High"));
+
+        assertThat(catalog.find(HIGH_ID)).map(ProductResponse::name).contains("High");
+        assertThat(catalog.find(MIDDLE_ID)).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceExistingProductWithNewerVersion() {
+        SortedProductCatalog catalog = catalogOf(product(LOW_ID, "Low"));
+
+        assertThat(catalog.upsert(product(LOW_ID, "Renamed"), 2)).isTrue();
+
+        assertThat(catalog.size()).isEqualTo(1);
+        assertThat(catalog.find(LOW_ID)).map(ProductResponse::name).contains("Renamed");
+    }
+
+    @Test
+    void shouldIgnoreOlderVersionDeliveredOutOfOrder() {
+        SortedProductCatalog catalog = new SortedProductCatalog();
+        catalog.upsert(product(LOW_ID, "Newer"), 5);
+
+        assertThat(catalog.upsert(product(LOW_ID, "Older"), 4)).isFalse();
+
+        assertThat(catalog.find(LOW_ID)).map(ProductResponse::name).contains("Newer");
+    }
+
+    @Test
+    void shouldRemoveProduct() {
+        SortedProductCatalog catalog = catalogOf(product(LOW_ID, "Low"), product(MIDDLE_ID, "Middle"), product(HIGH_ID, "High"));
+
+        assertThat(catalog.remove(MIDDLE_ID, 2)).isTrue();
+
+        assertThat(catalog.find(MIDDLE_ID)).isEmpty();
+        assertThat(catalog.size()).isEqualTo(2);
+        assertThat(catalog.slice(0, 10))
+                .extracting(ProductResponse::id)
+                .containsExactly(LOW_ID, HIGH_ID);
+    }
+
+    @Test
+    void shouldNotResurrectRemovedProductWithOlderVersion() {
+        SortedProductCatalog catalog = catalogOf(product(LOW_ID, "Low"));
+        catalog.remove(LOW_ID, 3);
+
+        assertThat(catalog.upsert(product(LOW_ID, "Stale"), 2)).isFalse();
+        assertThat(catalog.find(LOW_ID)).isEmpty();
+
+        assertThat(catalog.upsert(product(LOW_ID, "Reactivated"), 4)).isTrue();
+        assertThat(catalog.find(LOW_ID)).map(ProductResponse::name).contains("Reactivated");
+    }
+
+    @Test
+    void shouldForgetTombstonesOnlyThroughGivenVersion() {
+        SortedProductCatalog catalog = new SortedProductCatalog();
+        catalog.remove(LOW_ID, 3);
+        catalog.remove(HIGH_ID, 6);
+
+        catalog.forgetTombstonesThrough(5);
+
+        assertThat(catalog.upsert(product(LOW_ID, "Low"), 2)).isTrue();
+        assertThat(catalog.upsert(product(HIGH_ID, "High"), 5)).isFalse();
+    }
+
+    @Test
+    void shouldSliceByOffset() {
+        SortedProductCatalog catalog = catalogOf(product(LOW_ID, "Low"), product(MIDDLE_ID, "Middle"), product(HIGH_ID, "High"));
+
+        assertThat(catalog.slice(2, 2)).extracting(ProductResponse::id).containsExactly(HIGH_ID);
+        assertThat(catalog.slice(3, 2)).isEmpty();
+    }
+
+    @Test
+    void shouldSliceDeepPagesAcrossBlockSplitsAndRemovals() {
+        SortedProductCatalog catalog = new SortedProductCatalog();
+        List<UUID> ids = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            ids.add(id);
+            catalog.upsert(product(id, "Product " + i), 1);
+        }
+        // Remove faixas inteiras para esvaziar blocos, inclusive o primeiro
+        ids.sort(SortedProductCatalog::compare);
+        List<UUID> removed = new ArrayList<>(ids.subList(0, 3_000));
+        removed.addAll(ids.subList(5_000, 5_500));
+        for (UUID id : removed) {
+            catalog.remove(id, 2);
+        }
+        ids.removeAll(removed);
+
+        assertThat(catalog.size()).isEqualTo(ids.size());
+        for (int offset : new int[]{0, 1, 1_023, 1_024, 2_500, 4_321, ids.size() - 3}) {
+            assertThat(catalog.slice(offset, 10))
+                    .extracting(ProductResponse::id)
+                    .containsExactlyElementsOf(ids.subList(offset, Math.min(offset + 10, ids.size())));
+        }
+    }
+
+    private static SortedProductCatalog catalogOf(ProductResponse... products) {
+        SortedProductCatalog catalog = new SortedProductCatalog();
+        for (ProductResponse product : products) {
+            catalog.upsert(product, 1);
+        }
+        return catalog;
+    }
+
+    private static ProductResponse product(UUID id, String name) {
+        return new ProductResponse(id, name, "Description", new BigDecimal("10.00"), 1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.JobResponse;
+import com.techsolution.product_service.api.dto.PriceAdjustmentRequest;
+import com.techsolution.product_service.application.job.JobRunner;
+import com.techsolution.product_service.application.mapper.JobMapper;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.job.Job;
+import com.techsolution.product_service.domain.job.JobStatus;
+import com.techsolution.product_service.domain.job.JobType;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkPriceAdjustmentUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private JobRunner jobRunner;
+
+    private BulkPriceAdjustmentUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BulkPriceAdjustmentUseCase(productRepository, jobRunner, new JobMapper());
+    }
+
+    @Test
+    void shouldQueuePriceAdjustmentJob() {
+        PriceAdjustment adjustment = new PriceAdjustment(PriceAdjustment.Mode.PERCENTAGE, new BigDecimal("5"), null, null);
+        Job job = Job.queued(JobType.PRICE_ADJUSTMENT, "{}", 42);
+        when(productRepository.countActive()).thenReturn(42L);
+        when(jobRunner.submit(JobType.PRICE_ADJUSTMENT, adjustment, 42)).thenReturn(job);
+
+        JobResponse response = useCase.execute(
+                new PriceAdjustmentRequest(PriceAdjustment.Mode.PERCENTAGE, new BigDecimal("5"), null, null));
+
+        assertThat(response.id()).isEqualTo(job.id());
+        assertThat(response.status()).isEqualTo(JobStatus.QUEUED);
+        assertThat(response.totalItems()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldRejectInvalidAdjustmentBeforeQueueing() {
+        PriceAdjustmentRequest request = new PriceAdjustmentRequest(
+                PriceAdjustment.Mode.PERCENTAGE, new BigDecimal("-100"), null, null);
+
+        assertThatThrownBy(() -> useCase.execute(request)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(jobRunner);
+    }
+}
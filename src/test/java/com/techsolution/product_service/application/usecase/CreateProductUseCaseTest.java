@@ -3,6 +3,8 @@ package com.techsolution.product_service.application.usecase;
 import com.techsolution.product_service.application.mapper.ProductMapper;
 import com.techsolution.product_service.domain.Product;
 import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
 import com.techsolution.product_service.api.dto.CreateProductRequest;
 import com.techsolution.product_service.api.dto.ProductResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,12 +13,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +33,9 @@ class CreateProductUseCaseTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CreateProductUseCase createProductUseCase;
 
@@ -78,6 +85,10 @@ class CreateProductUseCaseTest {
 
         verify(productRepository).save(any(Product.class));
         verify(productMapper).toResponse(savedProduct);
+        verify(eventPublisher).publishEvent(argThat((ProductChangedEvent event) ->
+                event.type() == ProductChangeType.CREATED
+                        && event.productId().equals(savedProduct.getId())
+                        && event.current() == savedProduct));
     }
 
     @Test
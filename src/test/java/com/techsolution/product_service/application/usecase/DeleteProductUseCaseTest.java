@@ -1,6 +1,8 @@
 package com.techsolution.product_service.application.usecase;
 
+import com.techsolution.product_service.domain.Product;
 import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
 import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,10 +10,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,38 +26,56 @@ class DeleteProductUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DeleteProductUseCase deleteProductUseCase;
 
     private UUID productId;
+    private Product product;
 
     @BeforeEach
     void setUp() {
         productId = UUID.randomUUID();
+        product = new Product(productId, "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10);
     }
 
     @Test
     void shouldDeactivateProductSuccessfully() {
-        when(productRepository.existsByIdAndActive(productId)).thenReturn(true);
-        doNothing().when(productRepository).deactivateById(productId);
+        when(productRepository.lockActiveById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.deactivateById(productId)).thenReturn(true);
 
         deleteProductUseCase.execute(productId);
 
-        verify(productRepository).existsByIdAndActive(productId);
         verify(productRepository).deactivateById(productId);
+        verify(eventPublisher).publishEvent(ProductChangedEvent.deactivated(product));
     }
 
     @Test
     void shouldThrowExceptionWhenProductNotFound() {
-        when(productRepository.existsByIdAndActive(productId)).thenReturn(false);
+        when(productRepository.lockActiveById(productId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> deleteProductUseCase.execute(productId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Product")
                 .hasMessageContaining(productId.toString());
 
-        verify(productRepository).existsByIdAndActive(productId);
         verify(productRepository, never()).deactivateById(productId);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenProductDeactivatedConcurrently() {
+        when(productRepository.lockActiveById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.deactivateById(productId)).thenReturn(false);
+
+        assertThatThrownBy(() -> deleteProductUseCase.execute(productId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Product")
+                .hasMessageContaining(productId.toString());
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 }
 
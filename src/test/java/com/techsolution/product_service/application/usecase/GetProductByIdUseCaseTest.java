@@ -1,6 +1,7 @@
 package com.techsolution.product_service.application.usecase;
 
 import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.application.readmodel.ProductReadModel;
 import com.techsolution.product_service.domain.Product;
 import com.techsolution.product_service.domain.ProductRepository;
 import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
@@ -8,16 +9,24 @@ import com.techsolution.product_service.api.dto.ProductResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,7 +39,9 @@ class GetProductByIdUseCaseTest {
     @Mock
     private ProductMapper productMapper;
 
-    @InjectMocks
+    @Mock
+    private ProductReadModel readModel;
+
     private GetProductByIdUseCase getProductByIdUseCase;
 
     private UUID productId;
@@ -46,6 +57,7 @@ class GetProductByIdUseCaseTest {
                 new BigDecimal("3500.00"),
                 10
         );
+        getProductByIdUseCase = new GetProductByIdUseCase(productRepository, productMapper, List.of());
     }
 
     @Test
@@ -85,8 +97,74 @@ class GetProductByIdUseCaseTest {
 
         verify(productRepository).findById(productId);
     }
-}
 
+    @Test
+    void shouldServeProductFromReadyReadModel() {
+        ProductResponse cachedResponse = new ProductResponse(
+                productId, product.getName(), product.getDescription(), product.getPrice(), product.getStockQuantity());
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.findById(productId)).thenReturn(Optional.of(cachedResponse));
+        getProductByIdUseCase = new GetProductByIdUseCase(productRepository, productMapper, List.of(readModel));
+
+        ProductResponse response = getProductByIdUseCase.execute(productId);
+
+        assertThat(response).isSameAs(cachedResponse);
+        verify(productRepository, never()).findById(productId);
+    }
+
+    @Test
+    void shouldThrowWithoutQueryingDatabaseWhenCompleteReadModelMisses() {
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.isComplete()).thenReturn(true);
+        when(readModel.findById(productId)).thenReturn(Optional.empty());
+        getProductByIdUseCase = new GetProductByIdUseCase(productRepository, productMapper, List.of(readModel));
+
+        assertThatThrownBy(() -> getProductByIdUseCase.execute(productId))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(productRepository, never()).findById(productId);
+    }
 
+    @Test
+    void shouldFallBackToRepositoryWhenReadModelIsNotReady() {
+        when(readModel.isReady()).thenReturn(false);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        getProductByIdUseCase = new GetProductByIdUseCase(productRepository, productMapper, List.of(readModel));
 
+        getProductByIdUseCase.execute(productId);
 
+        verify(productRepository).findById(productId);
+        verify(readModel, never()).findById(productId);
+    }
+
+    @Test
+    void shouldShareOneQueryBetweenConcurrentLookupsOfSameProduct() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        when(productRepository.findById(productId)).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            releaseQuery.await(5, TimeUnit.SECONDS);
+            return Optional.of(product);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<ProductResponse>> results = new ArrayList<>();
+            results.add(executor.submit(() -> getProductByIdUseCase.execute(productId)));
+            assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> getProductByIdUseCase.execute(productId)));
+            }
+            Thread.sleep(50);
+            releaseQuery.countDown();
+
+            for (Future<ProductResponse> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(productRepository, times(1)).findById(productId);
+    }
+}
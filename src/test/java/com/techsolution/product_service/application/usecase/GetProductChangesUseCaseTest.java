@@ -0,0 +1,115 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.ChangeFeedResponse;
+import com.techsolution.product_service.application.changefeed.ChangeFeedProperties;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.domain.exception.ChangeTokenExpiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetProductChangesUseCaseTest {
+
+    @Mock
+    private ProductChangeRepository productChangeRepository;
+
+    private GetProductChangesUseCase getProductChangesUseCase;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        getProductChangesUseCase = new GetProductChangesUseCase(
+                productChangeRepository,
+                new ProductMapper(),
+                new ChangeFeedProperties(100, 1000, Duration.ofDays(7), Duration.ofHours(1), 1000, 100)
+        );
+        product = new Product(UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10);
+    }
+
+    @Test
+    void shouldReturnChangesAfterToken() {
+        UUID deactivatedId = UUID.randomUUID();
+        when(productChangeRepository.findAfter(10L, 100)).thenReturn(List.of(
+                new ProductChange(11, product.getId(), ProductChangeType.UPDATED, Instant.now(), product),
+                new ProductChange(12, deactivatedId, ProductChangeType.DEACTIVATED, Instant.now(), null)
+        ));
+
+        ChangeFeedResponse response = getProductChangesUseCase.execute(10, null);
+
+        assertThat(response.changes()).hasSize(2);
+        assertThat(response.changes().get(0).product().name()).isEqualTo("Notebook");
+        assertThat(response.changes().get(1).product()).isNull();
+        assertThat(response.nextToken()).isEqualTo(12);
+        assertThat(response.hasMore()).isFalse();
+    }
+
+    @Test
+    void shouldKeepTokenWhenThereAreNoChanges() {
+        when(productChangeRepository.findAfter(42L, 100)).thenReturn(List.of());
+
+        ChangeFeedResponse response = getProductChangesUseCase.execute(42, null);
+
+        assertThat(response.changes()).isEmpty();
+        assertThat(response.nextToken()).isEqualTo(42);
+        assertThat(response.hasMore()).isFalse();
+    }
+
+    @Test
+    void shouldReportMoreChangesWhenBatchIsFull() {
+        when(productChangeRepository.findAfter(0L, 1)).thenReturn(List.of(
+                new ProductChange(1, product.getId(), ProductChangeType.CREATED, Instant.now(), product)
+        ));
+
+        ChangeFeedResponse response = getProductChangesUseCase.execute(0, 1);
+
+        assertThat(response.hasMore()).isTrue();
+        assertThat(response.nextToken()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectTokensOlderThanTheRetainedChanges() {
+        when(productChangeRepository.findAfter(3L, 100)).thenReturn(List.of());
+        when(productChangeRepository.prunedThrough()).thenReturn(5L);
+
+        assertThatThrownBy(() -> getProductChangesUseCase.execute(3, null))
+                .isInstanceOf(ChangeTokenExpiredException.class)
+                .hasMessageContaining("pruned through 5");
+    }
+
+    @Test
+    void shouldAcceptTheLastPrunedToken() {
+        when(productChangeRepository.findAfter(5L, 100)).thenReturn(List.of());
+        when(productChangeRepository.prunedThrough()).thenReturn(5L);
+
+        assertThat(getProductChangesUseCase.execute(5, null).nextToken()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> getProductChangesUseCase.execute(-1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getProductChangesUseCase.execute(0, 1001))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Limit must be between 1 and 1000");
+
+        verifyNoInteractions(productChangeRepository);
+    }
+}
@@ -1,23 +1,23 @@
 package com.techsolution.product_service.application.usecase;
 
-import com.techsolution.product_service.application.mapper.ProductMapper;
-import com.techsolution.product_service.domain.Product;
-import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.application.query.ProductQueryRepository;
+import com.techsolution.product_service.application.readmodel.ProductReadModel;
 import com.techsolution.product_service.api.dto.PageResponse;
 import com.techsolution.product_service.api.dto.ProductResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,19 +25,18 @@ import static org.mockito.Mockito.when;
 class ListProductsUseCaseTest {
 
     @Mock
-    private ProductRepository productRepository;
+    private ProductQueryRepository productQueryRepository;
 
     @Mock
-    private ProductMapper productMapper;
+    private ProductReadModel readModel;
 
-    @InjectMocks
     private ListProductsUseCase listProductsUseCase;
 
-    private List<Product> products;
+    private List<ProductResponse> products;
 
     @BeforeEach
     void setUp() {
-        Product product1 = new Product(
+        ProductResponse product1 = new ProductResponse(
                 UUID.randomUUID(),
                 "Notebook",
                 "Notebook Dell Inspiron 15",
@@ -45,7 +44,7 @@ class ListProductsUseCaseTest {
                 10
         );
 
-        Product product2 = new Product(
+        ProductResponse product2 = new ProductResponse(
                 UUID.randomUUID(),
                 "Mouse",
                 "Mouse Logitech",
@@ -54,65 +53,41 @@ class ListProductsUseCaseTest {
         );
 
         products = Arrays.asList(product1, product2);
+        listProductsUseCase = new ListProductsUseCase(productQueryRepository, List.of());
     }
 
     @Test
     void shouldListAllProductsSuccessfully() {
-        List<ProductResponse> expectedResponses = Arrays.asList(
-                new ProductResponse(products.get(0).getId(), products.get(0).getName(), 
-                        products.get(0).getDescription(), products.get(0).getPrice(), 
-                        products.get(0).getStockQuantity()),
-                new ProductResponse(products.get(1).getId(), products.get(1).getName(), 
-                        products.get(1).getDescription(), products.get(1).getPrice(), 
-                        products.get(1).getStockQuantity())
-        );
-
-        when(productRepository.findAll()).thenReturn(products);
-        when(productMapper.toResponseList(products)).thenReturn(expectedResponses);
+        when(productQueryRepository.findAllActive()).thenReturn(products);
 
         List<ProductResponse> response = listProductsUseCase.execute();
 
         assertThat(response).isNotNull();
         assertThat(response).hasSize(2);
-        assertThat(response.get(0).name()).isEqualTo(products.get(0).getName());
-        assertThat(response.get(1).name()).isEqualTo(products.get(1).getName());
+        assertThat(response.get(0).name()).isEqualTo(products.get(0).name());
+        assertThat(response.get(1).name()).isEqualTo(products.get(1).name());
 
-        verify(productRepository).findAll();
-        verify(productMapper).toResponseList(products);
+        verify(productQueryRepository).findAllActive();
     }
 
     @Test
     void shouldReturnEmptyListWhenNoProducts() {
-        when(productRepository.findAll()).thenReturn(List.of());
-        when(productMapper.toResponseList(List.of())).thenReturn(List.of());
+        when(productQueryRepository.findAllActive()).thenReturn(List.of());
 
         List<ProductResponse> response = listProductsUseCase.execute();
 
         assertThat(response).isNotNull();
         assertThat(response).isEmpty();
 
-        verify(productRepository).findAll();
-        verify(productMapper).toResponseList(List.of());
+        verify(productQueryRepository).findAllActive();
     }
 
     @Test
     void shouldListProductsWithPagination() {
         int page = 0;
         int size = 20;
-        ProductRepository.PageResult<Product> pageResult = new ProductRepository.PageResult<>(
-                products, 2L, 1
-        );
-        List<ProductResponse> expectedResponses = Arrays.asList(
-                new ProductResponse(products.get(0).getId(), products.get(0).getName(), 
-                        products.get(0).getDescription(), products.get(0).getPrice(), 
-                        products.get(0).getStockQuantity()),
-                new ProductResponse(products.get(1).getId(), products.get(1).getName(), 
-                        products.get(1).getDescription(), products.get(1).getPrice(), 
-                        products.get(1).getStockQuantity())
-        );
-
-        when(productRepository.findAll(page, size)).thenReturn(pageResult);
-        when(productMapper.toResponseList(products)).thenReturn(expectedResponses);
+        when(productQueryRepository.findActivePage(page, size))
+                .thenReturn(PageResponse.of(products, page, size, 2L));
 
         PageResponse<ProductResponse> response = listProductsUseCase.execute(page, size);
 
@@ -121,10 +96,20 @@ class ListProductsUseCaseTest {
         assertThat(response.totalElements()).isEqualTo(2L);
         assertThat(response.totalPages()).isEqualTo(1);
 
-        verify(productRepository).findAll(page, size);
-        verify(productMapper).toResponseList(products);
+        verify(productQueryRepository).findActivePage(page, size);
     }
-}
 
+    @Test
+    void shouldServePageFromCompleteReadModel() {
+        PageResponse<ProductResponse> cachedPage = PageResponse.of(List.of(), 0, 20, 0);
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.isComplete()).thenReturn(true);
+        when(readModel.findPage(0, 20)).thenReturn(Optional.of(cachedPage));
+        listProductsUseCase = new ListProductsUseCase(productQueryRepository, List.of(readModel));
 
+        PageResponse<ProductResponse> response = listProductsUseCase.execute(0, 20);
 
+        assertThat(response).isSameAs(cachedPage);
+        verify(productQueryRepository, never()).findActivePage(0, 20);
+    }
+}
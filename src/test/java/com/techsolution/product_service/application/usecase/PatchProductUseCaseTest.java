@@ -0,0 +1,108 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.api.dto.PatchProductRequest;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductPatch;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PatchProductUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PatchProductUseCase patchProductUseCase;
+    private UUID productId;
+    private Product existing;
+
+    @BeforeEach
+    void setUp() {
+        patchProductUseCase = new PatchProductUseCase(productRepository, new ProductMapper(), eventPublisher);
+        productId = UUID.randomUUID();
+        existing = new Product(productId, "Notebook", "Notebook Dell", new BigDecimal("3500.00"), 10);
+    }
+
+    @Test
+    void shouldUpdateOnlyChangedFields() {
+        when(productRepository.findById(productId)).thenReturn(Optional.of(existing));
+        PatchProductRequest request = new PatchProductRequest("Notebook", null, null, 7);
+        when(productRepository.applyPatch(productId, new ProductPatch(null, null, null, 7))).thenReturn(true);
+
+        ProductResponse response = patchProductUseCase.execute(productId, request);
+
+        assertThat(response.stockQuantity()).isEqualTo(7);
+        assertThat(response.price()).isEqualByComparingTo("3500.00");
+        verify(productRepository).applyPatch(productId, new ProductPatch(null, null, null, 7));
+        verify(eventPublisher).publishEvent(argThat((ProductChangedEvent event) ->
+                event.type() == ProductChangeType.UPDATED
+                        && event.previous().getStockQuantity() == 10
+                        && event.current().getStockQuantity() == 7));
+    }
+
+    @Test
+    void shouldIgnorePriceWithDifferentScale() {
+        when(productRepository.findById(productId)).thenReturn(Optional.of(existing));
+        PatchProductRequest request = new PatchProductRequest(null, null, new BigDecimal("3500"), null);
+
+        patchProductUseCase.execute(productId, request);
+
+        verify(productRepository, never()).applyPatch(eq(productId), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldRejectInvalidResultingProduct() {
+        when(productRepository.findById(productId)).thenReturn(Optional.of(existing));
+        PatchProductRequest request = new PatchProductRequest(null, null, null, -1);
+
+        assertThatThrownBy(() -> patchProductUseCase.execute(productId, request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(productRepository, never()).applyPatch(eq(productId), any());
+    }
+
+    @Test
+    void shouldThrowWhenProductIsDeactivatedConcurrently() {
+        when(productRepository.findById(productId)).thenReturn(Optional.of(existing));
+        when(productRepository.applyPatch(productId, new ProductPatch(null, null, null, 7))).thenReturn(false);
+
+        assertThatThrownBy(() -> patchProductUseCase.execute(productId, new PatchProductRequest(null, null, null, 7)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldThrowWhenProductNotFound() {
+        UUID missing = UUID.randomUUID();
+        when(productRepository.findById(missing)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> patchProductUseCase.execute(missing, new PatchProductRequest("X", null, null, null)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
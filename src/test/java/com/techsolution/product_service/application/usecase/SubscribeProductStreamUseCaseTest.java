@@ -0,0 +1,42 @@
+package com.techsolution.product_service.application.usecase;
+
+import com.techsolution.product_service.application.stream.ProductStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubscribeProductStreamUseCaseTest {
+
+    @Mock
+    private ProductStream productStream;
+
+    @InjectMocks
+    private SubscribeProductStreamUseCase subscribeProductStreamUseCase;
+
+    @Test
+    void shouldSubscribeToRequestedProducts() {
+        Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        SseEmitter emitter = new SseEmitter();
+        when(productStream.subscribe(ids)).thenReturn(emitter);
+
+        assertThat(subscribeProductStreamUseCase.execute(ids)).isSameAs(emitter);
+    }
+
+    @Test
+    void shouldSubscribeToAllProductsWithoutIds() {
+        SseEmitter emitter = new SseEmitter();
+        when(productStream.subscribe(Set.of())).thenReturn(emitter);
+
+        assertThat(subscribeProductStreamUseCase.execute(null)).isSameAs(emitter);
+    }
+}
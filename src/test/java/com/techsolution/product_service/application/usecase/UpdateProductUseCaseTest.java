@@ -3,6 +3,8 @@ package com.techsolution.product_service.application.usecase;
 import com.techsolution.product_service.application.mapper.ProductMapper;
 import com.techsolution.product_service.domain.Product;
 import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
 import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
 import com.techsolution.product_service.api.dto.ProductResponse;
 import com.techsolution.product_service.api.dto.UpdateProductRequest;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -20,6 +23,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +36,9 @@ class UpdateProductUseCaseTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UpdateProductUseCase updateProductUseCase;
 
@@ -91,6 +98,10 @@ class UpdateProductUseCaseTest {
         verify(productRepository).findById(productId);
         verify(productRepository).save(any(Product.class));
         verify(productMapper).toResponse(any(Product.class));
+        verify(eventPublisher).publishEvent(argThat((ProductChangedEvent event) ->
+                event.type() == ProductChangeType.UPDATED
+                        && event.previous().getName().equals("Old Name")
+                        && event.current().getName().equals(request.name())));
     }
 
     @Test
@@ -104,6 +115,7 @@ class UpdateProductUseCaseTest {
 
         verify(productRepository).findById(productId);
         verify(productRepository, org.mockito.Mockito.never()).save(any(Product.class));
+        verify(eventPublisher, org.mockito.Mockito.never()).publishEvent(any(Object.class));
     }
 }
 
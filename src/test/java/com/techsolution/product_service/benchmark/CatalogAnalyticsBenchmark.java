@@ -0,0 +1,60 @@
+package com.techsolution.product_service.benchmark;
+
+import com.techsolution.product_service.application.analytics.AnalyticsFilter;
+import com.techsolution.product_service.application.analytics.ColumnarCatalog;
+import com.techsolution.product_service.application.analytics.HistogramField;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Mede as varreduras da projeção colunar com 10 milhões de produtos: resumo filtrado e
+ * histograma de preços, numa única thread e divididas no ForkJoinPool comum.
+ *
+ * Execute com: mvn test -Pbenchmark -Dtest=CatalogAnalyticsBenchmark
+ */
+class CatalogAnalyticsBenchmark {
+
+    private static final int PRODUCTS = 10_000_000;
+    private static final int PARALLEL_THRESHOLD = 65_536;
+    private static final int WARM_UP_OPERATIONS = 20;
+    private static final int OPERATIONS = 50;
+
+    @Test
+    void scanTime() {
+        ColumnarCatalog catalog = new ColumnarCatalog(PRODUCTS);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < PRODUCTS; i++) {
+            catalog.upsert(new UUID(random.nextLong(), random.nextLong()),
+                    random.nextLong(100, 1_000_000), random.nextInt(0, 500), 0L);
+        }
+        AnalyticsFilter filter = new AnalyticsFilter(10_000L, 500_000L, 1, Integer.MAX_VALUE);
+
+        System.out.printf("cores: %d, products: %d%n", Runtime.getRuntime().availableProcessors(), catalog.size());
+        print("summary 1 thread", measure(operation -> catalog.summarize(filter, Integer.MAX_VALUE)));
+        print("summary parallel", measure(operation -> catalog.summarize(filter, PARALLEL_THRESHOLD)));
+        print("histogram 1 thread", measure(operation ->
+                catalog.histogram(HistogramField.PRICE, filter, 10_000L, 10_000L, 50, Integer.MAX_VALUE)));
+        print("histogram parallel", measure(operation ->
+                catalog.histogram(HistogramField.PRICE, filter, 10_000L, 10_000L, 50, PARALLEL_THRESHOLD)));
+    }
+
+    private static long measure(IntFunction<Object> operation) {
+        Object sink = null;
+        for (int i = 0; i < WARM_UP_OPERATIONS; i++) {
+            sink = operation.apply(i);
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            sink = operation.apply(i);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        return sink != null ? elapsed / OPERATIONS : -1;
+    }
+
+    private static void print(String scenario, long nanosPerOperation) {
+        System.out.printf("%-20s %8.2f ms/scan%n", scenario, nanosPerOperation / 1_000_000.0);
+    }
+}
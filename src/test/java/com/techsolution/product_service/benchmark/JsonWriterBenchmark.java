@@ -0,0 +1,142 @@
+package com.techsolution.product_service.benchmark;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.infrastructure.codec.ProductJsonWriter;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Compara o Jackson com o ProductJsonWriter na escrita de um produto e de uma página de 100
+ * produtos: tempo e memória alocada por resposta. Os dois escrevem num OutputStream que
+ * descarta os bytes, como o corpo da resposta HTTP.
+ *
+ * O BigDecimal guarda o resultado do toString, então reescrever as mesmas instâncias não
+ * aloca o texto do preço. Os cenários "fresh" recriam produtos e preços a cada resposta, como
+ * acontece com dados lidos do banco; o cenário "fresh copy" mede só essa cópia, para que o
+ * custo da serialização seja a diferença entre os dois.
+ *
+ * Execute com: mvn test -Pbenchmark -Dtest=JsonWriterBenchmark
+ */
+class JsonWriterBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARM_UP_OPERATIONS = 20_000;
+    private static final int OPERATIONS = 50_000;
+
+    private final JsonMapper jsonMapper = JsonMapper.shared();
+    private final OutputStream body = new DiscardingOutputStream();
+
+    @Test
+    void serializationCostPerResponse() {
+        PageResponse<ProductResponse> page = page();
+        ProductResponse product = page.content().get(0);
+
+        print("jackson product", measure(operation -> jackson(product)));
+        print("writer product", measure(operation -> writer(product)));
+        print("jackson page", measure(operation -> jackson(page)));
+        print("writer page", measure(operation -> writer(page)));
+
+        print("fresh copy", measure(operation -> copy(page)));
+        print("jackson fresh", measure(operation -> jackson(copy(page))));
+        print("writer fresh", measure(operation -> writer(copy(page))));
+    }
+
+    private static PageResponse<ProductResponse> copy(PageResponse<ProductResponse> page) {
+        List<ProductResponse> content = new ArrayList<>(page.content().size());
+        for (ProductResponse product : page.content()) {
+            BigDecimal price = BigDecimal.valueOf(product.price().unscaledValue().longValue(), product.price().scale());
+            content.add(new ProductResponse(product.id(), product.name(), product.description(), price,
+                    product.stockQuantity()));
+        }
+        return PageResponse.of(content, page.page(), page.size(), page.totalElements());
+    }
+
+    private static PageResponse<ProductResponse> page() {
+        List<ProductResponse> content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            content.add(new ProductResponse(UUID.randomUUID(), "Product " + i,
+                    "Description of product number " + i, new BigDecimal("1999.90").add(BigDecimal.valueOf(i)), i));
+        }
+        return PageResponse.of(content, 0, PAGE_SIZE, 10_000);
+    }
+
+    private Object jackson(Object value) {
+        jsonMapper.writeValue(body, value);
+        return value;
+    }
+
+    private Object writer(ProductResponse product) {
+        ProductJsonWriter writer = ProductJsonWriter.acquire();
+        try {
+            writer.write(product).writeTo(body);
+            return writer;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            writer.release();
+        }
+    }
+
+    private Object writer(PageResponse<ProductResponse> page) {
+        ProductJsonWriter writer = ProductJsonWriter.acquire();
+        try {
+            writer.write(page).writeTo(body);
+            return writer;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            writer.release();
+        }
+    }
+
+    private static Result measure(IntFunction<Object> operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        Object sink = null;
+        for (int i = 0; i < WARM_UP_OPERATIONS; i++) {
+            sink = operation.apply(i);
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            sink = operation.apply(i);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(allocated / OPERATIONS, elapsed / OPERATIONS, sink != null);
+    }
+
+    private static void print(String scenario, Result result) {
+        System.out.printf("%-16s %9d bytes allocated/response  %7.2f us/response%n",
+                scenario, result.bytesPerOperation, result.nanosPerOperation / 1000.0);
+    }
+
+    /**
+     * Descarta os bytes e ignora close, pois o Jackson fecha o destino ao terminar.
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    private record Result(long bytesPerOperation, long nanosPerOperation, boolean consumed) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.techsolution.product_service.benchmark;
+
+import com.techsolution.product_service.infrastructure.config.ConcurrencyLimitProperties;
+import com.techsolution.product_service.infrastructure.web.AdaptiveConcurrencyLimiter;
+import com.techsolution.product_service.infrastructure.web.EndpointClass;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Simula o serviço sob sobrecarga e mede o goodput (respostas bem-sucedidas dentro do prazo
+ * do cliente por segundo) com e sem o limitador adaptativo.
+ *
+ * O "banco" é um pool de 10 conexões; leituras por id levam 2ms e listagens 8ms (80/20), o
+ * que dá uma capacidade de ~3100 req/s. As requisições chegam em taxa fixa (carga aberta) a
+ * um pool de 200 threads, como o Tomcat, e o cliente desiste depois de 1s.
+ *
+ * Execute com: mvn test -Pbenchmark -Dtest=LoadSheddingGoodputBenchmark
+ */
+class LoadSheddingGoodputBenchmark {
+
+    private static final int CONNECTIONS = 10;
+    private static final long READ_SERVICE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long LIST_SERVICE_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+    private static final double LIST_RATIO = 0.2;
+    private static final double CAPACITY_PER_SECOND =
+            CONNECTIONS / ((1 - LIST_RATIO) * 0.002 + LIST_RATIO * 0.008);
+    private static final long DEADLINE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration WARM_UP = Duration.ofSeconds(2);
+    private static final Duration MEASURE = Duration.ofSeconds(8);
+
+    @Test
+    void goodputUnderOverload() throws Exception {
+        System.out.printf("capacity ~%.0f req/s, deadline %d ms%n", CAPACITY_PER_SECOND, DEADLINE_NANOS / 1_000_000);
+        print("1x, no limiter", run(1.0, false));
+        print("3x, no limiter", run(3.0, false));
+        print("3x, adaptive limiter", run(3.0, true));
+    }
+
+    private Result run(double overload, boolean limited) throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties(
+                true, 50, 10, 500, 2.0, 0.2, 20, 1.0, 0.8, 0.5, Duration.ofSeconds(1)));
+        Semaphore connections = new Semaphore(CONNECTIONS);
+        ThreadPoolExecutor tomcat = new ThreadPoolExecutor(
+                200, 200, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        Result result = new Result();
+
+        long start = System.nanoTime();
+        long measureFrom = start + WARM_UP.toNanos();
+        long end = measureFrom + MEASURE.toNanos();
+        double perMilli = CAPACITY_PER_SECOND * overload / 1000;
+        double due = 0;
+
+        while (System.nanoTime() < end) {
+            due += perMilli;
+            for (; due >= 1; due--) {
+                long arrivedAt = System.nanoTime();
+                EndpointClass endpointClass =
+                        ThreadLocalRandom.current().nextDouble() < LIST_RATIO ? EndpointClass.LIST : EndpointClass.READ;
+                boolean measured = arrivedAt >= measureFrom;
+                if (measured) {
+                    result.offered.incrementAndGet();
+                }
+                tomcat.execute(() -> handle(endpointClass, arrivedAt, measured, limited ? limiter : null, connections, result));
+            }
+            LockSupport.parkNanos(1_000_000);
+        }
+
+        tomcat.shutdownNow();
+        tomcat.awaitTermination(10, TimeUnit.SECONDS);
+        result.finalLimit = limiter.getLimit();
+        return result;
+    }
+
+    private void handle(
+            EndpointClass endpointClass,
+            long arrivedAt,
+            boolean measured,
+            AdaptiveConcurrencyLimiter limiter,
+            Semaphore connections,
+            Result result
+    ) {
+        AdaptiveConcurrencyLimiter.Permit permit = null;
+        if (limiter != null) {
+            permit = limiter.tryAcquire(endpointClass);
+            if (permit == null) {
+                if (measured) {
+                    result.rejected.incrementAndGet();
+                }
+                return;
+            }
+        }
+
+        try {
+            connections.acquire();
+            try {
+                LockSupport.parkNanos(endpointClass == EndpointClass.LIST ? LIST_SERVICE_NANOS : READ_SERVICE_NANOS);
+            } finally {
+                connections.release();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            if (permit != null) {
+                permit.release();
+            }
+        }
+
+        long latency = System.nanoTime() - arrivedAt;
+        if (measured && latency <= DEADLINE_NANOS) {
+            result.good.incrementAndGet(endpointClass.ordinal());
+            result.recordLatency(latency);
+        }
+    }
+
+    private static void print(String scenario, Result result) {
+        double seconds = MEASURE.toMillis() / 1000.0;
+        System.out.printf(
+                "%-22s offered %6.0f/s  goodput %6.0f/s (read %6.0f/s, list %5.0f/s)  rejected %6.0f/s  p99 %5d ms  limit %d%n",
+                scenario,
+                result.offered.get() / seconds,
+                (result.good.get(EndpointClass.READ.ordinal()) + result.good.get(EndpointClass.LIST.ordinal())) / seconds,
+                result.good.get(EndpointClass.READ.ordinal()) / seconds,
+                result.good.get(EndpointClass.LIST.ordinal()) / seconds,
+                result.rejected.get() / seconds,
+                result.p99Millis(),
+                result.finalLimit
+        );
+    }
+
+    private static final class Result {
+        final AtomicLong offered = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLongArray good = new AtomicLongArray(EndpointClass.values().length);
+        final AtomicLongArray latencyHistogram = new AtomicLongArray(1001);
+        int finalLimit;
+
+        void recordLatency(long nanos) {
+            latencyHistogram.incrementAndGet((int) Math.min(1000, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        }
+
+        long p99Millis() {
+            long[] counts = new long[latencyHistogram.length()];
+            Arrays.setAll(counts, latencyHistogram::get);
+            long total = Arrays.stream(counts).sum();
+            long seen = 0;
+            for (int millis = 0; millis < counts.length; millis++) {
+                seen += counts[millis];
+                if (seen >= total * 0.99) {
+                    return millis;
+                }
+            }
+            return counts.length - 1;
+        }
+    }
+}
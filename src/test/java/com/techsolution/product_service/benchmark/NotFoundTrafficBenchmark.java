@@ -0,0 +1,125 @@
+package com.techsolution.product_service.benchmark;
+
+import com.techsolution.product_service.ProductServiceApplication;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Mede o custo das respostas 404 de ids inexistentes, o tráfego típico de robôs.
+ *
+ * Primeiro compara só a criação da exceção a 100 frames de profundidade (próximo da pilha de
+ * uma requisição no Spring MVC): uma RuntimeException comum, que captura o stack trace, e a
+ * ResourceNotFoundException sem stack trace. Depois percorre a requisição inteira no
+ * DispatcherServlet (MockMvc sobre a aplicação com H2), comparando GET /products/{id} de um
+ * produto existente com o de um id inexistente, que passa pelo GlobalExceptionHandler.
+ *
+ * Execute com: mvn test -Pbenchmark -Dtest=NotFoundTrafficBenchmark
+ */
+class NotFoundTrafficBenchmark {
+
+    private static final int STACK_DEPTH = 100;
+    private static final int PRODUCTS = 100;
+    private static final int MISSING_IDS = 10_000;
+    private static final int WARM_UP_OPERATIONS = 5_000;
+    private static final int OPERATIONS = 20_000;
+
+    @Test
+    void exceptionCost() {
+        UUID id = UUID.randomUUID();
+        print("exception with stack", measure(operation -> atDepth(STACK_DEPTH,
+                () -> new RuntimeException("Product with id " + id + " not found"))));
+        print("stackless exception", measure(operation -> atDepth(STACK_DEPTH,
+                () -> new ResourceNotFoundException("Product", id))));
+    }
+
+    @Test
+    void notFoundRequests() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:not-found-benchmark",
+                        "--logging.level.com.techsolution.product_service=WARN"
+                )) {
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+            UUID[] existingIds = new UUID[PRODUCTS];
+            for (int i = 0; i < PRODUCTS; i++) {
+                existingIds[i] = productRepository.save(new Product(
+                        UUID.randomUUID(), "Product " + i, "Description " + i, new BigDecimal("10.00"), 10)).getId();
+            }
+            UUID[] missingIds = new UUID[MISSING_IDS];
+            for (int i = 0; i < MISSING_IDS; i++) {
+                missingIds[i] = UUID.randomUUID();
+            }
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+            print("GET existing id", measure(operation ->
+                    perform(mockMvc, existingIds[operation % PRODUCTS], 200)));
+            print("GET missing id", measure(operation ->
+                    perform(mockMvc, missingIds[operation % MISSING_IDS], 404)));
+        }
+    }
+
+    private static Object perform(MockMvc mockMvc, UUID id, int expectedStatus) {
+        try {
+            int status = mockMvc.perform(get("/products/{id}", id)).andReturn().getResponse().getStatus();
+            if (status != expectedStatus) {
+                throw new IllegalStateException("Expected " + expectedStatus + " but got " + status);
+            }
+            return status;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Object atDepth(int depth, Supplier<Object> supplier) {
+        return depth == 0 ? supplier.get() : atDepth(depth - 1, supplier);
+    }
+
+    private static Result measure(Operation operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        Object sink = null;
+        for (int i = 0; i < WARM_UP_OPERATIONS; i++) {
+            sink = operation.run(i);
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            sink = operation.run(i);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(allocated / OPERATIONS, elapsed / OPERATIONS, sink != null);
+    }
+
+    private static void print(String scenario, Result result) {
+        System.out.printf("%-22s %9d bytes/operation  %8.2f us/operation%n",
+                scenario, result.bytesPerOperation, result.nanosPerOperation / 1000.0);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        Object run(int operation);
+    }
+
+    private record Result(long bytesPerOperation, long nanosPerOperation, boolean consumed) {
+    }
+}
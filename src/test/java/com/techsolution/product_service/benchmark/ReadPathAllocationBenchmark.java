@@ -0,0 +1,98 @@
+package com.techsolution.product_service.benchmark;
+
+import com.techsolution.product_service.ProductServiceApplication;
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.application.query.ProductQueryRepository;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Compara a memória alocada por requisição nas listagens antes e depois da projeção em DTO:
+ * o caminho antigo carrega entidades gerenciadas, converte para Product e depois para
+ * ProductResponse; o novo monta o ProductResponse direto na consulta.
+ *
+ * Roda a aplicação sobre H2 em memória com 1000 produtos. A alocação é medida pela JVM por
+ * thread (com.sun.management.ThreadMXBean), então inclui o driver JDBC e o Hibernate.
+ *
+ * Execute com: mvn test -Pbenchmark -Dtest=ReadPathAllocationBenchmark
+ */
+class ReadPathAllocationBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARM_UP_OPERATIONS = 3_000;
+    private static final int OPERATIONS = 10_000;
+
+    @Test
+    void allocationPerRequest() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:read-path-benchmark",
+                        "--logging.level.com.techsolution.product_service=WARN"
+                )) {
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+            ProductQueryRepository productQueryRepository = context.getBean(ProductQueryRepository.class);
+            ProductMapper productMapper = context.getBean(ProductMapper.class);
+
+            for (int i = 0; i < PRODUCTS; i++) {
+                productRepository.save(new Product(
+                        UUID.randomUUID(), "Product " + i, "Description " + i, new BigDecimal("10.00"), 10));
+            }
+            int pages = PRODUCTS / PAGE_SIZE;
+
+            print("page, entities", measure(OPERATIONS, operation -> {
+                ProductRepository.PageResult<Product> result = productRepository.findAll(operation % pages, PAGE_SIZE);
+                return PageResponse.of(productMapper.toResponseList(result.content()),
+                        operation % pages, PAGE_SIZE, result.totalElements());
+            }));
+            print("page, projection", measure(OPERATIONS, operation ->
+                    productQueryRepository.findActivePage(operation % pages, PAGE_SIZE)));
+            print("list all, entities", measure(OPERATIONS / 20, operation ->
+                    productMapper.toResponseList(productRepository.findAll())));
+            print("list all, projection", measure(OPERATIONS / 20, operation ->
+                    productQueryRepository.findAllActive()));
+        }
+    }
+
+    private static Result measure(int operations, Operation operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        Object sink = null;
+        for (int i = 0; i < WARM_UP_OPERATIONS * operations / OPERATIONS; i++) {
+            sink = operation.run(i);
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            sink = operation.run(i);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(allocated / operations, elapsed / operations, sink != null);
+    }
+
+    private static void print(String scenario, Result result) {
+        System.out.printf("%-22s %9d bytes/request  %7.1f us/request%n",
+                scenario, result.bytesPerOperation, result.nanosPerOperation / 1000.0);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        Object run(int operation);
+    }
+
+    private record Result(long bytesPerOperation, long nanosPerOperation, boolean consumed) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.techsolution.product_service.benchmark;
+
+import com.techsolution.product_service.ProductServiceApplication;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Mede quantos statements chegam ao banco com e sem o cache de segundo nível, sob uma carga
+ * de leitura concentrada: 90% buscas por id (80% delas em 10% dos produtos), 9% listagens
+ * paginadas e 1% atualizações de produto.
+ *
+ * Roda a aplicação duas vezes sobre H2 em memória, uma com o cache ligado e outra desligado,
+ * e compara o número de statements preparados contados pelas estatísticas do Hibernate.
+ *
+ * Execute com: mvn test -Pbenchmark -Dtest=SecondLevelCacheBenchmark
+ */
+class SecondLevelCacheBenchmark {
+
+    private static final int PRODUCTS = 2_000;
+    private static final int WARM_UP_OPERATIONS = 20_000;
+    private static final int OPERATIONS = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Test
+    void databaseRoundTrips() {
+        print("cache off", run(false));
+        print("cache on", run(true));
+    }
+
+    private Result run(boolean cacheEnabled) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:l2-benchmark-" + cacheEnabled,
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cacheEnabled,
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=" + cacheEnabled,
+                        "--logging.level.com.techsolution.product_service=WARN"
+                )) {
+            ProductRepository repository = context.getBean(ProductRepository.class);
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+
+            List<Product> products = new ArrayList<>(PRODUCTS);
+            for (int i = 0; i < PRODUCTS; i++) {
+                products.add(repository.save(new Product(
+                        UUID.randomUUID(), "Product " + i, "Description " + i, new BigDecimal("10.00"), 10)));
+            }
+
+            SplittableRandom random = new SplittableRandom(42);
+            workload(repository, products, random, WARM_UP_OPERATIONS);
+            statistics.clear();
+
+            long startedAt = System.nanoTime();
+            workload(repository, products, random, OPERATIONS);
+            long elapsed = System.nanoTime() - startedAt;
+
+            return new Result(
+                    statistics.getPrepareStatementCount(),
+                    statistics.getSecondLevelCacheHitCount(),
+                    statistics.getSecondLevelCacheMissCount(),
+                    statistics.getQueryCacheHitCount(),
+                    statistics.getQueryCacheMissCount(),
+                    elapsed
+            );
+        }
+    }
+
+    private static void workload(ProductRepository repository, List<Product> products, SplittableRandom random, int operations) {
+        int hotProducts = PRODUCTS / 10;
+        for (int i = 0; i < operations; i++) {
+            double operation = random.nextDouble();
+            if (operation < 0.90) {
+                int index = random.nextDouble() < 0.8 ? random.nextInt(hotProducts) : random.nextInt(PRODUCTS);
+                repository.findById(products.get(index).getId());
+            } else if (operation < 0.99) {
+                repository.findAll(random.nextInt(PRODUCTS / PAGE_SIZE), PAGE_SIZE);
+            } else {
+                Product product = products.get(random.nextInt(PRODUCTS));
+                product.update(product.getName(), product.getDescription(), product.getPrice(), random.nextInt(100));
+                repository.save(product);
+            }
+        }
+    }
+
+    private static void print(String scenario, Result result) {
+        System.out.printf(
+                "%-10s statements %7d (%.2f/op)  entity cache hit/miss %6d/%-6d  query cache hit/miss %5d/%-5d  %5d ms%n",
+                scenario,
+                result.statements,
+                (double) result.statements / OPERATIONS,
+                result.entityHits,
+                result.entityMisses,
+                result.queryHits,
+                result.queryMisses,
+                result.elapsedNanos / 1_000_000
+        );
+    }
+
+    private record Result(
+            long statements,
+            long entityHits,
+            long entityMisses,
+            long queryHits,
+            long queryMisses,
+            long elapsedNanos
+    ) {
+    }
+}
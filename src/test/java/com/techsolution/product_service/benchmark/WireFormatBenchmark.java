@@ -0,0 +1,94 @@
+package com.techsolution.product_service.benchmark;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.api.proto.ProductPage;
+import com.techsolution.product_service.infrastructure.codec.ProductProtoMapper;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Compara JSON e Protobuf na serialização de uma página de 100 produtos: tamanho do corpo,
+ * tempo e memória alocada por página, na escrita e na leitura. A escrita Protobuf inclui a
+ * conversão de ProductResponse para as mensagens geradas, como faz o conversor HTTP.
+ *
+ * Execute com: mvn test -Pbenchmark -Dtest=WireFormatBenchmark
+ */
+class WireFormatBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARM_UP_OPERATIONS = 20_000;
+    private static final int OPERATIONS = 50_000;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
+    @Test
+    void serializationCostPerPage() {
+        PageResponse<ProductResponse> page = page();
+        byte[] json = jsonMapper.writeValueAsBytes(page);
+        byte[] protobuf = ProductProtoMapper.toProto(page).toByteArray();
+        TypeReference<PageResponse<ProductResponse>> pageType = new TypeReference<>() {
+        };
+
+        System.out.printf("payload: json %d bytes, protobuf %d bytes (%.0f%%)%n",
+                json.length, protobuf.length, 100.0 * protobuf.length / json.length);
+        print("write json", measure(operation -> jsonMapper.writeValueAsBytes(page)));
+        print("write protobuf", measure(operation -> ProductProtoMapper.toProto(page).toByteArray()));
+        print("read json", measure(operation -> jsonMapper.readValue(json, pageType)));
+        print("read protobuf", measure(operation -> parse(protobuf)));
+    }
+
+    private static PageResponse<ProductResponse> page() {
+        List<ProductResponse> content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            content.add(new ProductResponse(UUID.randomUUID(), "Product " + i,
+                    "Description of product number " + i, new BigDecimal("1999.90").add(BigDecimal.valueOf(i)), i));
+        }
+        return PageResponse.of(content, 0, PAGE_SIZE, 10_000);
+    }
+
+    private static PageResponse<ProductResponse> parse(byte[] protobuf) {
+        try {
+            return ProductProtoMapper.fromProto(ProductPage.parseFrom(protobuf));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Result measure(IntFunction<Object> operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        Object sink = null;
+        for (int i = 0; i < WARM_UP_OPERATIONS; i++) {
+            sink = operation.apply(i);
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            sink = operation.apply(i);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(allocated / OPERATIONS, elapsed / OPERATIONS, sink != null);
+    }
+
+    private static void print(String scenario, Result result) {
+        System.out.printf("%-16s %9d bytes allocated/page  %7.1f us/page%n",
+                scenario, result.bytesPerOperation, result.nanosPerOperation / 1000.0);
+    }
+
+    private record Result(long bytesPerOperation, long nanosPerOperation, boolean consumed) {
+    }
+}
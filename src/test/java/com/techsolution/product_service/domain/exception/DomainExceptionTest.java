@@ -0,0 +1,25 @@
+package com.techsolution.product_service.domain.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainExceptionTest {
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        assertThat(new ResourceNotFoundException("Product", UUID.randomUUID()).getStackTrace()).isEmpty();
+        assertThat(new BusinessException("Business rule violation").getStackTrace()).isEmpty();
+        assertThat(new ServiceUnavailableException("Not ready").getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void shouldDescribeMissingResource() {
+        UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+        assertThat(new ResourceNotFoundException("Product", id))
+                .hasMessage("Product with id 00000000-0000-0000-0000-000000000001 not found");
+    }
+}
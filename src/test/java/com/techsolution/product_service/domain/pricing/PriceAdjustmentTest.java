@@ -0,0 +1,51 @@
+package com.techsolution.product_service.domain.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceAdjustmentTest {
+
+    @Test
+    void shouldApplyPercentageRoundingHalfUp() {
+        PriceAdjustment adjustment = new PriceAdjustment(
+                PriceAdjustment.Mode.PERCENTAGE, new BigDecimal("12.345"), null, null);
+
+        assertThat(adjustment.apply(new BigDecimal("5.00"))).isEqualTo(new BigDecimal("5.62"));
+    }
+
+    @Test
+    void shouldApplyAbsoluteValue() {
+        PriceAdjustment adjustment = new PriceAdjustment(
+                PriceAdjustment.Mode.ABSOLUTE, new BigDecimal("-2.50"), null, null);
+
+        assertThat(adjustment.apply(new BigDecimal("10.00"))).isEqualTo(new BigDecimal("7.50"));
+    }
+
+    @Test
+    void shouldFilterByInclusivePriceRange() {
+        PriceAdjustment adjustment = new PriceAdjustment(
+                PriceAdjustment.Mode.PERCENTAGE, BigDecimal.TEN, new BigDecimal("10.00"), new BigDecimal("20.00"));
+
+        assertThat(adjustment.appliesTo(new BigDecimal("10.00"))).isTrue();
+        assertThat(adjustment.appliesTo(new BigDecimal("20.00"))).isTrue();
+        assertThat(adjustment.appliesTo(new BigDecimal("9.99"))).isFalse();
+        assertThat(adjustment.appliesTo(new BigDecimal("20.01"))).isFalse();
+    }
+
+    @Test
+    void shouldRejectInvalidAdjustments() {
+        assertThatThrownBy(() -> new PriceAdjustment(PriceAdjustment.Mode.PERCENTAGE, BigDecimal.ZERO, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PriceAdjustment(PriceAdjustment.Mode.PERCENTAGE, new BigDecimal("-100"), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PriceAdjustment(PriceAdjustment.Mode.ABSOLUTE, new BigDecimal("0.005"), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PriceAdjustment(
+                PriceAdjustment.Mode.ABSOLUTE, BigDecimal.ONE, new BigDecimal("20"), new BigDecimal("10")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,221 @@
+package com.techsolution.product_service.infrastructure.cache;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRecordedEvent;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.infrastructure.persistence.routing.ReadYourWritesContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCachingProductRepositoryTest {
+
+    @Mock
+    private ProductRepository delegate;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, byte[]> redisTemplate;
+    private Product notebook;
+    private Product mouse;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        redisServer = RedisServer.newRedisServer().start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()),
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(500)).build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+
+        notebook = new Product(UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10);
+        mouse = new Product(UUID.randomUUID(), "Mouse", "Mouse Logitech", new BigDecimal("50.00"), 20);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        if (redisServer.isRunning()) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromLocalCache() {
+        when(delegate.findById(notebook.getId())).thenReturn(Optional.of(notebook));
+        TwoTierCachingProductRepository repository = newRepository(Duration.ofMinutes(8));
+
+        repository.findById(notebook.getId());
+        Optional<Product> second = repository.findById(notebook.getId());
+
+        assertThat(second).map(Product::getName).contains("Notebook");
+        verify(delegate, times(1)).findById(notebook.getId());
+    }
+
+    @Test
+    void shouldReadFullProductFromDelegateInsideTransaction() {
+        notebook.setReorderThreshold(5);
+        when(delegate.findById(notebook.getId())).thenReturn(Optional.of(notebook));
+        TwoTierCachingProductRepository repository = newRepository(Duration.ofMinutes(8));
+        repository.findById(notebook.getId());
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThat(repository.findById(notebook.getId())).map(Product::getReorderThreshold).contains(5);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verify(delegate, times(2)).findById(notebook.getId());
+    }
+
+    @Test
+    void shouldShareProductsBetweenInstancesThroughRedis() {
+        when(delegate.findById(notebook.getId())).thenReturn(Optional.of(notebook));
+        newRepository(Duration.ofMinutes(8)).findById(notebook.getId());
+
+        Optional<Product> fromOtherInstance = newRepository(Duration.ofMinutes(8)).findById(notebook.getId());
+
+        assertThat(fromOtherInstance).map(Product::getPrice).contains(new BigDecimal("3500.00"));
+        verify(delegate, times(1)).findById(notebook.getId());
+    }
+
+    @Test
+    void shouldLoadOnlyMissingProductsInBatchLookups() {
+        when(delegate.findById(notebook.getId())).thenReturn(Optional.of(notebook));
+        when(delegate.findActiveByIds(Set.of(mouse.getId()))).thenReturn(List.of(mouse));
+        newRepository(Duration.ofMinutes(8)).findById(notebook.getId());
+        TwoTierCachingProductRepository repository = newRepository(Duration.ofMinutes(8));
+
+        List<Product> products = repository.findActiveByIds(List.of(notebook.getId(), mouse.getId()));
+
+        assertThat(products).extracting(Product::getName).containsExactlyInAnyOrder("Notebook", "Mouse");
+        verify(delegate).findActiveByIds(Set.of(mouse.getId()));
+        assertThat(redisTemplate.opsForValue().get("product:v1:" + mouse.getId())).isNotNull();
+    }
+
+    @Test
+    void shouldFallBackToDelegateWhenRedisIsDown() throws IOException {
+        when(delegate.findById(notebook.getId())).thenReturn(Optional.of(notebook));
+        redisServer.stop();
+
+        Optional<Product> product = newRepository(Duration.ofMinutes(8)).findById(notebook.getId());
+
+        assertThat(product).map(Product::getName).contains("Notebook");
+    }
+
+    @Test
+    void shouldEvictBothLevelsWhenProductChanges() {
+        when(delegate.findById(notebook.getId())).thenReturn(Optional.of(notebook));
+        TwoTierCachingProductRepository repository = newRepository(Duration.ofMinutes(8));
+        repository.findById(notebook.getId());
+
+        repository.onProductChangeRecorded(changed(notebook.getId(), 7));
+
+        assertThat(redisTemplate.opsForValue().get("product:v1:" + notebook.getId())).hasSize(Long.BYTES);
+        repository.findById(notebook.getId());
+        verify(delegate, times(2)).findById(notebook.getId());
+        assertThat(redisTemplate.opsForValue().get("product:v1:" + notebook.getId())).hasSizeGreaterThan(Long.BYTES);
+    }
+
+    @Test
+    void shouldNotOverwriteChangeWithProductLoadedBeforeIt() {
+        AtomicReference<TwoTierCachingProductRepository> repository = new AtomicReference<>();
+        when(delegate.findById(notebook.getId())).thenAnswer(invocation -> {
+            // A alteração é confirmada enquanto o leitor ainda segura o estado anterior
+            repository.get().onProductChangeRecorded(changed(notebook.getId(), 8));
+            return Optional.of(notebook);
+        });
+        repository.set(newRepository(Duration.ofMinutes(8)));
+
+        Optional<Product> product = repository.get().findById(notebook.getId());
+
+        assertThat(product).isPresent();
+        assertThat(redisTemplate.opsForValue().get("product:v1:" + notebook.getId())).hasSize(Long.BYTES);
+        repository.get().findById(notebook.getId());
+        verify(delegate, times(2)).findById(notebook.getId());
+    }
+
+    @Test
+    void shouldLoadMissingProductsFromPrimary() {
+        AtomicBoolean pinned = new AtomicBoolean();
+        when(delegate.findById(notebook.getId())).thenAnswer(invocation -> {
+            pinned.set(ReadYourWritesContext.isPinnedToPrimary());
+            return Optional.of(notebook);
+        });
+
+        newRepository(Duration.ofMinutes(8)).findById(notebook.getId());
+
+        assertThat(pinned).isTrue();
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void shouldRefreshStaleEntriesInBackground() {
+        Product repriced = new Product(notebook.getId(), notebook.getName(), notebook.getDescription(),
+                new BigDecimal("3400.00"), notebook.getStockQuantity());
+        when(delegate.findById(notebook.getId())).thenReturn(Optional.of(notebook), Optional.of(repriced));
+        newRepository(Duration.ZERO).findById(notebook.getId());
+        byte[] stale = redisTemplate.opsForValue().get("product:v1:" + notebook.getId());
+
+        Optional<Product> product = newRepository(Duration.ZERO).findById(notebook.getId());
+
+        assertThat(product).isPresent();
+        verify(delegate, timeout(2000).times(2)).findById(notebook.getId());
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (Arrays.equals(stale, redisTemplate.opsForValue().get("product:v1:" + notebook.getId()))
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(redisTemplate.opsForValue().get("product:v1:" + notebook.getId())).isNotEqualTo(stale);
+    }
+
+    private static ProductChangeRecordedEvent changed(UUID id, long sequence) {
+        return new ProductChangeRecordedEvent(
+                new ProductChange(sequence, id, ProductChangeType.DEACTIVATED, Instant.now(), null));
+    }
+
+    private TwoTierCachingProductRepository newRepository(Duration refreshAfter) {
+        TwoTierCacheProperties properties = new TwoTierCacheProperties(
+                true, 100, Duration.ofMinutes(1), Duration.ofMinutes(10), refreshAfter,
+                "product:v1:", Duration.ofSeconds(5), 1);
+        return new TwoTierCachingProductRepository(delegate, redisTemplate, new ProductMapper(), properties);
+    }
+}
@@ -0,0 +1,51 @@
+package com.techsolution.product_service.infrastructure.codec;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductBinaryCodecTest {
+
+    @Test
+    void shouldRoundTripProduct() {
+        ProductResponse product = new ProductResponse(
+                UUID.randomUUID(),
+                "Notebook",
+                "Notebook Dell Inspiron 15 – edição ç/ã",
+                new BigDecimal("3500.00"),
+                10
+        );
+
+        ProductResponse decoded = ProductBinaryCodec.decode(product.id(), ProductBinaryCodec.encode(product));
+
+        assertThat(decoded).isEqualTo(product);
+        assertThat(decoded.price().scale()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepPricesBeyondLongRange() {
+        ProductResponse product = new ProductResponse(
+                UUID.randomUUID(),
+                "Name",
+                "Description",
+                new BigDecimal("99999999999999999.99"),
+                0
+        );
+
+        ProductResponse decoded = ProductBinaryCodec.decode(product.id(), ProductBinaryCodec.encode(product));
+
+        assertThat(decoded.price()).isEqualTo(product.price());
+    }
+
+    @Test
+    void shouldEncodeCompactly() {
+        ProductResponse product = new ProductResponse(
+                UUID.randomUUID(), "Mouse", "Mouse Logitech", new BigDecimal("50.00"), 20);
+
+        assertThat(ProductBinaryCodec.encode(product)).hasSize(4 + 2 + 2 + 4 + 5 + 4 + 14);
+    }
+}
@@ -0,0 +1,102 @@
+package com.techsolution.product_service.infrastructure.codec;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Confere que o ProductJsonWriter produz exatamente os bytes que o JsonMapper da aplicação
+ * produz para os mesmos objetos, incluindo nulos, escapes, texto fora do BMP e preços em
+ * notação científica.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductJsonWriterConformanceTest {
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void shouldMatchJacksonForEdgeCases() {
+        List<ProductResponse> products = List.of(
+                new ProductResponse(UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15",
+                        new BigDecimal("3500.00"), 10),
+                new ProductResponse(null, null, null, null, null),
+                new ProductResponse(new UUID(0L, 0L), "", "", BigDecimal.ZERO, 0),
+                new ProductResponse(new UUID(-1L, -1L), "Aspas \" barra \\ e /", "Linha\nTab\tCR\rBS\bFF\f",
+                        new BigDecimal("-12.5"), Integer.MIN_VALUE),
+                new ProductResponse(UUID.randomUUID(), "Controle \u0000\u0001\u001f\u007f", "ç ã € 😀 <>&'",
+                        new BigDecimal("1E+3"), Integer.MAX_VALUE),
+                new ProductResponse(UUID.randomUUID(), "Surrogates \uD800x \uDC00", "fim\uD83D",
+                        new BigDecimal("0.0000001"), 1),
+                new ProductResponse(UUID.randomUUID(), "Grande", "Preço além do long",
+                        new BigDecimal("99999999999999999999999.99"), 5)
+        );
+
+        for (ProductResponse product : products) {
+            assertSameJson(ProductJsonWriter.acquire().write(product), product);
+        }
+        assertSameJson(ProductJsonWriter.acquire().write(PageResponse.of(products, 3, 7, 1_000_000_000_000L)),
+                PageResponse.of(products, 3, 7, 1_000_000_000_000L));
+        assertSameJson(ProductJsonWriter.acquire().write(PageResponse.<ProductResponse>of(List.of(), 0, 20, 0)),
+                PageResponse.of(List.of(), 0, 20, 0));
+    }
+
+    @Test
+    void shouldMatchJacksonForRandomProducts() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<ProductResponse> products = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            products.add(new ProductResponse(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    randomText(random),
+                    randomText(random),
+                    new BigDecimal(BigInteger.valueOf(random.nextLong()), random.nextInt(-3, 12)),
+                    random.nextInt()
+            ));
+        }
+
+        for (ProductResponse product : products) {
+            assertSameJson(ProductJsonWriter.acquire().write(product), product);
+        }
+        PageResponse<ProductResponse> page = PageResponse.of(products, 0, products.size(), products.size());
+        assertSameJson(ProductJsonWriter.acquire().write(page), page);
+    }
+
+    private void assertSameJson(ProductJsonWriter writer, Object value) {
+        byte[] actual = writer.toByteArray();
+        writer.release();
+        byte[] expected = jsonMapper.writeValueAsBytes(value);
+        assertThat(new String(actual, StandardCharsets.UTF_8)).isEqualTo(new String(expected, StandardCharsets.UTF_8));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static String randomText(SplittableRandom random) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(0, 40);
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(6)) {
+                case 0 -> text.append((char) random.nextInt(0, 0x80));
+                case 1 -> text.append((char) random.nextInt(0x80, 0x800));
+                case 2 -> text.append((char) random.nextInt(0x800, 0x10000));
+                case 3 -> text.appendCodePoint(random.nextInt(0x10000, 0x110000));
+                default -> text.append((char) random.nextInt(0x20, 0x7F));
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.techsolution.product_service.infrastructure.grpc;
+
+import com.techsolution.product_service.api.proto.GetProductRequest;
+import com.techsolution.product_service.api.proto.ProductServiceGrpc;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.infrastructure.codec.ProductProtoMapper;
+import io.grpc.ManagedChannel;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "product-service.grpc.enabled=true",
+        "product-service.grpc.in-process-name=product-service-test"
+})
+@ActiveProfiles("test")
+class GrpcServerLifecycleIntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final ManagedChannel channel = InProcessChannelBuilder.forName("product-service-test").build();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldServeProductsOverInProcessTransport() {
+        Product product = productRepository.save(
+                new Product(UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10));
+
+        var response = ProductServiceGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(5, TimeUnit.SECONDS)
+                .getProduct(GetProductRequest.newBuilder().setId(ProductProtoMapper.toProto(product.getId())).build());
+
+        assertThat(ProductProtoMapper.fromProto(response).price()).isEqualByComparingTo("3500.00");
+    }
+}
@@ -0,0 +1,129 @@
+package com.techsolution.product_service.infrastructure.grpc;
+
+import com.techsolution.product_service.api.grpc.ProductGrpcService;
+import com.techsolution.product_service.api.proto.GetProductRequest;
+import com.techsolution.product_service.api.proto.ProductServiceGrpc;
+import com.techsolution.product_service.api.proto.ScanCatalogRequest;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.application.usecase.GetProductByIdUseCase;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.exception.ServiceUnavailableException;
+import com.techsolution.product_service.infrastructure.codec.ProductProtoMapper;
+import com.techsolution.product_service.infrastructure.config.ConcurrencyLimitProperties;
+import com.techsolution.product_service.infrastructure.web.AdaptiveConcurrencyLimiter;
+import com.techsolution.product_service.infrastructure.web.EndpointClass;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoadSheddingServerInterceptorTest {
+
+    @Mock
+    private GetProductByIdUseCase getProductByIdUseCase;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private Server server;
+    private ManagedChannel channel;
+    private ProductServiceGrpc.ProductServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        limiter = new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties(
+                true, 2, 1, 10, 2.0, 0.2, 1, 1.0, 0.8, 0.5, Duration.ofSeconds(2)));
+        GrpcProperties properties = new GrpcProperties(true, 0, null, DataSize.ofMegabytes(1), DataSize.ofMegabytes(4),
+                100, Duration.ofMinutes(5), Duration.ofSeconds(1), 3, 2);
+        ProductGrpcService service = new ProductGrpcService(
+                getProductByIdUseCase, productRepository, new ProductMapper(), properties);
+
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(ServerInterceptors.intercept(service, new LoadSheddingServerInterceptor(limiter)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        stub = ProductServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldPassCallsWithinLimitAndReleasePermit() {
+        Product mouse = new Product(UUID.randomUUID(), "Mouse", "Mouse Logitech", new BigDecimal("50.00"), 20);
+        when(getProductByIdUseCase.execute(mouse.getId())).thenReturn(new ProductMapper().toResponse(mouse));
+
+        var response = stub.getProduct(request(mouse.getId()));
+
+        assertThat(ProductProtoMapper.fromProto(response).name()).isEqualTo("Mouse");
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldRejectWithUnavailableWhenOverLimit() {
+        limiter.tryAcquire(EndpointClass.READ);
+        limiter.tryAcquire(EndpointClass.READ);
+
+        assertThatThrownBy(() -> stub.getProduct(request(UUID.randomUUID())))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(ex -> ((StatusRuntimeException) ex).getStatus().getCode())
+                .isEqualTo(Status.Code.UNAVAILABLE);
+        verifyNoInteractions(getProductByIdUseCase);
+    }
+
+    @Test
+    void shouldReleasePermitWhenCallFails() {
+        UUID id = UUID.randomUUID();
+        when(getProductByIdUseCase.execute(id)).thenThrow(new ServiceUnavailableException("Database is down"));
+
+        assertThatThrownBy(() -> stub.getProduct(request(id))).isInstanceOf(StatusRuntimeException.class);
+
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldHoldPermitForWholeStream() {
+        when(productRepository.findActiveAfter(any(), anyInt())).thenReturn(List.of());
+
+        stub.scanCatalog(ScanCatalogRequest.getDefaultInstance()).forEachRemaining(product -> {
+        });
+
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private static GetProductRequest request(UUID id) {
+        return GetProductRequest.newBuilder().setId(ProductProtoMapper.toProto(id)).build();
+    }
+}
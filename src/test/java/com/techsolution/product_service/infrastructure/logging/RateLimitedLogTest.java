@@ -0,0 +1,33 @@
+package com.techsolution.product_service.infrastructure.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitedLogTest {
+
+    @Test
+    void shouldSuppressLinesOverLimitWithinInterval() {
+        RateLimitedLog log = new RateLimitedLog(2, Duration.ofHours(1));
+
+        assertThat(log.tryAcquire()).isZero();
+        assertThat(log.tryAcquire()).isZero();
+        assertThat(log.tryAcquire()).isEqualTo(-1);
+        assertThat(log.tryAcquire()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldReportSuppressedLinesWhenNextIntervalStarts() throws InterruptedException {
+        RateLimitedLog log = new RateLimitedLog(1, Duration.ofMillis(20));
+        log.tryAcquire();
+        log.tryAcquire();
+        log.tryAcquire();
+
+        Thread.sleep(30);
+
+        assertThat(log.tryAcquire()).isEqualTo(2);
+        assertThat(log.tryAcquire()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.api.dto.CreateProductRequest;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.usecase.CreateProductUseCase;
+import com.techsolution.product_service.application.usecase.DeleteProductUseCase;
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaActiveProductCountShardRepository;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ActiveProductCounterIntegrationTest {
+
+    @Autowired
+    private ActiveProductCounter activeProductCounter;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private DeleteProductUseCase deleteProductUseCase;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private JpaActiveProductCountShardRepository shardRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldKeepTotalInStepWithCreationsAndDeactivations() {
+        activeProductCounter.reconcile();
+        long before = activeProductCounter.total().orElseThrow();
+
+        createProductUseCase.execute(newRequest("Mouse"));
+        ProductResponse keyboard = createProductUseCase.execute(newRequest("Keyboard"));
+        deleteProductUseCase.execute(keyboard.id());
+
+        assertThat(activeProductCounter.total()).hasValue(before + 1);
+        assertThat(activeProductCounter.total()).hasValue(jpaProductRepository.countActiveRows());
+    }
+
+    @Test
+    void shouldSpreadIncrementsAcrossShards() {
+        activeProductCounter.reconcile();
+
+        for (int i = 0; i < 50; i++) {
+            transactionTemplate.executeWithoutResult(status -> activeProductCounter.add(1));
+        }
+
+        assertThat(shardRepository.findAll())
+                .hasSize(8)
+                .filteredOn(shard -> shard.getShard() != 0 && shard.getActiveCount() > 0)
+                .isNotEmpty();
+    }
+
+    @Test
+    void shouldFixDriftOnReconcile() {
+        transactionTemplate.executeWithoutResult(status -> activeProductCounter.add(5));
+
+        long total = activeProductCounter.reconcile();
+
+        assertThat(total).isEqualTo(jpaProductRepository.countActiveRows());
+        assertThat(activeProductCounter.total()).hasValue(total);
+    }
+
+    private static CreateProductRequest newRequest(String name) {
+        return new CreateProductRequest(name, name + " description", new BigDecimal("99.90"), 5);
+    }
+}
@@ -0,0 +1,111 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.api.dto.CreateProductRequest;
+import com.techsolution.product_service.api.dto.InventoryAggregatesResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.api.dto.UpdateProductRequest;
+import com.techsolution.product_service.application.usecase.CreateProductUseCase;
+import com.techsolution.product_service.application.usecase.DeleteProductUseCase;
+import com.techsolution.product_service.application.usecase.GetInventoryAggregatesUseCase;
+import com.techsolution.product_service.application.usecase.SetReorderThresholdUseCase;
+import com.techsolution.product_service.application.usecase.UpdateProductUseCase;
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.domain.inventory.InventoryAggregates;
+import com.techsolution.product_service.domain.inventory.InventoryTotals;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryAggregatesIntegrationTest {
+
+    @Autowired
+    private InventoryAggregates inventoryAggregates;
+
+    @Autowired
+    private ActiveProductCounter activeProductCounter;
+
+    @Autowired
+    private GetInventoryAggregatesUseCase getInventoryAggregatesUseCase;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private UpdateProductUseCase updateProductUseCase;
+
+    @Autowired
+    private DeleteProductUseCase deleteProductUseCase;
+
+    @Autowired
+    private SetReorderThresholdUseCase setReorderThresholdUseCase;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldKeepTotalsInStepWithWrites() {
+        inventoryAggregates.reconcile();
+        InventoryTotals before = inventoryAggregates.totals();
+
+        createProductUseCase.execute(new CreateProductRequest("Mouse", "Mouse description", new BigDecimal("50.00"), 20));
+        ProductResponse keyboard = createProductUseCase.execute(
+                new CreateProductRequest("Keyboard", "Keyboard description", new BigDecimal("100.00"), 30));
+        setReorderThresholdUseCase.execute(keyboard.id(), 10);
+        updateProductUseCase.execute(keyboard.id(),
+                new UpdateProductRequest("Keyboard", "Keyboard description", new BigDecimal("120.00"), 5));
+        ProductResponse monitor = createProductUseCase.execute(
+                new CreateProductRequest("Monitor", "Monitor description", new BigDecimal("900.00"), 2));
+        deleteProductUseCase.execute(monitor.id());
+
+        InventoryTotals totals = inventoryAggregates.totals();
+        assertThat(totals.stockUnits()).isEqualTo(before.stockUnits() + 25);
+        assertThat(totals.inventoryValue()).isEqualByComparingTo(before.inventoryValue().add(new BigDecimal("1600.00")));
+        assertThat(totals.lowStockCount()).isEqualTo(before.lowStockCount() + 1);
+        assertSameTotals(totals, jpaProductRepository.sumActiveInventory());
+    }
+
+    @Test
+    void shouldFixDriftOnReconcile() {
+        inventoryAggregates.reconcile();
+        transactionTemplate.executeWithoutResult(status ->
+                inventoryAggregates.add(new InventoryTotals(7, new BigDecimal("70.00"), 1)));
+
+        InventoryTotals reconciled = inventoryAggregates.reconcile();
+
+        assertSameTotals(reconciled, jpaProductRepository.sumActiveInventory());
+        assertSameTotals(inventoryAggregates.totals(), reconciled);
+    }
+
+    @Test
+    void shouldServeAggregatesWithActiveProductCount() {
+        ProductResponse headset = createProductUseCase.execute(
+                new CreateProductRequest("Headset", "Headset description", new BigDecimal("80.00"), 3));
+        setReorderThresholdUseCase.execute(headset.id(), 5);
+        inventoryAggregates.reconcile();
+        activeProductCounter.reconcile();
+
+        InventoryAggregatesResponse response = getInventoryAggregatesUseCase.execute();
+
+        assertThat(response.activeProducts()).isEqualTo(jpaProductRepository.countActiveRows());
+        assertThat(response.lowStockProducts()).isPositive();
+        assertThat(response.inventoryValue()).isPositive();
+    }
+
+    private static void assertSameTotals(InventoryTotals actual, InventoryTotals expected) {
+        assertThat(actual.stockUnits()).isEqualTo(expected.stockUnits());
+        assertThat(actual.inventoryValue()).isEqualByComparingTo(expected.inventoryValue());
+        assertThat(actual.lowStockCount()).isEqualTo(expected.lowStockCount());
+    }
+}
@@ -0,0 +1,108 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.api.dto.CreateProductRequest;
+import com.techsolution.product_service.api.dto.LowStockResponse;
+import com.techsolution.product_service.api.dto.PatchProductRequest;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.api.dto.ReorderStatusResponse;
+import com.techsolution.product_service.api.dto.UpdateProductRequest;
+import com.techsolution.product_service.application.usecase.CreateProductUseCase;
+import com.techsolution.product_service.application.usecase.ListLowStockProductsUseCase;
+import com.techsolution.product_service.application.usecase.PatchProductUseCase;
+import com.techsolution.product_service.application.usecase.SetReorderThresholdUseCase;
+import com.techsolution.product_service.application.usecase.UpdateProductUseCase;
+import com.techsolution.product_service.domain.event.ProductStockLowEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class LowStockIntegrationTest {
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private UpdateProductUseCase updateProductUseCase;
+
+    @Autowired
+    private PatchProductUseCase patchProductUseCase;
+
+    @Autowired
+    private SetReorderThresholdUseCase setReorderThresholdUseCase;
+
+    @Autowired
+    private ListLowStockProductsUseCase listLowStockProductsUseCase;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void shouldListProductsThatFellBelowThreshold() {
+        ProductResponse mouse = createProductUseCase.execute(newRequest("Mouse", 20));
+        ProductResponse keyboard = createProductUseCase.execute(newRequest("Keyboard", 20));
+        setReorderThresholdUseCase.execute(mouse.id(), 10);
+        setReorderThresholdUseCase.execute(keyboard.id(), 10);
+
+        updateProductUseCase.execute(mouse.id(),
+                new UpdateProductRequest("Mouse", "Mouse description", new BigDecimal("99.90"), 3));
+
+        assertThat(lowStockIds()).contains(mouse.id()).doesNotContain(keyboard.id());
+        assertThat(applicationEvents.stream(ProductStockLowEvent.class))
+                .containsExactly(new ProductStockLowEvent(mouse.id(), 3, 10));
+    }
+
+    @Test
+    void shouldKeepThresholdAcrossUpdatesAndPatches() {
+        ProductResponse monitor = createProductUseCase.execute(newRequest("Monitor", 20));
+        setReorderThresholdUseCase.execute(monitor.id(), 5);
+
+        updateProductUseCase.execute(monitor.id(),
+                new UpdateProductRequest("Monitor 27", "Monitor description", new BigDecimal("99.90"), 15));
+        patchProductUseCase.execute(monitor.id(), new PatchProductRequest(null, null, null, 4));
+
+        assertThat(lowStockIds()).contains(monitor.id());
+        assertThat(applicationEvents.stream(ProductStockLowEvent.class))
+                .containsExactly(new ProductStockLowEvent(monitor.id(), 4, 5));
+    }
+
+    @Test
+    void shouldLeaveListWhenThresholdIsCleared() {
+        ProductResponse headset = createProductUseCase.execute(newRequest("Headset", 2));
+
+        ReorderStatusResponse watched = setReorderThresholdUseCase.execute(headset.id(), 5);
+        ReorderStatusResponse cleared = setReorderThresholdUseCase.execute(headset.id(), null);
+
+        assertThat(watched.lowStock()).isTrue();
+        assertThat(cleared.lowStock()).isFalse();
+        assertThat(lowStockIds()).doesNotContain(headset.id());
+    }
+
+    private List<UUID> lowStockIds() {
+        List<UUID> ids = new ArrayList<>();
+        UUID afterId = null;
+        LowStockResponse page;
+        do {
+            page = listLowStockProductsUseCase.execute(afterId, 2);
+            page.products().forEach(product -> ids.add(product.id()));
+            afterId = page.nextAfterId();
+        } while (page.hasMore());
+        return ids;
+    }
+
+    private static CreateProductRequest newRequest(String name, int stock) {
+        return new CreateProductRequest(name, name + " description", new BigDecimal("99.90"), stock);
+    }
+}
@@ -0,0 +1,82 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.archive.ArchivedProduct;
+import com.techsolution.product_service.domain.archive.ProductArchive;
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductArchiveIntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductArchive productArchive;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void shouldMoveDeactivatedProductsToArchive() {
+        Product active = productRepository.save(product("Mouse"));
+        Product inactive = productRepository.save(product("Keyboard"));
+        transactionTemplate.executeWithoutResult(status -> productRepository.deactivateById(inactive.getId()));
+
+        int archived = productArchive.archiveDeactivatedBefore(Instant.now().plusSeconds(1), 100);
+
+        assertThat(archived).isPositive();
+        assertThat(productArchive.findById(inactive.getId()))
+                .map(ArchivedProduct::name)
+                .contains("Keyboard");
+        assertThat(productArchive.findById(inactive.getId()).orElseThrow().deactivatedAt()).isNotNull();
+        assertThat(productRepository.existsById(inactive.getId())).isTrue();
+        assertThat(productRepository.existsByIdAndActive(inactive.getId())).isFalse();
+        assertThat(productRepository.findById(active.getId())).isPresent();
+        assertThat(productArchive.existsById(active.getId())).isFalse();
+    }
+
+    @Test
+    void shouldKeepRecentlyDeactivatedProducts() {
+        Product inactive = productRepository.save(product("Monitor"));
+        transactionTemplate.executeWithoutResult(status -> productRepository.deactivateById(inactive.getId()));
+
+        productArchive.archiveDeactivatedBefore(Instant.now().minusSeconds(3600), 100);
+
+        assertThat(productArchive.existsById(inactive.getId())).isFalse();
+    }
+
+    @Test
+    void shouldEvictOnlyArchivedProductsFromSecondLevelCache() {
+        Product active = productRepository.save(product("Headset"));
+        Product inactive = productRepository.save(product("Webcam"));
+        productRepository.findById(active.getId());
+        transactionTemplate.executeWithoutResult(status -> productRepository.deactivateById(inactive.getId()));
+        productRepository.findById(active.getId());
+
+        productArchive.archiveDeactivatedBefore(Instant.now().plusSeconds(1), 100);
+
+        assertThat(entityManagerFactory.getCache().contains(ProductEntity.class, active.getId())).isTrue();
+    }
+
+    private static Product product(String name) {
+        return new Product(UUID.randomUUID(), name, name + " description", new BigDecimal("99.90"), 5);
+    }
+}
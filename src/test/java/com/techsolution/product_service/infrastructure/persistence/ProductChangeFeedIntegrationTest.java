@@ -0,0 +1,117 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.application.readmodel.ActiveCatalogReadModel;
+import com.techsolution.product_service.application.readmodel.ReadModelProperties;
+import com.techsolution.product_service.application.usecase.GetProductChangesUseCase;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.domain.exception.ChangeTokenExpiredException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductChangeFeedIntegrationTest {
+
+    @Autowired
+    private ProductChangeRepository productChangeRepository;
+
+    @Autowired
+    private GetProductChangesUseCase getProductChangesUseCase;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldHandOutTokensInCommitOrder() throws Exception {
+        CountDownLatch firstAppended = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        CompletableFuture<ProductChange> first = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    ProductChange change = append();
+                    firstAppended.countDown();
+                    await(releaseFirst);
+                    return change;
+                }));
+        assertThat(firstAppended.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ProductChange> second = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> append()));
+
+        Thread.sleep(200);
+        assertThat(second).isNotDone();
+
+        releaseFirst.countDown();
+        assertThat(second.get(5, TimeUnit.SECONDS).sequence()).isEqualTo(first.get().sequence() + 1);
+    }
+
+    @Test
+    void shouldExpireTokensBehindPrunedChanges() {
+        long before = productChangeRepository.lastSequence();
+        append();
+        long last = append().sequence();
+
+        productChangeRepository.pruneChangedBefore(Instant.now().plus(Duration.ofSeconds(1)), 10_000);
+
+        assertThat(productChangeRepository.prunedThrough()).isEqualTo(last);
+        assertThat(getProductChangesUseCase.execute(last, null).changes()).isEmpty();
+        assertThatThrownBy(() -> getProductChangesUseCase.execute(before, null))
+                .isInstanceOf(ChangeTokenExpiredException.class);
+    }
+
+    @Test
+    void shouldKeepHeadAtOrAfterPrunedThroughWhenEveryChangeIsPruned() {
+        append();
+        append();
+
+        productChangeRepository.pruneChangedBefore(Instant.now().plus(Duration.ofSeconds(1)), 10_000);
+
+        long head = getProductChangesUseCase.currentToken();
+        assertThat(head).isGreaterThanOrEqualTo(productChangeRepository.prunedThrough());
+        assertThat(getProductChangesUseCase.execute(head, null).changes()).isEmpty();
+
+        ActiveCatalogReadModel readModel = new ActiveCatalogReadModel(productRepository, productChangeRepository,
+                new ProductMapper(), new ReadModelProperties(true, 100, Duration.ofMillis(500), Duration.ofMinutes(1)),
+                mock(TaskScheduler.class), transactionManager);
+        readModel.reload();
+        assertThat(readModel.isReady()).isTrue();
+    }
+
+    private ProductChange append() {
+        return transactionTemplate.execute(status ->
+                productChangeRepository.append(ProductChangeType.DEACTIVATED, UUID.randomUUID(), null));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
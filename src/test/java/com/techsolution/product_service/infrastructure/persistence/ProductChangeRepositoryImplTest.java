@@ -0,0 +1,143 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductChangeEntity;
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductChangeSequenceEntity;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductChangeRepository;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductChangeSequenceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangeRepositoryImplTest {
+
+    @Mock
+    private JpaProductChangeRepository jpaProductChangeRepository;
+
+    @Mock
+    private JpaProductChangeSequenceRepository sequenceRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ProductChangeRepositoryImpl productChangeRepositoryImpl;
+
+    @Test
+    void shouldAppendChangeWithNextSequenceAndProductState() {
+        Product product = new Product(UUID.randomUUID(), "Notebook", "Notebook Dell", new BigDecimal("3500.00"), 10);
+        ProductChangeSequenceEntity sequence = new ProductChangeSequenceEntity(ProductChangeSequenceEntity.SINGLETON_ID, 41L, 0L);
+        when(sequenceRepository.lockById(ProductChangeSequenceEntity.SINGLETON_ID)).thenReturn(Optional.of(sequence));
+        ArgumentCaptor<ProductChangeEntity> captor = ArgumentCaptor.forClass(ProductChangeEntity.class);
+
+        ProductChange change = productChangeRepositoryImpl.append(ProductChangeType.UPDATED, product.getId(), product);
+
+        verify(entityManager).persist(captor.capture());
+        ProductChangeEntity entity = captor.getValue();
+        assertThat(entity.getSequenceNumber()).isEqualTo(42L);
+        assertThat(entity.getProductId()).isEqualTo(product.getId());
+        assertThat(entity.getChangeType()).isEqualTo(ProductChangeType.UPDATED);
+        assertThat(entity.getPrice()).isEqualByComparingTo("3500.00");
+        assertThat(entity.getChangedAt()).isNotNull();
+        assertThat(change.sequence()).isEqualTo(42L);
+        assertThat(sequence.getLastSequence()).isEqualTo(42L);
+    }
+
+    @Test
+    void shouldFlushPendingWritesBeforeLockingCounter() {
+        ProductChangeSequenceEntity sequence = new ProductChangeSequenceEntity(ProductChangeSequenceEntity.SINGLETON_ID, 0L, 0L);
+        when(sequenceRepository.lockById(ProductChangeSequenceEntity.SINGLETON_ID)).thenReturn(Optional.of(sequence));
+
+        productChangeRepositoryImpl.append(ProductChangeType.DEACTIVATED, UUID.randomUUID(), null);
+
+        var inOrder = inOrder(entityManager, sequenceRepository);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(sequenceRepository).lockById(ProductChangeSequenceEntity.SINGLETON_ID);
+        inOrder.verify(entityManager).persist(any(ProductChangeEntity.class));
+    }
+
+    @Test
+    void shouldFindChangesAfterSequence() {
+        UUID productId = UUID.randomUUID();
+        Instant changedAt = Instant.now();
+        ProductChangeEntity created = new ProductChangeEntity(
+                6L, productId, ProductChangeType.CREATED, "Mouse", "Mouse Logitech", new BigDecimal("50.00"), 20, changedAt);
+        ProductChangeEntity deactivated = new ProductChangeEntity(
+                7L, productId, ProductChangeType.DEACTIVATED, null, null, null, null, changedAt);
+        when(jpaProductChangeRepository.findAfter(5L, Limit.of(10))).thenReturn(List.of(created, deactivated));
+
+        List<ProductChange> changes = productChangeRepositoryImpl.findAfter(5L, 10);
+
+        assertThat(changes).hasSize(2);
+        assertThat(changes.get(0).sequence()).isEqualTo(6L);
+        assertThat(changes.get(0).product().getName()).isEqualTo("Mouse");
+        assertThat(changes.get(1).type()).isEqualTo(ProductChangeType.DEACTIVATED);
+        assertThat(changes.get(1).product()).isNull();
+    }
+
+    @Test
+    void shouldReturnLastSequenceFromCounter() {
+        when(sequenceRepository.findLastSequence(ProductChangeSequenceEntity.SINGLETON_ID)).thenReturn(Optional.of(9L));
+
+        assertThat(productChangeRepositoryImpl.lastSequence()).isEqualTo(9L);
+        verify(jpaProductChangeRepository, never()).findLastSequence();
+    }
+
+    @Test
+    void shouldFallBackToLastRecordedChangeWithoutCounter() {
+        when(sequenceRepository.findLastSequence(ProductChangeSequenceEntity.SINGLETON_ID)).thenReturn(Optional.empty());
+        when(jpaProductChangeRepository.findLastSequence()).thenReturn(7L);
+
+        assertThat(productChangeRepositoryImpl.lastSequence()).isEqualTo(7L);
+    }
+
+    @Test
+    void shouldPruneOnlyTheContiguousPrefixOlderThanCutoff() {
+        Instant cutoff = Instant.now();
+        Instant old = cutoff.minus(Duration.ofDays(1));
+        UUID productId = UUID.randomUUID();
+        ProductChangeSequenceEntity sequence = new ProductChangeSequenceEntity(ProductChangeSequenceEntity.SINGLETON_ID, 9L, 0L);
+        when(jpaProductChangeRepository.findOldest(Limit.of(10))).thenReturn(List.of(
+                new ProductChangeEntity(1L, productId, ProductChangeType.CREATED, "Mouse", null, BigDecimal.ONE, 1, old),
+                new ProductChangeEntity(2L, productId, ProductChangeType.UPDATED, "Mouse", null, BigDecimal.ONE, 2, old),
+                new ProductChangeEntity(3L, productId, ProductChangeType.UPDATED, "Mouse", null, BigDecimal.ONE, 3, cutoff),
+                new ProductChangeEntity(4L, productId, ProductChangeType.UPDATED, "Mouse", null, BigDecimal.ONE, 4, old)
+        ));
+        when(sequenceRepository.lockById(ProductChangeSequenceEntity.SINGLETON_ID)).thenReturn(Optional.of(sequence));
+
+        int pruned = productChangeRepositoryImpl.pruneChangedBefore(cutoff, 10);
+
+        assertThat(pruned).isEqualTo(2);
+        verify(jpaProductChangeRepository).deleteThrough(2L);
+        assertThat(sequence.getPrunedThrough()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldNotTouchTheSequenceWhenNothingIsOldEnough() {
+        when(jpaProductChangeRepository.findOldest(Limit.of(10))).thenReturn(List.of());
+
+        assertThat(productChangeRepositoryImpl.pruneChangedBefore(Instant.now(), 10)).isZero();
+
+        verify(jpaProductChangeRepository, never()).deleteThrough(anyLong());
+        verifyNoInteractions(sequenceRepository);
+    }
+}
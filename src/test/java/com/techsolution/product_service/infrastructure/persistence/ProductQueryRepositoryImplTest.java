@@ -0,0 +1,75 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductQueryRepositoryImplTest {
+
+    @Mock
+    private JpaProductRepository jpaProductRepository;
+
+    @Mock
+    private ActiveProductCounter activeProductCounter;
+
+    @InjectMocks
+    private ProductQueryRepositoryImpl productQueryRepository;
+
+    private ProductResponse product;
+
+    @BeforeEach
+    void setUp() {
+        product = new ProductResponse(UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10);
+    }
+
+    @Test
+    void shouldFindAllActiveProductsAsResponses() {
+        when(jpaProductRepository.findActiveResponses(Pageable.unpaged())).thenReturn(List.of(product));
+
+        List<ProductResponse> products = productQueryRepository.findAllActive();
+
+        assertThat(products).containsExactly(product);
+    }
+
+    @Test
+    void shouldReadTotalFromCounterForFullPage() {
+        when(jpaProductRepository.findActiveResponses(PageRequest.of(0, 1))).thenReturn(List.of(product));
+        when(activeProductCounter.total()).thenReturn(OptionalLong.of(3L));
+
+        PageResponse<ProductResponse> page = productQueryRepository.findActivePage(0, 1);
+
+        assertThat(page.content()).containsExactly(product);
+        assertThat(page.totalElements()).isEqualTo(3L);
+        assertThat(page.totalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSkipCountWhenFirstPageIsNotFull() {
+        when(jpaProductRepository.findActiveResponses(PageRequest.of(0, 20))).thenReturn(List.of(product));
+
+        PageResponse<ProductResponse> page = productQueryRepository.findActivePage(0, 20);
+
+        assertThat(page.totalElements()).isEqualTo(1L);
+        verify(activeProductCounter, never()).total();
+    }
+}
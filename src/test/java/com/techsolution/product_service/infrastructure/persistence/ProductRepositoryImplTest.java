@@ -1,6 +1,10 @@
 package com.techsolution.product_service.infrastructure.persistence;
 
 import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductPatch;
+import com.techsolution.product_service.domain.archive.ProductArchive;
+import com.techsolution.product_service.domain.counter.ActiveProductCounter;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
 import com.techsolution.product_service.infrastructure.persistence.entity.ProductEntity;
 import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,15 +13,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +34,12 @@ class ProductRepositoryImplTest {
     @Mock
     private JpaProductRepository jpaProductRepository;
 
+    @Mock
+    private ActiveProductCounter activeProductCounter;
+
+    @Mock
+    private ProductArchive productArchive;
+
     @InjectMocks
     private ProductRepositoryImpl productRepositoryImpl;
 
@@ -72,23 +86,33 @@ class ProductRepositoryImplTest {
 
     @Test
     void shouldFindActiveProductById() {
-        when(jpaProductRepository.findByIdAndActive(productId)).thenReturn(Optional.of(productEntity));
+        when(jpaProductRepository.findById(productId)).thenReturn(Optional.of(productEntity));
 
         Optional<Product> result = productRepositoryImpl.findById(productId);
 
         assertThat(result).isPresent();
         assertThat(result.get().getId()).isEqualTo(productId);
-        verify(jpaProductRepository).findByIdAndActive(productId);
+        verify(jpaProductRepository).findById(productId);
+    }
+
+    @Test
+    void shouldNotReturnInactiveProductById() {
+        productEntity.setActive(false);
+        when(jpaProductRepository.findById(productId)).thenReturn(Optional.of(productEntity));
+
+        Optional<Product> result = productRepositoryImpl.findById(productId);
+
+        assertThat(result).isEmpty();
     }
 
     @Test
     void shouldReturnEmptyWhenActiveProductNotFound() {
-        when(jpaProductRepository.findByIdAndActive(productId)).thenReturn(Optional.empty());
+        when(jpaProductRepository.findById(productId)).thenReturn(Optional.empty());
 
         Optional<Product> result = productRepositoryImpl.findById(productId);
 
         assertThat(result).isEmpty();
-        verify(jpaProductRepository).findByIdAndActive(productId);
+        verify(jpaProductRepository).findById(productId);
     }
 
     @Test
@@ -122,13 +146,61 @@ class ProductRepositoryImplTest {
         verify(jpaProductRepository).findAllActive();
     }
 
+    @Test
+    void shouldFindActiveProductsAfterId() {
+        UUID afterId = new UUID(0L, 0L);
+        when(jpaProductRepository.findActiveAfter(afterId, Limit.of(100))).thenReturn(List.of(productEntity));
+
+        List<Product> products = productRepositoryImpl.findActiveAfter(afterId, 100);
+
+        assertThat(products).hasSize(1);
+        assertThat(products.get(0).getId()).isEqualTo(productId);
+        verify(jpaProductRepository).findActiveAfter(afterId, Limit.of(100));
+    }
+
+    @Test
+    void shouldFindActiveProductsByIds() {
+        ProductEntity inactive = new ProductEntity(
+                UUID.randomUUID(), "Mouse", "Mouse Logitech", new BigDecimal("50.00"), 20, false);
+        List<UUID> ids = List.of(productId, inactive.getId(), UUID.randomUUID());
+        when(jpaProductRepository.findAllByIdCached(ids)).thenReturn(List.of(productEntity, inactive));
+
+        List<Product> products = productRepositoryImpl.findActiveByIds(ids);
+
+        assertThat(products).extracting(Product::getId).containsExactly(productId);
+        verify(jpaProductRepository).findAllByIdCached(ids);
+    }
+
     @Test
     void shouldDeactivateProductById() {
-        doNothing().when(jpaProductRepository).deactivateById(productId);
+        when(jpaProductRepository.deactivateById(eq(productId), any(Instant.class))).thenReturn(1);
 
-        productRepositoryImpl.deactivateById(productId);
+        assertThat(productRepositoryImpl.deactivateById(productId)).isTrue();
 
-        verify(jpaProductRepository).deactivateById(productId);
+        verify(jpaProductRepository).deactivateById(eq(productId), any(Instant.class));
+    }
+
+    @Test
+    void shouldReportProductAlreadyInactive() {
+        when(jpaProductRepository.deactivateById(eq(productId), any(Instant.class))).thenReturn(0);
+
+        assertThat(productRepositoryImpl.deactivateById(productId)).isFalse();
+    }
+
+    @Test
+    void shouldCountActiveProductsFromCounter() {
+        when(activeProductCounter.total()).thenReturn(OptionalLong.of(42L));
+
+        assertThat(productRepositoryImpl.countActive()).isEqualTo(42L);
+        verify(jpaProductRepository, never()).countByActiveTrue();
+    }
+
+    @Test
+    void shouldCountTableUntilCounterIsInitialized() {
+        when(activeProductCounter.total()).thenReturn(OptionalLong.empty());
+        when(jpaProductRepository.countByActiveTrue()).thenReturn(7L);
+
+        assertThat(productRepositoryImpl.countActive()).isEqualTo(7L);
     }
 
     @Test
@@ -151,6 +223,27 @@ class ProductRepositoryImplTest {
         verify(jpaProductRepository).existsByIdAndActive(productId);
     }
 
+    @Test
+    void shouldApplyPatchToChangedColumnsOnly() {
+        when(jpaProductRepository.updateActiveColumns(productId, null, null, new BigDecimal("3600.00"), null)).thenReturn(1);
+
+        boolean applied = productRepositoryImpl.applyPatch(productId, new ProductPatch(null, null, new BigDecimal("3600.00"), null));
+
+        assertThat(applied).isTrue();
+        verify(jpaProductRepository).updateActiveColumns(productId, null, null, new BigDecimal("3600.00"), null);
+    }
+
+    @Test
+    void shouldAdjustPricesInKeyRange() {
+        UUID afterId = new UUID(0L, 0L);
+        PriceAdjustment adjustment = new PriceAdjustment(PriceAdjustment.Mode.PERCENTAGE, BigDecimal.TEN, null, null);
+        when(jpaProductRepository.adjustActivePrices(afterId, productId, adjustment)).thenReturn(3);
+
+        int updated = productRepositoryImpl.adjustPrices(afterId, productId, adjustment);
+
+        assertThat(updated).isEqualTo(3);
+    }
+
     @Test
     void shouldCheckIfProductExists() {
         when(jpaProductRepository.existsById(productId)).thenReturn(true);
@@ -169,6 +262,15 @@ class ProductRepositoryImplTest {
 
         assertThat(exists).isFalse();
         verify(jpaProductRepository).existsById(productId);
+        verify(productArchive).existsById(productId);
+    }
+
+    @Test
+    void shouldFindArchivedProductWhenCheckingExistence() {
+        when(jpaProductRepository.existsById(productId)).thenReturn(false);
+        when(productArchive.existsById(productId)).thenReturn(true);
+
+        assertThat(productRepositoryImpl.existsById(productId)).isTrue();
     }
 }
 
@@ -0,0 +1,271 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante, num PostgreSQL real com o schema das migrações, que as consultas de produtos
+ * ativos continuam usando os índices parciais. O SQL gerado pelo Hibernate é capturado com
+ * os parâmetros e repetido com EXPLAIN; a regressão aparece aqui, e não em produção.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final int ACTIVE_ROWS = 20_000;
+    private static final int INACTIVE_ROWS = 20_000;
+
+    private static final String ACTIVE_ID_INDEX = "idx_products_active_id";
+    private static final String DEACTIVATED_AT_INDEX = "idx_products_deactivated_at";
+    private static final String LOW_STOCK_INDEX = "idx_products_low_stock";
+    private static final String PRIMARY_KEY = "products_pkey";
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SqlRecorder sqlRecorder;
+
+    private JdbcTemplate jdbcTemplate;
+    private UUID middleActiveId;
+    private UUID rangeEndId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate = new JdbcTemplate(sqlRecorder.target);
+        jdbcTemplate.update("""
+                INSERT INTO products (id, name, description, price, stock_quantity, active, deactivated_at,
+                                      reorder_threshold)
+                SELECT gen_random_uuid(), 'Product ' || n, 'Description ' || n, 10 + n % 100, n % 50,
+                       n > ?, CASE WHEN n > ? THEN NULL ELSE now() - (n || ' minutes')::interval END,
+                       CASE WHEN n % 10 = 0 THEN 25 END
+                FROM generate_series(1, ?) AS n""", INACTIVE_ROWS, INACTIVE_ROWS, ACTIVE_ROWS + INACTIVE_ROWS);
+        jdbcTemplate.execute("VACUUM ANALYZE products");
+
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE active = true ORDER BY id OFFSET ? LIMIT 100",
+                UUID.class, ACTIVE_ROWS / 2);
+        middleActiveId = ids.get(0);
+        rangeEndId = ids.get(ids.size() - 1);
+    }
+
+    @BeforeEach
+    void clearRecordedSql() {
+        sqlRecorder.statements.clear();
+    }
+
+    @Test
+    void shouldPageActiveProductsThroughPartialIndex() {
+        jpaProductRepository.findActivePage(PageRequest.of(50, 20));
+        jpaProductRepository.findActiveResponses(PageRequest.of(50, 20));
+
+        assertScansOnly(ACTIVE_ID_INDEX);
+    }
+
+    @Test
+    void shouldSeekActiveProductsThroughPartialIndex() {
+        jpaProductRepository.findActiveAfter(middleActiveId, Limit.of(100));
+        transactionTemplate.executeWithoutResult(status ->
+                jpaProductRepository.lockActiveAfter(middleActiveId, Limit.of(100)));
+
+        assertScansOnly(ACTIVE_ID_INDEX);
+    }
+
+    @Test
+    void shouldListLowStockProductsThroughPartialIndex() {
+        jpaProductRepository.findLowStockAfter(new UUID(0L, 0L), Limit.of(100));
+        jpaProductRepository.findLowStockAfter(middleActiveId, Limit.of(100));
+
+        assertScansOnly(LOW_STOCK_INDEX);
+    }
+
+    @Test
+    void shouldCountActiveProductsWithIndexOnlyScan() {
+        jpaProductRepository.countActiveRows();
+
+        assertScansOnly(ACTIVE_ID_INDEX);
+        assertThat(recordedStatements()).allSatisfy(statement ->
+                assertThat(explain(statement).toString()).contains("\"Index Only Scan\""));
+    }
+
+    @Test
+    void shouldCheckAndUpdateSingleActiveProductThroughIndex() {
+        jpaProductRepository.existsByIdAndActive(middleActiveId);
+        transactionTemplate.executeWithoutResult(status -> {
+            jpaProductRepository.lockActiveById(middleActiveId);
+            jpaProductRepository.updateActiveColumns(middleActiveId, "Renamed", null, null, null);
+        });
+
+        assertScansOnly(ACTIVE_ID_INDEX, PRIMARY_KEY);
+    }
+
+    @Test
+    void shouldAdjustPriceRangeThroughPartialIndex() {
+        PriceAdjustment adjustment = new PriceAdjustment(PriceAdjustment.Mode.ABSOLUTE, BigDecimal.ONE, null, null);
+        transactionTemplate.executeWithoutResult(status ->
+                jpaProductRepository.adjustActivePrices(middleActiveId, rangeEndId, adjustment));
+
+        assertScansOnly(ACTIVE_ID_INDEX, PRIMARY_KEY);
+    }
+
+    @Test
+    void shouldLockDeactivatedProductsThroughPartialIndex() {
+        transactionTemplate.executeWithoutResult(status ->
+                jpaProductRepository.lockDeactivatedBefore(Instant.now().minusSeconds(3600), Limit.of(100)));
+
+        assertScansOnly(DEACTIVATED_AT_INDEX);
+    }
+
+    /**
+     * Cada consulta gravada lê products apenas pelos índices esperados, nunca com Seq Scan.
+     */
+    private void assertScansOnly(String... indexes) {
+        for (RecordedStatement statement : recordedStatements()) {
+            List<String> scans = new ArrayList<>();
+            collectProductScans(explain(statement).get(0).get("Plan"), scans);
+            assertThat(scans).as(statement.sql()).isNotEmpty().isSubsetOf(indexes);
+        }
+    }
+
+    private List<RecordedStatement> recordedStatements() {
+        List<RecordedStatement> statements = List.copyOf(sqlRecorder.statements);
+        assertThat(statements).isNotEmpty();
+        return statements;
+    }
+
+    private static void collectProductScans(JsonNode node, List<String> scans) {
+        String nodeType = node.get("Node Type").asString();
+        String indexName = node.path("Index Name").asString("");
+        if (nodeType.equals("Seq Scan") && node.path("Relation Name").asString("").equals("products")) {
+            scans.add(nodeType);
+        } else if (indexName.startsWith("idx_products_") || indexName.equals(PRIMARY_KEY)) {
+            scans.add(indexName);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectProductScans(child, scans);
+        }
+    }
+
+    private JsonNode explain(RecordedStatement statement) {
+        try (Connection connection = sqlRecorder.target.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql())) {
+            for (ParameterSetOperation parameter : statement.parameters()) {
+                parameter.getMethod().invoke(explain, parameter.getArgs());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                return JsonMapper.shared().readTree(resultSet.getString(1));
+            }
+        } catch (SQLException | ReflectiveOperationException ex) {
+            throw new IllegalStateException("Could not explain " + statement.sql(), ex);
+        }
+    }
+
+    private record RecordedStatement(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    /**
+     * Envolve o DataSource da aplicação com o datasource-proxy e guarda as consultas que
+     * envolvem a tabela products, com os parâmetros usados.
+     */
+    static class SqlRecorder implements BeanPostProcessor, QueryExecutionListener {
+
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+        private DataSource target;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && target == null) {
+                target = dataSource;
+                return ProxyDataSourceBuilder.create(dataSource).listener(this).build();
+            }
+            return bean;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo query : queryInfoList) {
+                if (!query.getQuery().contains("products")) {
+                    continue;
+                }
+                List<List<ParameterSetOperation>> parameters = query.getParametersList();
+                statements.add(new RecordedStatement(
+                        query.getQuery(),
+                        parameters.isEmpty() ? List.of() : List.copyOf(parameters.get(0))
+                ));
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class SqlRecorderConfig {
+
+        @Bean
+        static SqlRecorder sqlRecorder() {
+            return new SqlRecorder();
+        }
+    }
+}
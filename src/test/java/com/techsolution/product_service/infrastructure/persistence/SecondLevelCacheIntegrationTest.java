@@ -0,0 +1,141 @@
+package com.techsolution.product_service.infrastructure.persistence;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductPatch;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.pricing.PriceAdjustment;
+import com.techsolution.product_service.infrastructure.persistence.jpa.JpaProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromSecondLevelCache() {
+        Product product = productRepository.save(newProduct("Notebook"));
+        productRepository.findById(product.getId());
+        statistics.clear();
+
+        assertThat(productRepository.findById(product.getId())).isPresent();
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void shouldServeBatchedLookupsFromSecondLevelCache() {
+        Product cached = productRepository.save(newProduct("Monitor"));
+        Product inactive = productRepository.save(newProduct("Webcam"));
+        transactionTemplate.executeWithoutResult(status -> productRepository.deactivateById(inactive.getId()));
+        productRepository.findById(cached.getId());
+        statistics.clear();
+
+        List<Product> products = productRepository.findActiveByIds(List.of(cached.getId(), inactive.getId()));
+
+        assertThat(products).extracting(Product::getId).containsExactly(cached.getId());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCacheActiveCountUntilProductsChange() {
+        productRepository.save(newProduct("Mouse"));
+        Product keyboard = productRepository.save(newProduct("Keyboard"));
+        long total = jpaProductRepository.countByActiveTrue();
+        statistics.clear();
+
+        assertThat(jpaProductRepository.countByActiveTrue()).isEqualTo(total);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status -> productRepository.deactivateById(keyboard.getId()));
+
+        assertThat(jpaProductRepository.countByActiveTrue()).isEqualTo(total - 1);
+        assertThat(productRepository.findById(keyboard.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldKeepOtherProductsCachedWhenOneIsPatchedOrDeactivated() {
+        Product cached = productRepository.save(newProduct("Tablet"));
+        Product patched = productRepository.save(newProduct("Phone"));
+        Product deactivated = productRepository.save(newProduct("Speaker"));
+        productRepository.findById(cached.getId());
+
+        transactionTemplate.executeWithoutResult(status -> productRepository.applyPatch(
+                patched.getId(), new ProductPatch("Phone 2", null, null, null)));
+        transactionTemplate.executeWithoutResult(status -> productRepository.deactivateById(deactivated.getId()));
+        statistics.clear();
+
+        assertThat(productRepository.findById(cached.getId())).isPresent();
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(productRepository.findById(patched.getId())).get()
+                .extracting(Product::getName).isEqualTo("Phone 2");
+    }
+
+    @Test
+    void shouldEvictOnlyAdjustedChunkFromCache() {
+        List<Product> saved = Stream.of(newProduct("Monitor"), newProduct("Webcam"))
+                .map(productRepository::save)
+                // UUID.compareTo compara com sinal; o banco ordena os bytes sem sinal, como o texto
+                .sorted(Comparator.comparing(product -> product.getId().toString()))
+                .toList();
+        Product outside = saved.get(0);
+        Product adjusted = saved.get(1);
+        productRepository.findById(outside.getId());
+        productRepository.findById(adjusted.getId());
+
+        PriceAdjustment adjustment = new PriceAdjustment(PriceAdjustment.Mode.PERCENTAGE, new BigDecimal("10"), null, null);
+        Integer updated = transactionTemplate.execute(status ->
+                productRepository.adjustPrices(outside.getId(), adjusted.getId(), adjustment));
+        statistics.clear();
+
+        assertThat(updated).isPositive();
+        assertThat(productRepository.findById(outside.getId())).get()
+                .extracting(Product::getPrice).isEqualTo(new BigDecimal("99.90"));
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(productRepository.findById(adjusted.getId())).get()
+                .extracting(Product::getPrice).isEqualTo(new BigDecimal("109.89"));
+    }
+
+    private static Product newProduct(String name) {
+        return new Product(UUID.randomUUID(), name, name + " description", new BigDecimal("99.90"), 5);
+    }
+}
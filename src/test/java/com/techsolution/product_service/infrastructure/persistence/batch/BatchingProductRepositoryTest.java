@@ -0,0 +1,87 @@
+package com.techsolution.product_service.infrastructure.persistence.batch;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.infrastructure.persistence.ProductRepositoryImpl;
+import com.techsolution.product_service.infrastructure.persistence.routing.ReadYourWritesContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingProductRepositoryTest {
+
+    @Mock
+    private ProductRepositoryImpl delegate;
+
+    private BatchingProductRepository repository;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BatchingProductRepository(delegate, new BatchLoaderProperties(true, 100, 2, Duration.ZERO));
+        product = new Product(UUID.randomUUID(), "Notebook", "Notebook Dell", new BigDecimal("3500.00"), 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+        ReadYourWritesContext.clear();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void shouldLoadThroughBatchLoader() {
+        when(delegate.findById(product.getId())).thenReturn(Optional.of(product));
+
+        assertThat(repository.findById(product.getId())).contains(product);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenBatchDoesNotFindProduct() {
+        UUID missingId = UUID.randomUUID();
+        when(delegate.findById(missingId)).thenReturn(Optional.empty());
+
+        assertThat(repository.findById(missingId)).isEmpty();
+    }
+
+    @Test
+    void shouldBypassBatchingInsideTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(delegate.findById(product.getId())).thenReturn(Optional.of(product));
+
+        assertThat(repository.findById(product.getId())).contains(product);
+        verify(delegate).findById(product.getId());
+    }
+
+    @Test
+    void shouldBypassBatchingWhenPinnedToPrimary() {
+        ReadYourWritesContext.pinToPrimary();
+        when(delegate.findById(product.getId())).thenReturn(Optional.of(product));
+
+        assertThat(repository.findById(product.getId())).contains(product);
+        verify(delegate).findById(product.getId());
+    }
+
+    @Test
+    void shouldDelegateWrites() {
+        when(delegate.save(product)).thenReturn(product);
+
+        repository.save(product);
+        repository.deactivateById(product.getId());
+
+        verify(delegate).save(product);
+        verify(delegate).deactivateById(product.getId());
+    }
+}
@@ -0,0 +1,166 @@
+package com.techsolution.product_service.infrastructure.persistence.routing;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        initializeNode(primary, "primary");
+        initializeNode(replica, "replica");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica));
+        configure(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldKeepReadWriteTransactionsOnPrimary() {
+        assertThat(nodeIn(readWriteTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldRouteReadsToPrimaryWhenPinnedByReadYourWrites() {
+        ReadYourWritesContext.pinToPrimary();
+
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaIsDown() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(unreachable()));
+        configure(routingDataSource);
+
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("primary");
+        assertThat(routingDataSource.healthyReplicaCount()).isZero();
+    }
+
+    @Test
+    void shouldSkipDownReplicaUntilHealthCheckWithoutTryingItAgain() {
+        AtomicInteger attempts = new AtomicInteger();
+        DataSource down = new DelegatingDataSource(unreachable()) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                attempts.incrementAndGet();
+                return super.getConnection();
+            }
+        };
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(down));
+        configure(routingDataSource);
+
+        nodeIn(readOnlyTransaction);
+        nodeIn(readOnlyTransaction);
+        nodeIn(readOnlyTransaction);
+
+        assertThat(attempts).hasValue(1);
+        routingDataSource.checkHealth();
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void shouldRoundRobinAcrossHealthyReplicas() {
+        DataSource secondReplica = h2("replica2");
+        initializeNode(secondReplica, "replica2");
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica, secondReplica));
+        configure(routingDataSource);
+
+        String first = nodeIn(readOnlyTransaction);
+        String second = nodeIn(readOnlyTransaction);
+
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder("replica", "replica2");
+    }
+
+    @Test
+    void shouldReturnReplicaToRotationAfterHealthCheck() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(unreachable(), replica));
+        configure(routingDataSource);
+        nodeIn(readOnlyTransaction);
+        nodeIn(readOnlyTransaction);
+
+        routingDataSource.checkHealth();
+
+        assertThat(routingDataSource.healthyReplicaCount()).isEqualTo(1);
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldOpenConnectionsWithExplicitCredentialsOnPrimary() throws Exception {
+        try (var connection = routingDataSource.getConnection("sa", "");
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT name FROM node")) {
+            resultSet.next();
+
+            assertThat(resultSet.getString(1)).isEqualTo("primary");
+        }
+    }
+
+    private void configure(ReplicaRoutingDataSource readOnlyDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String nodeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static void initializeNode(DataSource dataSource, String name) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.update("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    private static DataSource unreachable() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:unreachable;IFEXISTS=TRUE");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,98 @@
+package com.techsolution.product_service.infrastructure.snapshot;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedCatalogSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldFindProductsWrittenToSnapshot() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        ProductResponse notebook = product("ffffffff-0000-0000-0000-000000000000", "Notebook");
+        ProductResponse mouse = product("00000000-0000-0000-0000-000000000001", "Mouse");
+        ProductResponse keyboard = product("7fffffff-ffff-ffff-ffff-ffffffffffff", "Keyboard");
+
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(path, Instant.now(), 0)) {
+            writer.append(notebook);
+            writer.append(mouse);
+            writer.append(keyboard);
+            assertThat(writer.commit()).isEqualTo(3);
+        }
+
+        MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(path);
+
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.find(notebook.id())).contains(notebook);
+        assertThat(snapshot.find(mouse.id())).contains(mouse);
+        assertThat(snapshot.find(keyboard.id())).contains(keyboard);
+        assertThat(snapshot.find(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void shouldOpenEmptySnapshot() throws IOException {
+        Path path = directory.resolve("empty.snapshot");
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(path, Instant.now(), 0)) {
+            writer.commit();
+        }
+
+        MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(path);
+
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.find(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void shouldKeepCreationTimeAndFeedTokenInHeader() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        Instant createdAt = Instant.parse("2026-01-01T10:00:00Z");
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(path, createdAt, 42)) {
+            writer.commit();
+        }
+
+        MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(path);
+
+        assertThat(snapshot.createdAt()).isEqualTo(createdAt);
+        assertThat(snapshot.token()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldNotLeaveTemporaryFilesBehind() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(path, Instant.now(), 0)) {
+            writer.append(product("00000000-0000-0000-0000-000000000001", "Mouse"));
+            writer.commit();
+        }
+
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNotSnapshots() throws IOException {
+        Path path = directory.resolve("garbage.snapshot");
+        Files.write(path, new byte[64]);
+
+        assertThatThrownBy(() -> MappedCatalogSnapshot.open(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a catalog snapshot");
+    }
+
+    private static ProductResponse product(String id, String name) {
+        return new ProductResponse(UUID.fromString(id), name, name + " description", new BigDecimal("10.50"), 3);
+    }
+}
@@ -0,0 +1,248 @@
+package com.techsolution.product_service.infrastructure.snapshot;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.mapper.ProductMapper;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.domain.change.ProductChange;
+import com.techsolution.product_service.domain.change.ProductChangeRecordedEvent;
+import com.techsolution.product_service.domain.change.ProductChangeRepository;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SnapshotReadModelTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductChangeRepository productChangeRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SnapshotProperties properties;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        properties = properties(Duration.ofMinutes(1));
+        product = new Product(UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10);
+        when(productChangeRepository.findAfter(anyLong(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void shouldNotBeReadyWithoutSnapshotFile() {
+        SnapshotReadModel readModel = newReadModel();
+
+        readModel.openExistingSnapshot();
+
+        assertThat(readModel.isReady()).isFalse();
+        assertThat(readModel.isComplete()).isFalse();
+    }
+
+    @Test
+    void shouldServeProductsAfterRefresh() {
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        SnapshotReadModel readModel = newReadModel();
+
+        readModel.refresh();
+
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.findById(product.getId())).map(ProductResponse::name).contains("Notebook");
+    }
+
+    @Test
+    void shouldStampSnapshotWithRefreshStartAndFeedToken() throws IOException {
+        AtomicReference<Instant> loadedAt = new AtomicReference<>();
+        when(productChangeRepository.lastSequence()).thenReturn(7L);
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenAnswer(invocation -> {
+            loadedAt.set(Instant.now());
+            Thread.sleep(5);
+            return List.of(product);
+        });
+
+        newReadModel().refresh();
+
+        MappedCatalogSnapshot written = MappedCatalogSnapshot.open(properties.path());
+        assertThat(written.token()).isEqualTo(7L);
+        assertThat(written.createdAt()).isBeforeOrEqualTo(loadedAt.get());
+    }
+
+    @Test
+    void shouldMapExistingSnapshotOnStartup() {
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        newReadModel().refresh();
+
+        SnapshotReadModel restarted = newReadModel();
+        restarted.openExistingSnapshot();
+
+        assertThat(restarted.isReady()).isTrue();
+        assertThat(restarted.findById(product.getId())).isPresent();
+    }
+
+    @Test
+    void shouldRefreshRightAwayEvenWithExistingSnapshot() {
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        newReadModel().refresh();
+
+        SnapshotReadModel restarted = newReadModel();
+        restarted.openExistingSnapshot();
+
+        verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), eq(properties.refreshInterval()));
+        verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), eq(properties.pollInterval()));
+        assertThat(restarted.isReady()).isTrue();
+    }
+
+    @Test
+    void shouldSkipProductsChangedOnOtherNodesSinceExistingSnapshot() {
+        when(productChangeRepository.lastSequence()).thenReturn(3L);
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        newReadModel().refresh();
+        when(productChangeRepository.findAfter(3L, 100)).thenReturn(List.of(deactivation(4)));
+
+        SnapshotReadModel restarted = newReadModel();
+        restarted.openExistingSnapshot();
+
+        assertThat(restarted.isReady()).isTrue();
+        assertThat(restarted.findById(product.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreSnapshotOlderThanMaxAge() throws IOException {
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        newReadModel().refresh();
+        overwriteCreatedAt(Instant.now().minus(Duration.ofHours(1)));
+
+        SnapshotReadModel restarted = newReadModel();
+        restarted.openExistingSnapshot();
+
+        assertThat(restarted.isReady()).isFalse();
+        assertThat(restarted.findById(product.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldSkipProductsChangedOnThisNodeAfterSnapshot() {
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        SnapshotReadModel readModel = newReadModel();
+        readModel.refresh();
+
+        readModel.onProductChangeRecorded(new ProductChangeRecordedEvent(deactivation(1)));
+
+        assertThat(readModel.findById(product.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldSkipProductsChangedOnOtherNodesFromFeed() {
+        when(productChangeRepository.lastSequence()).thenReturn(5L);
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        SnapshotReadModel readModel = newReadModel();
+        readModel.refresh();
+        when(productChangeRepository.findAfter(5L, 100)).thenReturn(List.of(deactivation(6)));
+
+        readModel.poll();
+
+        assertThat(readModel.findById(product.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldServeProductAgainOnceSnapshotContainsItsChange() {
+        when(productChangeRepository.lastSequence()).thenReturn(5L);
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        SnapshotReadModel readModel = newReadModel();
+        readModel.refresh();
+        readModel.onProductChangeRecorded(new ProductChangeRecordedEvent(
+                new ProductChange(6, product.getId(), ProductChangeType.UPDATED, Instant.now(), product)));
+
+        when(productChangeRepository.lastSequence()).thenReturn(6L);
+        readModel.refresh();
+
+        assertThat(readModel.findById(product.getId())).isPresent();
+    }
+
+    @Test
+    void shouldStopAnsweringWhenFeedLagsBeyondMaxLag() {
+        properties = properties(Duration.ZERO);
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        SnapshotReadModel readModel = newReadModel();
+        readModel.refresh();
+        doThrow(new IllegalStateException("database unavailable")).when(productChangeRepository).findAfter(anyLong(), anyInt());
+
+        readModel.poll();
+
+        assertThat(readModel.isReady()).isFalse();
+    }
+
+    @Test
+    void shouldRefreshWhenFeedRetentionPassedSnapshotToken() throws IOException {
+        when(productChangeRepository.lastSequence()).thenReturn(2L);
+        when(productRepository.findActiveAfter(any(UUID.class), eq(100))).thenReturn(List.of(product));
+        SnapshotReadModel readModel = newReadModel();
+        readModel.refresh();
+        when(productChangeRepository.prunedThrough()).thenReturn(8L);
+        when(productChangeRepository.lastSequence()).thenReturn(9L);
+
+        readModel.poll();
+
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(MappedCatalogSnapshot.open(properties.path()).token()).isEqualTo(9L);
+    }
+
+    private void overwriteCreatedAt(Instant createdAt) throws IOException {
+        try (FileChannel channel = FileChannel.open(properties.path(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, createdAt.toEpochMilli()), 16);
+        }
+    }
+
+    private ProductChange deactivation(long sequence) {
+        return new ProductChange(sequence, product.getId(), ProductChangeType.DEACTIVATED, Instant.now(), null);
+    }
+
+    private SnapshotProperties properties(Duration maxLag) {
+        return new SnapshotProperties(true, directory.resolve("catalog.snapshot"), Duration.ofMinutes(5), 100,
+                Duration.ofMinutes(15), Duration.ofSeconds(1), maxLag);
+    }
+
+    private SnapshotReadModel newReadModel() {
+        return new SnapshotReadModel(productRepository, productChangeRepository, new ProductMapper(), properties,
+                taskScheduler, transactionManager);
+    }
+}
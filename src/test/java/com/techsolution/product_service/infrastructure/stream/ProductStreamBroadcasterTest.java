@@ -0,0 +1,141 @@
+package com.techsolution.product_service.infrastructure.stream;
+
+import com.techsolution.product_service.api.dto.ProductStreamEvent;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import com.techsolution.product_service.domain.event.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductStreamBroadcasterTest {
+
+    private ProductStreamBroadcaster broadcaster;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ProductStreamBroadcaster(new ProductStreamProperties(
+                16, Duration.ofMillis(250), Duration.ofSeconds(30), Duration.ofMinutes(30), Duration.ofMillis(50), 2));
+        product = new Product(UUID.randomUUID(), "Notebook", "Notebook Dell", new BigDecimal("3500.00"), 10);
+    }
+
+    @Test
+    void shouldDeliverOnlySubscribedProducts() {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        ProductStreamSubscriber subscriber = new ProductStreamSubscriber(emitter, Set.of(product.getId()), 16);
+        broadcaster.register(subscriber);
+
+        broadcaster.onProductChanged(ProductChangedEvent.updated(product, withStock(product, 9)));
+        broadcaster.onProductChanged(ProductChangedEvent.deactivated(UUID.randomUUID()));
+        broadcaster.flush(subscriber);
+
+        assertThat(emitter.payloads()).containsExactly(
+                new ProductStreamEvent(product.getId(), ProductChangeType.UPDATED, new BigDecimal("3500.00"), 9, false));
+    }
+
+    @Test
+    void shouldDeliverEverythingToWildcardSubscribers() {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        ProductStreamSubscriber subscriber = new ProductStreamSubscriber(emitter, Set.of(), 16);
+        broadcaster.register(subscriber);
+        UUID deactivatedId = UUID.randomUUID();
+
+        broadcaster.onProductChanged(ProductChangedEvent.updated(product, withStock(product, 9)));
+        broadcaster.onProductChanged(ProductChangedEvent.deactivated(deactivatedId));
+        broadcaster.flush(subscriber);
+
+        assertThat(emitter.payloads()).hasSize(2);
+        assertThat(emitter.payloads().get(1))
+                .isEqualTo(new ProductStreamEvent(deactivatedId, ProductChangeType.DEACTIVATED, null, null, false));
+    }
+
+    @Test
+    void shouldIgnoreUpdatesWithoutStockOrPriceChange() {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        ProductStreamSubscriber subscriber = new ProductStreamSubscriber(emitter, Set.of(), 16);
+        broadcaster.register(subscriber);
+        Product renamed = new Product(product.getId(), "Notebook Pro", "Notebook Dell", new BigDecimal("3500.0"), 10);
+
+        broadcaster.onProductChanged(ProductChangedEvent.updated(product, renamed));
+        broadcaster.onProductChanged(ProductChangedEvent.created(product));
+        broadcaster.flush(subscriber);
+
+        assertThat(emitter.sent).isEmpty();
+    }
+
+    @Test
+    void shouldFlagProductsBelowReorderThreshold() {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        ProductStreamSubscriber subscriber = new ProductStreamSubscriber(emitter, Set.of(product.getId()), 16);
+        broadcaster.register(subscriber);
+        Product watched = product.copy();
+        watched.setReorderThreshold(5);
+        Product low = watched.copy();
+        low.update(low.getName(), low.getDescription(), low.getPrice(), 4);
+
+        broadcaster.onProductChanged(ProductChangedEvent.updated(watched, low));
+        broadcaster.flush(subscriber);
+
+        assertThat(emitter.payloads()).containsExactly(
+                new ProductStreamEvent(product.getId(), ProductChangeType.UPDATED, new BigDecimal("3500.00"), 4, true));
+    }
+
+    @Test
+    void shouldUnregisterClosedSubscribers() {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        emitter.failing = true;
+        ProductStreamSubscriber subscriber = new ProductStreamSubscriber(emitter, Set.of(product.getId()), 16);
+        broadcaster.register(subscriber);
+
+        broadcaster.onProductChanged(ProductChangedEvent.updated(product, withStock(product, 9)));
+        broadcaster.flush(subscriber);
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    void shouldDropSubscriberWhoseWriteStallsWithoutDelayingOthers() throws Exception {
+        RecordingSseEmitter stalledEmitter = new RecordingSseEmitter();
+        stalledEmitter.stalledUntil = new CountDownLatch(1);
+        ProductStreamSubscriber stalled = new ProductStreamSubscriber(stalledEmitter, Set.of(), 16);
+        RecordingSseEmitter healthyEmitter = new RecordingSseEmitter();
+        ProductStreamSubscriber healthy = new ProductStreamSubscriber(healthyEmitter, Set.of(), 16);
+        broadcaster.register(stalled);
+        broadcaster.register(healthy);
+
+        broadcaster.onProductChanged(ProductChangedEvent.updated(product, withStock(product, 9)));
+        broadcaster.flushScheduled();
+        Thread.sleep(100);
+        broadcaster.sendHeartbeats();
+        broadcaster.dropStalled();
+
+        assertThat(healthyEmitter.payloads()).hasSize(1);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        stalledEmitter.stalledUntil.countDown();
+        broadcaster.stop();
+    }
+
+    @Test
+    void shouldRejectTooManyProductIds() {
+        Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertThatThrownBy(() -> broadcaster.subscribe(ids))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At most 2 product ids");
+        assertThat(broadcaster.subscribe(Collections.emptySet())).isNotNull();
+    }
+
+    private static Product withStock(Product product, int stock) {
+        return new Product(product.getId(), product.getName(), product.getDescription(), product.getPrice(), stock);
+    }
+}
@@ -0,0 +1,109 @@
+package com.techsolution.product_service.infrastructure.stream;
+
+import com.techsolution.product_service.api.dto.ProductStreamEvent;
+import com.techsolution.product_service.domain.event.ProductChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductStreamSubscriberTest {
+
+    private RecordingSseEmitter emitter;
+    private ProductStreamSubscriber subscriber;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        emitter = new RecordingSseEmitter();
+        subscriber = new ProductStreamSubscriber(emitter, Set.of(), 2);
+        productId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldCoalesceUpdatesOfSameProduct() {
+        assertThat(subscriber.offer(update(productId, 10))).isTrue();
+        assertThat(subscriber.offer(update(productId, 9))).isFalse();
+        assertThat(subscriber.offer(update(productId, 8))).isFalse();
+
+        assertThat(subscriber.flush()).isTrue();
+
+        assertThat(emitter.payloads()).containsExactly(update(productId, 8));
+        assertThat(emitter.text()).contains("event:" + ProductStreamSubscriber.UPDATE_EVENT);
+    }
+
+    @Test
+    void shouldRescheduleWhenUpdatesArriveDuringFlush() {
+        subscriber.offer(update(productId, 10));
+        subscriber.flush();
+        subscriber.offer(update(UUID.randomUUID(), 5));
+
+        assertThat(subscriber.finishFlush()).isTrue();
+    }
+
+    @Test
+    void shouldNotRescheduleWhenNothingIsPending() {
+        subscriber.offer(update(productId, 10));
+        subscriber.flush();
+
+        assertThat(subscriber.finishFlush()).isFalse();
+    }
+
+    @Test
+    void shouldSendHeartbeatOnNextFlush() {
+        assertThat(subscriber.requestHeartbeat()).isTrue();
+
+        assertThat(subscriber.flush()).isTrue();
+
+        assertThat(emitter.text()).contains("heartbeat");
+        assertThat(subscriber.finishFlush()).isFalse();
+    }
+
+    @Test
+    void shouldReportWriteThatDoesNotComplete() throws Exception {
+        emitter.stalledUntil = new CountDownLatch(1);
+        subscriber.offer(update(productId, 10));
+        Thread writer = Thread.ofVirtual().start(subscriber::flush);
+        Thread.sleep(50);
+
+        assertThat(subscriber.isStalled(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(10))).isTrue();
+
+        emitter.stalledUntil.countDown();
+        writer.join();
+        assertThat(subscriber.isStalled(System.nanoTime(), 0)).isFalse();
+    }
+
+    @Test
+    void shouldDropSlowConsumerWhenBufferIsFull() {
+        subscriber.offer(update(UUID.randomUUID(), 1));
+        subscriber.offer(update(UUID.randomUUID(), 2));
+        subscriber.offer(update(UUID.randomUUID(), 3));
+
+        assertThat(subscriber.flush()).isFalse();
+
+        assertThat(emitter.payloads()).isEmpty();
+        assertThat(emitter.text()).contains("event:" + ProductStreamSubscriber.OVERFLOW_EVENT);
+        assertThat(emitter.completed).isTrue();
+        assertThat(subscriber.isClosed()).isTrue();
+    }
+
+    @Test
+    void shouldCloseWhenClientIsGone() {
+        emitter.failing = true;
+        subscriber.offer(update(productId, 10));
+
+        assertThat(subscriber.flush()).isFalse();
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(subscriber.offer(update(productId, 9))).isFalse();
+    }
+
+    private static ProductStreamEvent update(UUID id, int stock) {
+        return new ProductStreamEvent(id, ProductChangeType.UPDATED, new BigDecimal("10.00"), stock, false);
+    }
+}
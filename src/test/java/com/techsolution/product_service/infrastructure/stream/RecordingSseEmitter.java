@@ -0,0 +1,59 @@
+package com.techsolution.product_service.infrastructure.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * SseEmitter que guarda os eventos enviados em vez de escrever numa resposta HTTP.
+ */
+class RecordingSseEmitter extends SseEmitter {
+    final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+    boolean completed;
+    boolean failing;
+    volatile CountDownLatch stalledUntil;
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        CountDownLatch stall = stalledUntil;
+        if (stall != null) {
+            try {
+                stall.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(builder.build());
+        }
+    }
+
+    @Override
+    public synchronized void complete() {
+        completed = true;
+    }
+
+    List<Object> payloads() {
+        return sent.stream()
+                .flatMap(Set::stream)
+                .map(DataWithMediaType::getData)
+                .filter(data -> !(data instanceof String))
+                .toList();
+    }
+
+    String text() {
+        StringBuilder text = new StringBuilder();
+        sent.stream().flatMap(Set::stream)
+                .map(DataWithMediaType::getData)
+                .filter(data -> data instanceof String)
+                .forEach(text::append);
+        return text.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.techsolution.product_service.infrastructure.warmup;
+
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "product-service.warmup.enabled=true",
+                "product-service.warmup.duration=300ms"
+        }
+)
+@ActiveProfiles("test")
+class StartupWarmupIntegrationTest {
+
+    @Autowired
+    private StartupWarmup startupWarmup;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Test
+    void shouldAcceptTrafficOnlyAfterWarmup() {
+        assertThat(startupWarmup.getReport()).isNotNull();
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    void shouldPreloadProductsAndExerciseHttpStack() {
+        Product product = productRepository.save(
+                new Product(UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10));
+        entityManagerFactory.getCache().evictAll();
+
+        startupWarmup.run(null);
+
+        WarmupReport report = startupWarmup.getReport();
+        assertThat(report.connections()).isPositive();
+        assertThat(report.preloadedProducts()).isPositive();
+        assertThat(report.requests()).isPositive();
+        assertThat(report.failedRequests()).isZero();
+        assertThat(entityManagerFactory.getCache().contains(ProductEntity.class, product.getId())).isTrue();
+    }
+}
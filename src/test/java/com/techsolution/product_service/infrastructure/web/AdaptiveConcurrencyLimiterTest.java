@@ -0,0 +1,154 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.infrastructure.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties(
+                true, 20, 4, 100, 2.0, 0.2, 1, 1.0, 0.8, 0.5, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void shouldRejectRequestsAboveLimit() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(EndpointClass.READ, 20);
+
+        assertThat(permits).hasSize(20);
+        assertThat(limiter.tryAcquire(EndpointClass.READ)).isNull();
+
+        permits.get(0).release();
+        assertThat(limiter.tryAcquire(EndpointClass.READ)).isNotNull();
+    }
+
+    @Test
+    void shouldShedListsBeforeReads() {
+        acquire(EndpointClass.READ, 10);
+
+        assertThat(limiter.tryAcquire(EndpointClass.LIST)).isNull();
+        assertThat(limiter.tryAcquire(EndpointClass.WRITE)).isNotNull();
+        assertThat(limiter.tryAcquire(EndpointClass.READ)).isNotNull();
+    }
+
+    @Test
+    void shouldGrowLimitWhileLatencyIsStable() {
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(EndpointClass.READ, FAST, limiter.getLimit());
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void shouldShrinkLimitWhenLatencyRises() {
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(EndpointClass.READ, FAST, limiter.getLimit());
+        }
+        int healthyLimit = limiter.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(EndpointClass.READ, SLOW, limiter.getLimit());
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(healthyLimit / 2).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void shouldNotGrowLimitWhenMostlyIdle() {
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(EndpointClass.READ, FAST, 1);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldNotTreatFastFailuresAsHealthyLatency() {
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(EndpointClass.READ, SLOW, limiter.getLimit());
+        }
+        int limitBeforeErrors = limiter.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            limiter.onError(EndpointClass.READ, limiter.getLimit());
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(limitBeforeErrors);
+    }
+
+    @Test
+    void shouldAdjustLimitOncePerWindow() {
+        AdaptiveConcurrencyLimiter windowed = new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties(
+                true, 100, 4, 500, 2.0, 0.2, 10, 1.0, 0.8, 0.5, Duration.ofSeconds(1)));
+
+        for (int i = 0; i < 9; i++) {
+            windowed.onSample(EndpointClass.READ, FAST, 100);
+        }
+        assertThat(windowed.getLimit()).isEqualTo(100);
+
+        windowed.onSample(EndpointClass.READ, FAST, 100);
+        assertThat(windowed.getLimit()).isGreaterThan(100);
+    }
+
+    @Test
+    void shouldSampleConcurrentReleasesWithoutLosingPermits() throws Exception {
+        AdaptiveConcurrencyLimiter windowed = new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties(
+                true, 100, 4, 500, 2.0, 0.2, 10, 1.0, 0.8, 0.5, Duration.ofSeconds(1)));
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    AdaptiveConcurrencyLimiter.Permit permit = windowed.tryAcquire(EndpointClass.READ);
+                    if (permit != null) {
+                        permit.release();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(windowed.getInFlight()).isZero();
+        assertThat(windowed.getLimit()).isBetween(4, 500);
+    }
+
+    @Test
+    void shouldExposeMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+        acquire(EndpointClass.LIST, 10);
+        limiter.tryAcquire(EndpointClass.LIST);
+
+        assertThat(registry.get("concurrency.limit").gauge().value()).isEqualTo(20);
+        assertThat(registry.get("concurrency.in.flight").tag("endpoint.class", "list").gauge().value()).isEqualTo(10);
+        assertThat(registry.get("concurrency.rejected").tag("endpoint.class", "list").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquire(EndpointClass endpointClass, int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(endpointClass);
+            if (permit != null) {
+                permits.add(permit);
+            }
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,79 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.infrastructure.persistence.routing.ReadYourWritesContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistencyTokenFilterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private ConsistencyTokenFilter filter;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConsistencyTokenFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void shouldIssueTokenOnWrites() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/products/1");
+
+        filter.doFilter(request, response, (req, res) -> { });
+
+        assertThat(response.getHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN_HEADER))
+                .isEqualTo(String.valueOf(NOW.toEpochMilli() + 5000));
+    }
+
+    @Test
+    void shouldPinReadsToPrimaryWhileTokenIsValid() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+        request.addHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN_HEADER, String.valueOf(NOW.toEpochMilli() + 1000));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        filter.doFilter(request, response, (req, res) -> pinned.set(ReadYourWritesContext.isPinnedToPrimary()));
+
+        assertThat(pinned).isTrue();
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void shouldNotPinReadsWhenTokenExpiredOrInvalid() throws Exception {
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/products/1");
+        expired.addHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN_HEADER, String.valueOf(NOW.toEpochMilli() - 1));
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/products/1");
+        invalid.addHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN_HEADER, "not-a-token");
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        filter.doFilter(expired, response, (req, res) -> pinned.compareAndSet(false, ReadYourWritesContext.isPinnedToPrimary()));
+        filter.doFilter(invalid, new MockHttpServletResponse(), (req, res) -> pinned.compareAndSet(false, ReadYourWritesContext.isPinnedToPrimary()));
+
+        assertThat(pinned).isFalse();
+    }
+
+    @Test
+    void shouldNotPinReadsWhenTokenIsBeyondTheWindow() throws Exception {
+        MockHttpServletRequest farFuture = new MockHttpServletRequest("GET", "/products/1");
+        farFuture.addHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN_HEADER, String.valueOf(Long.MAX_VALUE));
+        MockHttpServletRequest beyondWindow = new MockHttpServletRequest("GET", "/products/1");
+        beyondWindow.addHeader(ConsistencyTokenFilter.CONSISTENCY_TOKEN_HEADER, String.valueOf(NOW.toEpochMilli() + 5001));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        filter.doFilter(farFuture, response, (req, res) -> pinned.compareAndSet(false, ReadYourWritesContext.isPinnedToPrimary()));
+        filter.doFilter(beyondWindow, new MockHttpServletResponse(), (req, res) -> pinned.compareAndSet(false, ReadYourWritesContext.isPinnedToPrimary()));
+
+        assertThat(pinned).isFalse();
+    }
+}
@@ -0,0 +1,88 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.infrastructure.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties(
+                true, 2, 1, 10, 2.0, 0.2, 1, 1.0, 0.8, 0.5, Duration.ofSeconds(2)));
+        filter = new LoadSheddingFilter(limiter, Duration.ofSeconds(2), JsonMapper.builder().build());
+    }
+
+    @Test
+    void shouldPassRequestsWithinLimitAndReleasePermit() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean called = new AtomicBoolean();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/products/1"), response, (req, res) -> called.set(true));
+
+        assertThat(called).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldRejectWithRetryAfterWhenOverLimit() throws Exception {
+        limiter.tryAcquire(EndpointClass.READ);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean called = new AtomicBoolean();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/products"), response, (req, res) -> called.set(true));
+
+        assertThat(called).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentType()).isEqualTo("application/problem+json");
+        JsonNode body = JsonMapper.shared().readTree(response.getContentAsString());
+        assertThat(body.get("title").asString()).isEqualTo("Service Unavailable");
+        assertThat(body.get("status").asInt()).isEqualTo(503);
+        assertThat(body.get("detail").asString()).isEqualTo("Server is overloaded, retry later");
+    }
+
+    @Test
+    void shouldReleasePermitWhenRequestFails() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/products/1"), response,
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(500));
+
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.tryAcquire(EndpointClass.READ)).isNotNull();
+    }
+
+    @Test
+    void shouldNotLimitEventStreams() throws Exception {
+        limiter.tryAcquire(EndpointClass.READ);
+        limiter.tryAcquire(EndpointClass.READ);
+        AtomicBoolean called = new AtomicBoolean();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/products/stream"), new MockHttpServletResponse(),
+                (req, res) -> called.set(true));
+
+        assertThat(called).isTrue();
+    }
+
+    @Test
+    void shouldClassifyEndpoints() {
+        assertThat(EndpointClass.of(new MockHttpServletRequest("GET", "/products/123"))).isEqualTo(EndpointClass.READ);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("GET", "/products"))).isEqualTo(EndpointClass.LIST);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("GET", "/products/changes"))).isEqualTo(EndpointClass.LIST);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("PUT", "/products/123"))).isEqualTo(EndpointClass.WRITE);
+    }
+}
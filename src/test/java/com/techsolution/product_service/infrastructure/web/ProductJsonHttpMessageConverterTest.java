@@ -0,0 +1,48 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductJsonHttpMessageConverterTest {
+
+    private final ProductResponse product = new ProductResponse(
+            UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10);
+
+    @Test
+    void shouldWriteWithProductJsonWriterWhenMapperMatches() throws IOException {
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        new ProductJsonHttpMessageConverter(jsonMapper).write(product, MediaType.APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsBytes()).isEqualTo(jsonMapper.writeValueAsBytes(product));
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(output.getBodyAsBytes().length);
+    }
+
+    @Test
+    void shouldFallBackToMapperWhenItWritesProductsDifferently() throws IOException {
+        JsonMapper jsonMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        ProductJsonHttpMessageConverter converter = new ProductJsonHttpMessageConverter(jsonMapper);
+        PageResponse<ProductResponse> page = PageResponse.of(List.of(product), 0, 20, 1);
+
+        MockHttpOutputMessage productOutput = new MockHttpOutputMessage();
+        converter.write(product, MediaType.APPLICATION_JSON, productOutput);
+        MockHttpOutputMessage pageOutput = new MockHttpOutputMessage();
+        converter.write(page, MediaType.APPLICATION_JSON, pageOutput);
+
+        assertThat(productOutput.getBodyAsBytes()).isEqualTo(jsonMapper.writeValueAsBytes(product));
+        assertThat(pageOutput.getBodyAsBytes()).isEqualTo(jsonMapper.writeValueAsBytes(page));
+    }
+}
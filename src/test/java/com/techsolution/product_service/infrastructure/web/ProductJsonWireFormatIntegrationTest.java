@@ -0,0 +1,90 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.api.dto.PageResponse;
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.application.usecase.GetProductByIdUseCase;
+import com.techsolution.product_service.domain.Product;
+import com.techsolution.product_service.domain.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ProductJsonWireFormatIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private GetProductByIdUseCase getProductByIdUseCase;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private RestClient restClient;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        restClient = RestClient.create("http://localhost:" + port);
+        product = productRepository.save(new Product(
+                UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10));
+    }
+
+    @Test
+    void shouldKeepJsonAsDefaultForGenericAccept() {
+        ResponseEntity<String> response = restClient.get()
+                .uri("/products/{id}", product.getId())
+                .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                .retrieve()
+                .toEntity(String.class);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody()).contains("\"name\":\"Notebook\"");
+    }
+
+    @Test
+    void shouldWriteProductJsonIdenticalToJackson() {
+        ResponseEntity<byte[]> response = restClient.get()
+                .uri("/products/{id}", product.getId())
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .toEntity(byte[].class);
+
+        byte[] expected = jsonMapper.writeValueAsBytes(getProductByIdUseCase.execute(product.getId()));
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(expected.length);
+        assertThat(response.getBody()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldWritePageJsonIdenticalToJackson() {
+        byte[] body = restClient.get()
+                .uri("/products?page=0&size=100")
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .body(byte[].class);
+
+        PageResponse<ProductResponse> page = jsonMapper.readValue(body, new TypeReference<>() {
+        });
+        assertThat(page.content()).extracting(ProductResponse::id).contains(product.getId());
+        assertThat(body).isEqualTo(jsonMapper.writeValueAsBytes(page));
+    }
+}
@@ -0,0 +1,103 @@
+package com.techsolution.product_service.infrastructure.web;
+
+import com.techsolution.product_service.api.dto.ProductResponse;
+import com.techsolution.product_service.api.proto.Product;
+import com.techsolution.product_service.api.proto.ProductPage;
+import com.techsolution.product_service.domain.ProductRepository;
+import com.techsolution.product_service.infrastructure.codec.ProductProtoMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ProductProtobufWireFormatIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private RestClient restClient;
+    private com.techsolution.product_service.domain.Product product;
+
+    @BeforeEach
+    void setUp() {
+        restClient = RestClient.create("http://localhost:" + port);
+        product = productRepository.save(new com.techsolution.product_service.domain.Product(
+                UUID.randomUUID(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10));
+    }
+
+    @Test
+    void shouldServeProductAsProtobufWhenRequested() throws Exception {
+        ResponseEntity<byte[]> response = restClient.get()
+                .uri("/products/{id}", product.getId())
+                .accept(ProductProtobufHttpMessageConverter.PROTOBUF)
+                .retrieve()
+                .toEntity(byte[].class);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(ProductProtobufHttpMessageConverter.PROTOBUF);
+        assertThat(response.getHeaders().getFirst("X-Protobuf-Message")).isEqualTo("techsolution.product.v1.Product");
+        ProductResponse decoded = ProductProtoMapper.fromProto(Product.parseFrom(response.getBody()));
+        assertThat(decoded).isEqualTo(new ProductResponse(
+                product.getId(), "Notebook", "Notebook Dell Inspiron 15", new BigDecimal("3500.00"), 10));
+    }
+
+    @Test
+    void shouldServePageAsProtobufWhenRequested() throws Exception {
+        byte[] body = restClient.get()
+                .uri("/products?page=0&size=100")
+                .accept(ProductProtobufHttpMessageConverter.PROTOBUF)
+                .retrieve()
+                .body(byte[].class);
+
+        ProductPage page = ProductPage.parseFrom(body);
+        assertThat(page.getSize()).isEqualTo(100);
+        assertThat(page.getContentList())
+                .extracting(ProductProtoMapper::fromProto)
+                .extracting(ProductResponse::id)
+                .contains(product.getId());
+    }
+
+    @Test
+    void shouldAnswerMissingProductWithProblemDetailForAnyAccept() {
+        UUID missingId = UUID.randomUUID();
+        ResponseEntity<String> response = restClient.get()
+                .uri("/products/{id}", missingId)
+                .accept(ProductProtobufHttpMessageConverter.PROTOBUF)
+                .retrieve()
+                .onStatus(status -> true, (request, clientResponse) -> {
+                })
+                .toEntity(String.class);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(404);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+        assertThat(response.getBody())
+                .contains("\"title\":\"Resource Not Found\"")
+                .contains("\"status\":404")
+                .contains("\"detail\":\"Product with id " + missingId + " not found\"")
+                .contains("\"instance\":\"/products/" + missingId + "\"");
+    }
+
+    @Test
+    void shouldPublishProtobufSchema() {
+        String schema = restClient.get()
+                .uri(ProductProtobufHttpMessageConverter.SCHEMA_LOCATION)
+                .retrieve()
+                .body(String.class);
+
+        assertThat(schema).contains("message ProductPage");
+    }
+}